@@ -0,0 +1,109 @@
+// Copyright (c) 2023 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the values of a single column for a chunk of rows.
+#
+# + name - The label of the column
+# + values - The values of the column. Integer columns are returned as `int[]`, approximate numeric columns as
+#            `float[]`, exact numeric columns as `decimal[]`, boolean columns as `boolean[]`, binary columns as
+#            `byte[][]` and all the other columns as `string[]`. Date and time columns are returned in the same form
+#            as the `string` fields of the records returned by the `query` remote method. The value of a `null` row is
+#            the zero value of the type
+# + nulls - The rows which are `null` in the column, or `()` if the column has no `null` values in the chunk
+public type ColumnVector record {|
+    string name;
+    int[]|float[]|decimal[]|boolean[]|string[]|byte[][] values;
+    boolean[]? nulls = ();
+|};
+
+# Represents a chunk of rows of a query result in the column-oriented form.
+#
+# + rowCount - The number of rows in the chunk
+# + columns - The values of each column of the result
+public type ColumnBatch record {|
+    int rowCount;
+    ColumnVector[] columns;
+|};
+
+# Executes the query and returns the results in chunks of `chunkSize` rows, each holding an array per column instead
+# of a record per row. Repeated string values of a column in a chunk share the same value.
+# When processing the stream, make sure to consume all fetched data or close the stream.
+#
+# + sqlClient - The client used to execute the query
+# + sqlQuery - The SQL query
+# + chunkSize - The maximum number of rows in a chunk
+# + return - Stream of column batches
+public isolated function queryColumns(Client sqlClient, ParameterizedQuery sqlQuery, int chunkSize = 1024)
+returns stream<ColumnBatch, Error?> {
+    return nativeQueryColumns(sqlClient, sqlQuery, chunkSize, ColumnBatch);
+}
+
+isolated function nativeQueryColumns(Client sqlClient, ParameterizedQuery sqlQuery, int chunkSize,
+        typedesc<ColumnBatch> batchType) returns stream<ColumnBatch, Error?> = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ColumnQueryProcessor"
+} external;
+
+# The iterator for the stream returned in `sql:queryColumns`.
+class ColumnBatchIterator {
+    private boolean isClosed = false;
+    private Error? err;
+
+    public isolated function init(Error? err = ()) {
+        self.err = err;
+    }
+
+    public isolated function next() returns record {|ColumnBatch value;|}|Error? {
+        if self.isClosed {
+            return closedStreamInvocationError();
+        }
+        if self.err is Error {
+            return self.err;
+        }
+        ColumnBatch|Error? result = nextColumnBatch(self);
+        if result is ColumnBatch {
+            return {value: result};
+        } else if result is Error {
+            self.err = result;
+            self.isClosed = true;
+            return result;
+        } else {
+            self.isClosed = true;
+            return result;
+        }
+    }
+
+    public isolated function close() returns Error? {
+        if !self.isClosed {
+            if self.err is () {
+                Error? e = closeColumnBatchResult(self);
+                if e is () {
+                    self.isClosed = true;
+                }
+                return e;
+            }
+        }
+    }
+}
+
+isolated function nextColumnBatch(ColumnBatchIterator iterator) returns ColumnBatch|Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.utils.ColumnBatchIteratorUtils"
+} external;
+
+isolated function closeColumnBatchResult(ColumnBatchIterator iterator) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.utils.ColumnBatchIteratorUtils"
+} external;
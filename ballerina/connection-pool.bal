@@ -19,6 +19,7 @@ import ballerina/jballerina.java;
 configurable int maxOpenConnections = 15;
 configurable decimal maxConnectionLifeTime = 1800.0;
 configurable int minIdleConnections = 15;
+configurable int statementCacheSize = 0;
 
 # Represents the properties, which are used to configure a DB connection pool.
 # Default values of the fields can be set through the configuration API.
@@ -33,10 +34,24 @@ configurable int minIdleConnections = 15;
 # + minIdleConnections - The minimum number of idle connections that the pool tries to maintain. The default value
 #                        is the same as `maxOpenConnections` and it can be changed through the configuration
 #                        API with the `ballerina.sql.minIdleConnections` key
+# + statementCacheSize - The maximum number of prepared statements cached per connection of the pool. The statements
+#                        are reused when the same query is executed again outside a transaction. The default value is
+#                        0, which disables the cache. This can be changed through the configuration API with the
+#                        `ballerina.sql.statementCacheSize` key
+# + asyncInit - If `true`, the client is created without waiting for a connection to the database, and up to 8 of the
+#               minimum idle connections are opened concurrently in the background. The readiness of the pool can be
+#               checked with `sql:isPoolReady()`. The default value is `false`
+# + warmupStatements - The statements prepared on each new connection of the pool. They are written as the SQL of the
+#                      parameterized queries with `?` in place of each insertion. When `statementCacheSize` is
+#                      greater than 0, the statements are kept in the statement cache of the connection. Otherwise,
+#                      they are only prepared during the asynchronous initialization of the pool
 public type ConnectionPool record {|
     int maxOpenConnections = maxOpenConnections;
     decimal maxConnectionLifeTime = maxConnectionLifeTime;
     int minIdleConnections = minIdleConnections;
+    int statementCacheSize = statementCacheSize;
+    boolean asyncInit = false;
+    string[] warmupStatements = [];
 |};
 
 // A container object that holds the global pool config and initializes the internal map of connection pools
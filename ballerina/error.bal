@@ -25,6 +25,13 @@ public type BatchExecuteErrorDetail record {
     ExecutionResult[] executionResults;
 };
 
+# Represents the properties belonging to an `sql:StreamBatchExecuteError`.
+#
+# + summary - Aggregated metadata of the batches executed before the failure
+public type StreamBatchExecuteErrorDetail record {
+    BatchExecuteSummary summary;
+};
+
 # Represents the properties belonging to an `sql:DatabaseError`.
 #
 # + errorCode - SQL error code
@@ -46,6 +53,10 @@ public type DatabaseError distinct (Error & error<DatabaseErrorDetail>);
 # Represents an error that occurs during the execution of batch queries.
 public type BatchExecuteError distinct (Error & error<BatchExecuteErrorDetail>);
 
+# Represents an error that occurs during `sql:streamBatchExecute`. The error which caused the failure is the cause of
+# this error.
+public type StreamBatchExecuteError distinct (Error & error<StreamBatchExecuteErrorDetail>);
+
 # Represents an error that occurs when a query retrieves does not retrieve any rows when at least one row is expected.
 public type NoRowsError distinct Error;
 
@@ -53,6 +64,10 @@ public type NoRowsError distinct Error;
 public type ApplicationError distinct Error;
 
 //Level 3
+# Represents an error that occurs when a statement does not complete within the query timeout, in which case the
+# statement is cancelled.
+public type QueryTimeoutError distinct DatabaseError;
+
 # Represents an error that occurs during the processing of the parameters or returned results.
 public type DataError distinct ApplicationError;
 
@@ -16,8 +16,10 @@
 
 import ballerina/jballerina.java;
 
-isolated function init() {
+isolated function init() returns error? {
     setModule();
+    check initWorkerPool(workerPoolCoreSize, workerPoolMaxSize, workerPoolQueueSize, workerPoolRejectionPolicy,
+        workerPoolVirtualThreads);
 }
 
 isolated function setModule() = @java:Method {
@@ -0,0 +1,144 @@
+// Copyright (c) 2023 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Executes the query and streams the binary value of the first column of the first row in chunks of `chunkSize`
+# bytes. The value is read lazily from the database while the stream is consumed, hence large BLOB values are not
+# loaded into memory. The stream is empty if the query returns no rows or the value is `null`.
+# When processing the stream, make sure to consume all fetched data or close the stream.
+#
+# + sqlClient - The client used to execute the query
+# + sqlQuery - The SQL query returning a binary column
+# + chunkSize - The maximum number of bytes in a chunk
+# + return - Stream of chunks of the value
+public isolated function streamBlob(Client sqlClient, ParameterizedQuery sqlQuery, int chunkSize = 8192)
+returns stream<byte[], Error?> = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.LobQueryProcessor",
+    name: "nativeStreamBlob"
+} external;
+
+# Executes the query and streams the character value of the first column of the first row in chunks of `chunkSize`
+# characters. The value is read lazily from the database while the stream is consumed, hence large CLOB values are
+# not loaded into memory. The stream is empty if the query returns no rows or the value is `null`.
+# When processing the stream, make sure to consume all fetched data or close the stream.
+#
+# + sqlClient - The client used to execute the query
+# + sqlQuery - The SQL query returning a character column
+# + chunkSize - The maximum number of characters in a chunk. A chunk may hold one more character to avoid
+#               splitting a surrogate pair
+# + return - Stream of chunks of the value
+public isolated function streamClob(Client sqlClient, ParameterizedQuery sqlQuery, int chunkSize = 8192)
+returns stream<string, Error?> = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.LobQueryProcessor",
+    name: "nativeStreamClob"
+} external;
+
+# The iterator for the stream returned in `sql:streamBlob`.
+class BlobChunkIterator {
+    private boolean isClosed = false;
+    private Error? err;
+
+    public isolated function init(Error? err = ()) {
+        self.err = err;
+    }
+
+    public isolated function next() returns record {|byte[] value;|}|Error? {
+        if self.isClosed {
+            return closedStreamInvocationError();
+        }
+        if self.err is Error {
+            return self.err;
+        }
+        byte[]|Error? result = nextBlobChunk(self);
+        if result is byte[] {
+            return {value: result};
+        } else if result is Error {
+            self.err = result;
+            self.isClosed = true;
+            return result;
+        } else {
+            self.isClosed = true;
+            return result;
+        }
+    }
+
+    public isolated function close() returns Error? {
+        if !self.isClosed {
+            if self.err is () {
+                Error? e = closeLobResult(self);
+                if e is () {
+                    self.isClosed = true;
+                }
+                return e;
+            }
+        }
+    }
+}
+
+# The iterator for the stream returned in `sql:streamClob`.
+class ClobChunkIterator {
+    private boolean isClosed = false;
+    private Error? err;
+
+    public isolated function init(Error? err = ()) {
+        self.err = err;
+    }
+
+    public isolated function next() returns record {|string value;|}|Error? {
+        if self.isClosed {
+            return closedStreamInvocationError();
+        }
+        if self.err is Error {
+            return self.err;
+        }
+        string|Error? result = nextClobChunk(self);
+        if result is string {
+            return {value: result};
+        } else if result is Error {
+            self.err = result;
+            self.isClosed = true;
+            return result;
+        } else {
+            self.isClosed = true;
+            return result;
+        }
+    }
+
+    public isolated function close() returns Error? {
+        if !self.isClosed {
+            if self.err is () {
+                Error? e = closeLobResult(self);
+                if e is () {
+                    self.isClosed = true;
+                }
+                return e;
+            }
+        }
+    }
+}
+
+isolated function nextBlobChunk(BlobChunkIterator iterator) returns byte[]|Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.utils.LobIteratorUtils"
+} external;
+
+isolated function nextClobChunk(ClobChunkIterator iterator) returns string|Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.utils.LobIteratorUtils"
+} external;
+
+isolated function closeLobResult(BlobChunkIterator|ClobChunkIterator iterator) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.utils.LobIteratorUtils"
+} external;
@@ -0,0 +1,37 @@
+// Copyright (c) 2023 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Scans the rows of a table or a query in the order of a unique key, in pages of `pageSize` rows. Each page is read by
+# a separate query which selects the rows after the last key of the previous page, on a connection obtained for that
+# page. Hence, the stream does not hold a connection or a database cursor for the whole scan, and the rows inserted
+# or updated during the scan are read if their keys are after the current page.
+# When processing the stream, make sure to consume all fetched data or close the stream.
+#
+# + sqlClient - The client used to execute the queries
+# + tableOrQuery - The name of the table, or the query of which the rows are scanned. The query must not have an
+#                  `ORDER BY` clause, as the rows are ordered by the key column
+# + keyColumn - The name of a unique column of the table or the query, by which the rows are ordered. It should be
+#               indexed, so that each page is read without sorting the rows. It must not be nullable, as a row with a
+#               null key fails the scan with an error
+# + pageSize - The maximum number of rows read by the query of a page
+# + rowType - The `typedesc` of the record to which the result needs to be returned
+# + return - Stream of records in the `rowType` type
+public isolated function scan(Client sqlClient, string|ParameterizedQuery tableOrQuery, string keyColumn,
+        int pageSize = 1000, typedesc<record {}> rowType = <>) returns stream<rowType, Error?> = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ScanProcessor"
+} external;
@@ -93,6 +93,172 @@ function batchInsertIntoDataTableFailure3() {
         `UPDATE DataTable1 SET int_type=13 WHERE int_type=13;`
     ];
     ExecutionResult[]|error result = batchExecuteQueryMockClient(sqlQueries);
+    test:assertTrue(result is DatabaseError);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchInsertIntoDataTableFailure3]
+}
+function streamBatchInsertIntoDataTable() returns error? {
+    int[] data = [20, 21, 22, 23, 24];
+    stream<ParameterizedQuery, error?> sqlQueries =
+        from int intVal in data.toStream()
+        select `INSERT INTO DataTable (int_type) VALUES (${intVal})`;
+    MockClient dbClient = check new (url = batchExecuteDB, user = user, password = password);
+    BatchExecuteSummary summary = check streamBatchExecute(dbClient, sqlQueries, {flushSize: 2});
+    check dbClient.close();
+    test:assertEquals(summary.executedCount, 5);
+    test:assertEquals(summary.affectedRowCount, 5);
+    test:assertEquals(summary.batchCount, 3);
+    test:assertEquals(summary.executionResults, ());
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [streamBatchInsertIntoDataTable]
+}
+function streamBatchInsertIntoDataTableFailure() returns error? {
+    int[] data = [25, 26, 20];
+    stream<ParameterizedQuery, error?> sqlQueries =
+        from int intVal in data.toStream()
+        select `INSERT INTO DataTable (int_type) VALUES (${intVal})`;
+    MockClient dbClient = check new (url = batchExecuteDB, user = user, password = password);
+    BatchExecuteSummary|Error summary = streamBatchExecute(dbClient, sqlQueries, {flushSize: 2});
+    check dbClient.close();
+    test:assertTrue(summary is StreamBatchExecuteError);
+    if summary is StreamBatchExecuteError {
+        // The metadata of the batch executed before the failed batch is returned with the error
+        test:assertTrue(summary.cause() is BatchExecuteError);
+        BatchExecuteSummary partialSummary = summary.detail().summary;
+        test:assertEquals(partialSummary.executedCount, 2);
+        test:assertEquals(partialSummary.affectedRowCount, 2);
+        test:assertEquals(partialSummary.batchCount, 1);
+    }
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [streamBatchInsertIntoDataTableFailure]
+}
+function batchInsertIntoDataTableWithBatchSize() returns error? {
+    int[] data = [30, 31, 32];
+    ParameterizedQuery[] sqlQueries =
+        from int intVal in data
+        select `INSERT INTO DataTable (int_type) VALUES (${intVal})`;
+    MockClient dbClient = check new (url = batchExecuteDB, user = user, password = password);
+    check setBatchSizeConfig(dbClient, {batchSize: 2});
+    ExecutionResult[] results = check dbClient->batchExecute(sqlQueries);
+    BatchSizeStats stats = getBatchSizeStats(dbClient);
+    check dbClient.close();
+    validateBatchExecutionResult(results, [1, 1, 1], [1, 1, 1]);
+    test:assertEquals(stats.batchSize, 2);
+    test:assertEquals(stats.executedBatchCount, 2);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchInsertIntoDataTableWithBatchSize]
+}
+function batchExecuteMixedQueries() returns error? {
+    ParameterizedQuery[] sqlQueries = [
+        `INSERT INTO DataTable (int_type) VALUES (${40})`,
+        `INSERT INTO DataTable (int_type) VALUES (${41})`,
+        `INSERT INTO AuditTable (int_type, action) VALUES (${40}, 'INSERT')`,
+        `INSERT INTO AuditTable (int_type, action) VALUES (${41}, 'INSERT')`,
+        `UPDATE DataTable SET long_type = ${100} WHERE int_type >= ${40}`
+    ];
+    MockClient dbClient = check new (url = batchExecuteDB, user = user, password = password);
+    ExecutionResult[] results = check dbClient->batchExecute(sqlQueries);
+    BatchSizeStats stats = getBatchSizeStats(dbClient);
+    int updatedCount = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE long_type = 100`);
+    check dbClient.close();
+    // The adjacent inserts of each table are executed in a single batch
+    test:assertEquals(results.map(result => result.affectedRowCount), [1, 1, 1, 1, 2]);
+    test:assertEquals(stats.executedBatchCount, 3);
+    test:assertEquals(updatedCount, 2);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchExecuteMixedQueries]
+}
+function batchExecuteInterleavedQueries() returns error? {
+    ParameterizedQuery[] sqlQueries = [
+        `INSERT INTO DataTable (int_type) VALUES (${42})`,
+        `INSERT INTO AuditTable (int_type, action) VALUES (${42}, 'INSERT')`,
+        `INSERT INTO DataTable (int_type) VALUES (${43})`,
+        `INSERT INTO AuditTable (int_type, action) VALUES (${43}, 'INSERT')`,
+        `UPDATE DataTable SET long_type = ${200} WHERE int_type >= ${42}`
+    ];
+    MockClient dbClient = check new (url = batchExecuteDB, user = user, password = password);
+    check setBatchSizeConfig(dbClient, {groupBySql: true});
+    ExecutionResult[] results = check dbClient->batchExecute(sqlQueries);
+    BatchSizeStats stats = getBatchSizeStats(dbClient);
+    int updatedCount = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE long_type = 200`);
+    check dbClient.close();
+    // The inserts of each table are executed in a single batch and the results are in the order of the queries
+    test:assertEquals(results.map(result => result.affectedRowCount), [1, 1, 1, 1, 2]);
+    test:assertEquals(stats.executedBatchCount, 3);
+    test:assertEquals(updatedCount, 2);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchExecuteInterleavedQueries]
+}
+function queryWithResultCache() returns error? {
+    MockClient dbClient = check new (url = batchExecuteDB, user = user, password = password);
+    check setResultCache(dbClient, {ttl: 600});
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM AuditTable`);
+    _ = check dbClient->execute(`INSERT INTO DataTable (int_type) VALUES (${50})`);
+    // The insert into another table does not remove the cached count
+    int cachedCount = check dbClient->queryRow(`SELECT COUNT(*) FROM AuditTable`);
+    _ = check dbClient->execute(`INSERT INTO AuditTable (int_type, action) VALUES (${50}, 'INSERT')`);
+    int updatedCount = check dbClient->queryRow(`SELECT COUNT(*) FROM AuditTable`);
+    int[] intValues = [];
+    foreach int i in 0 ..< 2 {
+        stream<record {}, Error?> resultStream = dbClient->query(
+            `SELECT int_type FROM AuditTable WHERE int_type = ${50}`);
+        check from record {} result in resultStream
+            do {
+                intValues.push(<int>result["INT_TYPE"]);
+            };
+    }
+    ResultCacheStats? stats = getResultCacheStats(dbClient);
+    check dbClient.close();
+    test:assertEquals(cachedCount, count);
+    test:assertEquals(updatedCount, count + 1);
+    test:assertEquals(intValues, [50, 50]);
+    if stats is ResultCacheStats {
+        test:assertEquals(stats.hitCount, 2);
+        test:assertEquals(stats.missCount, 3);
+        test:assertEquals(stats.invalidationCount, 1);
+        test:assertEquals(stats.entryCount, 2);
+    } else {
+        test:assertFail("Result cache statistics are not returned.");
+    }
+}
+
+@test:Config {
+    groups: ["batch-execute"]
+}
+function setInvalidResultCacheConfig() returns error? {
+    MockClient dbClient = check new (url = batchExecuteDB, user = user, password = password);
+    Error? result = setResultCache(dbClient, {ttl: 0});
+    ResultCacheStats? stats = getResultCacheStats(dbClient);
+    check dbClient.close();
+    test:assertTrue(result is ApplicationError);
+    test:assertTrue(stats is ());
+}
+
+@test:Config {
+    groups: ["batch-execute"]
+}
+function setInvalidBatchSizeConfig() returns error? {
+    MockClient dbClient = check new (url = batchExecuteDB, user = user, password = password);
+    Error? result = setBatchSizeConfig(dbClient, {adaptive: true, minBatchSize: 100, maxBatchSize: 10});
+    check dbClient.close();
     test:assertTrue(result is ApplicationError);
 }
 
@@ -333,6 +333,25 @@ function testComplexWithStructDef() returns error? {
     test:assertEquals(value, mixTypesExpected, "Expected record did not match.");
 }
 
+type JsonBinaryData record {
+    json json_type;
+};
+
+@test:Config {
+    groups: ["query", "query-complex-params"]
+}
+function testBinaryColumnToJson() returns error? {
+    MockClient dbClient = check new (url = complexQueryDb, user = user, password = password);
+    // The bytes of the JSON document {"name":"Ballerina","tags":[1,2]}
+    stream<JsonBinaryData, error?> streamData = dbClient->query(`SELECT
+        CAST(X'7b226e616d65223a2242616c6c6572696e61222c2274616773223a5b312c325d7d' AS VARBINARY(64)) AS json_type
+        FROM MixTypes WHERE row_id = 1`);
+    record {|JsonBinaryData value;|}? data = check streamData.next();
+    check streamData.close();
+    check dbClient.close();
+    test:assertEquals(data?.value?.json_type, {name: "Ballerina", tags: [1, 2]}, "Expected JSON did not match.");
+}
+
 type ResultMap record {
     int[] int_array;
     int[] long_array;
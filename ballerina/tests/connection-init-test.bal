@@ -274,4 +274,14 @@ function testWithConnectionPoolNegative() returns error? {
         test:assertFail("Connection should fail with negative value");
     }
 
+    connectionPool = {
+        statementCacheSize: -1
+    };
+    err = new (url = connectDB, user = user, password = password, connectionPool = connectionPool);
+    if err is error {
+        test:assertEquals(err.message(), "Error in SQL connector configuration: ConnectionPool field 'statementCacheSize' cannot be negative.");
+    } else {
+        test:assertFail("Connection should fail with negative value");
+    }
+
 }
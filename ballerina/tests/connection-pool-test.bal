@@ -581,6 +581,181 @@ function drainGlobalPool(string url) returns error? {
     validateConnectionTimeoutError(returnArray[10]);
 }
 
+@test:Config {
+    groups: ["pool"]
+}
+function testWorkerPoolStats() returns error? {
+    MockClient dbClient = check new (url = poolDB_1, user = user, password = password);
+    int val = check dbClient->queryRow(`SELECT COUNT(*) FROM Customers`);
+    test:assertTrue(val >= 0);
+    check dbClient.close();
+    WorkerPoolStats stats = getWorkerPoolStats();
+    test:assertEquals(stats.queueSize, 0);
+    test:assertEquals(stats.rejectedCount, 0);
+}
+
+@test:Config {
+    groups: ["pool"]
+}
+function testReadReplicaRouting() returns error? {
+    MockClient dbClient = check new (url = poolDB_1, user = user, password = password,
+        connectionPool = {maxOpenConnections: 2});
+    check setReadReplicas(dbClient, {urls: [poolDB_2], loadBalancingPolicy: LEAST_OUTSTANDING});
+    _ = check dbClient->execute(`INSERT INTO Customers (firstName, lastName, registrationID, creditLimit, country)
+        VALUES ('Routed', 'Customer', 10, 1000, 'UK')`);
+    // The row is only inserted to the primary database
+    int replicaCount = check dbClient->queryRow(`SELECT COUNT(*) FROM Customers WHERE registrationID = 10`);
+    test:assertEquals(replicaCount, 0);
+
+    check setReadReplicas(dbClient, {urls: [poolDB_2], readYourWritesWindow: 60});
+    _ = check dbClient->execute(`UPDATE Customers SET creditLimit = 2000 WHERE registrationID = 10`);
+    int primaryCount = check dbClient->queryRow(`SELECT COUNT(*) FROM Customers WHERE registrationID = 10`);
+    test:assertEquals(primaryCount, 1);
+
+    _ = check dbClient->execute(`DELETE FROM Customers WHERE registrationID = 10`);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["pool"]
+}
+function testReadReplicaRoutingWithoutUrls() returns error? {
+    MockClient dbClient = check new (url = poolDB_1, user = user, password = password);
+    Error? result = setReadReplicas(dbClient, {urls: []});
+    test:assertTrue(result is ApplicationError);
+    if result is ApplicationError {
+        test:assertEquals(result.message(), "ReplicaConfig field 'urls' must not be empty.");
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["pool"]
+}
+function testAsyncPoolWarmup() returns error? {
+    ConnectionPool pool = {
+        maxOpenConnections: 4,
+        minIdleConnections: 4,
+        statementCacheSize: 2,
+        asyncInit: true,
+        warmupStatements: ["SELECT count(*) as val from Customers where registrationID = ?"]
+    };
+    MockClient dbClient = check new (url = poolDB_2, user = user, password = password,
+        connectionPoolOptions = connectionPoolOptions, connectionPool = pool);
+    boolean ready = check isPoolReady(dbClient);
+    int attempts = 0;
+    while !ready && attempts < 50 {
+        runtime:sleep(0.1);
+        ready = check isPoolReady(dbClient);
+        attempts += 1;
+    }
+    test:assertTrue(ready);
+
+    int registrationId = 1;
+    stream<Result, error?> dt = dbClient->query(
+        `SELECT count(*) as val from Customers where registrationID = ${registrationId}`);
+    test:assertEquals(getReturnValue(dt), 1);
+    // The statement prepared on warming up the connection is reused by the query
+    CacheStats stats = check getStatementCacheStats(dbClient);
+    test:assertEquals(stats.hitCount, 1);
+    test:assertEquals(stats.missCount, 0);
+    check dbClient.close();
+    test:assertTrue(getStatementCacheStats(dbClient) is Error);
+}
+
+@test:Config {
+    groups: ["pool"]
+}
+function testAsyncPoolWarmupFailure() returns error? {
+    ConnectionPool pool = {maxOpenConnections: 2, minIdleConnections: 2, asyncInit: true};
+    // The client is created although the database is not reachable
+    MockClient dbClient = check new (url = urlPrefix + "9099/NoDB", user = user, password = password,
+        connectionPoolOptions = connectionPoolOptions, connectionPool = pool);
+    boolean|Error ready = isPoolReady(dbClient);
+    int attempts = 0;
+    while ready == false && attempts < 50 {
+        runtime:sleep(0.1);
+        ready = isPoolReady(dbClient);
+        attempts += 1;
+    }
+    test:assertTrue(ready is DatabaseError);
+    if ready is DatabaseError {
+        test:assertTrue(strings:includes(ready.message(), "Error while warming up the connection pool."),
+            ready.message());
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["pool"]
+}
+function testConnectionPoolStats() returns error? {
+    ConnectionPool pool = {maxOpenConnections: 3, minIdleConnections: 1};
+    MockClient dbClient = check new (url = poolDB_1, user = user, password = password,
+        connectionPoolOptions = connectionPoolOptions, connectionPool = pool);
+    stream<Result, error?> dt1 = dbClient->query(`SELECT count(*) as val from Customers where registrationID = 1`);
+    stream<Result, error?> dt2 = dbClient->query(`SELECT count(*) as val from Customers where registrationID = 1`);
+    _ = check dt1.next();
+    _ = check dt2.next();
+
+    // The connection opened to verify the database when the pool is created is also recorded
+    ConnectionPoolStats stats = check getPoolStats(dbClient);
+    test:assertEquals(stats.activeConnections, 2);
+    test:assertEquals(stats.maxConnections, 3);
+    test:assertEquals(stats.minIdleConnections, 1);
+    test:assertEquals(stats.pendingRequests, 0);
+    test:assertEquals(stats.acquireTime.count, 3);
+    test:assertTrue(stats.acquireTime.p99 <= stats.acquireTime.max);
+    test:assertEquals(stats.usageTime.count, 1);
+
+    check dt1.close();
+    check dt2.close();
+    stats = check getPoolStats(dbClient);
+    test:assertEquals(stats.activeConnections, 0);
+    test:assertEquals(stats.usageTime.count, 3);
+    check dbClient.close();
+
+    ConnectionPoolStats|Error result = getPoolStats(dbClient);
+    test:assertTrue(result is ApplicationError);
+}
+
+@test:Config {
+    groups: ["pool"]
+}
+function testStreamStats() returns error? {
+    MockClient dbClient = check new (url = poolDB_1, user = user, password = password,
+        connectionPoolOptions = connectionPoolOptions);
+    check setStreamLeakDetection(dbClient, {leakThreshold: 60, sampleRate: 1});
+    stream<Result, error?> dt1 = dbClient->query(`SELECT count(*) as val from Customers where registrationID = 1`);
+    stream<Result, error?> dt2 = dbClient->query(`SELECT count(*) as val from Customers where registrationID = 1`);
+    _ = check dt1.next();
+    StreamStats stats = check getStreamStats(dbClient);
+    test:assertEquals(stats, {openCount: 2, leakCount: 0, reclaimedCount: 0});
+
+    // A fully consumed stream is closed
+    check from Result _ in dt1 do {};
+    check dt2.close();
+    stats = check getStreamStats(dbClient);
+    test:assertEquals(stats.openCount, 0);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["pool"]
+}
+function testInvalidStreamLeakDetectionConfig() returns error? {
+    MockClient dbClient = check new (url = poolDB_1, user = user, password = password,
+        connectionPoolOptions = connectionPoolOptions);
+    Error? result = setStreamLeakDetection(dbClient, {sampleRate: 1.5});
+    test:assertTrue(result is ApplicationError);
+    if result is ApplicationError {
+        test:assertEquals(result.message(), "StreamLeakDetectionConfig field 'sampleRate' must be between 0 and 1.");
+    }
+    result = setStreamLeakDetection(dbClient, {leakThreshold: -1});
+    test:assertTrue(result is ApplicationError);
+    check dbClient.close();
+}
+
 isolated function getReturnValue(stream<Result, error?> queryResult) returns int|error {
     record {|Result value;|}? data = check queryResult.next();
     check queryResult.close();
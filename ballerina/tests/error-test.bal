@@ -348,3 +348,37 @@ function testCreateProceduresWithInvalidArgument() returns error? {
                 "VARCHAR(255) MODIFIES SQL DATA INSERT INTO DataTable(row_id) VALUES (pAge);].",
                 sqlError.message());
 }
+
+@test:Config {
+    groups: ["error"]
+}
+function testQueryTimeout() returns error? {
+    MockClient mockClient = check getMockClient(errorDB);
+    check setQueryTimeout(mockClient, 0.5);
+    int|Error result = mockClient->queryRow(`SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS a,
+            INFORMATION_SCHEMA.COLUMNS b, INFORMATION_SCHEMA.COLUMNS c`);
+    test:assertTrue(result is QueryTimeoutError, "Query is not cancelled");
+    if result is QueryTimeoutError {
+        test:assertTrue(strings:includes(result.message(), "Query did not complete within the timeout of 0.5 seconds"),
+            result.message());
+    }
+
+    // The timeout of the next call overrides the timeout of the client
+    check setNextQueryTimeout(30);
+    int count = check mockClient->queryRow(`SELECT COUNT(*) FROM DataTable`);
+    test:assertTrue(count > 0);
+    check mockClient.close();
+}
+
+@test:Config {
+    groups: ["error"]
+}
+function testInvalidQueryTimeout() returns error? {
+    MockClient mockClient = check getMockClient(errorDB);
+    Error? result = setQueryTimeout(mockClient, -1);
+    test:assertTrue(result is ApplicationError);
+    if result is ApplicationError {
+        test:assertEquals(result.message(), "Query timeout must be between 0 and 2147483647 seconds.");
+    }
+    check mockClient.close();
+}
@@ -291,6 +291,43 @@ function insertIntoComplexTable3() returns error? {
     validateResult(check executeQueryMockClient(sqlQuery), 1);
 }
 
+@test:Config {
+    groups: ["execute", "execute-params"],
+    dependsOn: [insertIntoComplexTable3]
+}
+function insertIntoComplexTableFromFiles() returns error? {
+    BlobFileValue blobType = new ({path: "./tests/resources/files/blobValue.txt"});
+    ClobFileValue clobType = new ({path: "./tests/resources/files/clobValue.txt"});
+    int rowId = 8;
+
+    ParameterizedQuery sqlQuery =
+        `INSERT INTO ComplexTypes (row_id, blob_type, clob_type) VALUES (
+        ${rowId}, ${blobType}, CONVERT(${clobType}, CLOB))`;
+    validateResult(check executeQueryMockClient(sqlQuery), 1);
+
+    record {}? value = check queryMockClient(executeParamsDb,
+        `SELECT blob_type, clob_type FROM ComplexTypes WHERE row_id = ${rowId}`);
+    byte[] blobContent = check io:fileReadBytes("./tests/resources/files/blobValue.txt");
+    string clobContent = check io:fileReadString("./tests/resources/files/clobValue.txt");
+    test:assertEquals(getUntaintedData(value, "BLOB_TYPE"), blobContent);
+    test:assertEquals(getUntaintedData(value, "CLOB_TYPE"), clobContent);
+}
+
+@test:Config {
+    groups: ["execute", "execute-params"],
+    dependsOn: [insertIntoComplexTableFromFiles]
+}
+function insertIntoComplexTableFromMissingFile() returns error? {
+    BlobFileValue blobType = new ({path: "./tests/resources/files/missing.txt"});
+    int rowId = 9;
+    ParameterizedQuery sqlQuery = `INSERT INTO ComplexTypes (row_id, blob_type) VALUES (${rowId}, ${blobType})`;
+    ExecutionResult|error result = executeQueryMockClient(sqlQuery);
+    test:assertTrue(result is DataError);
+    if result is DataError {
+        test:assertTrue(result.message().startsWith("Error when reading the file"), result.message());
+    }
+}
+
 @test:Config {
     groups: ["execute", "execute-params"],
     dependsOn: [insertIntoComplexTable3]
@@ -1651,6 +1651,329 @@ function queryRowEmptyTest2() returns error? {
     test:assertEquals(result, expectedAlbum);
 }
 
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryRowWithStatementCache() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password,
+        connectionPool = {statementCacheSize: 5});
+    foreach int i in 0 ..< 3 {
+        int rowId = 1;
+        record {} result = check dbClient->queryRow(`SELECT * FROM DataTable WHERE row_id = ${rowId}`);
+        validateDataTableRecordResult(result);
+        int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE row_id = ${rowId}`);
+        test:assertEquals(count, 1);
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryWithQueryOptions() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password);
+    check setQueryOptions(dbClient, {fetchSize: 1, maxRows: 2});
+    stream<record {}, Error?> resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    int count = 0;
+    check from record {} _ in resultStream
+        do {
+            count += 1;
+        };
+    Error? result = setQueryOptions(dbClient, {fetchSize: -1});
+    check dbClient.close();
+    test:assertEquals(count, 2);
+    test:assertTrue(result is ApplicationError);
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryWithNextQueryOptions() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password);
+    check setQueryOptions(dbClient, {maxRows: 2});
+    check setNextQueryOptions({maxRows: 1});
+    // The options of the next query override the options of the client for a single query
+    stream<record {}, Error?> resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    record {}[] rows = check from record {} row in resultStream select row;
+    test:assertEquals(rows.length(), 1);
+    resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    rows = check from record {} row in resultStream select row;
+    test:assertEquals(rows.length(), 2);
+    check setQueryOptions(dbClient, {fetchSize: ROW_BY_ROW_FETCH_SIZE});
+    check dbClient.close();
+    test:assertTrue(setNextQueryOptions({fetchSize: -1}) is ApplicationError);
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryWithPrefetch() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password);
+    check setQueryOptions(dbClient, {prefetchSize: 1});
+    stream<record {}, Error?> resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    record {|record {} value;|}? firstRow = check resultStream.next();
+    validateDataTableRecordResult(firstRow?.value);
+    // Closes the stream while the producer is waiting for the consumer
+    check resultStream.close();
+
+    resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    int count = 0;
+    check from record {} _ in resultStream
+        do {
+            count += 1;
+        };
+    check dbClient.close();
+    test:assertTrue(count > 1);
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryWithBufferedResult() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password,
+        connectionPool = {maxOpenConnections: 1});
+    check setQueryOptions(dbClient, {bufferRows: 100});
+    stream<record {}, Error?> resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    // The connection of the buffered result is already released, hence it can be used by another query
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable`);
+    record {|record {} value;|}? firstRow = check resultStream.next();
+    validateDataTableRecordResult(firstRow?.value);
+    int streamed = 1;
+    check from record {} _ in resultStream
+        do {
+            streamed += 1;
+        };
+    test:assertEquals(streamed, count);
+
+    // A result larger than the buffer is streamed from the database after the buffered rows
+    check setQueryOptions(dbClient, {bufferRows: 1});
+    resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    streamed = 0;
+    check from record {} _ in resultStream
+        do {
+            streamed += 1;
+        };
+    test:assertEquals(streamed, count);
+
+    Error? result = setQueryOptions(dbClient, {bufferRows: 1, bufferBytes: -1});
+    check dbClient.close();
+    test:assertTrue(result is ApplicationError);
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryWithSpilledResult() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password,
+        connectionPool = {maxOpenConnections: 1});
+    check setQueryOptions(dbClient, {spillBytes: 1048576});
+    stream<record {}, Error?> resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    // The connection of the spilled result is already released, hence it can be used by another query
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable`);
+    record {|record {} value;|}? firstRow = check resultStream.next();
+    validateDataTableRecordResult(firstRow?.value);
+    int streamed = 1;
+    check from record {} _ in resultStream
+        do {
+            streamed += 1;
+        };
+    test:assertEquals(streamed, count);
+
+    // A result larger than the file is streamed from the database after the rows in the file
+    check setQueryOptions(dbClient, {spillBytes: 1});
+    resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    streamed = 0;
+    check from record {} _ in resultStream
+        do {
+            streamed += 1;
+        };
+    test:assertEquals(streamed, count);
+
+    // The file of a stream closed before it is consumed is deleted
+    check setQueryOptions(dbClient, {spillBytes: 1048576});
+    resultStream = dbClient->query(`SELECT * FROM DataTable ORDER BY row_id`);
+    _ = check resultStream.next();
+    check resultStream.close();
+
+    // Read-only rows and rows with readonly fields are written to the file as well
+    stream<DataTableRowId & readonly, Error?> readOnlyStream =
+        dbClient->query(`SELECT row_id FROM DataTable ORDER BY row_id`);
+    (DataTableRowId & readonly)[] readOnlyRows = check from DataTableRowId & readonly row in readOnlyStream
+        select row;
+    test:assertEquals(readOnlyRows.length(), count);
+    test:assertTrue(readOnlyRows[0] is readonly);
+    stream<ReadOnlyFieldRowId, Error?> readOnlyFieldStream =
+        dbClient->query(`SELECT row_id FROM DataTable ORDER BY row_id`);
+    int[] rowIds = check from ReadOnlyFieldRowId row in readOnlyFieldStream
+        select row.row_id;
+    test:assertEquals(rowIds, from var row in readOnlyRows select row.row_id);
+
+    Error? result = setQueryOptions(dbClient, {spillBytes: -1});
+    check dbClient.close();
+    test:assertTrue(result is ApplicationError);
+}
+
+type DataTableRowId record {|
+    int row_id;
+|};
+
+type ReadOnlyFieldRowId record {|
+    readonly int row_id;
+|};
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function scanDataTable() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password,
+        connectionPool = {maxOpenConnections: 1});
+    int[] expected = check from DataTableRowId row in dbClient->query(`SELECT row_id FROM DataTable ORDER BY row_id`)
+        select row.row_id;
+
+    // Each page holds a single row, hence each row is read by a separate query
+    stream<record {}, Error?> rowStream = scan(dbClient, "DataTable", "row_id", 1);
+    record {|record {} value;|}? firstRow = check rowStream.next();
+    validateDataTableRecordResult(firstRow?.value);
+    int[] rowIds = [<int>(<record {}>firstRow?.value)["row_id"]];
+    check from record {} row in rowStream
+        do {
+            rowIds.push(<int>row["row_id"]);
+        };
+    test:assertEquals(rowIds, expected);
+
+    int minRowId = expected[0];
+    stream<DataTableRowId, Error?> queryStream = scan(dbClient,
+        `SELECT row_id, int_type FROM DataTable WHERE row_id > ${minRowId}`, "row_id", 2);
+    rowIds = check from DataTableRowId row in queryStream
+        select row.row_id;
+    test:assertEquals(rowIds, expected.slice(1));
+
+    // The connection of a closed scan is released
+    rowStream = scan(dbClient, "DataTable", "row_id", 1);
+    _ = check rowStream.next();
+    check rowStream.close();
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable`);
+    test:assertEquals(count, expected.length());
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function scanDataTableInTransaction() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password,
+        connectionPool = {maxOpenConnections: 1});
+    int[] expected = check from DataTableRowId row in dbClient->query(`SELECT row_id FROM DataTable ORDER BY row_id`)
+        select row.row_id;
+    int[] rowIds = [];
+    transaction {
+        // Each page is read through the connection of the transaction, which stays open between the pages
+        stream<DataTableRowId, Error?> rowStream = scan(dbClient, "DataTable", "row_id", 1);
+        rowIds = check from DataTableRowId row in rowStream
+            select row.row_id;
+        int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable`);
+        test:assertEquals(count, expected.length());
+        check commit;
+    }
+    test:assertEquals(rowIds, expected);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function scanWithInvalidArguments() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password);
+    record {|record {} value;|}|Error? result = scan(dbClient, "DataTable; DROP TABLE DataTable", "row_id").next();
+    test:assertTrue(result is ApplicationError);
+    if result is ApplicationError {
+        test:assertEquals(result.message(), "Invalid table name: DataTable; DROP TABLE DataTable.");
+    }
+    result = scan(dbClient, "DataTable", "row_id", 0).next();
+    test:assertTrue(result is ApplicationError);
+    result = scan(dbClient, `SELECT int_type FROM DataTable`, "row_id").next();
+    test:assertTrue(result is ApplicationError);
+    if result is ApplicationError {
+        test:assertEquals(result.message(), "Key column 'row_id' is not in the result of the scan.");
+    }
+    result = scan(dbClient, `SELECT * FROM DataTable ORDER BY int_type`, "row_id").next();
+    test:assertTrue(result is ApplicationError);
+    if result is ApplicationError {
+        test:assertEquals(result.message(),
+                "The query of a scan must not have an ORDER BY clause, as the rows are ordered by the key column.");
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryColumnsOfDataTable() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password);
+    stream<ColumnBatch, Error?> batchStream = queryColumns(dbClient,
+        `SELECT row_id, long_type, double_type, boolean_type, string_type, decimal_type FROM DataTable
+         WHERE row_id <= 3 ORDER BY row_id`, 2);
+    ColumnBatch[] batches = check from ColumnBatch batch in batchStream select batch;
+    check dbClient.close();
+
+    test:assertEquals(batches.length(), 2);
+    test:assertEquals(batches[0].rowCount, 2);
+    test:assertEquals(batches[1].rowCount, 1);
+    ColumnVector[] columns = batches[0].columns;
+    test:assertEquals(columns[0].name, "ROW_ID");
+    test:assertEquals(columns[0].values, [1, 2]);
+    test:assertEquals(columns[0].nulls, ());
+    test:assertEquals(columns[1].values, [9223372036854774807, 0]);
+    test:assertEquals(columns[1].nulls, [false, true]);
+    test:assertTrue(columns[2].values is float[]);
+    test:assertEquals(columns[3].values, [true, false]);
+    test:assertEquals(columns[4].values, ["Hello", ""]);
+    test:assertEquals(columns[5].values, [<decimal>23.45, <decimal>0]);
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryColumnsOfBinaryAndDateTypes() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password);
+    stream<ColumnBatch, Error?> batchStream = queryColumns(dbClient,
+        `SELECT var_binary_type FROM ComplexTypes ORDER BY row_id`);
+    ColumnBatch[] binaryBatches = check from ColumnBatch batch in batchStream select batch;
+    batchStream = queryColumns(dbClient, `SELECT date_type, time_type FROM DateTimeTypes WHERE row_id = 1`);
+    ColumnBatch[] dateBatches = check from ColumnBatch batch in batchStream select batch;
+    check dbClient.close();
+
+    ColumnVector binaryColumn = binaryBatches[0].columns[0];
+    byte[][] binaryValues = check binaryColumn.values.ensureType();
+    test:assertEquals(check string:fromBytes(binaryValues[0]), "wso2 ballerina binary test.");
+    test:assertEquals(binaryValues[1], []);
+    test:assertEquals(binaryColumn.nulls, [false, true]);
+    test:assertEquals(dateBatches[0].columns[0].values, ["2017-02-03"]);
+    test:assertEquals(dateBatches[0].columns[1].values, ["11:35:45"]);
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function streamLobsOfComplexTable() returns error? {
+    MockClient dbClient = check new (url = queryRowDb, user = user, password = password);
+    stream<byte[], Error?> blobStream = streamBlob(dbClient,
+        `SELECT blob_type FROM ComplexTypes WHERE row_id = ${1}`, 10);
+    byte[][] blobChunks = check from byte[] chunk in blobStream select chunk;
+    stream<string, Error?> clobStream = streamClob(dbClient,
+        `SELECT clob_type FROM ComplexTypes WHERE row_id = ${1}`, 5);
+    string[] clobChunks = check from string chunk in clobStream select chunk;
+    stream<byte[], Error?> nullStream = streamBlob(dbClient, `SELECT blob_type FROM ComplexTypes WHERE row_id = 2`);
+    byte[][] nullChunks = check from byte[] chunk in nullStream select chunk;
+    check dbClient.close();
+
+    test:assertEquals(blobChunks.length(), 3);
+    byte[] blobValue = [...blobChunks[0], ...blobChunks[1], ...blobChunks[2]];
+    test:assertEquals(check string:fromBytes(blobValue), "wso2 ballerina blob test.");
+    test:assertEquals(clobChunks, ["very ", "long ", "text"]);
+    test:assertEquals(nullChunks.length(), 0);
+}
+
 isolated function validateDataTableRecordResult(record {}? returnData) {
     decimal decimalVal = 23.45;
     if returnData is () {
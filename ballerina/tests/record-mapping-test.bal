@@ -403,3 +403,60 @@ function queryEmptyTest3() returns error? {
     test:assertTrue(e is ());
     test:assertEquals(count, 1);
 }
+
+public type StudentWithReadonlyField record {|
+    readonly int id;
+    string name;
+    int age;
+    int supervisorId;
+|};
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryRecordWithReadonlyField() returns error? {
+    MockClient dbClient = check getMockClient(queryRowDb);
+    stream<StudentWithReadonlyField, Error?> studentStream = dbClient->query(`SELECT * FROM students WHERE id = 1`);
+    StudentWithReadonlyField[] students = check from StudentWithReadonlyField student in studentStream
+        select student;
+    StudentWithReadonlyField student = check dbClient->queryRow(`SELECT * FROM students WHERE id = 1`);
+    check dbClient.close();
+
+    StudentWithReadonlyField expectedStudent = {id: 1, name: "Alice", age: 25, supervisorId: 1};
+    test:assertEquals(students, [expectedStudent], "Expected student records did not match");
+    test:assertEquals(student, expectedStudent, "Expected student record did not match");
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryReadonlyRecord() returns error? {
+    MockClient dbClient = check getMockClient(queryRowDb);
+    stream<readonly & StudentsWithoutTeachersFieldClosed, Error?> studentStream =
+            dbClient->query(`SELECT * FROM students WHERE id = 1`);
+    (readonly & StudentsWithoutTeachersFieldClosed)[] students =
+            check from var student in studentStream select student;
+    readonly & StudentsWithoutTeachersFieldClosed student = check dbClient->queryRow(`SELECT * FROM students WHERE id = 1`);
+    check dbClient.close();
+
+    StudentsWithoutTeachersFieldClosed expectedStudent = {id: 1, name: "Alice", age: 25, supervisorId: 1};
+    test:assertEquals(students, [expectedStudent], "Expected student records did not match");
+    test:assertEquals(student, expectedStudent, "Expected student record did not match");
+    test:assertTrue(students[0].isReadOnly(), "The record of the readonly row type is not frozen");
+    test:assertTrue(student.isReadOnly(), "The record of the readonly row type is not frozen");
+}
+
+@test:Config {
+    groups: ["query", "query-row"]
+}
+function queryMappingPlanCacheStats() returns error? {
+    MockClient dbClient = check getMockClient(queryRowDb);
+    CacheStats before = getMappingPlanCacheStats();
+    StudentsWithoutTeachersField _ = check dbClient->queryRow(`SELECT * FROM students WHERE id = 1`);
+    StudentsWithoutTeachersField _ = check dbClient->queryRow(`SELECT * FROM students WHERE id = 1`);
+    check dbClient.close();
+
+    CacheStats after = getMappingPlanCacheStats();
+    test:assertTrue(after.hitCount > before.hitCount, "The mapping plan of the repeated query was not reused");
+    test:assertTrue(after.entryCount > 0);
+}
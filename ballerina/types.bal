@@ -443,6 +443,17 @@ public distinct class VarBinaryArrayValue {
     }
 }
 
+# Represents a file of which the content is streamed to the database as the value of a `sql:BlobFileValue`,
+# `sql:ClobFileValue` or `sql:NClobFileValue` parameter, without loading the content into memory. The file is closed
+# once the statement is executed.
+#
+# + path - The path of the file
+# + encoding - The character encoding of the file, which is used when the file is the value of a CLOB parameter
+public type LobFile record {|
+    string path;
+    string encoding = "UTF-8";
+|};
+
 # Represents SQL Blob type parameter in `sql:ParameterizedQuery`.
 #
 # + value - Value of the parameter
@@ -455,6 +466,42 @@ public distinct class BlobValue {
     }
 }
 
+# Represents SQL Blob type parameter in `sql:ParameterizedQuery` of which the content is streamed from a file.
+#
+# + value - The file of which the content is the value of the parameter
+public distinct class BlobFileValue {
+    *TypedValue;
+    public LobFile value;
+
+    public isolated function init(LobFile value) {
+        self.value = value;
+    }
+}
+
+# Represents SQL Clob type parameter in `sql:ParameterizedQuery` of which the content is streamed from a file.
+#
+# + value - The file of which the content is the value of the parameter
+public distinct class ClobFileValue {
+    *TypedValue;
+    public LobFile value;
+
+    public isolated function init(LobFile value) {
+        self.value = value;
+    }
+}
+
+# Represents SQL NClob type parameter in `sql:ParameterizedQuery` of which the content is streamed from a file.
+#
+# + value - The file of which the content is the value of the parameter
+public distinct class NClobFileValue {
+    *TypedValue;
+    public LobFile value;
+
+    public isolated function init(LobFile value) {
+        self.value = value;
+    }
+}
+
 # Represents SQL Date type parameter in `sql:ParameterizedQuery`.
 #
 # + value - Value of the parameter
@@ -635,6 +682,241 @@ public type ExecutionResult record {
     string|int? lastInsertId;
 };
 
+# Fetch size which makes the MySQL driver stream the rows of a result one at a time instead of reading the whole
+# result into memory.
+public const int ROW_BY_ROW_FETCH_SIZE = -2147483648;
+
+# Represents the hints given to the driver on how the results of the `query` remote method are fetched. The statements
+# are prepared as forward-only and read-only. Whether the rows are then read incrementally as the stream is consumed
+# depends on the driver. The PostgreSQL driver uses the fetch size only when auto-commit is disabled, which is within
+# transactions. The MySQL driver reads the whole result unless the fetch size is `sql:ROW_BY_ROW_FETCH_SIZE` or the
+# `useCursorFetch` connection property is set. The Oracle driver uses the fetch size as it is.
+#
+# + fetchSize - The number of rows fetched from the database in a single round trip. The default value is 0, which
+#               uses the default of the driver. A value of `sql:ROW_BY_ROW_FETCH_SIZE` is passed to the driver as it
+#               is
+# + maxRows - The maximum number of rows returned by a query. Rows exceeding this limit are dropped silently.
+#             The default value is 0, which indicates that there is no limit
+# + prefetchSize - The number of rows read and converted ahead of the stream consumer by a worker of the SQL worker
+#                  pool, so that fetching the rows overlaps with processing them. The worker is held until the stream
+#                  is fully consumed or closed, hence each open prefetching stream occupies a worker of the pool, and
+#                  the rows are read by the consumer when no worker picks up the prefetching within 100 milliseconds.
+#                  Rows are not prefetched within transactions. The default value is 0, which disables prefetching
+# + bufferRows - The maximum number of rows of a result that are read into memory when the query is executed. If the
+#                result ends within this limit, its connection is returned to the pool right away and the stream is
+#                served from memory. Otherwise, the stream continues with the rest of the rows from the database.
+#                Results are not buffered within transactions. The default value is 0, which disables buffering
+# + bufferBytes - The maximum estimated size in bytes of the rows of a result that are read into memory. The default
+#                 value is 1048576. A value of 0 indicates that only the number of rows is limited
+# + spillBytes - The maximum size in bytes of the temporary file to which the rows of a result are written when the
+#                query is executed. If the result ends within this size, its connection is returned to the pool right
+#                away and the stream is served from the file, which is deleted when the stream is closed. Otherwise,
+#                the stream continues with the rest of the rows from the database. Values which cannot be written to
+#                the file, such as XML values, are kept in memory and their estimated size counts towards this limit.
+#                A result which is not buffered is written to a file. Results are not written to files within
+#                transactions. The default value is 0, which disables writing results to files
+public type QueryOptions record {|
+    int fetchSize = 0;
+    int maxRows = 0;
+    int prefetchSize = 0;
+    int bufferRows = 0;
+    int bufferBytes = 1048576;
+    int spillBytes = 0;
+|};
+
+# Represents the policies used to select the read replica to which a query is sent.
+#
+# + ROUND_ROBIN - The replicas are selected in turn
+# + LEAST_OUTSTANDING - The replica with the least number of connections in use is selected
+public enum LoadBalancingPolicy {
+    ROUND_ROBIN,
+    LEAST_OUTSTANDING
+}
+
+# Represents the read replicas to which the queries of a client are sent.
+#
+# + urls - The JDBC URLs of the replicas. The replicas are connected with the credentials, options and connection pool
+#          configurations of the client
+# + loadBalancingPolicy - The policy used to select the replica of a query
+# + readYourWritesWindow - The time in seconds for which the queries of a strand are sent to the primary database after
+#                          the strand executes a statement through the client. The default value is 0, which sends all
+#                          the queries outside transactions to the replicas
+public type ReplicaConfig record {|
+    string[] urls;
+    LoadBalancingPolicy loadBalancingPolicy = ROUND_ROBIN;
+    decimal readYourWritesWindow = 0;
+|};
+
+# Represents the number of queries sent to the database in a single batch by `batchExecute`.
+#
+# + batchSize - The number of queries in a batch. In the adaptive mode, this is the initial batch size
+# + adaptive - If true, the batch size is tuned between `minBatchSize` and `maxBatchSize` by measuring the number of
+#              rows executed per second in each batch
+# + minBatchSize - The minimum batch size used in the adaptive mode
+# + maxBatchSize - The maximum batch size used in the adaptive mode
+# + groupBySql - If true, the queries with the same SQL are executed in a single batch even if they are not adjacent,
+#                as long as the queries between them do not use the tables modified by them or modify the tables used
+#                by them. Constraints between different tables, such as foreign keys, are not considered, hence this
+#                should only be enabled when the order of the queries on different tables does not matter
+public type BatchSizeConfig record {|
+    int batchSize = 1000;
+    boolean adaptive = false;
+    int minBatchSize = 100;
+    int maxBatchSize = 10000;
+    boolean groupBySql = false;
+|};
+
+# Represents the batch sizes used by `batchExecute` of a client.
+#
+# + batchSize - The batch size of the next batch
+# + adaptive - Whether the batch size is tuned adaptively
+# + executedBatchCount - The number of batches executed by the client
+# + lastRowsPerSecond - The number of rows executed per second in the last batch
+public type BatchSizeStats record {|
+    int batchSize;
+    boolean adaptive;
+    int executedBatchCount;
+    float lastRowsPerSecond;
+|};
+
+# Represents the result cache of the `query` and `queryRow` remote methods of a client.
+#
+# + maxEntries - The maximum number of query results held in the cache
+# + maxBytes - The maximum estimated size of the query results held in the cache in bytes. A result larger than this
+#              size is not cached
+# + ttl - The time in seconds for which a query result is served from the cache
+public type ResultCacheConfig record {|
+    int maxEntries = 1000;
+    int maxBytes = 10485760;
+    decimal ttl = 60;
+|};
+
+# Represents the usage of the result cache of a client.
+#
+# + hitCount - The number of queries of which the result is returned from the cache
+# + missCount - The number of cacheable queries of which the result is not found in the cache
+# + evictionCount - The number of results removed as the cache is full or their time-to-live expired
+# + invalidationCount - The number of results removed as a statement executed through the client modified their
+#                       tables
+# + entryCount - The number of results in the cache
+# + byteSize - The estimated size of the results in the cache in bytes
+public type ResultCacheStats record {|
+    int hitCount;
+    int missCount;
+    int evictionCount;
+    int invalidationCount;
+    int entryCount;
+    int byteSize;
+|};
+
+# Represents the usage of a cache of the module.
+#
+# + hitCount - The number of lookups which found an entry in the cache
+# + missCount - The number of lookups which did not find an entry in the cache
+# + evictionCount - The number of entries removed as the cache is full
+# + entryCount - The number of entries in the cache
+public type CacheStats record {|
+    int hitCount;
+    int missCount;
+    int evictionCount;
+    int entryCount;
+|};
+
+# Represents the summary of durations recorded by a connection pool. The durations are in seconds, and the percentiles
+# are estimated with an error of at most 12.5%.
+#
+# + count - The number of recorded durations
+# + mean - The mean duration
+# + p50 - The median duration
+# + p90 - The 90th percentile of the durations
+# + p99 - The 99th percentile of the durations
+# + max - The maximum duration
+public type LatencyStats record {|
+    int count;
+    decimal mean;
+    decimal p50;
+    decimal p90;
+    decimal p99;
+    decimal max;
+|};
+
+# Represents the current state of a connection pool and the connection acquisition and usage times recorded since the
+# pool was created. The statistics of a pool shared by multiple clients include the connections of all of them.
+#
+# + activeConnections - The number of connections in use
+# + idleConnections - The number of connections waiting to be used
+# + totalConnections - The number of connections held by the pool
+# + pendingRequests - The number of connection requests waiting for a connection
+# + maxConnections - The maximum number of connections of the pool
+# + minIdleConnections - The minimum number of idle connections that the pool tries to maintain
+# + timeoutCount - The number of connection requests that failed as a connection could not be obtained in time
+# + acquireTime - The time taken to obtain a connection from the pool
+# + usageTime - The time for which a connection was held before it was returned to the pool. This is only recorded
+#               for the pools which are not managed by the transaction manager
+public type ConnectionPoolStats record {|
+    int activeConnections;
+    int idleConnections;
+    int totalConnections;
+    int pendingRequests;
+    int maxConnections;
+    int minIdleConnections;
+    int timeoutCount;
+    LatencyStats acquireTime;
+    LatencyStats usageTime;
+|};
+
+# Represents the configurations of the detection of leaked result streams. A stream returned by the `query` remote
+# method holds a connection until it is closed or fully consumed.
+#
+# + leakThreshold - The time in seconds after which an open stream is reported as a possible leak. A value of 0
+#                   disables the reporting
+# + sampleRate - The fraction of the streams of which the call stack is recorded and logged with the warnings.
+#                Recording the call stack adds overhead to each `query` call
+public type StreamLeakDetectionConfig record {|
+    decimal leakThreshold = 0;
+    float sampleRate = 0.0;
+|};
+
+# Represents the statistics of the result streams of a client.
+#
+# + openCount - The number of streams which are not closed yet
+# + leakCount - The number of streams which stayed open for longer than the leak threshold
+# + reclaimedCount - The number of streams which were closed when they were garbage collected, as they were not
+#                    closed by the application
+public type StreamStats record {|
+    int openCount;
+    int leakCount;
+    int reclaimedCount;
+|};
+
+# Represents the options of `sql:streamBatchExecute`.
+#
+# + flushSize - The number of queries sent to the database in a single batch. Only this number of queries and their
+#               results are held in memory at a time
+# + includeExecutionResults - If true, the `sql:ExecutionResult` of each query is returned in the summary. This keeps
+#                             the results of all the queries in memory, hence it should only be used for small streams
+public type BatchExecuteOptions record {|
+    int flushSize = 1000;
+    boolean includeExecutionResults = false;
+|};
+
+# Represents the aggregated metadata of an `sql:streamBatchExecute` execution.
+#
+# + executedCount - The number of queries executed
+# + affectedRowCount - The total number of rows affected by the queries. Queries whose count of affected rows is
+#                      unknown (`sql:SUCCESS_NO_INFO`) are not included
+# + successNoInfoCount - The number of queries executed successfully, but whose count of affected rows is unknown
+# + batchCount - The number of batches sent to the database
+# + executionResults - The metadata of each query execution. This is only populated when
+#                      `includeExecutionResults` is set in `sql:BatchExecuteOptions`
+public type BatchExecuteSummary record {|
+    int executedCount = 0;
+    int affectedRowCount = 0;
+    int successNoInfoCount = 0;
+    int batchCount = 0;
+    ExecutionResult[]? executionResults = ();
+|};
+
 # Represents the generic OUT Parameters in `sql:ParameterizedCallQuery`.
 public type OutParameter object {
 
@@ -14,6 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
+
 # Concatenates all provided `sql:ParameterizedQuery`s into a single `sql:ParameterizedQuery`.
 #
 # + queries - Set of `sql:ParameterizedQuery` queries
@@ -84,3 +86,225 @@ public isolated function generateApplicationErrorStream(string message) returns
     stream<record {}, Error?> errorStream = new (resultIterator);
     return errorStream;
 }
+
+# Executes the queries of the stream in batches of `flushSize` queries using `sql:Client.batchExecute`. Only a single
+# batch is held in memory at a time, hence this can be used to load large data sets. The queries of a batch may have
+# different SQL, in which case they are executed the same way as the queries of `sql:Client.batchExecute`. A stream
+# of records can be converted to a stream of queries using a query expression, which selects an
+# `sql:ParameterizedQuery` for each record.
+# If a batch fails, the batches executed before it are not rolled back unless the function is called within a
+# transaction. The aggregated metadata of those batches is returned in an `sql:StreamBatchExecuteError`.
+#
+# + sqlClient - The client used to execute the batches
+# + sqlQueries - The stream of SQL queries with the parameters
+# + options - The flush size and whether the metadata of each query execution is returned
+# + return - Aggregated metadata of the execution as an `sql:BatchExecuteSummary` or an `sql:Error`
+public isolated function streamBatchExecute(Client sqlClient, stream<ParameterizedQuery, error?> sqlQueries,
+        BatchExecuteOptions options = {}) returns BatchExecuteSummary|Error {
+    if options.flushSize < 1 {
+        return error ApplicationError("Batch execute option 'flushSize' must be greater than zero.");
+    }
+    BatchExecuteSummary summary = {};
+    ExecutionResult[] allResults = [];
+    ParameterizedQuery[] batch = [];
+    while true {
+        record {|ParameterizedQuery value;|}|error? next = sqlQueries.next();
+        if next is error {
+            check closeBatchStream(sqlQueries);
+            return getStreamBatchExecuteError("Error while reading the queries of the batch: " + next.message(),
+                next, summary, options.includeExecutionResults ? allResults : ());
+        }
+        if next !is () {
+            batch.push(next.value);
+        }
+        if batch.length() == options.flushSize || (next is () && batch.length() > 0) {
+            ExecutionResult[]|Error results = sqlClient->batchExecute(batch);
+            if results is Error {
+                check closeBatchStream(sqlQueries);
+                return getStreamBatchExecuteError(results.message(), results, summary,
+                    options.includeExecutionResults ? allResults : ());
+            }
+            foreach ExecutionResult result in results {
+                int? count = result.affectedRowCount;
+                if count == SUCCESS_NO_INFO {
+                    summary.successNoInfoCount += 1;
+                } else if count is int && count > 0 {
+                    summary.affectedRowCount += count;
+                }
+            }
+            summary.executedCount += results.length();
+            summary.batchCount += 1;
+            if options.includeExecutionResults {
+                allResults.push(...results);
+            }
+            batch = [];
+        }
+        if next is () {
+            break;
+        }
+    }
+    if options.includeExecutionResults {
+        summary.executionResults = allResults;
+    }
+    return summary;
+}
+
+# Sends the `query` and `queryRow` remote method calls of the client, which are not within a transaction, to the
+# given read replicas. The `execute`, `batchExecute` and `call` remote methods and all the operations within
+# transactions use the primary database of the client.
+#
+# + sqlClient - The client of which the queries are routed
+# + config - The read replica configurations
+# + return - An `sql:Error` if the configurations are invalid or the replicas cannot be connected
+public isolated function setReadReplicas(Client sqlClient, ReplicaConfig config) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Sets the number of queries sent to the database in a single batch by the `batchExecute` remote method of the client.
+#
+# + sqlClient - The client of which the batch size is set
+# + config - The batch size configurations
+# + return - An `sql:Error` if the configurations are invalid
+public isolated function setBatchSizeConfig(Client sqlClient, BatchSizeConfig config) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Sets the hints given to the driver on how the results of the `query` remote method of the client are fetched.
+#
+# + sqlClient - The client of which the query options are set
+# + options - The query options
+# + return - An `sql:Error` if the options are invalid
+public isolated function setQueryOptions(Client sqlClient, QueryOptions options) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Sets the hints given to the driver on how the results of the next `query` remote method call made by the current
+# strand through any client are fetched, which override the query options of the client for that call.
+#
+# + options - The query options
+# + return - An `sql:Error` if the options are invalid
+public isolated function setNextQueryOptions(QueryOptions options) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Returns the batch sizes used by the `batchExecute` remote method of the client.
+#
+# + sqlClient - The client of which the statistics are returned
+# + return - The batch size statistics
+public isolated function getBatchSizeStats(Client sqlClient) returns BatchSizeStats = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Caches the results of the `query` and `queryRow` remote method calls of the client, which are not within a
+# transaction. A result is cached for the given time-to-live, and the results of the queries which use a table are
+# removed when the `execute` or `batchExecute` remote methods of the client modify the table. The `call` remote method
+# and the statements of which the tables cannot be identified remove all the results. The results are removed again
+# when the transaction of a statement ends. The results of the queries sent to read replicas and of the queries with
+# common table expressions are not cached. Views are not resolved, and changes made to the database by other clients
+# are not detected, hence they are only visible once the cached results expire.
+#
+# + sqlClient - The client of which the results are cached
+# + config - The result cache configurations
+# + return - An `sql:Error` if the configurations are invalid
+public isolated function setResultCache(Client sqlClient, ResultCacheConfig config) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Returns the usage of the result cache of the client.
+#
+# + sqlClient - The client of which the statistics are returned
+# + return - The result cache statistics, or `()` if the results of the client are not cached
+public isolated function getResultCacheStats(Client sqlClient) returns ResultCacheStats? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+isolated function closeBatchStream(stream<ParameterizedQuery, error?> sqlQueries) returns Error? {
+    error? err = sqlQueries.close();
+    if err is error {
+        return error ApplicationError("Error while closing the stream of the batch: " + err.message(), err);
+    }
+}
+
+isolated function getStreamBatchExecuteError(string message, error cause, BatchExecuteSummary summary,
+        ExecutionResult[]? executionResults) returns StreamBatchExecuteError {
+    summary.executionResults = executionResults;
+    return error StreamBatchExecuteError(message, cause, summary = summary.cloneReadOnly());
+}
+
+# Returns whether the connection pool of the client is ready. When the pool is initialized asynchronously, the pool is
+# ready once the connections opened by the warm-up, which are up to 8 of the minimum idle connections, are opened and
+# the warm-up statements are prepared on them.
+#
+# + sqlClient - The client of which the pool is checked
+# + return - `true` if the pool is ready, `false` if the pool is still warming up, or an `sql:Error` if the warm-up
+#            failed
+public isolated function isPoolReady(Client sqlClient) returns boolean|Error = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Returns the statistics of the connection pool of the client, which can be used to size the pool. When the client
+# routes queries to read replicas, the statistics of the pool of the primary database are returned.
+#
+# + sqlClient - The client of which the pool statistics are returned
+# + return - The connection pool statistics, or an `sql:Error` if the client is closed
+public isolated function getPoolStats(Client sqlClient) returns ConnectionPoolStats|Error = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Returns the usage of the prepared statement cache of the connection pool of the client, which is configured through
+# the `statementCacheSize` field of the `sql:ConnectionPool`. When the cache is disabled, all the counts are zero.
+#
+# + sqlClient - The client of which the statement cache statistics are returned
+# + return - The statement cache statistics, or an `sql:Error` if the client is closed
+public isolated function getStatementCacheStats(Client sqlClient) returns CacheStats|Error = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Sets the default timeout of the `query`, `queryRow`, `execute`, `batchExecute` and `call` remote method calls of the
+# client. A statement which does not complete within the timeout is cancelled, and the remote method returns an
+# `sql:QueryTimeoutError`. The timeout is shared by all the statements of a `batchExecute` call. Each fetch of the
+# rows of the stream of a `query` call is cancelled if it exceeds the timeout, while the time taken by the consumer
+# between the rows is not included.
+#
+# + sqlClient - The client of which the query timeout is set
+# + timeout - The timeout in seconds. A value of 0 indicates that there is no timeout
+# + return - An `sql:Error` if the timeout is invalid
+public isolated function setQueryTimeout(Client sqlClient, decimal timeout) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Sets the timeout of the next `query`, `queryRow`, `execute`, `batchExecute` or `call` remote method call made by the
+# current strand through any client, which overrides the query timeout of the client for that call.
+#
+# + timeout - The timeout in seconds. A value of 0 indicates that the call has no timeout
+# + return - An `sql:Error` if the timeout is invalid
+public isolated function setNextQueryTimeout(decimal timeout) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Returns the usage of the cache of the column mapping plans, which map the columns of the results of the `query` and
+# `queryRow` remote methods to the fields of the record types. The cache is shared by all the clients.
+#
+# + return - The mapping plan cache statistics
+public isolated function getMappingPlanCacheStats() returns CacheStats = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Configures the detection of leaked result streams of the client. A stream which is garbage collected without being
+# closed is always closed so that its connection is returned to the pool, and a warning is logged.
+#
+# + sqlClient - The client of which the leak detection is configured
+# + config - The leak detection configurations
+# + return - An `sql:Error` if the configurations are invalid
+public isolated function setStreamLeakDetection(Client sqlClient,
+        StreamLeakDetectionConfig config) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
+
+# Returns the statistics of the result streams of the client.
+#
+# + sqlClient - The client of which the stream statistics are returned
+# + return - The stream statistics, or an `sql:Error` if the client is not initialized
+public isolated function getStreamStats(Client sqlClient) returns StreamStats|Error = @java:Method {
+    'class: "io.ballerina.stdlib.sql.nativeimpl.ClientProcessor"
+} external;
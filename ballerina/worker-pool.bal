@@ -0,0 +1,61 @@
+// Copyright (c) 2023 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the behaviour of the worker pool when all the workers are busy and the queue is full.
+#
+# + FAIL - The operation fails with an `sql:ApplicationError`
+# + CALLER_RUNS - The operation is executed in the calling strand, which blocks the caller until it completes. The
+#                 blocking database call runs on a thread of the Ballerina scheduler, which stalls all the other
+#                 strands scheduled on that thread. Use this only when the pool is sized for the peak load and the
+#                 rejections are rare
+public enum WorkerPoolRejectionPolicy {
+    FAIL,
+    CALLER_RUNS
+}
+
+configurable int workerPoolCoreSize = 0;
+configurable int workerPoolMaxSize = 50;
+configurable int workerPoolQueueSize = 0;
+configurable WorkerPoolRejectionPolicy workerPoolRejectionPolicy = FAIL;
+configurable boolean workerPoolVirtualThreads = false;
+
+# Represents the current state of the worker pool, which executes the database operations outside transactions.
+#
+# + activeCount - The number of database operations being executed
+# + poolSize - The number of threads in the pool
+# + queueSize - The number of database operations waiting for a worker
+# + rejectedCount - The number of database operations rejected since the module was initialized, as all the
+#                   workers were busy and the queue was full
+public type WorkerPoolStats record {|
+    int activeCount;
+    int poolSize;
+    int queueSize;
+    int rejectedCount;
+|};
+
+# Returns the current state of the worker pool, which executes the database operations outside transactions.
+#
+# + return - The worker pool statistics
+public isolated function getWorkerPoolStats() returns WorkerPoolStats = @java:Method {
+    'class: "io.ballerina.stdlib.sql.utils.WorkerPoolUtils"
+} external;
+
+isolated function initWorkerPool(int coreSize, int maxSize, int queueSize, string rejectionPolicy,
+        boolean virtualThreads) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.sql.utils.WorkerPoolUtils"
+} external;
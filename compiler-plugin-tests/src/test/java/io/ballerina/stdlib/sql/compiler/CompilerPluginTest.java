@@ -140,4 +140,21 @@ public class CompilerPluginTest {
 
         Assert.assertEquals(availableErrors, 0);
     }
+
+    @Test
+    public void testStatementCacheSizeConfig() {
+        Package currentPackage = loadPackage("sample6");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        List<Diagnostic> errorDiagnosticsList = diagnosticResult.diagnostics().stream()
+                .filter(r -> r.diagnosticInfo().severity().equals(DiagnosticSeverity.ERROR))
+                .collect(Collectors.toList());
+        long availableErrors = errorDiagnosticsList.size();
+
+        // A cache size of 0 disables the cache, hence only the negative size is reported
+        Assert.assertEquals(availableErrors, 1);
+        DiagnosticInfo statementCacheSize = errorDiagnosticsList.get(0).diagnosticInfo();
+        Assert.assertEquals(statementCacheSize.code(), SQLDiagnosticsCodes.SQL_104.getCode());
+        Assert.assertEquals(statementCacheSize.messageFormat(), SQLDiagnosticsCodes.SQL_104.getMessage());
+    }
 }
@@ -39,6 +39,7 @@ public class Constants {
         public static final String MAX_OPEN_CONNECTIONS = "maxOpenConnections";
         public static final String MAX_CONNECTION_LIFE_TIME = "maxConnectionLifeTime";
         public static final String MIN_IDLE_CONNECTIONS = "minIdleConnections";
+        public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
     }
 
     /**
@@ -50,6 +50,7 @@ import static io.ballerina.stdlib.sql.compiler.Constants.UNNECESSARY_CHARS_REGEX
 import static io.ballerina.stdlib.sql.compiler.SQLDiagnosticsCodes.SQL_101;
 import static io.ballerina.stdlib.sql.compiler.SQLDiagnosticsCodes.SQL_102;
 import static io.ballerina.stdlib.sql.compiler.SQLDiagnosticsCodes.SQL_103;
+import static io.ballerina.stdlib.sql.compiler.SQLDiagnosticsCodes.SQL_104;
 
 /**
  * ConnectionPoolConfigAnalyzer.
@@ -114,6 +115,16 @@ public class ConnectionPoolConfigAnalyzer implements AnalysisTask<SyntaxNodeAnal
                             ctx.reportDiagnostic(
                                     DiagnosticFactory.createDiagnostic(diagnosticInfo, valueNode.location()));
 
+                        }
+                        break;
+                    case Constants.ConnectionPool.STATEMENT_CACHE_SIZE:
+                        int statementCacheSize = Integer.parseInt(getTerminalNodeValue(valueNode, "0"));
+                        if (statementCacheSize < 0) {
+                            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(SQL_104.getCode(), SQL_104.getMessage(),
+                                    SQL_104.getSeverity());
+                            ctx.reportDiagnostic(
+                                    DiagnosticFactory.createDiagnostic(diagnosticInfo, valueNode.location()));
+
                         }
                         break;
                     case Constants.ConnectionPool.MAX_CONNECTION_LIFE_TIME:
@@ -49,6 +49,7 @@ public final class Constants {
     public static final String CONVERSION_ERROR = "ConversionError";
     public static final String FIELD_MISMATCH_ERROR = "FieldMismatchError";
     public static final String UNSUPPORTED_TYPE_ERROR = "UnsupportedTypeError";
+    public static final String QUERY_TIMEOUT_ERROR = "QueryTimeoutError";
 
     public static final String RESULT_ITERATOR_OBJECT = "ResultIterator";
     public static final String RESULT_SET_NATIVE_DATA_FIELD = "ResultSet";
@@ -56,6 +57,27 @@ public final class Constants {
     public static final String STATEMENT_NATIVE_DATA_FIELD = "Statement";
     public static final String COLUMN_DEFINITIONS_DATA_FIELD = "ColumnDefinition";
     public static final String RECORD_TYPE_DATA_FIELD = "recordType";
+    public static final String BATCH_SIZE_CONTROLLER_NATIVE_DATA_FIELD = "BatchSizeController";
+    public static final String QUERY_OPTIONS_NATIVE_DATA_FIELD = "QueryOptions";
+    public static final String QUERY_TIMEOUT_NATIVE_DATA_FIELD = "QueryTimeout";
+    public static final String FETCH_WATCH_NATIVE_DATA_FIELD = "FetchWatch";
+    public static final String STREAM_LEAK_TRACKER_NATIVE_DATA_FIELD = "StreamLeakTracker";
+    public static final String TRACKED_STREAM_NATIVE_DATA_FIELD = "TrackedStream";
+    public static final String PREFETCH_SIZE_NATIVE_DATA_FIELD = "PrefetchSize";
+    public static final String RESULT_PREFETCHER_NATIVE_DATA_FIELD = "ResultPrefetcher";
+    public static final String COLUMN_BATCH_ITERATOR_OBJECT = "ColumnBatchIterator";
+    public static final String COLUMN_BATCH_READER_NATIVE_DATA_FIELD = "ColumnBatchReader";
+    public static final String BLOB_CHUNK_ITERATOR_OBJECT = "BlobChunkIterator";
+    public static final String CLOB_CHUNK_ITERATOR_OBJECT = "ClobChunkIterator";
+    public static final String LOB_CHUNK_READER_NATIVE_DATA_FIELD = "LobChunkReader";
+    public static final String DATASOURCE_PARAMS_NATIVE_DATA_FIELD = "DatasourceParams";
+    public static final String REPLICA_ROUTER_NATIVE_DATA_FIELD = "ReplicaRouter";
+    public static final String RESULT_CACHE_NATIVE_DATA_FIELD = "ResultCache";
+    public static final String RESULT_CACHE_RECORDER_NATIVE_DATA_FIELD = "ResultCacheRecorder";
+    public static final String CACHED_ROWS_NATIVE_DATA_FIELD = "CachedRows";
+    public static final String BUFFERED_ROWS_NATIVE_DATA_FIELD = "BufferedRows";
+    public static final String SPILLED_RESULT_NATIVE_DATA_FIELD = "SpilledResult";
+    public static final String KEYSET_SCAN_NATIVE_DATA_FIELD = "KeysetScan";
 
     public static final String PROCEDURE_CALL_RESULT = "ProcedureCallResult";
     public static final String TYPE_DESCRIPTIONS_NATIVE_DATA_FIELD = "TypeDescription";
@@ -81,6 +103,9 @@ public final class Constants {
     public static final String BACKTICK = "`";
     public static final String DEFAULT_STREAM_CONSTRAINT_NAME = "$stream$anon$constraint$";
     public static final String INHERENT_TYPE_VIOLATION = "{ballerina/lang.map}InherentTypeViolation";
+    public static final int MAPPING_PLAN_CACHE_SIZE = 256;
+    public static final int QUERY_TEMPLATE_CACHE_SIZE = 1024;
+    public static final int LOB_READ_BUFFER_SIZE = 8192;
     /**
      * Constants related connection pool.
      */
@@ -92,6 +117,217 @@ public final class Constants {
         public static final BString MAX_CONNECTION_LIFE_TIME = fromString(
                 "maxConnectionLifeTime");
         public static final BString MIN_IDLE_CONNECTIONS = fromString("minIdleConnections");
+        public static final BString STATEMENT_CACHE_SIZE = fromString("statementCacheSize");
+        public static final BString ASYNC_INIT = fromString("asyncInit");
+        public static final BString WARMUP_STATEMENTS = fromString("warmupStatements");
+    }
+
+    /**
+     * Constants related to the statistics of the internal caches.
+     */
+    public static final class CacheStats {
+        private CacheStats() {
+        }
+
+        public static final String RECORD_NAME = "CacheStats";
+        public static final String HIT_COUNT = "hitCount";
+        public static final String MISS_COUNT = "missCount";
+        public static final String EVICTION_COUNT = "evictionCount";
+        public static final String ENTRY_COUNT = "entryCount";
+    }
+
+    /**
+     * Constants related to worker pool statistics.
+     */
+    public static final class WorkerPoolStats {
+        private WorkerPoolStats() {
+        }
+
+        public static final String RECORD_NAME = "WorkerPoolStats";
+        public static final String ACTIVE_COUNT = "activeCount";
+        public static final String POOL_SIZE = "poolSize";
+        public static final String QUEUE_SIZE = "queueSize";
+        public static final String REJECTED_COUNT = "rejectedCount";
+    }
+
+    /**
+     * Constants related to batch size configurations.
+     */
+    public static final class BatchSizeConfig {
+        private BatchSizeConfig() {
+        }
+
+        public static final BString BATCH_SIZE = fromString("batchSize");
+        public static final BString ADAPTIVE = fromString("adaptive");
+        public static final BString MIN_BATCH_SIZE = fromString("minBatchSize");
+        public static final BString MAX_BATCH_SIZE = fromString("maxBatchSize");
+        public static final BString GROUP_BY_SQL = fromString("groupBySql");
+    }
+
+    /**
+     * Constants related to query options.
+     */
+    public static final class QueryOptions {
+        private QueryOptions() {
+        }
+
+        public static final BString FETCH_SIZE = fromString("fetchSize");
+        public static final BString MAX_ROWS = fromString("maxRows");
+        public static final BString PREFETCH_SIZE = fromString("prefetchSize");
+        public static final BString BUFFER_ROWS = fromString("bufferRows");
+        public static final BString BUFFER_BYTES = fromString("bufferBytes");
+        public static final BString SPILL_BYTES = fromString("spillBytes");
+    }
+
+    /**
+     * Constants related to column vectors of columnar query results.
+     */
+    public static final class ColumnVector {
+        private ColumnVector() {
+        }
+
+        public static final String RECORD_NAME = "ColumnVector";
+        public static final String NAME = "name";
+        public static final String VALUES = "values";
+        public static final String NULLS = "nulls";
+    }
+
+    /**
+     * Constants related to column batches of columnar query results.
+     */
+    public static final class ColumnBatch {
+        private ColumnBatch() {
+        }
+
+        public static final String RECORD_NAME = "ColumnBatch";
+        public static final String ROW_COUNT = "rowCount";
+        public static final String COLUMNS = "columns";
+    }
+
+    /**
+     * Constants related to batch size statistics.
+     */
+    public static final class BatchSizeStats {
+        private BatchSizeStats() {
+        }
+
+        public static final String RECORD_NAME = "BatchSizeStats";
+        public static final String BATCH_SIZE = "batchSize";
+        public static final String ADAPTIVE = "adaptive";
+        public static final String EXECUTED_BATCH_COUNT = "executedBatchCount";
+        public static final String LAST_ROWS_PER_SECOND = "lastRowsPerSecond";
+    }
+
+    /**
+     * Constants related to the read replica configurations.
+     */
+    public static final class ReplicaConfig {
+        private ReplicaConfig() {
+        }
+
+        public static final BString URLS = fromString("urls");
+        public static final BString LOAD_BALANCING_POLICY = fromString("loadBalancingPolicy");
+        public static final BString READ_YOUR_WRITES_WINDOW = fromString("readYourWritesWindow");
+        public static final String LEAST_OUTSTANDING = "LEAST_OUTSTANDING";
+    }
+
+    /**
+     * Constants related to the result cache configurations.
+     */
+    public static final class ResultCacheConfig {
+        private ResultCacheConfig() {
+        }
+
+        public static final BString MAX_ENTRIES = fromString("maxEntries");
+        public static final BString MAX_BYTES = fromString("maxBytes");
+        public static final BString TTL = fromString("ttl");
+    }
+
+    /**
+     * Constants related to the statistics of the result cache.
+     */
+    public static final class ResultCacheStats {
+        private ResultCacheStats() {
+        }
+
+        public static final String RECORD_NAME = "ResultCacheStats";
+        public static final String HIT_COUNT = "hitCount";
+        public static final String MISS_COUNT = "missCount";
+        public static final String EVICTION_COUNT = "evictionCount";
+        public static final String INVALIDATION_COUNT = "invalidationCount";
+        public static final String ENTRY_COUNT = "entryCount";
+        public static final String BYTE_SIZE = "byteSize";
+    }
+
+    /**
+     * Constants related to connection pool statistics.
+     */
+    public static final class ConnectionPoolStats {
+        private ConnectionPoolStats() {
+        }
+
+        public static final String RECORD_NAME = "ConnectionPoolStats";
+        public static final String ACTIVE_CONNECTIONS = "activeConnections";
+        public static final String IDLE_CONNECTIONS = "idleConnections";
+        public static final String TOTAL_CONNECTIONS = "totalConnections";
+        public static final String PENDING_REQUESTS = "pendingRequests";
+        public static final String MAX_CONNECTIONS = "maxConnections";
+        public static final String MIN_IDLE_CONNECTIONS = "minIdleConnections";
+        public static final String TIMEOUT_COUNT = "timeoutCount";
+        public static final String ACQUIRE_TIME = "acquireTime";
+        public static final String USAGE_TIME = "usageTime";
+    }
+
+    /**
+     * Constants related to latency statistics.
+     */
+    public static final class LatencyStats {
+        private LatencyStats() {
+        }
+
+        public static final String RECORD_NAME = "LatencyStats";
+        public static final String COUNT = "count";
+        public static final String MEAN = "mean";
+        public static final String P50 = "p50";
+        public static final String P90 = "p90";
+        public static final String P99 = "p99";
+        public static final String MAX = "max";
+    }
+
+    /**
+     * Constants related to the stream leak detection configurations.
+     */
+    public static final class StreamLeakDetectionConfig {
+        private StreamLeakDetectionConfig() {
+        }
+
+        public static final BString LEAK_THRESHOLD = fromString("leakThreshold");
+        public static final BString SAMPLE_RATE = fromString("sampleRate");
+    }
+
+    /**
+     * Constants related to stream statistics.
+     */
+    public static final class StreamStats {
+        private StreamStats() {
+        }
+
+        public static final String RECORD_NAME = "StreamStats";
+        public static final String OPEN_COUNT = "openCount";
+        public static final String LEAK_COUNT = "leakCount";
+        public static final String RECLAIMED_COUNT = "reclaimedCount";
+    }
+
+    /**
+     * Constants related to the files streamed as LOB parameters.
+     */
+    public static final class LobFile {
+        private LobFile() {
+        }
+
+        public static final String RECORD_NAME = "LobFile";
+        public static final BString PATH = fromString("path");
+        public static final BString ENCODING = fromString("encoding");
     }
 
     /**
@@ -180,6 +416,9 @@ public final class Constants {
         public static final String VARBINARY = "VarBinaryValue";
         public static final String VARBINARY_ARRAY = "VarBinaryArrayValue";
         public static final String BLOB = "BlobValue";
+        public static final String BLOB_FILE = "BlobFileValue";
+        public static final String CLOB_FILE = "ClobFileValue";
+        public static final String NCLOB_FILE = "NClobFileValue";
         public static final String DATE = "DateValue";
         public static final String DATE_ARRAY = "DateArrayValue";
         public static final String TIME = "TimeValue";
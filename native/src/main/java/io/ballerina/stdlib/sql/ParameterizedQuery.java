@@ -17,16 +17,33 @@
  */
 package io.ballerina.stdlib.sql;
 
+import io.ballerina.stdlib.sql.parameterprocessor.ParameterBinder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Processed Details from sql:ParameterizedQuery.
  */
 public class ParameterizedQuery {
     private final String sqlQuery;
     private final Object[] insertions;
+    private final StatementType statementType;
+    private final ParameterBinder[] parameterBinders;
+    private List<Closeable> streams = null;
 
     public ParameterizedQuery(String sqlQuery, Object[] insertions) {
+        this(sqlQuery, insertions, StatementType.of(sqlQuery), null);
+    }
+
+    public ParameterizedQuery(String sqlQuery, Object[] insertions, StatementType statementType,
+                              ParameterBinder[] parameterBinders) {
         this.sqlQuery = sqlQuery;
         this.insertions = insertions;
+        this.statementType = statementType;
+        this.parameterBinders = parameterBinders;
     }
 
     public String getSqlQuery() {
@@ -36,4 +53,77 @@ public class ParameterizedQuery {
     public Object[] getInsertions() {
         return insertions;
     }
+
+    public StatementType getStatementType() {
+        return statementType;
+    }
+
+    /**
+     * Returns the binders of the parameters shared by the executions of the query template, or null if the query is
+     * not created from a template.
+     *
+     * @return parameter binders
+     */
+    public ParameterBinder[] getParameterBinders() {
+        return parameterBinders;
+    }
+
+    /**
+     * Registers a stream opened to set a parameter of the query, which is closed by {@link #closeStreams()}.
+     *
+     * @param stream stream of the parameter
+     */
+    public void addStream(Closeable stream) {
+        if (streams == null) {
+            streams = new ArrayList<>();
+        }
+        streams.add(stream);
+    }
+
+    /**
+     * Closes the streams opened to set the parameters of the query. This is called once the statement is executed,
+     * as the driver does not read the streams afterwards, including when the execution fails before the streams are
+     * fully read.
+     */
+    public void closeStreams() {
+        if (streams == null) {
+            return;
+        }
+        for (Closeable stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+                // The stream is only read, hence there is nothing to be flushed
+            }
+        }
+        streams = null;
+    }
+
+    /**
+     * Type of the statement, identified by the leading keyword of the SQL query.
+     */
+    public enum StatementType {
+        DDL("CREATE", "ALTER", "DROP", "TRUNCATE", "COMMENT", "RENAME"),
+        DML("INSERT", "UPDATE", "DELETE", "MERGE", "UPSERT", "REPLACE"),
+        SELECT("SELECT"),
+        OTHER;
+
+        private final String[] keywords;
+
+        StatementType(String... keywords) {
+            this.keywords = keywords;
+        }
+
+        public static StatementType of(String sqlQuery) {
+            String query = sqlQuery.trim();
+            for (StatementType statementType : values()) {
+                for (String keyword : statementType.keywords) {
+                    if (query.regionMatches(true, 0, keyword, 0, keyword.length())) {
+                        return statementType;
+                    }
+                }
+            }
+            return OTHER;
+        }
+    }
 }
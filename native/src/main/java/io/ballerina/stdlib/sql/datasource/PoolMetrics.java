@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import io.ballerina.stdlib.sql.utils.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class records the connection acquisitions and usages of a connection pool. Hikari reports them through the
+ * metrics tracker of the pool, whereas the acquisitions of an Atomikos pool are timed by the datasource, as Atomikos
+ * does not report them.
+ *
+ * @since 1.10.0
+ */
+public class PoolMetrics implements IMetricsTracker {
+
+    private final LatencyHistogram acquireTime = new LatencyHistogram();
+    private final LatencyHistogram usageTime = new LatencyHistogram();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final AtomicInteger pendingRequests = new AtomicInteger(0);
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireTime.record(TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos));
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageTime.record(TimeUnit.MILLISECONDS.toMicros(elapsedBorrowedMillis));
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeoutCount.increment();
+    }
+
+    void startRequest() {
+        pendingRequests.incrementAndGet();
+    }
+
+    void endRequest() {
+        pendingRequests.decrementAndGet();
+    }
+
+    public LatencyHistogram getAcquireTime() {
+        return acquireTime;
+    }
+
+    public LatencyHistogram getUsageTime() {
+        return usageTime;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /**
+     * Returns the number of connection requests waiting for the pool, which are counted only for Atomikos pools.
+     *
+     * @return number of pending requests
+     */
+    public int getPendingRequests() {
+        return pendingRequests.get();
+    }
+}
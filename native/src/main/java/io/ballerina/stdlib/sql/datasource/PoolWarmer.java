@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.datasource;
+
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class warms up a connection pool in the background, which is created without verifying a connection. A
+ * bounded number of the minimum idle connections are requested concurrently, the warm-up statements are prepared on
+ * each of them, and then they are returned to the pool. The connections are held until all of them are opened, so
+ * that each of them is a separate connection of the pool. The rest of the idle connections are opened by the pool
+ * itself, and the warm-up statements are prepared on them when they are first used.
+ *
+ * @since 1.10.0
+ */
+public class PoolWarmer {
+
+    // The connections held by the warm-up are not available to the client, hence only a few of them are held and at
+    // least one connection of the pool is left to the client
+    static final int MAX_WARMUP_CONNECTIONS = 8;
+
+    private volatile boolean done = false;
+    private volatile SQLException failure = null;
+
+    private PoolWarmer() {
+    }
+
+    /**
+     * Starts warming up the connection pool of the datasource.
+     *
+     * @param datasource  datasource of the pool
+     * @param minIdle     minimum number of idle connections of the pool
+     * @param maxPoolSize maximum number of connections of the pool
+     * @return the warmer, which reports the readiness of the pool
+     */
+    static PoolWarmer start(SQLDatasource datasource, int minIdle, int maxPoolSize) {
+        PoolWarmer poolWarmer = new PoolWarmer();
+        int count = getConnectionCount(minIdle, maxPoolSize);
+        ExecutorService executor = Executors.newFixedThreadPool(count, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("bal-sql-pool-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<Connection>> connections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            connections.add(CompletableFuture.supplyAsync(() -> openConnection(datasource), executor));
+        }
+        CompletableFuture.allOf(connections.toArray(new CompletableFuture<?>[0])).whenComplete((result, error) -> {
+            for (CompletableFuture<Connection> connection : connections) {
+                if (!connection.isCompletedExceptionally()) {
+                    closeQuietly(connection.join());
+                }
+            }
+            executor.shutdown();
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                        error.getCause() : error;
+                poolWarmer.failure = cause instanceof SQLException ? (SQLException) cause :
+                        new SQLException(cause.getMessage(), cause);
+            }
+            poolWarmer.done = true;
+        });
+        return poolWarmer;
+    }
+
+    /**
+     * Returns the number of connections opened by the warm-up, of which at least one connection is opened to verify
+     * the database is reachable.
+     *
+     * @param minIdle     minimum number of idle connections of the pool
+     * @param maxPoolSize maximum number of connections of the pool
+     * @return number of connections
+     */
+    static int getConnectionCount(int minIdle, int maxPoolSize) {
+        return Math.max(1, Math.min(Math.min(minIdle, maxPoolSize - 1), MAX_WARMUP_CONNECTIONS));
+    }
+
+    /**
+     * Returns whether the warm-up is completed.
+     *
+     * @return true if all the connections are opened, or the warm-up failed
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Returns the error which failed the warm-up.
+     *
+     * @return the error, or null if the warm-up is not completed or all the connections are opened
+     */
+    public SQLException getFailure() {
+        return failure;
+    }
+
+    private static Connection openConnection(SQLDatasource datasource) {
+        Connection connection = null;
+        try {
+            connection = datasource.getConnection();
+            datasource.prepareWarmupStatements(connection);
+            return connection;
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new CompletionException(Utils.getRootSQLException(e));
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.datasource;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.sql.Constants;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class routes the queries of a client, which are not executed within a transaction, to the read replicas of
+ * the database. A replica is selected in the round-robin order, or the replica with the least number of active
+ * connections is selected. When the read-your-writes window is set, the queries of a strand are sent to the primary
+ * database for the duration of the window after the strand executes a statement through the client.
+ *
+ * @since 1.10.0
+ */
+public class ReplicaRouter {
+
+    private static final String LAST_WRITE_STRAND_LOCAL_PREFIX = "sql.replica.lastWrite.";
+
+    private final SQLDatasource[] replicas;
+    private final boolean leastOutstanding;
+    private final long readYourWritesWindowNanos;
+    private final String lastWriteKey;
+    private final AtomicInteger nextReplica = new AtomicInteger(0);
+
+    public ReplicaRouter(SQLDatasource[] replicas, boolean leastOutstanding, long readYourWritesWindowNanos,
+                         String clientId) {
+        this.replicas = replicas;
+        this.leastOutstanding = leastOutstanding;
+        this.readYourWritesWindowNanos = readYourWritesWindowNanos;
+        this.lastWriteKey = LAST_WRITE_STRAND_LOCAL_PREFIX + clientId;
+    }
+
+    /**
+     * Returns the router of the client to be used for a query of the current strand.
+     *
+     * @param env    current environment
+     * @param client client object
+     * @return the router, or null if the query should be sent to the primary database
+     */
+    public static ReplicaRouter getReadRouter(Environment env, BObject client) {
+        ReplicaRouter router = (ReplicaRouter) client.getNativeData(Constants.REPLICA_ROUTER_NATIVE_DATA_FIELD);
+        if (router == null || router.hasRecentWrite(env)) {
+            return null;
+        }
+        return router;
+    }
+
+    /**
+     * Records that the current strand executes a statement through the client, so that the following queries of the
+     * strand read their own writes.
+     *
+     * @param env    current environment
+     * @param client client object
+     */
+    public static void recordWrite(Environment env, BObject client) {
+        ReplicaRouter router = (ReplicaRouter) client.getNativeData(Constants.REPLICA_ROUTER_NATIVE_DATA_FIELD);
+        if (router != null && router.readYourWritesWindowNanos > 0) {
+            env.setStrandLocal(router.lastWriteKey, System.nanoTime());
+        }
+    }
+
+    /**
+     * Selects the replica to which a query is sent.
+     *
+     * @return datasource of the replica
+     */
+    public SQLDatasource selectReplica() {
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.length);
+        if (!leastOutstanding) {
+            return replicas[start];
+        }
+        // The search starts from the next replica in the round-robin order, so that ties are spread evenly
+        SQLDatasource selected = replicas[start];
+        int leastActiveCount = selected.getActiveConnectionCount();
+        for (int i = 1; i < replicas.length && leastActiveCount > 0; i++) {
+            SQLDatasource replica = replicas[(start + i) % replicas.length];
+            int activeCount = replica.getActiveConnectionCount();
+            if (activeCount < leastActiveCount) {
+                selected = replica;
+                leastActiveCount = activeCount;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Releases the connection pools of the replicas.
+     */
+    public void close() {
+        for (SQLDatasource replica : replicas) {
+            replica.decrementClientCounterAndAttemptPoolShutdown();
+        }
+    }
+
+    private boolean hasRecentWrite(Environment env) {
+        if (readYourWritesWindowNanos <= 0) {
+            return false;
+        }
+        Object lastWrite = env.getStrandLocal(lastWriteKey);
+        return lastWrite != null && System.nanoTime() - (Long) lastWrite < readYourWritesWindowNanos;
+    }
+}
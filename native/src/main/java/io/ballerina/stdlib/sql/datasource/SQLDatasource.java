@@ -20,6 +20,9 @@ package io.ballerina.stdlib.sql.datasource;
 import com.atomikos.jdbc.AtomikosDataSourceBean;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -31,10 +34,18 @@ import io.ballerina.stdlib.sql.Constants;
 import io.ballerina.stdlib.sql.exception.ApplicationError;
 import io.ballerina.stdlib.sql.transaction.SQLTransactionContext;
 import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.ModuleUtils;
 import io.ballerina.stdlib.sql.utils.Utils;
 
+import java.sql.CallableStatement;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
@@ -63,11 +74,23 @@ public class SQLDatasource {
     private XADataSource xaDataSource;
     private boolean executeGKFlag;
     private boolean batchExecuteGKFlag;
+    private StatementCache statementCache = new StatementCache(0);
+    private boolean asyncInit = false;
+    private List<String> warmupStatements = Collections.emptyList();
+    private volatile PoolWarmer poolWarmer;
+    private final PoolMetrics poolMetrics = new PoolMetrics();
     private static final String POOL_MAP_KEY = UUID.randomUUID().toString();
+    private static final String ATOMIKOS_POOL_EXHAUSTED_MESSAGE = "Connection pool exhausted";
 
     private SQLDatasource(SQLDatasourceParams sqlDatasourceParams, boolean autoGenerateDataSourceConfig) {
 
         Connection connection = null;
+        if (sqlDatasourceParams.connectionPool != null) {
+            asyncInit = Boolean.TRUE.equals(sqlDatasourceParams.connectionPool
+                    .getBooleanValue(Constants.ConnectionPool.ASYNC_INIT));
+            warmupStatements = getWarmupStatements(sqlDatasourceParams.connectionPool
+                    .getArrayValue(Constants.ConnectionPool.WARMUP_STATEMENTS));
+        }
         try {
             if (sqlDatasourceParams.datasourceName != null && !sqlDatasourceParams.datasourceName.isEmpty() &&
                     TransactionResourceManager.getInstance().getTransactionManagerEnabled()) {
@@ -76,7 +99,9 @@ public class SQLDatasource {
                 if (XADataSource.class.isAssignableFrom(dataSourceClass)) {
                     xaConn = true;
                     atomikosDataSourceBean = buildXAAwareDataSource(sqlDatasourceParams, autoGenerateDataSourceConfig);
-                    connection = getConnection();
+                    if (!asyncInit) {
+                        connection = getConnection();
+                    }
                     return;
                 }
             }
@@ -84,10 +109,15 @@ public class SQLDatasource {
             if (hikariDataSource.isWrapperFor(XADataSource.class)) {
                 xaConn = true;
                 xaDataSource = hikariDataSource.unwrap(XADataSource.class);
-                connection = xaDataSource.getXAConnection().getConnection();
+                if (!asyncInit) {
+                    connection = xaDataSource.getXAConnection().getConnection();
+                }
                 return;
             }
-            connection = getConnection();
+            // In the asynchronous mode, the connections are verified by the warm-up of the pool
+            if (!asyncInit) {
+                connection = getConnection();
+            }
         } catch (SQLException e) {
             throw ErrorGenerator.getSQLDatabaseError(e,
                     "error while verifying the connection for " + Constants.CONNECTOR_NAME + ", ");
@@ -238,16 +268,244 @@ public class SQLDatasource {
                                                          boolean autoGenerateDataSourceConfig) {
         SQLDatasource newSqlDatasource = new SQLDatasource(sqlDatasourceParams, autoGenerateDataSourceConfig);
         newSqlDatasource.incrementClientCounter();
+        if (newSqlDatasource.asyncInit) {
+            if (newSqlDatasource.atomikosDataSourceBean != null) {
+                newSqlDatasource.poolWarmer = PoolWarmer.start(newSqlDatasource,
+                        newSqlDatasource.atomikosDataSourceBean.getMinPoolSize(),
+                        newSqlDatasource.atomikosDataSourceBean.getMaxPoolSize());
+            } else {
+                newSqlDatasource.poolWarmer = PoolWarmer.start(newSqlDatasource,
+                        newSqlDatasource.hikariDataSource.getMinimumIdle(),
+                        newSqlDatasource.hikariDataSource.getMaximumPoolSize());
+            }
+        }
         return newSqlDatasource;
     }
 
-    private Connection getConnection() throws SQLException {
+    private static List<String> getWarmupStatements(BArray statements) {
+        if (statements == null || statements.size() == 0) {
+            return Collections.emptyList();
+        }
+        List<String> sqlQueries = new ArrayList<>(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            sqlQueries.add(padParameterMarkers(statements.getBString(i).getValue()));
+        }
+        return sqlQueries;
+    }
+
+    /**
+     * Pads each `?` of a statement as done by the query template for the insertions, so that the statement is found
+     * in the statement cache. The `?` in the literals, quoted identifiers and comments are not parameter markers,
+     * hence they are kept as they are.
+     *
+     * @param statement statement written as the SQL of a parameterized query with `?` in place of each insertion
+     * @return the SQL of the statement
+     */
+    static String padParameterMarkers(String statement) {
+        int length = statement.length();
+        StringBuilder sqlQuery = new StringBuilder(length + 8);
+        int i = 0;
+        while (i < length) {
+            char c = statement.charAt(i);
+            int end;
+            if (c == '\'' || c == '"' || c == '`') {
+                end = skipQuoted(statement, i, c);
+            } else if (statement.startsWith("--", i)) {
+                end = statement.indexOf('\n', i);
+                end = end < 0 ? length : end + 1;
+            } else if (statement.startsWith("/*", i)) {
+                end = statement.indexOf("*/", i + 2);
+                end = end < 0 ? length : end + 2;
+            } else {
+                if (c == '?') {
+                    sqlQuery.append(" ? ");
+                } else {
+                    sqlQuery.append(c);
+                }
+                i++;
+                continue;
+            }
+            sqlQuery.append(statement, i, end);
+            i = end;
+        }
+        return sqlQuery.toString();
+    }
+
+    // Returns the index after the closing quote. A doubled quote within the value is an escaped quote
+    private static int skipQuoted(String statement, int index, char quote) {
+        int i = index + 1;
+        while (i < statement.length()) {
+            if (statement.charAt(i) == quote) {
+                if (i + 1 < statement.length() && statement.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return statement.length();
+    }
+
+    Connection getConnection() throws SQLException {
         if (atomikosDataSourceBean != null) {
-            return atomikosDataSourceBean.getConnection();
+            long startTime = System.nanoTime();
+            poolMetrics.startRequest();
+            try {
+                Connection connection = atomikosDataSourceBean.getConnection();
+                poolMetrics.recordConnectionAcquiredNanos(System.nanoTime() - startTime);
+                return connection;
+            } catch (SQLException e) {
+                if (isCheckoutTimeout(e)) {
+                    poolMetrics.recordConnectionTimeout();
+                }
+                throw e;
+            } finally {
+                poolMetrics.endRequest();
+            }
         }
         return hikariDataSource.getConnection();
     }
 
+    /**
+     * Checks whether a connection request of the Atomikos pool failed because no connection became available within
+     * the borrow timeout. Atomikos reports the exhausted pool without a cause or an SQL state, unlike the errors of
+     * creating or validating a connection.
+     *
+     * @param e error of the connection request
+     * @return true if the request timed out waiting for a connection
+     */
+    static boolean isCheckoutTimeout(SQLException e) {
+        return e.getCause() == null && e.getMessage() != null
+                && e.getMessage().startsWith(ATOMIKOS_POOL_EXHAUSTED_MESSAGE);
+    }
+
+    /**
+     * Prepares a statement on the given connection. When the statement cache of the pool is enabled, the statement is
+     * taken from the cache of the physical connection. Statements are not cached within transaction blocks.
+     *
+     * @param connection        connection of the pool
+     * @param sqlQuery          SQL query of the statement
+     * @param autoGeneratedKeys whether the generated keys should be returned
+     * @param isWithinTrxBlock  whether the statement is executed within a transaction block
+     * @return prepared statement, which should be closed through {@link StatementCache#closeStatement(Statement)}
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepareStatement(Connection connection, String sqlQuery, int autoGeneratedKeys,
+                                              boolean isWithinTrxBlock) throws SQLException {
+        if (statementCache.isEnabled() && !isWithinTrxBlock) {
+            return statementCache.prepareStatement(connection, sqlQuery, autoGeneratedKeys);
+        }
+        if (autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+            return connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
+        }
+        return connection.prepareStatement(sqlQuery);
+    }
+
+    public CallableStatement prepareCall(Connection connection, String sqlQuery, boolean isWithinTrxBlock)
+            throws SQLException {
+        if (statementCache.isEnabled() && !isWithinTrxBlock) {
+            return statementCache.prepareCall(connection, sqlQuery);
+        }
+        return connection.prepareCall(sqlQuery);
+    }
+
+    public StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Prepares the warm-up statements of the pool on a connection. When the statement cache is enabled, the
+     * statements are kept in the cache of the physical connection. Otherwise, they are prepared and closed, which
+     * warms up the query plan cache of the database.
+     *
+     * @param connection connection of the pool
+     * @throws SQLException if the physical connection cannot be retrieved
+     */
+    void prepareWarmupStatements(Connection connection) throws SQLException {
+        if (statementCache.isEnabled()) {
+            statementCache.prepareWarmupStatements(connection);
+            return;
+        }
+        for (String sqlQuery : warmupStatements) {
+            try {
+                connection.prepareStatement(sqlQuery).close();
+            } catch (SQLException ignored) {
+                // The statement is skipped, and the error is reported when its query is executed
+            }
+        }
+    }
+
+    /**
+     * Returns the warm-up of the pool, which is started when the pool is initialized asynchronously.
+     *
+     * @return the warm-up, or null if the pool is verified when it is created
+     */
+    public PoolWarmer getPoolWarmer() {
+        return poolWarmer;
+    }
+
+    /**
+     * Returns the current state of the connection pool and the connection acquisition and usage times recorded since
+     * the pool was created.
+     *
+     * @return the `sql:ConnectionPoolStats` record
+     */
+    public BMap<BString, Object> getPoolStats() {
+        int activeConnections = 0;
+        int idleConnections = 0;
+        int pendingRequests = 0;
+        int maxConnections;
+        int minIdleConnections;
+        if (atomikosDataSourceBean != null) {
+            if (!poolShutdown) {
+                idleConnections = atomikosDataSourceBean.poolAvailableSize();
+                activeConnections = atomikosDataSourceBean.poolTotalSize() - idleConnections;
+            }
+            pendingRequests = poolMetrics.getPendingRequests();
+            maxConnections = atomikosDataSourceBean.getMaxPoolSize();
+            minIdleConnections = atomikosDataSourceBean.getMinPoolSize();
+        } else {
+            HikariPoolMXBean poolMXBean = hikariDataSource.getHikariPoolMXBean();
+            if (!poolShutdown && poolMXBean != null) {
+                activeConnections = poolMXBean.getActiveConnections();
+                idleConnections = poolMXBean.getIdleConnections();
+                pendingRequests = poolMXBean.getThreadsAwaitingConnection();
+            }
+            maxConnections = hikariDataSource.getMaximumPoolSize();
+            minIdleConnections = hikariDataSource.getMinimumIdle();
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.ConnectionPoolStats.ACTIVE_CONNECTIONS, (long) activeConnections);
+        stats.put(Constants.ConnectionPoolStats.IDLE_CONNECTIONS, (long) idleConnections);
+        stats.put(Constants.ConnectionPoolStats.TOTAL_CONNECTIONS, (long) (activeConnections + idleConnections));
+        stats.put(Constants.ConnectionPoolStats.PENDING_REQUESTS, (long) pendingRequests);
+        stats.put(Constants.ConnectionPoolStats.MAX_CONNECTIONS, (long) maxConnections);
+        stats.put(Constants.ConnectionPoolStats.MIN_IDLE_CONNECTIONS, (long) minIdleConnections);
+        stats.put(Constants.ConnectionPoolStats.TIMEOUT_COUNT, poolMetrics.getTimeoutCount());
+        stats.put(Constants.ConnectionPoolStats.ACQUIRE_TIME, poolMetrics.getAcquireTime().getStats());
+        stats.put(Constants.ConnectionPoolStats.USAGE_TIME, poolMetrics.getUsageTime().getStats());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ConnectionPoolStats.RECORD_NAME,
+                stats);
+    }
+
+    /**
+     * Returns the number of connections of the pool which are in use, including the connections held by open result
+     * streams.
+     *
+     * @return number of active connections, or 0 if the pool is shut down
+     */
+    public int getActiveConnectionCount() {
+        if (poolShutdown) {
+            return 0;
+        }
+        if (atomikosDataSourceBean != null) {
+            return atomikosDataSourceBean.poolTotalSize() - atomikosDataSourceBean.poolAvailableSize();
+        }
+        HikariPoolMXBean poolMXBean = hikariDataSource.getHikariPoolMXBean();
+        return poolMXBean == null ? 0 : poolMXBean.getActiveConnections();
+    }
+
     private XAConnection getXAConnection() throws SQLException {
         if (isXADataSource()) {
             return xaDataSource.getXAConnection();
@@ -259,7 +517,15 @@ public class SQLDatasource {
         return xaConn;
     }
 
+    // The pool closes an evicted connection when it is returned, as the connection is in use by the failed execution
+    private void evictConnection(Connection connection) {
+        if (hikariDataSource != null) {
+            hikariDataSource.evictConnection(connection);
+        }
+    }
+
     private void closeConnectionPool() {
+        statementCache.clear();
         if (hikariDataSource != null) {
             hikariDataSource.close();
         }
@@ -351,6 +617,13 @@ public class SQLDatasource {
                     throw new ApplicationError("ConnectionPool field 'minIdleConnections' cannot be negative.");
                 }
                 config.setMinimumIdle(minIdleConnections);
+
+                int statementCacheSize = sqlDatasourceParams.connectionPool
+                        .getIntValue(Constants.ConnectionPool.STATEMENT_CACHE_SIZE).intValue();
+                if (statementCacheSize < 0) {
+                    throw new ApplicationError("ConnectionPool field 'statementCacheSize' cannot be negative.");
+                }
+                statementCache = new StatementCache(statementCacheSize, warmupStatements, this::evictConnection);
             }
             if (sqlDatasourceParams.options != null) {
                 BMap<BString, Object> optionMap = (BMap<BString, Object>) sqlDatasourceParams.options;
@@ -358,6 +631,13 @@ public class SQLDatasource {
                         config.addDataSourceProperty(entry.getKey().getValue(), entry.getValue())
                 );
             }
+            if (config.getMetricRegistry() == null && config.getMetricsTrackerFactory() == null) {
+                config.setMetricsTrackerFactory((poolName, poolStats) -> poolMetrics);
+            }
+            if (asyncInit) {
+                // The pool is created without opening a connection, which is otherwise done to fail fast
+                config.setInitializationFailTimeout(-1);
+            }
             hikariDataSource = new HikariDataSource(config);
             Runtime.getRuntime().addShutdownHook(new Thread(this::closeConnectionPool));
             return hikariDataSource;
@@ -504,5 +784,23 @@ public class SQLDatasource {
             this.poolProperties = properties;
             return this;
         }
+
+        /**
+         * Creates a copy of the parameters which connects to the given URL, e.g. a read replica of the database.
+         *
+         * @param url JDBC URL of the database
+         * @return datasource parameters of the URL
+         */
+        public SQLDatasourceParams copyWithUrl(String url) {
+            SQLDatasourceParams params = new SQLDatasourceParams()
+                    .setUrl(url)
+                    .setUser(user)
+                    .setPassword(password)
+                    .setDatasourceName(datasourceName)
+                    .setOptions(options)
+                    .setPoolProperties(poolProperties);
+            params.connectionPool = connectionPool;
+            return params;
+        }
     }
 }
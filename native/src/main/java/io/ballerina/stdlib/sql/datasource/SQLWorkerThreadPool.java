@@ -18,23 +18,211 @@
 
 package io.ballerina.stdlib.sql.datasource;
 
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
- * Class to hold the static cachedThreadPool for SQL.
+ * Class to hold the static worker thread pool for SQL. The pool can be configured through the module configurations
+ * and by default, it is similar to cachedThreadPool util from Executors.newCachedThreadPool(..); but with upper cap
+ * on threads.
  */
 public class SQLWorkerThreadPool {
 
     private SQLWorkerThreadPool() {
     }
 
-    // This is similar to cachedThreadPool util from Executors.newCachedThreadPool(..); but with upper cap on threads
-    public static final ExecutorService SQL_EXECUTOR_SERVICE = new ThreadPoolExecutor(0, 50,
-            60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new SQLThreadFactory());
+    public static final String CALLER_RUNS_POLICY = "CALLER_RUNS";
+
+    private static final AtomicInteger ACTIVE_TASKS = new AtomicInteger(0);
+    private static final LongAdder REJECTED_TASKS = new LongAdder();
+    private static volatile ExecutorService executorService = createThreadPool(0, 50, 0, false);
+
+    // Delegates to the configured executor, so that the executor can be replaced when the module is initialized
+    public static final ExecutorService SQL_EXECUTOR_SERVICE = new AbstractExecutorService() {
+        @Override
+        public void execute(Runnable command) {
+            Runnable task = () -> {
+                ACTIVE_TASKS.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    ACTIVE_TASKS.decrementAndGet();
+                }
+            };
+            ExecutorService currentExecutorService = executorService;
+            try {
+                currentExecutorService.execute(task);
+            } catch (RejectedExecutionException e) {
+                // The executor is shut down after the new executor is published, hence a task which is rejected
+                // while the executor is replaced is submitted to the new executor
+                ExecutorService newExecutorService = executorService;
+                if (newExecutorService != currentExecutorService) {
+                    try {
+                        newExecutorService.execute(task);
+                        return;
+                    } catch (RejectedExecutionException retryError) {
+                        REJECTED_TASKS.increment();
+                        throw retryError;
+                    }
+                }
+                REJECTED_TASKS.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            executorService.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return executorService.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executorService.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executorService.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return executorService.awaitTermination(timeout, unit);
+        }
+    };
+
+    /**
+     * Replaces the worker pool with a pool created with the given configurations. The tasks submitted to the
+     * previous pool are completed before it is shut down, and the tasks rejected by the previous pool while it is
+     * replaced are submitted to the new pool.
+     *
+     * @param coreSize         number of threads kept in the pool even when they are idle. When tasks are queued, the
+     *                         idle threads are kept only if the core size is the same as the maximum size
+     * @param maxSize          maximum number of threads in the pool
+     * @param queueSize        number of tasks queued when all the threads are busy, 0 hands over tasks directly
+     * @param rejectionPolicy  behaviour when the pool and the queue are full. The caller runs policy blocks the
+     *                         scheduler thread of the caller while the task is executed
+     * @param virtualThreads   whether to execute each task in a new virtual thread instead of a pool
+     * @throws ApplicationError if the configurations are invalid or virtual threads are not supported
+     */
+    public static synchronized void configure(int coreSize, int maxSize, int queueSize, String rejectionPolicy,
+                                              boolean virtualThreads) throws ApplicationError {
+        ExecutorService newExecutorService;
+        if (virtualThreads) {
+            newExecutorService = createVirtualThreadExecutor();
+        } else {
+            if (coreSize < 0) {
+                throw new ApplicationError("SQL worker pool configuration 'workerPoolCoreSize' cannot be negative.");
+            }
+            if (maxSize < 1 || maxSize < coreSize) {
+                throw new ApplicationError("SQL worker pool configuration 'workerPoolMaxSize' cannot be less than " +
+                        "one or 'workerPoolCoreSize'.");
+            }
+            if (queueSize < 0) {
+                throw new ApplicationError("SQL worker pool configuration 'workerPoolQueueSize' cannot be negative.");
+            }
+            newExecutorService = createThreadPool(coreSize, maxSize, queueSize,
+                    CALLER_RUNS_POLICY.equals(rejectionPolicy));
+        }
+        ExecutorService previousExecutorService = executorService;
+        executorService = newExecutorService;
+        previousExecutorService.shutdown();
+    }
+
+    /**
+     * Executes the task in the worker pool and completes the future with the result of the task. If the task is
+     * rejected by the pool, the future is completed with the result created for the error instead.
+     *
+     * @param balFuture   future to be completed
+     * @param task        task to be executed
+     * @param errorResult creates the result of an error
+     */
+    public static void execute(Future balFuture, Supplier<Object> task, Function<BError, Object> errorResult) {
+        try {
+            SQL_EXECUTOR_SERVICE.execute(() -> balFuture.complete(task.get()));
+        } catch (RejectedExecutionException e) {
+            balFuture.complete(errorResult.apply(ErrorGenerator.getSQLApplicationError(
+                    "SQL worker pool is exhausted, hence the operation cannot be executed. Consider increasing " +
+                            "the worker pool size or the queue size.")));
+        }
+    }
+
+    public static int getActiveCount() {
+        return ACTIVE_TASKS.get();
+    }
+
+    public static int getQueueSize() {
+        ExecutorService currentExecutorService = executorService;
+        if (currentExecutorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) currentExecutorService).getQueue().size();
+        }
+        return 0;
+    }
+
+    public static int getPoolSize() {
+        ExecutorService currentExecutorService = executorService;
+        if (currentExecutorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) currentExecutorService).getPoolSize();
+        }
+        return getActiveCount();
+    }
+
+    public static long getRejectedCount() {
+        return REJECTED_TASKS.sum();
+    }
+
+    private static ExecutorService createThreadPool(int coreSize, int maxSize, int queueSize, boolean callerRuns) {
+        // The caller runs policy executes the blocking database operation in the thread which submitted it, which is
+        // a thread of the Ballerina scheduler. It blocks all the strands scheduled on that thread until the operation
+        // completes, hence it is only used when it is explicitly configured. The tasks rejected by the abort policy
+        // are counted when the rejection reaches SQL_EXECUTOR_SERVICE.
+        RejectedExecutionHandler rejectionHandler = callerRuns ? new CallerRunsRejectionHandler()
+                : new ThreadPoolExecutor.AbortPolicy();
+        if (queueSize == 0) {
+            return new ThreadPoolExecutor(coreSize, maxSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                    new SQLThreadFactory(), rejectionHandler);
+        }
+        // A thread pool only starts threads beyond the core size when the queue is full. Hence, with a queue, all the
+        // threads are core threads, so that the operations are queued only when all the workers are busy. The idle
+        // threads are stopped unless the core size covers all the threads.
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxSize, maxSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new SQLThreadFactory(), rejectionHandler);
+        threadPool.allowCoreThreadTimeOut(coreSize < maxSize);
+        return threadPool;
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() throws ApplicationError {
+        try {
+            // Virtual threads are only available from Java 21, hence the executor is created reflectively
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new ApplicationError("SQL worker pool configuration 'workerPoolVirtualThreads' is not supported " +
+                    "by the Java runtime " + System.getProperty("java.version") + ".");
+        }
+    }
 
     static class SQLThreadFactory implements ThreadFactory {
         @Override
@@ -44,4 +232,17 @@ public class SQLWorkerThreadPool {
             return ballerinaSql;
         }
     }
+
+    static class CallerRunsRejectionHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                // The pool is being replaced, hence the task is rejected so that it is submitted to the new pool
+                // instead of being discarded
+                throw new RejectedExecutionException("SQL worker pool is shut down.");
+            }
+            REJECTED_TASKS.increment();
+            r.run();
+        }
+    }
 }
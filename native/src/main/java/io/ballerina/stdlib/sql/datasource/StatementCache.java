@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.sql.datasource;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.utils.ModuleUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Client side prepared statement cache of a connection pool. Statements are cached per physical connection in an LRU
+ * map keyed by the SQL query and the statement kind (plain, generated keys or call).
+ * <p>
+ * A cached statement is removed from the cache while it is in use and is returned to the cache when it is closed
+ * through {@link #closeStatement(Statement)}. Hence, a statement is never shared between two executions.
+ * <p>
+ * The statements are prepared on the physical connection, as the statements of a pooled connection are closed by the
+ * pool when the connection is returned. As the pool does not track these statements, the cache closes the statements
+ * which are left open by a borrower of a physical connection when the connection is borrowed again, and closes all
+ * the statements of a physical connection when the pool closes the connection.
+ * <p>
+ * For the same reason, the pool does not see the errors of the cached statements. A cached statement which fails with
+ * an error that the pool treats as a broken connection evicts the pooled connection through which it is used, and
+ * the statements of its physical connection are dropped from the cache.
+ *
+ * @since 1.10.0
+ */
+public class StatementCache {
+
+    private static final int PLAIN_STATEMENT = 0;
+    private static final int GENERATED_KEYS_STATEMENT = 1;
+    private static final int CALLABLE_STATEMENT = 2;
+
+    // The SQL states and the vendor error codes which the pool treats as broken connections, in addition to the SQL
+    // states of the connection exception class (08)
+    private static final Set<String> CONNECTION_ERROR_STATES = new HashSet<>(Arrays.asList(
+            "0A000", "57P01", "57P02", "57P03", "01002", "JZ0C0", "JZ0C1"));
+    private static final Set<Integer> CONNECTION_ERROR_CODES = new HashSet<>(Arrays.asList(500150, 2399));
+    private static final int MAX_NEXT_EXCEPTION_DEPTH = 10;
+
+    // The enabled caches, which are searched for the owner of a statement when it is closed. A cache is removed when
+    // it is cleared on closing its pool.
+    private static final Set<StatementCache> ENABLED_CACHES = ConcurrentHashMap.newKeySet();
+
+    private final int cacheSize;
+    private final List<String> warmupStatements;
+    private final Consumer<Connection> connectionEvictor;
+    private final Map<Connection, ConnectionStatements> connectionStatements = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public StatementCache(int cacheSize) {
+        this(cacheSize, Collections.emptyList(), connection -> {
+        });
+    }
+
+    /**
+     * Creates a statement cache, which prepares the given statements on each new physical connection. A warm-up
+     * statement is used by the executions of the query with the same SQL.
+     *
+     * @param cacheSize         maximum number of statements cached per connection
+     * @param warmupStatements  SQL of the statements prepared on each new connection
+     * @param connectionEvictor evicts a pooled connection from its pool, when a cached statement of it fails with a
+     *                          connection error
+     */
+    public StatementCache(int cacheSize, List<String> warmupStatements, Consumer<Connection> connectionEvictor) {
+        this.cacheSize = cacheSize;
+        this.warmupStatements = warmupStatements;
+        this.connectionEvictor = connectionEvictor;
+        if (cacheSize > 0) {
+            ENABLED_CACHES.add(this);
+        }
+    }
+
+    public boolean isEnabled() {
+        return cacheSize > 0;
+    }
+
+    public PreparedStatement prepareStatement(Connection connection, String sqlQuery, int autoGeneratedKeys)
+            throws SQLException {
+        int kind = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? GENERATED_KEYS_STATEMENT : PLAIN_STATEMENT;
+        ConnectionStatements statements = borrow(connection);
+        StatementKey key = new StatementKey(sqlQuery, kind);
+        PreparedStatement statement = statements.take(key);
+        if (statement == null) {
+            statement = statements.wrap(statements.connection.prepareStatement(sqlQuery, autoGeneratedKeys));
+            statements.checkOut(statement, key);
+        }
+        return statement;
+    }
+
+    public CallableStatement prepareCall(Connection connection, String sqlQuery) throws SQLException {
+        ConnectionStatements statements = borrow(connection);
+        StatementKey key = new StatementKey(sqlQuery, CALLABLE_STATEMENT);
+        CallableStatement statement = (CallableStatement) statements.take(key);
+        if (statement == null) {
+            statement = (CallableStatement) statements.wrap(statements.connection.prepareCall(sqlQuery));
+            statements.checkOut(statement, key);
+        }
+        return statement;
+    }
+
+    /**
+     * Closes the statement. If the statement is taken from a statement cache, it is returned to the cache instead.
+     *
+     * @param statement statement to be closed
+     * @throws SQLException if the statement cannot be closed
+     */
+    public static void closeStatement(Statement statement) throws SQLException {
+        if (!ENABLED_CACHES.isEmpty() && !statement.isClosed()) {
+            Connection connection = statement.getConnection();
+            // A statement which does not report its connection is not taken from a cache
+            if (connection != null) {
+                for (StatementCache cache : ENABLED_CACHES) {
+                    ConnectionStatements statements = cache.connectionStatements.get(connection);
+                    if (statements != null && statements.release(statement)) {
+                        return;
+                    }
+                }
+            }
+        }
+        statement.close();
+    }
+
+    /**
+     * Prepares the warm-up statements on the connection, if they are not prepared on its physical connection yet.
+     *
+     * @param connection connection of the pool
+     * @throws SQLException if the physical connection cannot be retrieved
+     */
+    public void prepareWarmupStatements(Connection connection) throws SQLException {
+        getConnectionStatements(connection.unwrap(Connection.class));
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the number of the statements in the cache, excluding the statements which are in use.
+     *
+     * @return number of cached statements
+     */
+    public long size() {
+        long size = 0;
+        for (ConnectionStatements statements : connectionStatements.values()) {
+            size += statements.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the usage of the cache as a `sql:CacheStats` record.
+     *
+     * @return cache statistics
+     */
+    public BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.CacheStats.HIT_COUNT, getHitCount());
+        stats.put(Constants.CacheStats.MISS_COUNT, getMissCount());
+        stats.put(Constants.CacheStats.EVICTION_COUNT, getEvictionCount());
+        stats.put(Constants.CacheStats.ENTRY_COUNT, size());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.CacheStats.RECORD_NAME, stats);
+    }
+
+    public void clear() {
+        ENABLED_CACHES.remove(this);
+        for (ConnectionStatements statements : connectionStatements.values()) {
+            statements.closeAll();
+        }
+        connectionStatements.clear();
+    }
+
+    private ConnectionStatements borrow(Connection connection) throws SQLException {
+        ConnectionStatements statements = getConnectionStatements(connection.unwrap(Connection.class));
+        statements.setBorrower(connection);
+        return statements;
+    }
+
+    private ConnectionStatements getConnectionStatements(Connection physicalConnection) {
+        ConnectionStatements statements = connectionStatements.get(physicalConnection);
+        if (statements == null) {
+            // A new physical connection is seen, hence drop the statements of the connections closed by the pool
+            removeClosedConnections();
+            ConnectionStatements newStatements = new ConnectionStatements(physicalConnection);
+            statements = connectionStatements.putIfAbsent(physicalConnection, newStatements);
+            if (statements == null) {
+                statements = newStatements;
+                statements.prepare(warmupStatements);
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * Checks whether the pool would treat the error as a broken connection, the same way as the pool checks the errors
+     * of the statements prepared through a pooled connection.
+     *
+     * @param e error of a statement
+     * @return true if the connection of the statement cannot be used anymore
+     */
+    static boolean isConnectionError(SQLException e) {
+        SQLException exception = e;
+        for (int depth = 0; exception != null && depth < MAX_NEXT_EXCEPTION_DEPTH; depth++) {
+            String sqlState = exception.getSQLState();
+            if ((sqlState != null && sqlState.startsWith("08")) || exception instanceof SQLTimeoutException
+                    || CONNECTION_ERROR_STATES.contains(sqlState)
+                    || CONNECTION_ERROR_CODES.contains(exception.getErrorCode())) {
+                return true;
+            }
+            exception = exception.getNextException();
+        }
+        return false;
+    }
+
+    // The statements which are in use are closed by their borrowers, as the statements are no longer found in the
+    // cache once the physical connection is removed
+    private void evict(ConnectionStatements statements) {
+        Connection borrower = statements.getBorrower();
+        if (connectionStatements.remove(statements.connection, statements)) {
+            statements.closeCached();
+        }
+        if (borrower != null) {
+            connectionEvictor.accept(borrower);
+        }
+    }
+
+    private void removeClosedConnections() {
+        Iterator<Map.Entry<Connection, ConnectionStatements>> iterator = connectionStatements.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Connection, ConnectionStatements> entry = iterator.next();
+            boolean isClosed;
+            try {
+                isClosed = entry.getKey().isClosed();
+            } catch (SQLException e) {
+                isClosed = true;
+            }
+            if (isClosed) {
+                iterator.remove();
+                entry.getValue().closeAll();
+            }
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * The LRU cache of the statements prepared on a single physical connection, along with the statements of the
+     * connection which are in use.
+     */
+    private class ConnectionStatements {
+        private final Connection connection;
+        private final LinkedHashMap<StatementKey, PreparedStatement> statements;
+        private final Map<Statement, StatementKey> checkedOutStatements = new IdentityHashMap<>();
+        // The pooled connection through which the physical connection is currently borrowed
+        private Connection borrower;
+
+        ConnectionStatements(Connection connection) {
+            this.connection = connection;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        synchronized Connection getBorrower() {
+            return borrower;
+        }
+
+        synchronized void setBorrower(Connection pooledConnection) {
+            if (borrower == pooledConnection) {
+                return;
+            }
+            // The physical connection is borrowed again, hence the statements which are left open by the previous
+            // borrower are closed, as the pool would have closed them on returning the connection
+            borrower = pooledConnection;
+            if (!checkedOutStatements.isEmpty()) {
+                List<Statement> leftOpen = new ArrayList<>(checkedOutStatements.keySet());
+                checkedOutStatements.clear();
+                leftOpen.forEach(StatementCache::closeQuietly);
+            }
+        }
+
+        synchronized PreparedStatement take(StatementKey key) throws SQLException {
+            PreparedStatement statement = statements.remove(key);
+            if (statement == null || statement.isClosed()) {
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            checkedOutStatements.put(statement, key);
+            return statement;
+        }
+
+        synchronized void checkOut(PreparedStatement statement, StatementKey key) {
+            checkedOutStatements.put(statement, key);
+        }
+
+        /**
+         * Returns a statement of the connection to the cache.
+         *
+         * @param statement statement which is in use
+         * @return false if the statement is not taken from this cache
+         */
+        synchronized boolean release(Statement statement) {
+            StatementKey key = checkedOutStatements.remove(statement);
+            if (key == null) {
+                return false;
+            }
+            put(key, (PreparedStatement) statement);
+            return true;
+        }
+
+        synchronized int size() {
+            return statements.size();
+        }
+
+        private void put(StatementKey key, PreparedStatement statement) {
+            try {
+                if (statement.isClosed() || connection.isClosed()) {
+                    return;
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+                statement.clearWarnings();
+                // Reset the query options, so that they are not carried over to the next execution
+                statement.setMaxRows(0);
+                statement.setFetchSize(0);
+                statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+                PreparedStatement existing = statements.put(key, statement);
+                if (existing != null) {
+                    closeQuietly(existing);
+                }
+                if (statements.size() > cacheSize) {
+                    Iterator<PreparedStatement> iterator = statements.values().iterator();
+                    PreparedStatement eldest = iterator.next();
+                    iterator.remove();
+                    closeQuietly(eldest);
+                    evictionCount.increment();
+                }
+            } catch (SQLException e) {
+                // The statement cannot be reused, hence it is closed instead of returning it to the cache
+                closeQuietly(statement);
+            }
+        }
+
+        // A statement which cannot be prepared is skipped, and the error is reported when its query is executed
+        synchronized void prepare(List<String> sqlQueries) {
+            for (String sqlQuery : sqlQueries.subList(0, Math.min(cacheSize, sqlQueries.size()))) {
+                try {
+                    put(new StatementKey(sqlQuery, PLAIN_STATEMENT), wrap(connection.prepareStatement(sqlQuery)));
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+
+        /**
+         * Wraps a statement of the physical connection, so that its connection errors evict the pooled connection.
+         *
+         * @param statement statement prepared on the physical connection
+         * @return statement which is cached
+         */
+        PreparedStatement wrap(PreparedStatement statement) {
+            Class<?> statementType = statement instanceof CallableStatement ? CallableStatement.class
+                    : PreparedStatement.class;
+            return (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                    new Class<?>[]{statementType}, new CachedStatementHandler(statement, this));
+        }
+
+        synchronized void closeCached() {
+            List<Statement> cachedStatements = new ArrayList<>(statements.values());
+            statements.clear();
+            cachedStatements.forEach(StatementCache::closeQuietly);
+        }
+
+        synchronized void closeAll() {
+            List<Statement> openStatements = new ArrayList<>(statements.values());
+            openStatements.addAll(checkedOutStatements.keySet());
+            statements.clear();
+            checkedOutStatements.clear();
+            openStatements.forEach(StatementCache::closeQuietly);
+        }
+    }
+
+    /**
+     * Forwards the calls of a cached statement to the statement of the physical connection, and evicts the connection
+     * when a call fails with a connection error.
+     */
+    private class CachedStatementHandler implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final ConnectionStatements statements;
+
+        CachedStatementHandler(PreparedStatement statement, ConnectionStatements statements) {
+            this.statement = statement;
+            this.statements = statements;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException && isConnectionError((SQLException) cause)) {
+                    evict(statements);
+                }
+                throw cause;
+            }
+        }
+    }
+
+    /**
+     * The cache key of a statement.
+     */
+    private static class StatementKey {
+        private final String sqlQuery;
+        private final int kind;
+
+        StatementKey(String sqlQuery, int kind) {
+            this.sqlQuery = sqlQuery;
+            this.kind = kind;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            return ((StatementKey) obj).kind == kind && ((StatementKey) obj).sqlQuery.equals(sqlQuery);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sqlQuery.hashCode() + kind;
+        }
+    }
+}
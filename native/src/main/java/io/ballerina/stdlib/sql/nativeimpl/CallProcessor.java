@@ -33,13 +33,17 @@ import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.transactions.TransactionResourceManager;
 import io.ballerina.stdlib.sql.Constants;
 import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.datasource.ReplicaRouter;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool;
 import io.ballerina.stdlib.sql.exception.ApplicationError;
 import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
 import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
 import io.ballerina.stdlib.sql.utils.ColumnDefinition;
 import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 import io.ballerina.stdlib.sql.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.utils.QueryTimeout;
+import io.ballerina.stdlib.sql.utils.ResultCache;
 import io.ballerina.stdlib.sql.utils.Utils;
 
 import java.sql.CallableStatement;
@@ -59,7 +63,6 @@ import static io.ballerina.stdlib.sql.Constants.RESULT_SET_COUNT_NATIVE_DATA_FIE
 import static io.ballerina.stdlib.sql.Constants.RESULT_SET_TOTAL_NATIVE_DATA_FIELD;
 import static io.ballerina.stdlib.sql.Constants.STATEMENT_NATIVE_DATA_FIELD;
 import static io.ballerina.stdlib.sql.Constants.TYPE_DESCRIPTIONS_NATIVE_DATA_FIELD;
-import static io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool.SQL_EXECUTOR_SERVICE;
 import static io.ballerina.stdlib.sql.utils.Utils.getColumnDefinitions;
 import static io.ballerina.stdlib.sql.utils.Utils.getDefaultStreamConstraint;
 import static io.ballerina.stdlib.sql.utils.Utils.updateProcedureCallExecutionResult;
@@ -87,18 +90,17 @@ public class CallProcessor {
     public static Object nativeCall(Environment env, BObject client, BObject paramSQLString, BArray recordTypes,
                                     AbstractStatementParameterProcessor statementParameterProcessor,
                                     AbstractResultParameterProcessor resultParameterProcessor) {
+        ReplicaRouter.recordWrite(env, client);
         TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        QueryTimeout queryTimeout = QueryTimeout.getQueryTimeout(env, client);
         if (!Utils.isWithinTrxBlock(trxResourceManager)) {
             Future balFuture = env.markAsync();
-            SQL_EXECUTOR_SERVICE.execute(() -> {
-                Object resultStream =
-                        nativeCallExecutable(client, paramSQLString, recordTypes, statementParameterProcessor,
-                                resultParameterProcessor, false, null);
-                balFuture.complete(resultStream);
-            });
+            SQLWorkerThreadPool.execute(balFuture, () -> nativeCallExecutable(client, paramSQLString, recordTypes,
+                    statementParameterProcessor, resultParameterProcessor, false, null, queryTimeout),
+                    errorValue -> errorValue);
         } else {
             return nativeCallExecutable(client, paramSQLString, recordTypes, statementParameterProcessor,
-                    resultParameterProcessor, true, trxResourceManager);
+                    resultParameterProcessor, true, trxResourceManager, queryTimeout);
         }
         return null;
 
@@ -108,7 +110,8 @@ public class CallProcessor {
                                                AbstractStatementParameterProcessor statementParameterProcessor,
                                                AbstractResultParameterProcessor resultParameterProcessor,
                                                boolean isWithinTrxBlock,
-                                               TransactionResourceManager trxResourceManager) {
+                                               TransactionResourceManager trxResourceManager,
+                                               QueryTimeout queryTimeout) {
         Object dbClient = client.getNativeData(DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
@@ -116,21 +119,28 @@ public class CallProcessor {
                 return ErrorGenerator.getSQLApplicationError(
                         "SQL Client is already closed, hence further operations are not allowed");
             }
-            Connection connection;
-            CallableStatement statement;
-            ResultSet resultSet;
+            Connection connection = null;
+            CallableStatement statement = null;
+            ResultSet resultSet = null;
             String sqlQuery = null;
+            ParameterizedQuery parameterizedQuery = null;
             try {
-                ParameterizedQuery parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
+                parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
                 sqlQuery = parameterizedQuery.getSqlQuery();
                 connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
-                statement = connection.prepareCall(sqlQuery);
+                statement = sqlDatasource.prepareCall(connection, sqlQuery, isWithinTrxBlock);
 
                 HashMap<Integer, Integer> outputParamTypes = new HashMap<>();
-                setCallParameters(connection, statement, parameterizedQuery.getInsertions(), outputParamTypes,
+                setCallParameters(connection, statement, parameterizedQuery, outputParamTypes,
                         statementParameterProcessor);
 
-                boolean resultType = statement.execute();
+                boolean resultType;
+                QueryTimeout.Watch watch = queryTimeout.watch(statement);
+                try {
+                    resultType = statement.execute();
+                } finally {
+                    watch.close();
+                }
 
                 BObject iteratorObject = resultParameterProcessor.getBalStreamResultIterator();
                 BObject procedureCallResult = ValueCreator.createObjectValue(ModuleUtils.getModule(),
@@ -169,18 +179,38 @@ public class CallProcessor {
                 procedureCallResult.addNativeData(RESULT_SET_COUNT_NATIVE_DATA_FIELD, resultSetCount);
                 return procedureCallResult;
             } catch (SQLException e) {
-                return ErrorGenerator.getSQLDatabaseError(e,
+                // The resources are released through the procedure call result only when it is returned
+                Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+                return ErrorGenerator.getSQLDatabaseError(queryTimeout.translate(e),
                         String.format("Error while executing SQL query: %s. ", sqlQuery));
             } catch (ApplicationError e) {
+                Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
                 return ErrorGenerator.getSQLApplicationError(e);
             } catch (Throwable th) {
+                Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
                 return ErrorGenerator.getSQLError(th, String.format("Error while executing SQL query: %s. ", sqlQuery));
+            } finally {
+                if (parameterizedQuery != null) {
+                    parameterizedQuery.closeStreams();
+                }
+                // The procedure may modify any table
+                ResultCache.invalidateAll(client, isWithinTrxBlock, trxResourceManager);
             }
         } else {
             return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
         }
     }
 
+    // The streams opened for the parameters are registered to the query, so that they are closed after the execution
+    private static void setCallParameters(Connection connection, CallableStatement statement,
+                                          ParameterizedQuery parameterizedQuery,
+                                          HashMap<Integer, Integer> outputParamTypes,
+                                          AbstractStatementParameterProcessor statementParameterProcessor)
+            throws SQLException, ApplicationError {
+        AbstractStatementParameterProcessor.bindParams(parameterizedQuery, () -> setCallParameters(connection,
+                statement, parameterizedQuery.getInsertions(), outputParamTypes, statementParameterProcessor));
+    }
+
     private static void setCallParameters(Connection connection, CallableStatement statement,
                                           Object[] insertions, HashMap<Integer, Integer> outputParamTypes,
                                           AbstractStatementParameterProcessor statementParameterProcessor)
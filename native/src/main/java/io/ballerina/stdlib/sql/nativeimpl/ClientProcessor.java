@@ -18,10 +18,25 @@
 
 package io.ballerina.stdlib.sql.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.datasource.PoolWarmer;
+import io.ballerina.stdlib.sql.datasource.ReplicaRouter;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.utils.BatchSizeController;
+import io.ballerina.stdlib.sql.utils.ColumnMappingPlanCache;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.QueryOptions;
+import io.ballerina.stdlib.sql.utils.QueryTimeout;
+import io.ballerina.stdlib.sql.utils.ResultCache;
+import io.ballerina.stdlib.sql.utils.StreamLeakTracker;
 import io.ballerina.stdlib.sql.utils.Utils;
 
 import java.util.UUID;
@@ -44,6 +59,10 @@ public class ClientProcessor {
         // situation following null check is needed.
         if (datasourceObj != null) {
             ((SQLDatasource) datasourceObj).decrementClientCounterAndAttemptPoolShutdown();
+            Object replicaRouter = client.getNativeData(Constants.REPLICA_ROUTER_NATIVE_DATA_FIELD);
+            if (replicaRouter != null) {
+                ((ReplicaRouter) replicaRouter).close();
+            }
             client.addNativeData(Constants.DATABASE_CLIENT_ACTIVE_STATUS, Boolean.FALSE);
         }
         return null;
@@ -61,19 +80,212 @@ public class ClientProcessor {
                                       boolean executeGKFlag, boolean batchExecuteGKFlag) {
         try {
             Utils.disableHikariLogs();
-            boolean autoGenerateDataSourceConfig = true;
-            if (client.getNativeData().containsKey(Constants.AUTO_GENERATE_DATA_SOURCE_CONFIG)) {
-                autoGenerateDataSourceConfig = (boolean) client.getNativeData(
-                        Constants.AUTO_GENERATE_DATA_SOURCE_CONFIG);
-            }
             SQLDatasource sqlDatasource = SQLDatasource.retrieveDatasource(sqlDatasourceParams, executeGKFlag,
-                    batchExecuteGKFlag, autoGenerateDataSourceConfig);
+                    batchExecuteGKFlag, isAutoGenerateDataSourceConfig(client));
             client.addNativeData(Constants.DATABASE_CLIENT, sqlDatasource);
+            client.addNativeData(Constants.DATASOURCE_PARAMS_NATIVE_DATA_FIELD, sqlDatasourceParams);
             client.addNativeData(Constants.SQL_CONNECTOR_TRANSACTION_ID, UUID.randomUUID().toString());
             client.addNativeData(Constants.DATABASE_CLIENT_ACTIVE_STATUS, Boolean.TRUE);
+            client.addNativeData(Constants.STREAM_LEAK_TRACKER_NATIVE_DATA_FIELD, new StreamLeakTracker());
             return null;
         } catch (BError errorValue) {
             return errorValue;
         }
     }
+
+    /**
+     * Routes the queries of the client to the given read replicas. The replicas are connected with the credentials,
+     * options and connection pool of the client.
+     *
+     * @param client        client object
+     * @param replicaConfig `sql:ReplicaConfig` of the client
+     * @return null if the replicas are set, else error
+     */
+    public static Object setReadReplicas(BObject client, BMap<BString, Object> replicaConfig) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        Object datasourceParams = client.getNativeData(Constants.DATASOURCE_PARAMS_NATIVE_DATA_FIELD);
+        if (dbClient == null || datasourceParams == null) {
+            return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+        }
+        if (!((Boolean) client.getNativeData(Constants.DATABASE_CLIENT_ACTIVE_STATUS))) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed");
+        }
+        BArray urls = replicaConfig.getArrayValue(Constants.ReplicaConfig.URLS);
+        if (urls.size() == 0) {
+            return ErrorGenerator.getSQLApplicationError("ReplicaConfig field 'urls' must not be empty.");
+        }
+        double readYourWritesWindow = ((BDecimal) replicaConfig.get(Constants.ReplicaConfig.READ_YOUR_WRITES_WINDOW))
+                .floatValue();
+        if (readYourWritesWindow < 0) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "ReplicaConfig field 'readYourWritesWindow' must not be negative.");
+        }
+        SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+        SQLDatasource[] replicas = new SQLDatasource[urls.size()];
+        try {
+            for (int i = 0; i < replicas.length; i++) {
+                replicas[i] = SQLDatasource.retrieveDatasource(((SQLDatasource.SQLDatasourceParams) datasourceParams)
+                                .copyWithUrl(urls.getBString(i).getValue()), sqlDatasource.getExecuteGKFlag(),
+                        sqlDatasource.getBatchExecuteGKFlag(), isAutoGenerateDataSourceConfig(client));
+            }
+        } catch (BError errorValue) {
+            for (SQLDatasource replica : replicas) {
+                if (replica != null) {
+                    replica.decrementClientCounterAndAttemptPoolShutdown();
+                }
+            }
+            return errorValue;
+        }
+        boolean leastOutstanding = Constants.ReplicaConfig.LEAST_OUTSTANDING.equals(
+                replicaConfig.getStringValue(Constants.ReplicaConfig.LOAD_BALANCING_POLICY).getValue());
+        ReplicaRouter replicaRouter = new ReplicaRouter(replicas, leastOutstanding,
+                (long) (readYourWritesWindow * 1_000_000_000L),
+                (String) client.getNativeData(Constants.SQL_CONNECTOR_TRANSACTION_ID));
+        Object previousRouter;
+        synchronized (client) {
+            previousRouter = client.getNativeData(Constants.REPLICA_ROUTER_NATIVE_DATA_FIELD);
+            client.addNativeData(Constants.REPLICA_ROUTER_NATIVE_DATA_FIELD, replicaRouter);
+        }
+        if (previousRouter != null) {
+            ((ReplicaRouter) previousRouter).close();
+        }
+        return null;
+    }
+
+    public static Object setBatchSizeConfig(BObject client, BMap<BString, Object> batchSizeConfig) {
+        try {
+            client.addNativeData(Constants.BATCH_SIZE_CONTROLLER_NATIVE_DATA_FIELD,
+                    BatchSizeController.fromConfig(batchSizeConfig));
+            return null;
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    public static Object setQueryOptions(BObject client, BMap<BString, Object> queryOptions) {
+        try {
+            client.addNativeData(Constants.QUERY_OPTIONS_NATIVE_DATA_FIELD, QueryOptions.fromConfig(queryOptions));
+            return null;
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    public static Object setNextQueryOptions(Environment env, BMap<BString, Object> queryOptions) {
+        try {
+            QueryOptions.setNextQueryOptions(env, QueryOptions.fromConfig(queryOptions));
+            return null;
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    public static BMap<BString, Object> getBatchSizeStats(BObject client) {
+        return BatchSizeController.getBatchSizeController(client).getStats();
+    }
+
+    public static Object setResultCache(BObject client, BMap<BString, Object> resultCacheConfig) {
+        try {
+            client.addNativeData(Constants.RESULT_CACHE_NATIVE_DATA_FIELD, ResultCache.fromConfig(resultCacheConfig));
+            return null;
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    public static Object getResultCacheStats(BObject client) {
+        ResultCache resultCache = ResultCache.getResultCache(client);
+        return resultCache == null ? null : resultCache.getStats();
+    }
+
+    public static Object setQueryTimeout(BObject client, BDecimal timeout) {
+        try {
+            client.addNativeData(Constants.QUERY_TIMEOUT_NATIVE_DATA_FIELD, QueryTimeout.toMillis(timeout));
+            return null;
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    public static Object setNextQueryTimeout(Environment env, BDecimal timeout) {
+        try {
+            QueryTimeout.setNextQueryTimeout(env, QueryTimeout.toMillis(timeout));
+            return null;
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    public static BMap<BString, Object> getMappingPlanCacheStats() {
+        return ColumnMappingPlanCache.getInstance().getStats();
+    }
+
+    public static Object setStreamLeakDetection(BObject client, BMap<BString, Object> config) {
+        StreamLeakTracker tracker = StreamLeakTracker.getTracker(client);
+        if (tracker == null) {
+            return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+        }
+        try {
+            tracker.configure(config);
+            return null;
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    public static Object getStreamStats(BObject client) {
+        StreamLeakTracker tracker = StreamLeakTracker.getTracker(client);
+        if (tracker == null) {
+            return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+        }
+        return tracker.getStats();
+    }
+
+    public static Object getPoolStats(BObject client) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+        }
+        if (!((Boolean) client.getNativeData(Constants.DATABASE_CLIENT_ACTIVE_STATUS))) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed");
+        }
+        return ((SQLDatasource) dbClient).getPoolStats();
+    }
+
+    public static Object getStatementCacheStats(BObject client) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+        }
+        if (!((Boolean) client.getNativeData(Constants.DATABASE_CLIENT_ACTIVE_STATUS))) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed");
+        }
+        return ((SQLDatasource) dbClient).getStatementCache().getStats();
+    }
+
+    public static Object isPoolReady(BObject client) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+        }
+        PoolWarmer poolWarmer = ((SQLDatasource) dbClient).getPoolWarmer();
+        if (poolWarmer == null) {
+            return true;
+        }
+        if (poolWarmer.getFailure() != null) {
+            return ErrorGenerator.getSQLDatabaseError(poolWarmer.getFailure(),
+                    "Error while warming up the connection pool. ");
+        }
+        return poolWarmer.isDone();
+    }
+
+    private static boolean isAutoGenerateDataSourceConfig(BObject client) {
+        if (client.getNativeData().containsKey(Constants.AUTO_GENERATE_DATA_SOURCE_CONFIG)) {
+            return (boolean) client.getNativeData(Constants.AUTO_GENERATE_DATA_SOURCE_CONFIG);
+        }
+        return true;
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.sql.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.datasource.ReplicaRouter;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ColumnBatchReader;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.utils.QueryOptions;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * This class provides the query processing implementation which returns the results in the column-oriented form.
+ *
+ * @since 1.10.0
+ */
+public class ColumnQueryProcessor {
+
+    private ColumnQueryProcessor() {
+    }
+
+    /**
+     * Query the database and return the results in chunks of column arrays.
+     *
+     * @param client         client object
+     * @param paramSQLString SQL string of the query
+     * @param chunkSize      maximum number of rows in a chunk
+     * @param batchType      type description of the `sql:ColumnBatch` record
+     * @return result stream or error
+     */
+    public static BStream nativeQueryColumns(Environment env, BObject client, BObject paramSQLString, long chunkSize,
+                                             BTypedesc batchType) {
+        return nativeQueryColumns(env, client, paramSQLString, chunkSize, batchType,
+                DefaultStatementParameterProcessor.getInstance());
+    }
+
+    public static BStream nativeQueryColumns(Environment env, BObject client, BObject paramSQLString, long chunkSize,
+                                             BTypedesc batchType,
+                                             AbstractStatementParameterProcessor statementParameterProcessor) {
+        if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE) {
+            return getErrorStream(batchType, ErrorGenerator.getSQLApplicationError(
+                    "Chunk size must be between 1 and " + Integer.MAX_VALUE + "."));
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        if (!Utils.isWithinTrxBlock(trxResourceManager)) {
+            ReplicaRouter replicaRouter = ReplicaRouter.getReadRouter(env, client);
+            Future balFuture = env.markAsync();
+            SQLWorkerThreadPool.execute(balFuture, () -> nativeQueryColumnsExecutable(client, paramSQLString,
+                    (int) chunkSize, batchType, statementParameterProcessor, false, null, replicaRouter),
+                    errorValue -> getErrorStream(batchType, errorValue));
+        } else {
+            return nativeQueryColumnsExecutable(client, paramSQLString, (int) chunkSize, batchType,
+                    statementParameterProcessor, true, trxResourceManager, null);
+        }
+        return null;
+    }
+
+    private static BStream nativeQueryColumnsExecutable(
+            BObject client, BObject paramSQLString, int chunkSize, BTypedesc batchType,
+            AbstractStatementParameterProcessor statementParameterProcessor, boolean isWithInTrxBlock,
+            TransactionResourceManager trxResourceManager, ReplicaRouter replicaRouter) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return getErrorStream(batchType,
+                    ErrorGenerator.getSQLApplicationError("Client is not properly initialized!"));
+        }
+        SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+        if (!((Boolean) client.getNativeData(Constants.DATABASE_CLIENT_ACTIVE_STATUS))) {
+            return getErrorStream(batchType, ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed"));
+        }
+        if (replicaRouter != null) {
+            sqlDatasource = replicaRouter.selectReplica();
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        ParameterizedQuery parameterizedQuery = null;
+        try {
+            parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
+            sqlQuery = parameterizedQuery.getSqlQuery();
+            connection = SQLDatasource.getConnection(isWithInTrxBlock, trxResourceManager, client, sqlDatasource);
+            statement = sqlDatasource.prepareStatement(connection, sqlQuery, Statement.NO_GENERATED_KEYS,
+                    isWithInTrxBlock);
+            statementParameterProcessor.setParams(connection, statement, parameterizedQuery);
+            QueryOptions.getQueryOptions(client).apply(statement);
+            resultSet = statement.executeQuery();
+            BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                    Constants.COLUMN_BATCH_ITERATOR_OBJECT, (Object) null);
+            iterator.addNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD, resultSet);
+            iterator.addNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD, statement);
+            iterator.addNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD, connection);
+            iterator.addNativeData(Constants.COLUMN_BATCH_READER_NATIVE_DATA_FIELD,
+                    new ColumnBatchReader(resultSet.getMetaData(), chunkSize));
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(batchType.getDescribingType(),
+                    PredefinedTypes.TYPE_NULL), iterator);
+        } catch (SQLException e) {
+            Utils.closeResources(isWithInTrxBlock, resultSet, statement, connection);
+            return getErrorStream(batchType, ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery)));
+        } catch (ApplicationError e) {
+            Utils.closeResources(isWithInTrxBlock, resultSet, statement, connection);
+            return getErrorStream(batchType, ErrorGenerator.getSQLApplicationError(e));
+        } catch (Throwable e) {
+            Utils.closeResources(isWithInTrxBlock, resultSet, statement, connection);
+            String message = e.getMessage();
+            if (message == null) {
+                message = e.getClass().getName();
+            }
+            return getErrorStream(batchType, ErrorGenerator.getSQLApplicationError(
+                    String.format("Error while executing SQL query: %s. %s", sqlQuery, message)));
+        } finally {
+            if (parameterizedQuery != null) {
+                parameterizedQuery.closeStreams();
+            }
+        }
+    }
+
+    private static BStream getErrorStream(BTypedesc batchType, BError errorValue) {
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(batchType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.COLUMN_BATCH_ITERATOR_OBJECT, errorValue));
+    }
+}
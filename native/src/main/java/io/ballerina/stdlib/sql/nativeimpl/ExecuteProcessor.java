@@ -29,11 +29,18 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.transactions.TransactionResourceManager;
 import io.ballerina.stdlib.sql.Constants;
 import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.ParameterizedQuery.StatementType;
+import io.ballerina.stdlib.sql.datasource.ReplicaRouter;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool;
 import io.ballerina.stdlib.sql.exception.ApplicationError;
 import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.BatchGroup;
+import io.ballerina.stdlib.sql.utils.BatchSizeController;
 import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 import io.ballerina.stdlib.sql.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.utils.QueryTimeout;
+import io.ballerina.stdlib.sql.utils.ResultCache;
 import io.ballerina.stdlib.sql.utils.Utils;
 
 import java.sql.BatchUpdateException;
@@ -43,13 +50,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
-import static io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool.SQL_EXECUTOR_SERVICE;
 import static io.ballerina.stdlib.sql.utils.Utils.closeResources;
 import static io.ballerina.stdlib.sql.utils.Utils.getGeneratedKeys;
 
@@ -73,17 +78,16 @@ public class ExecuteProcessor {
      */
     public static Object nativeExecute(Environment env, BObject client, BObject paramSQLString,
                                        AbstractStatementParameterProcessor statementParameterProcessor) {
+        ReplicaRouter.recordWrite(env, client);
         TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        QueryTimeout queryTimeout = QueryTimeout.getQueryTimeout(env, client);
         if (!Utils.isWithinTrxBlock(trxResourceManager)) {
             Future balFuture = env.markAsync();
-            SQL_EXECUTOR_SERVICE.execute(() -> {
-                Object resultStream =
-                        nativeExecuteExecutable(client, paramSQLString, statementParameterProcessor, false, null);
-                balFuture.complete(resultStream);
-            });
+            SQLWorkerThreadPool.execute(balFuture, () -> nativeExecuteExecutable(client, paramSQLString,
+                    statementParameterProcessor, false, null, queryTimeout), errorValue -> errorValue);
         } else {
             return nativeExecuteExecutable(client, paramSQLString, statementParameterProcessor, true,
-                    trxResourceManager);
+                    trxResourceManager, queryTimeout);
         }
         return null;
     }
@@ -91,7 +95,8 @@ public class ExecuteProcessor {
     private static Object nativeExecuteExecutable(BObject client, BObject paramSQLString,
                                                   AbstractStatementParameterProcessor statementParameterProcessor,
                                                   boolean isWithInTrxBlock,
-                                                  TransactionResourceManager trxResourceManager) {
+                                                  TransactionResourceManager trxResourceManager,
+                                                  QueryTimeout queryTimeout) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
@@ -103,22 +108,31 @@ public class ExecuteProcessor {
             PreparedStatement statement = null;
             ResultSet resultSet = null;
             String sqlQuery = null;
+            ParameterizedQuery parameterizedQuery = null;
             try {
-                ParameterizedQuery parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
+                parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
                 sqlQuery = parameterizedQuery.getSqlQuery();
                 connection = SQLDatasource.getConnection(isWithInTrxBlock, trxResourceManager, client, sqlDatasource);
 
                 if (sqlDatasource.getExecuteGKFlag()) {
-                    statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
+                    statement = sqlDatasource.prepareStatement(connection, sqlQuery, Statement.RETURN_GENERATED_KEYS,
+                            isWithInTrxBlock);
                 } else {
-                    statement = connection.prepareStatement(sqlQuery);
+                    statement = sqlDatasource.prepareStatement(connection, sqlQuery, Statement.NO_GENERATED_KEYS,
+                            isWithInTrxBlock);
                 }
 
-                statementParameterProcessor.setParams(connection, statement, parameterizedQuery.getInsertions());
+                statementParameterProcessor.setParams(connection, statement, parameterizedQuery);
 
-                int count = statement.executeUpdate();
+                int count;
+                QueryTimeout.Watch watch = queryTimeout.watch(statement);
+                try {
+                    count = statement.executeUpdate();
+                } finally {
+                    watch.close();
+                }
                 Object lastInsertedId = null;
-                if (!isDdlStatement(sqlQuery)) {
+                if (parameterizedQuery.getStatementType() != StatementType.DDL) {
                     resultSet = statement.getGeneratedKeys();
                     if (resultSet.next()) {
                         lastInsertedId = getGeneratedKeys(resultSet);
@@ -130,7 +144,7 @@ public class ExecuteProcessor {
                 return ValueCreator.createRecordValue(ModuleUtils.getModule(),
                         Constants.EXECUTION_RESULT_RECORD, resultFields);
             } catch (SQLException e) {
-                return ErrorGenerator.getSQLDatabaseError(e,
+                return ErrorGenerator.getSQLDatabaseError(queryTimeout.translate(e),
                         String.format("Error while executing SQL query: %s. ", sqlQuery));
             } catch (ApplicationError e) {
                 return ErrorGenerator.getSQLApplicationError(e);
@@ -138,6 +152,11 @@ public class ExecuteProcessor {
                 return ErrorGenerator.getSQLError(th, String.format("Error while executing SQL query: %s. ", sqlQuery));
             } finally {
                 closeResources(isWithInTrxBlock, resultSet, statement, connection);
+                if (parameterizedQuery != null) {
+                    parameterizedQuery.closeStreams();
+                    ResultCache.invalidate(client, Collections.singletonList(parameterizedQuery), isWithInTrxBlock,
+                            trxResourceManager);
+                }
             }
         } else {
             return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
@@ -154,26 +173,55 @@ public class ExecuteProcessor {
      */
     public static Object nativeBatchExecute(Environment env, BObject client, BArray paramSQLStrings,
                                             AbstractStatementParameterProcessor statementParameterProcessor) {
+        return nativeBatchExecute(env, client, paramSQLStrings, statementParameterProcessor,
+                BatchSizeController.getBatchSizeController(client));
+    }
+
+    /**
+     * Execute a batch of SQL statements with the given batch size configurations instead of the configurations of
+     * the client.
+     *
+     * @param client                      client object
+     * @param paramSQLStrings             array of SQL string for the execute statement
+     * @param statementParameterProcessor pre-processor of the statement
+     * @param batchSizeConfig             `sql:BatchSizeConfig` of the execution
+     * @return execution result or error
+     */
+    public static Object nativeBatchExecute(Environment env, BObject client, BArray paramSQLStrings,
+                                            AbstractStatementParameterProcessor statementParameterProcessor,
+                                            BMap<BString, Object> batchSizeConfig) {
+        try {
+            return nativeBatchExecute(env, client, paramSQLStrings, statementParameterProcessor,
+                    BatchSizeController.fromConfig(batchSizeConfig));
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    private static Object nativeBatchExecute(Environment env, BObject client, BArray paramSQLStrings,
+                                             AbstractStatementParameterProcessor statementParameterProcessor,
+                                             BatchSizeController batchSizeController) {
+        ReplicaRouter.recordWrite(env, client);
         TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        QueryTimeout queryTimeout = QueryTimeout.getQueryTimeout(env, client);
         if (!Utils.isWithinTrxBlock(trxResourceManager)) {
             Future balFuture = env.markAsync();
-            SQL_EXECUTOR_SERVICE.execute(() -> {
-                Object resultStream =
-                        nativeBatchExecuteExecutable(client, paramSQLStrings, statementParameterProcessor,
-                                false, null);
-                balFuture.complete(resultStream);
-            });
+            SQLWorkerThreadPool.execute(balFuture, () -> nativeBatchExecuteExecutable(client, paramSQLStrings,
+                    statementParameterProcessor, batchSizeController, false, null, queryTimeout),
+                    errorValue -> errorValue);
         } else {
             return nativeBatchExecuteExecutable(client, paramSQLStrings, statementParameterProcessor,
-                    true, trxResourceManager);
+                    batchSizeController, true, trxResourceManager, queryTimeout);
         }
         return null;
     }
 
     private static Object nativeBatchExecuteExecutable(BObject client, BArray paramSQLStrings,
                                                        AbstractStatementParameterProcessor statementParameterProcessor,
+                                                       BatchSizeController batchSizeController,
                                                        boolean isWithinTrxBlock,
-                                                       TransactionResourceManager trxResourceManager) {
+                                                       TransactionResourceManager trxResourceManager,
+                                                       QueryTimeout queryTimeout) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
@@ -184,60 +232,64 @@ public class ExecuteProcessor {
             Connection connection = null;
             PreparedStatement statement = null;
             String sqlQuery = null;
-            List<Object[]> parameters = new ArrayList<>();
-            List<BMap<BString, Object>> executionResults = new ArrayList<>();
-            boolean processResultSet = false;
-            int batchSize = 1000;
+            // The results are set at the indexes of their queries, as the groups may execute queries out of order
+            List<BMap<BString, Object>> executionResults = new ArrayList<>(
+                    Collections.nCopies(paramSQLStrings.size(), null));
+            List<ParameterizedQuery> parameterizedQueries = new ArrayList<>(paramSQLStrings.size());
             try {
                 Object[] paramSQLObjects = paramSQLStrings.getValues();
-                ParameterizedQuery parameterizedQuery = Utils.getParameterizedSQLQuery(((BObject) paramSQLObjects[0]));
-                sqlQuery = parameterizedQuery.getSqlQuery();
-                parameters.add(parameterizedQuery.getInsertions());
-                for (int paramIndex = 1; paramIndex < paramSQLStrings.size(); paramIndex++) {
-                    parameterizedQuery = Utils.getParameterizedSQLQuery(((BObject) paramSQLObjects[paramIndex]));
-                    if (sqlQuery.equals(parameterizedQuery.getSqlQuery())) {
-                        parameters.add(parameterizedQuery.getInsertions());
-                    } else {
-                        return ErrorGenerator.getSQLApplicationError("Batch Execute cannot contain different SQL " +
-                                "commands. These has to be executed in different function calls");
-                    }
+                for (int paramIndex = 0; paramIndex < paramSQLStrings.size(); paramIndex++) {
+                    parameterizedQueries.add(Utils.getParameterizedSQLQuery((BObject) paramSQLObjects[paramIndex]));
                 }
+                sqlQuery = parameterizedQueries.get(0).getSqlQuery();
                 connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
-
-                if (sqlDatasource.getBatchExecuteGKFlag()) {
-                    statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
-                } else {
-                    statement = connection.prepareStatement(sqlQuery, Statement.NO_GENERATED_KEYS);
-                }
-                if (sqlDatasource.getBatchExecuteGKFlag() && !isDdlStatement(sqlQuery)) {
-                    processResultSet = true;
-                }
-                for (int paramIndex = 0; paramIndex < parameters.size(); paramIndex++) {
-                    statementParameterProcessor.setParams(connection, statement, parameters.get(paramIndex));
-                    statement.addBatch();
-                    if ((paramIndex + 1) % batchSize == 0) {
-                        executeSingleBatch(statement, executionResults, processResultSet);
-                        statement.clearBatch();
+                // Each group of queries with the same SQL is executed as a prepared batch on the connection
+                for (BatchGroup batchGroup : BatchGroup.group(parameterizedQueries,
+                        batchSizeController.isGroupBySql())) {
+                    sqlQuery = batchGroup.getSqlQuery();
+                    if (sqlDatasource.getBatchExecuteGKFlag()) {
+                        statement = sqlDatasource.prepareStatement(connection, sqlQuery,
+                                Statement.RETURN_GENERATED_KEYS, isWithinTrxBlock);
+                    } else {
+                        statement = sqlDatasource.prepareStatement(connection, sqlQuery, Statement.NO_GENERATED_KEYS,
+                                isWithinTrxBlock);
                     }
+                    boolean processResultSet = sqlDatasource.getBatchExecuteGKFlag() &&
+                            batchGroup.getStatementType() != StatementType.DDL;
+                    List<Integer> queryIndexes = batchGroup.getQueryIndexes();
+                    int batchSize = batchSizeController.getBatchSize();
+                    int batchStart = 0;
+                    for (int i = 0; i < queryIndexes.size(); i++) {
+                        statementParameterProcessor.setParams(connection, statement,
+                                parameterizedQueries.get(queryIndexes.get(i)));
+                        statement.addBatch();
+                        if (i + 1 - batchStart == batchSize) {
+                            executeSingleBatch(statement, executionResults, queryIndexes.subList(batchStart, i + 1),
+                                    processResultSet, batchSizeController, queryTimeout);
+                            statement.clearBatch();
+                            batchStart = i + 1;
+                            batchSize = batchSizeController.getBatchSize();
+                        }
+                    }
+                    // Execute leftover statements if count is not multiplier of batchSize
+                    executeSingleBatch(statement, executionResults,
+                            queryIndexes.subList(batchStart, queryIndexes.size()), processResultSet,
+                            batchSizeController, queryTimeout);
+                    closeResources(isWithinTrxBlock, null, statement, null);
+                    statement = null;
                 }
-                // Execute leftover statements if count is not multiplier of batchSize
-                executeSingleBatch(statement, executionResults, processResultSet);
                 return ValueCreator.createArrayValue(executionResults.toArray(), TypeCreator.createArrayType(
                         TypeCreator.createRecordType(
                                 Constants.EXECUTION_RESULT_RECORD, ModuleUtils.getModule(), 0, false, 0)));
             } catch (BatchUpdateException e) {
-                int[] updateCounts = e.getUpdateCounts();
-                for (int count : updateCounts) {
-                    Map<String, Object> resultField = new HashMap<>();
-                    resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
-                    resultField.put(Constants.LAST_INSERTED_ID_FIELD, null);
-                    executionResults.add(ValueCreator.createRecordValue(ModuleUtils.getModule(),
-                            Constants.EXECUTION_RESULT_RECORD, resultField));
+                if (queryTimeout.isTimedOut()) {
+                    return ErrorGenerator.getSQLDatabaseError(queryTimeout.translate(e),
+                            String.format("Error while executing batch command starting with: '%s'. ", sqlQuery));
                 }
-                return ErrorGenerator.getSQLBatchExecuteError(e, executionResults,
+                return ErrorGenerator.getSQLBatchExecuteError(e, getExecutedResults(executionResults),
                         String.format("Error while executing batch command starting with: '%s'.", sqlQuery));
             } catch (SQLException e) {
-                return ErrorGenerator.getSQLDatabaseError(e,
+                return ErrorGenerator.getSQLDatabaseError(queryTimeout.translate(e),
                         String.format("Error while executing batch command starting with: '%s'. ", sqlQuery));
             } catch (ApplicationError e) {
                 return ErrorGenerator.getSQLApplicationError(e);
@@ -247,36 +299,45 @@ public class ExecuteProcessor {
             } finally {
                 // The result set is created and cleaned in the executeSingleBatch().
                 closeResources(isWithinTrxBlock, null, statement, connection);
+                for (ParameterizedQuery parameterizedQuery : parameterizedQueries) {
+                    parameterizedQuery.closeStreams();
+                }
+                // The queries executed before a failure may have modified their tables
+                ResultCache.invalidate(client, parameterizedQueries, isWithinTrxBlock, trxResourceManager);
             }
         } else {
             return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
         }
     }
 
-    private static boolean isDdlStatement(String query) {
-        String upperCaseQuery = query.trim().toUpperCase(Locale.ENGLISH);
-        return Arrays.stream(DdlKeyword.values()).anyMatch(ddlKeyword -> upperCaseQuery.startsWith(ddlKeyword.name()));
+    // The results of the queries before the first query without a result, in the order of the batch
+    private static List<BMap<BString, Object>> getExecutedResults(List<BMap<BString, Object>> executionResults) {
+        int executedCount = executionResults.indexOf(null);
+        return executedCount < 0 ? executionResults : executionResults.subList(0, executedCount);
     }
 
     private static void executeSingleBatch(PreparedStatement statement, List<BMap<BString, Object>> executionResults,
-                                           boolean processResultSet) throws SQLException {
+                                           List<Integer> queryIndexes, boolean processResultSet,
+                                           BatchSizeController batchSizeController, QueryTimeout queryTimeout)
+            throws SQLException {
         ResultSet resultSet = null;
         try {
-            int[] counts = statement.executeBatch();
+            long startTime = System.nanoTime();
+            int[] counts;
+            QueryTimeout.Watch watch = queryTimeout.watch(statement);
+            try {
+                counts = statement.executeBatch();
+            } catch (BatchUpdateException e) {
+                setExecutionResults(executionResults, queryIndexes, e.getUpdateCounts(), null);
+                throw e;
+            } finally {
+                watch.close();
+            }
+            batchSizeController.recordBatch(queryIndexes.size(), System.nanoTime() - startTime);
             if (processResultSet) {
                 resultSet = statement.getGeneratedKeys();
             }
-            for (int count : counts) {
-                Object lastInsertedId = null;
-                Map<String, Object> resultField = new HashMap<>();
-                resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
-                if (resultSet != null && resultSet.next()) {
-                    lastInsertedId = getGeneratedKeys(resultSet);
-                }
-                resultField.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
-                executionResults.add(ValueCreator.createRecordValue(ModuleUtils.getModule(),
-                        Constants.EXECUTION_RESULT_RECORD, resultField));
-            }
+            setExecutionResults(executionResults, queryIndexes, counts, resultSet);
         } finally {
             if (resultSet != null) {
                 try {
@@ -287,7 +348,18 @@ public class ExecuteProcessor {
         }
     }
 
-    private enum DdlKeyword {
-        CREATE, ALTER, DROP, TRUNCATE, COMMENT, RENAME
+    private static void setExecutionResults(List<BMap<BString, Object>> executionResults, List<Integer> queryIndexes,
+                                            int[] counts, ResultSet resultSet) throws SQLException {
+        for (int i = 0; i < counts.length && i < queryIndexes.size(); i++) {
+            Object lastInsertedId = null;
+            Map<String, Object> resultField = new HashMap<>();
+            resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, counts[i]);
+            if (resultSet != null && resultSet.next()) {
+                lastInsertedId = getGeneratedKeys(resultSet);
+            }
+            resultField.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
+            executionResults.set(queryIndexes.get(i), ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.EXECUTION_RESULT_RECORD, resultField));
+        }
     }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.sql.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.LobChunkReader;
+import io.ballerina.stdlib.sql.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * This class provides the query processing implementation which streams the value of a LOB column in chunks.
+ *
+ * @since 1.10.0
+ */
+public class LobQueryProcessor {
+
+    private LobQueryProcessor() {
+    }
+
+    /**
+     * Query the database and stream the binary value of the first column of the first row.
+     *
+     * @param client         client object
+     * @param paramSQLString SQL string of the query
+     * @param chunkSize      maximum number of bytes in a chunk
+     * @return stream of byte chunks or error
+     */
+    public static BStream nativeStreamBlob(Environment env, BObject client, BObject paramSQLString, long chunkSize) {
+        return nativeStreamBlob(env, client, paramSQLString, chunkSize,
+                DefaultStatementParameterProcessor.getInstance());
+    }
+
+    public static BStream nativeStreamBlob(Environment env, BObject client, BObject paramSQLString, long chunkSize,
+                                           AbstractStatementParameterProcessor statementParameterProcessor) {
+        return nativeStreamLob(env, client, paramSQLString, chunkSize, true, statementParameterProcessor);
+    }
+
+    /**
+     * Query the database and stream the character value of the first column of the first row.
+     *
+     * @param client         client object
+     * @param paramSQLString SQL string of the query
+     * @param chunkSize      maximum number of characters in a chunk
+     * @return stream of string chunks or error
+     */
+    public static BStream nativeStreamClob(Environment env, BObject client, BObject paramSQLString, long chunkSize) {
+        return nativeStreamClob(env, client, paramSQLString, chunkSize,
+                DefaultStatementParameterProcessor.getInstance());
+    }
+
+    public static BStream nativeStreamClob(Environment env, BObject client, BObject paramSQLString, long chunkSize,
+                                           AbstractStatementParameterProcessor statementParameterProcessor) {
+        return nativeStreamLob(env, client, paramSQLString, chunkSize, false, statementParameterProcessor);
+    }
+
+    private static BStream nativeStreamLob(Environment env, BObject client, BObject paramSQLString, long chunkSize,
+                                           boolean isBinary,
+                                           AbstractStatementParameterProcessor statementParameterProcessor) {
+        // One more character may be read to keep a surrogate pair in the same chunk
+        if (chunkSize < 1 || chunkSize >= Integer.MAX_VALUE) {
+            return getErrorStream(isBinary, ErrorGenerator.getSQLApplicationError(
+                    "Chunk size must be between 1 and " + (Integer.MAX_VALUE - 1) + "."));
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        if (!Utils.isWithinTrxBlock(trxResourceManager)) {
+            Future balFuture = env.markAsync();
+            SQLWorkerThreadPool.execute(balFuture, () -> nativeStreamLobExecutable(client, paramSQLString,
+                    (int) chunkSize, isBinary, statementParameterProcessor, false, null),
+                    errorValue -> getErrorStream(isBinary, errorValue));
+        } else {
+            return nativeStreamLobExecutable(client, paramSQLString, (int) chunkSize, isBinary,
+                    statementParameterProcessor, true, trxResourceManager);
+        }
+        return null;
+    }
+
+    private static BStream nativeStreamLobExecutable(
+            BObject client, BObject paramSQLString, int chunkSize, boolean isBinary,
+            AbstractStatementParameterProcessor statementParameterProcessor, boolean isWithInTrxBlock,
+            TransactionResourceManager trxResourceManager) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return getErrorStream(isBinary,
+                    ErrorGenerator.getSQLApplicationError("Client is not properly initialized!"));
+        }
+        SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+        if (!((Boolean) client.getNativeData(Constants.DATABASE_CLIENT_ACTIVE_STATUS))) {
+            return getErrorStream(isBinary, ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed"));
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        ParameterizedQuery parameterizedQuery = null;
+        try {
+            parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
+            sqlQuery = parameterizedQuery.getSqlQuery();
+            connection = SQLDatasource.getConnection(isWithInTrxBlock, trxResourceManager, client, sqlDatasource);
+            statement = sqlDatasource.prepareStatement(connection, sqlQuery, Statement.NO_GENERATED_KEYS,
+                    isWithInTrxBlock);
+            statementParameterProcessor.setParams(connection, statement, parameterizedQuery);
+            statement.setMaxRows(1);
+            resultSet = statement.executeQuery();
+            LobChunkReader lobChunkReader;
+            if (isBinary) {
+                lobChunkReader = new LobChunkReader(resultSet.next() ? resultSet.getBinaryStream(1) : null,
+                        chunkSize);
+            } else {
+                lobChunkReader = new LobChunkReader(resultSet.next() ? resultSet.getCharacterStream(1) : null,
+                        chunkSize);
+            }
+            BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), getIteratorName(isBinary),
+                    (Object) null);
+            iterator.addNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD, resultSet);
+            iterator.addNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD, statement);
+            iterator.addNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD, connection);
+            iterator.addNativeData(Constants.LOB_CHUNK_READER_NATIVE_DATA_FIELD, lobChunkReader);
+            return ValueCreator.createStreamValue(getStreamType(isBinary), iterator);
+        } catch (SQLException e) {
+            Utils.closeResources(isWithInTrxBlock, resultSet, statement, connection);
+            return getErrorStream(isBinary, ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery)));
+        } catch (ApplicationError e) {
+            Utils.closeResources(isWithInTrxBlock, resultSet, statement, connection);
+            return getErrorStream(isBinary, ErrorGenerator.getSQLApplicationError(e));
+        } catch (Throwable e) {
+            Utils.closeResources(isWithInTrxBlock, resultSet, statement, connection);
+            String message = e.getMessage();
+            if (message == null) {
+                message = e.getClass().getName();
+            }
+            return getErrorStream(isBinary, ErrorGenerator.getSQLApplicationError(
+                    String.format("Error while executing SQL query: %s. %s", sqlQuery, message)));
+        } finally {
+            if (parameterizedQuery != null) {
+                parameterizedQuery.closeStreams();
+            }
+        }
+    }
+
+    private static String getIteratorName(boolean isBinary) {
+        return isBinary ? Constants.BLOB_CHUNK_ITERATOR_OBJECT : Constants.CLOB_CHUNK_ITERATOR_OBJECT;
+    }
+
+    private static Type getStreamType(boolean isBinary) {
+        Type chunkType = isBinary ? TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE) :
+                PredefinedTypes.TYPE_STRING;
+        return TypeCreator.createStreamType(chunkType, PredefinedTypes.TYPE_NULL);
+    }
+
+    private static BStream getErrorStream(boolean isBinary, BError errorValue) {
+        return ValueCreator.createStreamValue(getStreamType(isBinary), ValueCreator.createObjectValue(
+                ModuleUtils.getModule(), getIteratorName(isBinary), errorValue));
+    }
+}
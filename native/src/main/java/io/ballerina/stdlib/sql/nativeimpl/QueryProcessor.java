@@ -37,7 +37,9 @@ import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.transactions.TransactionResourceManager;
 import io.ballerina.stdlib.sql.Constants;
 import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.datasource.ReplicaRouter;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool;
 import io.ballerina.stdlib.sql.exception.ApplicationError;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.TypeMismatchError;
@@ -47,15 +49,20 @@ import io.ballerina.stdlib.sql.utils.ColumnDefinition;
 import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 import io.ballerina.stdlib.sql.utils.ModuleUtils;
 import io.ballerina.stdlib.sql.utils.PrimitiveTypeColumnDefinition;
+import io.ballerina.stdlib.sql.utils.QueryOptions;
+import io.ballerina.stdlib.sql.utils.QueryTimeout;
+import io.ballerina.stdlib.sql.utils.RecordIteratorUtils;
+import io.ballerina.stdlib.sql.utils.ResultCache;
+import io.ballerina.stdlib.sql.utils.StreamLeakTracker;
 import io.ballerina.stdlib.sql.utils.Utils;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 
-import static io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool.SQL_EXECUTOR_SERVICE;
 
 /**
  * This class provides the query processing implementation which executes sql queries.
@@ -81,18 +88,54 @@ public class QueryProcessor {
             Environment env, BObject client, BObject paramSQLString, Object recordType,
             AbstractStatementParameterProcessor statementParameterProcessor,
             AbstractResultParameterProcessor resultParameterProcessor) {
+        return nativeQuery(env, client, paramSQLString, recordType, statementParameterProcessor,
+                resultParameterProcessor, QueryOptions.getQueryOptions(env, client));
+    }
+
+    /**
+     * Query the database with the given query options instead of the query options of the client and return
+     * results.
+     *
+     * @param client                      client object
+     * @param paramSQLString              SQL string of the query
+     * @param recordType                  type description of the result record
+     * @param statementParameterProcessor pre-processor of the statement
+     * @param resultParameterProcessor    post-processor of the result
+     * @param queryOptions                `sql:QueryOptions` of the query
+     * @return result stream or error
+     */
+    public static BStream nativeQuery(
+            Environment env, BObject client, BObject paramSQLString, Object recordType,
+            AbstractStatementParameterProcessor statementParameterProcessor,
+            AbstractResultParameterProcessor resultParameterProcessor, BMap<BString, Object> queryOptions) {
+        try {
+            return nativeQuery(env, client, paramSQLString, recordType, statementParameterProcessor,
+                    resultParameterProcessor, QueryOptions.fromConfig(queryOptions));
+        } catch (ApplicationError e) {
+            return getErrorStream(recordType, ErrorGenerator.getSQLApplicationError(e));
+        }
+    }
+
+    private static BStream nativeQuery(
+            Environment env, BObject client, BObject paramSQLString, Object recordType,
+            AbstractStatementParameterProcessor statementParameterProcessor,
+            AbstractResultParameterProcessor resultParameterProcessor, QueryOptions queryOptions) {
         TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        QueryTimeout queryTimeout = QueryTimeout.getQueryTimeout(env, client);
+        Throwable allocationSite = StreamLeakTracker.captureAllocationSite(client);
         if (!Utils.isWithinTrxBlock(trxResourceManager)) {
+            ReplicaRouter replicaRouter = ReplicaRouter.getReadRouter(env, client);
+            // The results read from the replicas may lag behind the changes of the client
+            ResultCache resultCache = replicaRouter == null ? ResultCache.getResultCache(client) : null;
             Future balFuture = env.markAsync();
-            SQL_EXECUTOR_SERVICE.execute(() -> {
-                BStream resultStream =
-                        nativeQueryExecutable(client, paramSQLString, recordType, statementParameterProcessor,
-                                resultParameterProcessor, false, null);
-                balFuture.complete(resultStream);
-            });
+            SQLWorkerThreadPool.execute(balFuture, () -> nativeQueryExecutable(client, paramSQLString, recordType,
+                    statementParameterProcessor, resultParameterProcessor, queryOptions, false, null,
+                    replicaRouter, resultCache, queryTimeout, allocationSite),
+                    errorValue -> getErrorStream(recordType, errorValue));
         } else {
             return nativeQueryExecutable(client, paramSQLString, recordType, statementParameterProcessor,
-                    resultParameterProcessor, true, trxResourceManager);
+                    resultParameterProcessor, queryOptions, true, trxResourceManager, null, null, queryTimeout,
+                    allocationSite);
         }
         return null;
     }
@@ -100,8 +143,9 @@ public class QueryProcessor {
     private static BStream nativeQueryExecutable(
             BObject client, BObject paramSQLString, Object recordType,
             AbstractStatementParameterProcessor statementParameterProcessor,
-            AbstractResultParameterProcessor resultParameterProcessor, boolean isWithInTrxBlock,
-            TransactionResourceManager trxResourceManager) {
+            AbstractResultParameterProcessor resultParameterProcessor, QueryOptions queryOptions,
+            boolean isWithInTrxBlock, TransactionResourceManager trxResourceManager, ReplicaRouter replicaRouter,
+            ResultCache resultCache, QueryTimeout queryTimeout, Throwable allocationSite) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
@@ -110,26 +154,80 @@ public class QueryProcessor {
                         "SQL Client is already closed, hence further operations are not allowed");
                 return getErrorStream(recordType, errorValue);
             }
+            if (replicaRouter != null) {
+                sqlDatasource = replicaRouter.selectReplica();
+            }
             Connection connection = null;
             PreparedStatement statement = null;
             ResultSet resultSet = null;
             String sqlQuery = null;
+            ParameterizedQuery parameterizedQuery = null;
             try {
-                ParameterizedQuery parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
+                parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
                 sqlQuery = parameterizedQuery.getSqlQuery();
-                connection = SQLDatasource.getConnection(isWithInTrxBlock, trxResourceManager, client, sqlDatasource);
-                statement = connection.prepareStatement(sqlQuery);
-                statementParameterProcessor.setParams(connection, statement, parameterizedQuery.getInsertions());
-                resultSet = statement.executeQuery();
                 RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(
                         ((BTypedesc) recordType).getDescribingType());
-                List<ColumnDefinition> columnDefinitions = Utils.getColumnDefinitions(resultSet, streamConstraint);
+                ResultCache.Recorder recorder = null;
+                if (resultCache != null) {
+                    ResultCache.CacheKey cacheKey = resultCache.createKey(parameterizedQuery, streamConstraint,
+                            resultParameterProcessor, false);
+                    if (cacheKey != null) {
+                        List<Object> cachedRows = resultCache.get(cacheKey);
+                        if (cachedRows != null) {
+                            return getCachedStream(streamConstraint, cachedRows);
+                        }
+                        recorder = resultCache.newRecorder(cacheKey);
+                    }
+                }
+                connection = SQLDatasource.getConnection(isWithInTrxBlock, trxResourceManager, client, sqlDatasource);
+                statement = sqlDatasource.prepareStatement(connection, sqlQuery, Statement.NO_GENERATED_KEYS,
+                        isWithInTrxBlock);
+                statementParameterProcessor.setParams(connection, statement, parameterizedQuery);
+                queryOptions.apply(statement);
+                QueryTimeout.Watch watch = queryTimeout.watch(statement);
+                try {
+                    resultSet = statement.executeQuery();
+                } finally {
+                    watch.close();
+                }
+                List<ColumnDefinition> columnDefinitions = Utils.getColumnDefinitions(sqlQuery, resultSet,
+                        streamConstraint);
+                BObject recordIterator = resultParameterProcessor.createRecordIterator(resultSet, statement,
+                        connection, columnDefinitions, streamConstraint);
+                QueryTimeout.FetchWatch fetchWatch = queryTimeout.watchFetches(statement);
+                if (fetchWatch != null) {
+                    recordIterator.addNativeData(Constants.FETCH_WATCH_NATIVE_DATA_FIELD, fetchWatch);
+                }
+                // The connection of a transaction can be used by the strand while the stream is open, hence the rows
+                // are not prefetched in another thread
+                if (queryOptions.getPrefetchSize() > 0 && !isWithInTrxBlock) {
+                    recordIterator.addNativeData(Constants.PREFETCH_SIZE_NATIVE_DATA_FIELD,
+                            queryOptions.getPrefetchSize());
+                }
+                if (recorder != null) {
+                    recordIterator.addNativeData(Constants.RESULT_CACHE_RECORDER_NATIVE_DATA_FIELD, recorder);
+                }
+                // A small result is read into memory and a larger one into a temporary file, so that the connection
+                // is released before the stream is consumed
+                boolean released = false;
+                if (!isWithInTrxBlock && queryOptions.getBufferRows() > 0) {
+                    released = RecordIteratorUtils.bufferResult(recordIterator, resultParameterProcessor,
+                            queryOptions.getBufferRows(), queryOptions.getBufferBytes());
+                }
+                if (!isWithInTrxBlock && !released && queryOptions.getSpillBytes() > 0) {
+                    released = RecordIteratorUtils.spillResult(recordIterator, resultParameterProcessor,
+                            queryOptions.getSpillBytes());
+                }
+                StreamLeakTracker leakTracker = StreamLeakTracker.getTracker(client);
+                if (leakTracker != null && !released) {
+                    recordIterator.addNativeData(Constants.TRACKED_STREAM_NATIVE_DATA_FIELD, leakTracker.track(
+                            recordIterator, resultSet, statement, connection, !isWithInTrxBlock, allocationSite));
+                }
                 return ValueCreator.createStreamValue(TypeCreator.createStreamType(streamConstraint,
-                        PredefinedTypes.TYPE_NULL), resultParameterProcessor
-                        .createRecordIterator(resultSet, statement, connection, columnDefinitions, streamConstraint));
+                        PredefinedTypes.TYPE_NULL), recordIterator);
             } catch (SQLException e) {
                 Utils.closeResources(isWithInTrxBlock, resultSet, statement, connection);
-                BError errorValue = ErrorGenerator.getSQLDatabaseError(e,
+                BError errorValue = ErrorGenerator.getSQLDatabaseError(queryTimeout.translate(e),
                         String.format("Error while executing SQL query: %s. ", sqlQuery));
                 return getErrorStream(recordType, errorValue);
             } catch (ApplicationError applicationError) {
@@ -145,6 +243,10 @@ public class QueryProcessor {
                 BError errorValue = ErrorGenerator.getSQLApplicationError(
                         String.format("Error while executing SQL query: %s. %s", sqlQuery, message));
                 return getErrorStream(recordType, errorValue);
+            } finally {
+                if (parameterizedQuery != null) {
+                    parameterizedQuery.closeStreams();
+                }
             }
         } else {
             BError errorValue = ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
@@ -156,17 +258,18 @@ public class QueryProcessor {
                                         AbstractStatementParameterProcessor statementParameterProcessor,
                                         AbstractResultParameterProcessor resultParameterProcessor) {
         TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        QueryTimeout queryTimeout = QueryTimeout.getQueryTimeout(env, client);
         if (!Utils.isWithinTrxBlock(trxResourceManager)) {
+            ReplicaRouter replicaRouter = ReplicaRouter.getReadRouter(env, client);
+            // The results read from the replicas may lag behind the changes of the client
+            ResultCache resultCache = replicaRouter == null ? ResultCache.getResultCache(client) : null;
             Future balFuture = env.markAsync();
-            SQL_EXECUTOR_SERVICE.execute(() -> {
-                Object resultStream =
-                        nativeQueryRowExecutable(client, paramSQLString, bTypedesc, statementParameterProcessor,
-                                resultParameterProcessor, false, null);
-                balFuture.complete(resultStream);
-            });
+            SQLWorkerThreadPool.execute(balFuture, () -> nativeQueryRowExecutable(client, paramSQLString, bTypedesc,
+                    statementParameterProcessor, resultParameterProcessor, false, null, replicaRouter,
+                    resultCache, queryTimeout), errorValue -> errorValue);
         } else {
             return nativeQueryRowExecutable(client, paramSQLString, bTypedesc, statementParameterProcessor,
-                    resultParameterProcessor, true, trxResourceManager);
+                    resultParameterProcessor, true, trxResourceManager, null, null, queryTimeout);
         }
         return null;
     }
@@ -175,7 +278,8 @@ public class QueryProcessor {
             BObject client, BObject paramSQLString, BTypedesc ballerinaType,
             AbstractStatementParameterProcessor statementParameterProcessor,
             AbstractResultParameterProcessor resultParameterProcessor, boolean isWithInTrxBlock,
-            TransactionResourceManager trxResourceManager) {
+            TransactionResourceManager trxResourceManager, ReplicaRouter replicaRouter, ResultCache resultCache,
+            QueryTimeout queryTimeout) {
         Type describingType = TypeUtils.getReferredType(ballerinaType.getDescribingType());
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
@@ -184,29 +288,64 @@ public class QueryProcessor {
                 return ErrorGenerator.getSQLApplicationError(
                         "SQL Client is already closed, hence further operations are not allowed");
             }
+            if (replicaRouter != null) {
+                sqlDatasource = replicaRouter.selectReplica();
+            }
             Connection connection = null;
             PreparedStatement statement = null;
             ResultSet resultSet = null;
             String sqlQuery = null;
+            ParameterizedQuery parameterizedQuery = null;
             try {
-                ParameterizedQuery parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
+                parameterizedQuery = Utils.getParameterizedSQLQuery(paramSQLString);
                 sqlQuery = parameterizedQuery.getSqlQuery();
+                ResultCache.Recorder recorder = null;
+                if (resultCache != null) {
+                    ResultCache.CacheKey cacheKey = resultCache.createKey(parameterizedQuery, describingType,
+                            resultParameterProcessor, true);
+                    if (cacheKey != null) {
+                        List<Object> cachedRows = resultCache.get(cacheKey);
+                        if (cachedRows != null) {
+                            return ResultCache.copy(cachedRows.get(0));
+                        }
+                        recorder = resultCache.newRecorder(cacheKey);
+                    }
+                }
                 connection = SQLDatasource.getConnection(isWithInTrxBlock, trxResourceManager, client, sqlDatasource);
-                statement = connection.prepareStatement(sqlQuery);
-                statementParameterProcessor.setParams(connection, statement, parameterizedQuery.getInsertions());
-                resultSet = statement.executeQuery();
-                if (!resultSet.next()) {
+                statement = sqlDatasource.prepareStatement(connection, sqlQuery, Statement.NO_GENERATED_KEYS,
+                        isWithInTrxBlock);
+                statementParameterProcessor.setParams(connection, statement, parameterizedQuery);
+                // Only the first row is read, hence the driver does not need to fetch the rest
+                statement.setMaxRows(1);
+                // The row is fetched within the timeout of the query as well
+                QueryTimeout.Watch watch = queryTimeout.watch(statement);
+                boolean hasRow;
+                try {
+                    resultSet = statement.executeQuery();
+                    hasRow = resultSet.next();
+                } finally {
+                    watch.close();
+                }
+                if (!hasRow) {
                     return ErrorGenerator.getNoRowsError("Query did not retrieve any rows.");
                 }
 
+                Object result;
                 if (describingType.getTag() == TypeTags.UNION_TAG) {
-                    return getUnionTypeBValue((UnionType) describingType, resultSet, resultParameterProcessor);
+                    result = getUnionTypeBValue(sqlQuery, (UnionType) describingType, resultSet,
+                            resultParameterProcessor);
+                } else {
+                    // Return-type is either a record or a primitive
+                    result = getRecordOrPrimitiveTypeBValue(sqlQuery, describingType, resultSet,
+                            resultParameterProcessor);
                 }
-
-                // Return-type is either a record or a primitive
-                return getRecordOrPrimitiveTypeBValue(describingType, resultSet, resultParameterProcessor);
+                if (recorder != null) {
+                    recorder.add(result);
+                    recorder.complete();
+                }
+                return result;
             } catch (SQLException e) {
-                return ErrorGenerator.getSQLDatabaseError(e,
+                return ErrorGenerator.getSQLDatabaseError(queryTimeout.translate(e),
                         String.format("Error while executing SQL query: %s. ", sqlQuery));
             } catch (ApplicationError e) {
                 return ErrorGenerator.getSQLApplicationError(e);
@@ -219,6 +358,9 @@ public class QueryProcessor {
                         String.format("Error while executing SQL query: %s. %s", sqlQuery, message));
             } finally {
                 Utils.closeResources(isWithInTrxBlock, resultSet, statement, connection);
+                if (parameterizedQuery != null) {
+                    parameterizedQuery.closeStreams();
+                }
             }
         }
         return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
@@ -227,18 +369,18 @@ public class QueryProcessor {
     // This method iterates through each type in the union type and checks whether it is compatible with the result
     // from the query.
     private static Object getUnionTypeBValue(
-            UnionType describingType, ResultSet resultSet, AbstractResultParameterProcessor resultParameterProcessor)
-            throws SQLException, TypeMismatchError {
+            String sqlQuery, UnionType describingType, ResultSet resultSet,
+            AbstractResultParameterProcessor resultParameterProcessor) throws SQLException, TypeMismatchError {
         for (Type type: describingType.getMemberTypes()) {
             try {
                 Type referredType = TypeUtils.getReferredType(type);
                 // If one of the types inside the union is a union, recursively check
                 if (referredType.getTag() == TypeTags.UNION_TAG) {
-                    return getUnionTypeBValue(describingType, resultSet, resultParameterProcessor);
+                    return getUnionTypeBValue(sqlQuery, describingType, resultSet, resultParameterProcessor);
                 }
 
                 // Attempt to convert the query result to the current type
-                return getRecordOrPrimitiveTypeBValue(referredType, resultSet, resultParameterProcessor);
+                return getRecordOrPrimitiveTypeBValue(sqlQuery, referredType, resultSet, resultParameterProcessor);
             } catch (ApplicationError e) {
                 // Ignored
                 // If an ApplicationError is thrown, the type is not compatible with the query result. Hence, it is
@@ -252,11 +394,12 @@ public class QueryProcessor {
     }
 
     private static Object getRecordOrPrimitiveTypeBValue(
-            Type type, ResultSet resultSet, AbstractResultParameterProcessor resultParameterProcessor)
+            String sqlQuery, Type type, ResultSet resultSet, AbstractResultParameterProcessor resultParameterProcessor)
             throws SQLException, ApplicationError {
         if (type.getTag() == TypeTags.RECORD_TYPE_TAG && !Utils.isSupportedRecordType(type)) {
             RecordType recordConstraint = (RecordType) type;
-            List<ColumnDefinition> columnDefinitions = Utils.getColumnDefinitions(resultSet, recordConstraint);
+            List<ColumnDefinition> columnDefinitions = Utils.getColumnDefinitions(sqlQuery, resultSet,
+                    recordConstraint);
             return createRecord(resultSet, columnDefinitions, recordConstraint, resultParameterProcessor);
         }
 
@@ -274,6 +417,13 @@ public class QueryProcessor {
                         PredefinedTypes.TYPE_NULL), createRecordIterator(errorValue));
     }
 
+    private static BStream getCachedStream(RecordType streamConstraint, List<Object> cachedRows) {
+        BObject recordIterator = createRecordIterator(null);
+        recordIterator.addNativeData(Constants.CACHED_ROWS_NATIVE_DATA_FIELD, cachedRows.iterator());
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(streamConstraint,
+                PredefinedTypes.TYPE_NULL), recordIterator);
+    }
+
     private static BObject createRecordIterator(BError errorValue) {
         return ValueCreator.createObjectValue(ModuleUtils.getModule(), Constants.RESULT_ITERATOR_OBJECT,
                 errorValue, null);
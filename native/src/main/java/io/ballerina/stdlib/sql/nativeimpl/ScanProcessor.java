@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.datasource.ReplicaRouter;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.KeysetScan;
+import io.ballerina.stdlib.sql.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.utils.RecordIteratorUtils;
+import io.ballerina.stdlib.sql.utils.StreamLeakTracker;
+import io.ballerina.stdlib.sql.utils.Utils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * This class provides the implementation of the keyset-paginated scans of tables and queries.
+ *
+ * @since 1.10.0
+ */
+public class ScanProcessor {
+
+    private ScanProcessor() {
+    }
+
+    /**
+     * Scan the rows of a table or a query in pages ordered by a unique key.
+     *
+     * @param client       client object
+     * @param tableOrQuery name of the table, or the `sql:ParameterizedQuery` to be scanned
+     * @param keyColumn    name of the unique key column
+     * @param pageSize     maximum number of rows read by the query of a page
+     * @param recordType   type description of the result record
+     * @return result stream or error
+     */
+    public static BStream scan(Environment env, BObject client, Object tableOrQuery, BString keyColumn,
+                               long pageSize, BTypedesc recordType) {
+        return scan(env, client, tableOrQuery, keyColumn, pageSize, recordType,
+                DefaultStatementParameterProcessor.getInstance(), DefaultResultParameterProcessor.getInstance());
+    }
+
+    public static BStream scan(Environment env, BObject client, Object tableOrQuery, BString keyColumn,
+                               long pageSize, BTypedesc recordType,
+                               AbstractStatementParameterProcessor statementParameterProcessor,
+                               AbstractResultParameterProcessor resultParameterProcessor) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        Throwable allocationSite = StreamLeakTracker.captureAllocationSite(client);
+        if (!Utils.isWithinTrxBlock(trxResourceManager)) {
+            ReplicaRouter replicaRouter = ReplicaRouter.getReadRouter(env, client);
+            Future balFuture = env.markAsync();
+            SQLWorkerThreadPool.execute(balFuture, () -> scanExecutable(client, tableOrQuery, keyColumn, pageSize,
+                    recordType, statementParameterProcessor, resultParameterProcessor, false, null, replicaRouter,
+                    allocationSite), errorValue -> getErrorStream(recordType, errorValue));
+        } else {
+            return scanExecutable(client, tableOrQuery, keyColumn, pageSize, recordType, statementParameterProcessor,
+                    resultParameterProcessor, true, trxResourceManager, null, allocationSite);
+        }
+        return null;
+    }
+
+    private static BStream scanExecutable(
+            BObject client, Object tableOrQuery, BString keyColumn, long pageSize, BTypedesc recordType,
+            AbstractStatementParameterProcessor statementParameterProcessor,
+            AbstractResultParameterProcessor resultParameterProcessor, boolean isWithInTrxBlock,
+            TransactionResourceManager trxResourceManager, ReplicaRouter replicaRouter, Throwable allocationSite) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return getErrorStream(recordType,
+                    ErrorGenerator.getSQLApplicationError("Client is not properly initialized!"));
+        }
+        SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+        if (!((Boolean) client.getNativeData(Constants.DATABASE_CLIENT_ACTIVE_STATUS))) {
+            return getErrorStream(recordType, ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed"));
+        }
+        // All the pages are read from the same replica, so that the pages are consistent with each other
+        if (replicaRouter != null) {
+            sqlDatasource = replicaRouter.selectReplica();
+        }
+        BObject recordIterator = null;
+        String sqlQuery = null;
+        try {
+            KeysetScan keysetScan;
+            if (tableOrQuery instanceof BString) {
+                keysetScan = KeysetScan.create(client, sqlDatasource, ((BString) tableOrQuery).getValue(), null,
+                        keyColumn.getValue(), pageSize, statementParameterProcessor, isWithInTrxBlock,
+                        trxResourceManager);
+            } else {
+                ParameterizedQuery baseQuery = Utils.getParameterizedSQLQuery((BObject) tableOrQuery);
+                keysetScan = KeysetScan.create(client, sqlDatasource, null, baseQuery, keyColumn.getValue(),
+                        pageSize, statementParameterProcessor, isWithInTrxBlock, trxResourceManager);
+            }
+            sqlQuery = keysetScan.getSqlQuery();
+            RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(recordType.getDescribingType());
+            recordIterator = resultParameterProcessor.createRecordIterator(null, null, null, null, streamConstraint);
+            keysetScan.openNextPage(recordIterator);
+            ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+            // The column mapping of the first page is used for all the pages, as they have the same columns
+            List<ColumnDefinition> columnDefinitions = Utils.getColumnDefinitions(sqlQuery, resultSet,
+                    streamConstraint);
+            recordIterator.addNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD, columnDefinitions);
+            recordIterator.addNativeData(Constants.KEYSET_SCAN_NATIVE_DATA_FIELD, keysetScan);
+            StreamLeakTracker leakTracker = StreamLeakTracker.getTracker(client);
+            if (leakTracker != null) {
+                recordIterator.addNativeData(Constants.TRACKED_STREAM_NATIVE_DATA_FIELD, leakTracker.track(
+                        recordIterator, resultSet,
+                        (Statement) recordIterator.getNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD),
+                        (Connection) recordIterator.getNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD),
+                        !isWithInTrxBlock, allocationSite));
+            }
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(streamConstraint,
+                    PredefinedTypes.TYPE_NULL), recordIterator);
+        } catch (SQLException e) {
+            closeResult(recordIterator);
+            return getErrorStream(recordType, ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery)));
+        } catch (ApplicationError e) {
+            closeResult(recordIterator);
+            return getErrorStream(recordType, ErrorGenerator.getSQLApplicationError(e));
+        } catch (Throwable e) {
+            closeResult(recordIterator);
+            String message = e.getMessage();
+            if (message == null) {
+                message = e.getClass().getName();
+            }
+            return getErrorStream(recordType, ErrorGenerator.getSQLApplicationError(
+                    String.format("Error while executing SQL query: %s. %s", sqlQuery, message)));
+        }
+    }
+
+    private static void closeResult(BObject recordIterator) {
+        if (recordIterator != null) {
+            RecordIteratorUtils.closeResult(recordIterator);
+        }
+    }
+
+    private static BStream getErrorStream(BTypedesc recordType, BError errorValue) {
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.RESULT_ITERATOR_OBJECT, errorValue, null));
+    }
+}
@@ -34,9 +34,13 @@ import io.ballerina.stdlib.sql.utils.ModuleUtils;
 import io.ballerina.stdlib.sql.utils.PrimitiveTypeColumnDefinition;
 import io.ballerina.stdlib.sql.utils.Utils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -50,6 +54,7 @@ import java.sql.Statement;
 import java.sql.Struct;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.util.List;
@@ -359,13 +364,39 @@ public abstract class AbstractResultParameterProcessor {
 
     public Object processJsonResult(ResultSet resultSet, int columnIndex, int sqlType, Type ballerinaType)
             throws DataError, SQLException {
-        String jsonString = convertChar(
-                resultSet.getString(columnIndex), sqlType, ballerinaType).getValue();
-        Reader reader = new StringReader(jsonString);
-        try {
-            return JsonUtils.parse(reader, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        // The document is parsed from the stream of the column, without creating a string of the document
+        Reader reader;
+        switch (sqlType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                Utils.validatedInvalidFieldAssignment(sqlType, ballerinaType, "SQL String");
+                reader = resultSet.getCharacterStream(columnIndex);
+                break;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                InputStream inputStream = resultSet.getBinaryStream(columnIndex);
+                reader = inputStream == null ? null : new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+                break;
+            default:
+                BString jsonString = convertChar(resultSet.getString(columnIndex), sqlType, ballerinaType);
+                reader = jsonString == null ? null : new StringReader(jsonString.getValue());
+        }
+        if (reader == null) {
+            return null;
+        }
+        try (Reader jsonReader = reader) {
+            return JsonUtils.parse(jsonReader, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
         } catch (BError e) {
-            throw new ConversionError(columnIndex, jsonString, "JSON", e.getMessage());
+            throw new ConversionError(String.format("Retrieved column %d result could not be converted to 'JSON', " +
+                    "%s.", columnIndex, e.getMessage()));
+        } catch (IOException e) {
+            throw new ConversionError(String.format("Error while reading the JSON result of column %d: %s",
+                    columnIndex, e.getMessage()), e);
         }
     }
 
@@ -27,9 +27,12 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
 
+import java.io.Closeable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -43,6 +46,25 @@ import java.sql.Types;
  */
 public abstract class AbstractStatementParameterProcessor {
 
+    // Binders cannot be used by the processors which customise how the parameters are set
+    private static final ClassValue<Boolean> BINDERS_SUPPORTED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("setParams", Connection.class, PreparedStatement.class, Object[].class)
+                        .getDeclaringClass() == AbstractStatementParameterProcessor.class &&
+                        type.getMethod("setSQLValueParam", Connection.class, PreparedStatement.class, int.class,
+                                Object.class, boolean.class).getDeclaringClass() ==
+                                AbstractStatementParameterProcessor.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    // Query of which the parameters are being set by the current thread, to which the opened streams are registered
+    private static final ThreadLocal<ParameterizedQuery> BOUND_QUERY = new ThreadLocal<>();
+
     public abstract int getCustomOutParameterType(BObject typedValue) throws DataError, SQLException;
 
     protected abstract int getCustomSQLType(BObject typedValue) throws DataError, SQLException;
@@ -206,6 +228,93 @@ public abstract class AbstractStatementParameterProcessor {
         }
     }
 
+    /**
+     * Sets the parameters of the query using the binders of the query template. The binder of a parameter is only
+     * resolved again when the type of the value differs from the type the binder was resolved for.
+     *
+     * @param connection         connection of the statement
+     * @param preparedStatement  statement to which the parameters are set
+     * @param parameterizedQuery parameterized query
+     * @throws DataError    if a parameter value is invalid
+     * @throws SQLException if the driver fails to set a parameter
+     */
+    public void setParams(Connection connection, PreparedStatement preparedStatement,
+                          ParameterizedQuery parameterizedQuery) throws DataError, SQLException {
+        ParameterizedQuery previousQuery = BOUND_QUERY.get();
+        BOUND_QUERY.set(parameterizedQuery);
+        try {
+            setBoundParams(connection, preparedStatement, parameterizedQuery);
+        } finally {
+            resetBoundQuery(previousQuery);
+        }
+    }
+
+    /**
+     * Sets the parameters of a query with the given binding, registering the streams opened for the parameters to the
+     * query in the same way as {@link #setParams(Connection, PreparedStatement, ParameterizedQuery)}.
+     *
+     * @param parameterizedQuery parameterized query
+     * @param binding            binding which sets the parameters of the query
+     * @throws SQLException     if the driver fails to set a parameter
+     * @throws ApplicationError if a parameter value is invalid
+     */
+    public static void bindParams(ParameterizedQuery parameterizedQuery, Binding binding)
+            throws SQLException, ApplicationError {
+        ParameterizedQuery previousQuery = BOUND_QUERY.get();
+        BOUND_QUERY.set(parameterizedQuery);
+        try {
+            binding.bind();
+        } finally {
+            resetBoundQuery(previousQuery);
+        }
+    }
+
+    /**
+     * Registers a stream opened to set a parameter, which is closed once the statement of the query being bound is
+     * executed. A stream opened outside of a binding is only closed when it is fully read.
+     *
+     * @param stream stream of the parameter
+     */
+    protected static void addParameterStream(Closeable stream) {
+        ParameterizedQuery parameterizedQuery = BOUND_QUERY.get();
+        if (parameterizedQuery != null) {
+            parameterizedQuery.addStream(stream);
+        }
+    }
+
+    private static void resetBoundQuery(ParameterizedQuery previousQuery) {
+        if (previousQuery == null) {
+            BOUND_QUERY.remove();
+        } else {
+            BOUND_QUERY.set(previousQuery);
+        }
+    }
+
+    private void setBoundParams(Connection connection, PreparedStatement preparedStatement,
+                                ParameterizedQuery parameterizedQuery) throws DataError, SQLException {
+        Object[] insertions = parameterizedQuery.getInsertions();
+        ParameterBinder[] binders = parameterizedQuery.getParameterBinders();
+        if (binders == null || !BINDERS_SUPPORTED.get(getClass())) {
+            setParams(connection, preparedStatement, insertions);
+            return;
+        }
+        for (int i = 0; i < insertions.length; i++) {
+            Object object = insertions[i];
+            int index = i + 1;
+            // The binders are immutable, hence the binders resolved concurrently for a slot can replace each other
+            ParameterBinder binder = binders[i];
+            if (binder == null || !binder.matches(object)) {
+                binder = resolveBinder(object, index);
+                binders[i] = binder;
+            }
+            try {
+                binder.bind(this, connection, preparedStatement, index, object);
+            } catch (SQLException e) {
+                throw getParameterError(e, object);
+            }
+        }
+    }
+
     public int setSQLValueParam(Connection connection, PreparedStatement preparedStatement, int index, Object object,
                                 boolean returnType) throws DataError, SQLException {
         try {
@@ -229,38 +338,9 @@ public abstract class AbstractStatementParameterProcessor {
                 return Types.BOOLEAN;
             } else if (object instanceof BArray) {
                 BArray objectArray = (BArray) object;
-
+                getArraySetter(objectArray, index).set(this, connection, preparedStatement, index, objectArray);
                 // If the type passed is time:Utc
-                if (objectArray.getType().toString().equals(Constants.SqlTypes.UTC)) {
-                    setTimestamp(preparedStatement, objectArray.getType().getName(), index, objectArray);
-                    return Types.TIMESTAMP;
-                }
-
-                String type = objectArray.getElementType().toString();
-                if (objectArray.getElementType().getTag() == TypeTags.BYTE_TAG) {
-                    preparedStatement.setBytes(index, objectArray.getBytes());
-                } else if (objectArray.getElementType().getTag() == TypeTags.ARRAY_TAG ||
-                        type.equals(Constants.SqlTypes.OPTIONAL_BYTE) ||
-                        type.equals(Constants.SqlTypes.BYTE_ARRAY_TYPE)) {
-                    setBinaryArray(connection, preparedStatement, index, objectArray);
-                } else if (type.equals(Constants.SqlTypes.STRING) || type.equals(Constants.SqlTypes.OPTIONAL_STRING)) {
-                    setVarcharArray(connection, preparedStatement, index, objectArray);
-                } else if (type.equals(Constants.SqlTypes.INT) || type.equals(Constants.SqlTypes.OPTIONAL_INT)) {
-                    setIntegerArray(connection, preparedStatement, index, objectArray);
-                } else if (type.equals(Constants.SqlTypes.BOOLEAN_TYPE) ||
-                        type.equals(Constants.SqlTypes.OPTIONAL_BOOLEAN)) {
-                    setBooleanArray(connection, preparedStatement, index, objectArray);
-                } else if (type.equals(Constants.SqlTypes.FLOAT_TYPE) ||
-                        type.equals(Constants.SqlTypes.OPTIONAL_FLOAT)) {
-                    setFloatArray(connection, preparedStatement, index, objectArray);
-                } else if (type.equals(Constants.SqlTypes.DECIMAL_TYPE) ||
-                        type.equals(Constants.SqlTypes.OPTIONAL_DECIMAL)) {
-                    setDecimalArray(connection, preparedStatement, index, objectArray);
-                } else {
-                    // Cannot be reached as this is validated with `ArrayValueType` in ballerina
-                    throw new UnsupportedTypeError(type + "array type", index);
-                }
-                return Types.ARRAY;
+                return isUtc(objectArray) ? Types.TIMESTAMP : Types.ARRAY;
             } else if (object instanceof BObject) {
                 BObject objectValue = (BObject) object;
                 setSqlTypedParam(connection, preparedStatement, index, objectValue);
@@ -278,15 +358,94 @@ public abstract class AbstractStatementParameterProcessor {
                 throw new UnsupportedTypeError(object.getClass().getName(), index);
             }
         } catch (SQLException e) {
-            String msg = e.getMessage();
-            if (msg != null) {
-                if (msg.contains("data exception") || msg.contains("incompatible data type")) {
-                    throw new DataError(String.format("Error while constructing SQL query. %s: %s",
-                            e.getMessage(), object));
-                }
-                throw e;
-            }
-            throw e;
+            throw getParameterError(e, object);
+        }
+    }
+
+    private static SQLException getParameterError(SQLException e, Object object) throws DataError {
+        String msg = e.getMessage();
+        if (msg != null && (msg.contains("data exception") || msg.contains("incompatible data type"))) {
+            throw new DataError(String.format("Error while constructing SQL query. %s: %s", e.getMessage(), object));
+        }
+        return e;
+    }
+
+    private static ParameterBinder resolveBinder(Object object, int index) throws DataError {
+        ParameterBinder.Setter setter;
+        if (object == null) {
+            setter = (processor, conn, stmt, i, value) -> stmt.setNull(i, Types.NULL);
+        } else if (object instanceof BString) {
+            setter = (processor, conn, stmt, i, value) -> stmt.setString(i, value.toString());
+        } else if (object instanceof Long) {
+            setter = (processor, conn, stmt, i, value) -> stmt.setLong(i, (Long) value);
+        } else if (object instanceof Double) {
+            setter = (processor, conn, stmt, i, value) -> stmt.setDouble(i, (Double) value);
+        } else if (object instanceof BDecimal) {
+            setter = (processor, conn, stmt, i, value) -> stmt.setBigDecimal(i, ((BDecimal) value).decimalValue());
+        } else if (object instanceof Boolean) {
+            setter = (processor, conn, stmt, i, value) -> stmt.setBoolean(i, (Boolean) value);
+        } else if (object instanceof BArray) {
+            setter = getArraySetter((BArray) object, index);
+        } else if (object instanceof BObject) {
+            setter = getTypedValueSetter(TypeUtils.getType(object).getName());
+        } else if (object instanceof BXml) {
+            setter = (processor, conn, stmt, i, value) -> processor.setXml(conn, stmt, i, (BXml) value);
+        } else if (object instanceof BMap) {
+            setter = getRecordSetter(((BMap) object).getType().getName());
+        } else {
+            // Cannot be achieved since this is validated at compiler for `Value`
+            throw new UnsupportedTypeError(object.getClass().getName(), index);
+        }
+        return new ParameterBinder(object, setter);
+    }
+
+    private static boolean isUtc(BArray objectArray) {
+        return objectArray.getType().toString().equals(Constants.SqlTypes.UTC);
+    }
+
+    private static ParameterBinder.Setter getArraySetter(BArray objectArray, int index) throws DataError {
+        if (isUtc(objectArray)) {
+            String sqlType = objectArray.getType().getName();
+            return (processor, conn, stmt, i, value) -> processor.setTimestamp(stmt, sqlType, i, value);
+        }
+        String type = objectArray.getElementType().toString();
+        if (objectArray.getElementType().getTag() == TypeTags.BYTE_TAG) {
+            return (processor, conn, stmt, i, value) -> stmt.setBytes(i, ((BArray) value).getBytes());
+        } else if (objectArray.getElementType().getTag() == TypeTags.ARRAY_TAG ||
+                type.equals(Constants.SqlTypes.OPTIONAL_BYTE) ||
+                type.equals(Constants.SqlTypes.BYTE_ARRAY_TYPE)) {
+            return (processor, conn, stmt, i, value) -> processor.setBinaryArray(conn, stmt, i, value);
+        } else if (type.equals(Constants.SqlTypes.STRING) || type.equals(Constants.SqlTypes.OPTIONAL_STRING)) {
+            return (processor, conn, stmt, i, value) -> processor.setVarcharArray(conn, stmt, i, value);
+        } else if (type.equals(Constants.SqlTypes.INT) || type.equals(Constants.SqlTypes.OPTIONAL_INT)) {
+            return (processor, conn, stmt, i, value) -> processor.setIntegerArray(conn, stmt, i, value);
+        } else if (type.equals(Constants.SqlTypes.BOOLEAN_TYPE) ||
+                type.equals(Constants.SqlTypes.OPTIONAL_BOOLEAN)) {
+            return (processor, conn, stmt, i, value) -> processor.setBooleanArray(conn, stmt, i, value);
+        } else if (type.equals(Constants.SqlTypes.FLOAT_TYPE) ||
+                type.equals(Constants.SqlTypes.OPTIONAL_FLOAT)) {
+            return (processor, conn, stmt, i, value) -> processor.setFloatArray(conn, stmt, i, value);
+        } else if (type.equals(Constants.SqlTypes.DECIMAL_TYPE) ||
+                type.equals(Constants.SqlTypes.OPTIONAL_DECIMAL)) {
+            return (processor, conn, stmt, i, value) -> processor.setDecimalArray(conn, stmt, i, value);
+        }
+        // Cannot be reached as this is validated with `ArrayValueType` in ballerina
+        throw new UnsupportedTypeError(type + "array type", index);
+    }
+
+    private static ParameterBinder.Setter getRecordSetter(String sqlType) {
+        switch (sqlType) {
+            case Constants.SqlTypes.CIVIL:
+                return (processor, conn, stmt, i, value) ->
+                        processor.setTimestamp(stmt, Constants.SqlTypes.CIVIL, i, value);
+            case Constants.SqlTypes.DATE_RECORD:
+                return (processor, conn, stmt, i, value) ->
+                        processor.setDate(stmt, Constants.SqlTypes.DATE_RECORD, i, value);
+            case Constants.SqlTypes.TIME_RECORD:
+                return (processor, conn, stmt, i, value) ->
+                        processor.setTime(stmt, Constants.SqlTypes.TIME_RECORD, i, value);
+            default:
+                return (processor, conn, stmt, i, value) -> processor.setCustomBOpenRecord(conn, stmt, i, value, false);
         }
     }
 
@@ -294,154 +453,138 @@ public abstract class AbstractStatementParameterProcessor {
                                   BObject typedValue)
             throws DataError, SQLException {
         String sqlType = TypeUtils.getType(typedValue).getName();
-        Object value = typedValue.get(Constants.TypedValueFields.VALUE);
+        getTypedValueSetter(sqlType).set(this, connection, preparedStatement, index, typedValue);
+    }
+
+    private static ParameterBinder.Setter getTypedValueSetter(String sqlType) {
         switch (sqlType) {
             case Constants.SqlTypes.VARCHAR:
-                setVarchar(preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setVarchar(stmt, i, getValue(value));
             case Constants.SqlTypes.VARCHAR_ARRAY:
-                setVarcharArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setVarcharArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.CHAR:
-                setChar(preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setChar(stmt, i, getValue(value));
             case Constants.SqlTypes.CHAR_ARRAY:
-                setCharArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setCharArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.TEXT:
-                setText(preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setText(stmt, i, getValue(value));
             case Constants.SqlTypes.NCHAR:
-                setNChar(preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setNChar(stmt, i, getValue(value));
             case Constants.SqlTypes.NVARCHAR_ARRAY:
-                setNVarcharArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setNVarcharArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.NVARCHAR:
-                setNVarchar(preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setNVarchar(stmt, i, getValue(value));
             case Constants.SqlTypes.BIT:
-                setBit(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setBit(stmt, Constants.SqlTypes.BIT, i, getValue(value));
             case Constants.SqlTypes.BIT_ARRAY:
-                setBitArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setBitArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.BOOLEAN:
-                setBoolean(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setBoolean(stmt, Constants.SqlTypes.BOOLEAN, i, getValue(value));
             case Constants.SqlTypes.BOOLEAN_ARRAY:
-                setBooleanArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setBooleanArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.INTEGER:
-                setInteger(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setInteger(stmt, Constants.SqlTypes.INTEGER, i, getValue(value));
             case Constants.SqlTypes.INTEGER_ARRAY:
-                setIntegerArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setIntegerArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.BIGINT:
-                setBigInt(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setBigInt(stmt, Constants.SqlTypes.BIGINT, i, getValue(value));
             case Constants.SqlTypes.BIGINT_ARRAY:
-                setBigIntArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setBigIntArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.SMALLINT:
-                setSmallInt(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setSmallInt(stmt, Constants.SqlTypes.SMALLINT, i, getValue(value));
             case Constants.SqlTypes.SMALLINT_ARRAY:
-                setSmallIntArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setSmallIntArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.FLOAT:
-                setFloat(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setFloat(stmt, Constants.SqlTypes.FLOAT, i, getValue(value));
             case Constants.SqlTypes.FLOAT_ARRAY:
-                setFloatArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setFloatArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.REAL:
-                setReal(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setReal(stmt, Constants.SqlTypes.REAL, i, getValue(value));
             case Constants.SqlTypes.REAL_ARRAY:
-                setRealArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setRealArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.DOUBLE:
-                setDouble(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setDouble(stmt, Constants.SqlTypes.DOUBLE, i, getValue(value));
             case Constants.SqlTypes.DOUBLE_ARRAY:
-                setDoubleArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setDoubleArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.NUMERIC:
-                setNumeric(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setNumeric(stmt, Constants.SqlTypes.NUMERIC, i, getValue(value));
             case Constants.SqlTypes.NUMERIC_ARRAY:
-                setNumericArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setNumericArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.DECIMAL:
-                setDecimal(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setDecimal(stmt, Constants.SqlTypes.DECIMAL, i, getValue(value));
             case Constants.SqlTypes.DECIMAL_ARRAY:
-                setDecimalArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setDecimalArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.BINARY:
-                setBinary(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setBinary(stmt, Constants.SqlTypes.BINARY, i, getValue(value));
             case Constants.SqlTypes.BINARY_ARRAY:
-                setBinaryArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setBinaryArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.VARBINARY:
-                setVarBinary(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setVarBinary(stmt, Constants.SqlTypes.VARBINARY, i, getValue(value));
             case Constants.SqlTypes.VARBINARY_ARRAY:
-                setVarBinaryArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setVarBinaryArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.BLOB:
-                setBlob(preparedStatement, sqlType, index, value);
-                break;
+            case Constants.SqlTypes.BLOB_FILE:
+                return (processor, conn, stmt, i, value) ->
+                        processor.setBlob(stmt, Constants.SqlTypes.BLOB, i, getValue(value));
             case Constants.SqlTypes.CLOB:
-                setClob(connection, preparedStatement, sqlType, index, value);
-                break;
+            case Constants.SqlTypes.CLOB_FILE:
+                return (processor, conn, stmt, i, value) ->
+                        processor.setClob(conn, stmt, Constants.SqlTypes.CLOB, i, getValue(value));
             case Constants.SqlTypes.NCLOB:
-                setNClob(connection, preparedStatement, sqlType, index, value);
-                break;
+            case Constants.SqlTypes.NCLOB_FILE:
+                return (processor, conn, stmt, i, value) ->
+                        processor.setNClob(conn, stmt, Constants.SqlTypes.NCLOB, i, getValue(value));
             case Constants.SqlTypes.DATE:
-                setDate(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setDate(stmt, Constants.SqlTypes.DATE, i, getValue(value));
             case Constants.SqlTypes.DATE_ARRAY:
-                setDateArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setDateArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.TIME:
-                setTime(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setTime(stmt, Constants.SqlTypes.TIME, i, getValue(value));
             case Constants.SqlTypes.TIME_ARRAY:
-                setTimeArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setTimeArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.TIMESTAMP:
-                setTimestamp(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setTimestamp(stmt, Constants.SqlTypes.TIMESTAMP, i, getValue(value));
             case Constants.SqlTypes.TIMESTAMP_ARRAY:
-                setTimestampArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setTimestampArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.DATETIME:
-                setDateTime(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setDateTime(stmt, Constants.SqlTypes.DATETIME, i, getValue(value));
             case Constants.SqlTypes.DATETIME_ARRAY:
-                setDateTimeArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setDateTimeArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.ARRAY:
-                setArray(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setArray(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.REF:
-                setRef(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setRef(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.STRUCT:
-                setStruct(connection, preparedStatement, index, value);
-                break;
+                return (processor, conn, stmt, i, value) -> processor.setStruct(conn, stmt, i, getValue(value));
             case Constants.SqlTypes.ROW:
-                setRow(preparedStatement, sqlType, index, value);
-                break;
+                return (processor, conn, stmt, i, value) ->
+                        processor.setRow(stmt, Constants.SqlTypes.ROW, i, getValue(value));
             default:
-                setCustomSqlTypedParam(connection, preparedStatement, index, typedValue);
+                return (processor, conn, stmt, i, value) ->
+                        processor.setCustomSqlTypedParam(conn, stmt, i, (BObject) value);
         }
     }
 
+    private static Object getValue(Object typedValue) {
+        return ((BObject) typedValue).get(Constants.TypedValueFields.VALUE);
+    }
+
     private int getSQLType(BObject typedValue) throws DataError, SQLException {
         String sqlType = TypeUtils.getType(typedValue).getName();
         int sqlTypeValue;
@@ -496,6 +639,7 @@ public abstract class AbstractStatementParameterProcessor {
                 sqlTypeValue = Types.VARBINARY;
                 break;
             case Constants.SqlTypes.BLOB:
+            case Constants.SqlTypes.BLOB_FILE:
                 if (typedValue instanceof BArray) {
                     sqlTypeValue = Types.VARBINARY;
                 } else {
@@ -504,6 +648,8 @@ public abstract class AbstractStatementParameterProcessor {
                 break;
             case Constants.SqlTypes.CLOB:
             case Constants.SqlTypes.NCLOB:
+            case Constants.SqlTypes.CLOB_FILE:
+            case Constants.SqlTypes.NCLOB_FILE:
                 if (typedValue instanceof BString) {
                     sqlTypeValue = Types.CLOB;
                 } else {
@@ -582,4 +728,13 @@ public abstract class AbstractStatementParameterProcessor {
         }
         return sqlTypeValue;
     }
+
+    /**
+     * Sets the parameters of a query to a statement.
+     */
+    @FunctionalInterface
+    public interface Binding {
+
+        void bind() throws SQLException, ApplicationError;
+    }
 }
@@ -35,6 +35,7 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.exception.ConversionError;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.FieldMismatchError;
 import io.ballerina.stdlib.sql.exception.TypeMismatchError;
@@ -451,7 +452,12 @@ public class DefaultResultParameterProcessor extends AbstractResultParameterProc
     public Object convertBlob(Blob value, int sqlType, Type type) throws DataError, SQLException {
         Utils.validatedInvalidFieldAssignment(sqlType, type, "SQL Blob");
         if (value != null) {
-            return ValueCreator.createArrayValue(value.getBytes(1L, (int) value.length()));
+            long length = value.length();
+            if (length > Integer.MAX_VALUE) {
+                throw new ConversionError(String.format("Retrieved BLOB of %d bytes is too large to be read as a " +
+                        "byte array, use `sql:streamBlob` to read it in chunks.", length));
+            }
+            return ValueCreator.createArrayValue(value.getBytes(1L, (int) length));
         } else {
             return null;
         }
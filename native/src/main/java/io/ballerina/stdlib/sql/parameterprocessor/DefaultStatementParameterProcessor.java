@@ -42,13 +42,20 @@ import io.ballerina.stdlib.sql.Constants;
 import io.ballerina.stdlib.sql.exception.ConversionError;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.TypeMismatchError;
+import io.ballerina.stdlib.sql.utils.LobFileInputStream;
+import io.ballerina.stdlib.sql.utils.ModuleUtils;
 import io.ballerina.stdlib.sql.utils.Utils;
 import io.ballerina.stdlib.time.util.TimeValueHandler;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.sql.Array;
 import java.sql.Clob;
 import java.sql.Connection;
@@ -707,25 +714,61 @@ public class DefaultStatementParameterProcessor extends AbstractStatementParamet
             } else {
                 throw Utils.throwInvalidParameterError(value, sqlType);
             }
+        } else if (value instanceof BMap && isLobFile((BMap<?, ?>) value)) {
+            String path = getLobFileField((BMap<?, ?>) value, Constants.LobFile.PATH);
+            try {
+                long size = Files.size(Paths.get(path));
+                preparedStatement.setBinaryStream(index, openLobFile(path), size);
+            } catch (IOException | InvalidPathException e) {
+                throw new DataError(String.format("Error when reading the file '%s'.", path), e);
+            }
         } else {
             throw Utils.throwInvalidParameterError(value, sqlType);
         }
     }
 
+    private static boolean isLobFile(BMap<?, ?> value) {
+        return value.getType().getName().equals(Constants.LobFile.RECORD_NAME) &&
+                value.getType().getPackage().equals(ModuleUtils.getModule());
+    }
+
+    private static String getLobFileField(BMap<?, ?> lobFile, BString field) {
+        return ((BString) lobFile.get(field)).getValue();
+    }
+
+    private static LobFileInputStream openLobFile(String path) throws IOException {
+        LobFileInputStream stream = new LobFileInputStream(path);
+        addParameterStream(stream);
+        return stream;
+    }
+
     private void setClobAndNclob(Connection connection, PreparedStatement preparedStatement, String sqlType, int index,
                                  Object value) throws SQLException, DataError {
         Clob clob;
         if (value == null) {
             preparedStatement.setNull(index, Types.CLOB);
         } else {
-            if (sqlType.equalsIgnoreCase(Constants.SqlTypes.NCLOB)) {
-                clob = connection.createNClob();
-            } else {
-                clob = connection.createClob();
-            }
             if (value instanceof BString) {
+                if (sqlType.equalsIgnoreCase(Constants.SqlTypes.NCLOB)) {
+                    clob = connection.createNClob();
+                } else {
+                    clob = connection.createClob();
+                }
                 clob.setString(1, value.toString());
                 preparedStatement.setClob(index, clob);
+            } else if (value instanceof BMap && isLobFile((BMap<?, ?>) value)) {
+                BMap<?, ?> lobFile = (BMap<?, ?>) value;
+                String path = getLobFileField(lobFile, Constants.LobFile.PATH);
+                String encoding = getLobFileField(lobFile, Constants.LobFile.ENCODING);
+                try {
+                    Charset charset = Charset.forName(encoding);
+                    preparedStatement.setCharacterStream(index, new InputStreamReader(openLobFile(path), charset));
+                } catch (IOException e) {
+                    throw new DataError(String.format("Error when reading the file '%s'.", path), e);
+                } catch (IllegalArgumentException e) {
+                    throw new DataError(String.format("Unsupported encoding '%s' of the file '%s'.", encoding,
+                            path), e);
+                }
             } else if (value instanceof BObject) {
                 BObject objectValue = (BObject) value;
                 ObjectType objectValueType = (ObjectType) TypeUtils.getReferredType(((BValue) objectValue).getType());
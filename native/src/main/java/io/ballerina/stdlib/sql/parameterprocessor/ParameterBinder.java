@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.parameterprocessor;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BValue;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * This class holds the setter resolved for a parameter of a query, along with the type of the value it was resolved
+ * for. The setter is reused for the values of the parameter with the same type, so that the type of the value is
+ * not matched against the SQL types on each execution.
+ *
+ * @since 1.10.0
+ */
+public final class ParameterBinder {
+
+    private final Class<?> valueClass;
+    private final Type valueType;
+    private final Setter setter;
+
+    ParameterBinder(Object value, Setter setter) {
+        this.valueClass = value == null ? null : value.getClass();
+        this.valueType = isTypedValue(value) ? ((BValue) value).getType() : null;
+        this.setter = setter;
+    }
+
+    /**
+     * Checks whether the binder can be used for the given value. Arrays, typed values and records are matched by
+     * their type, while other values are matched by their class.
+     *
+     * @param value value of the parameter
+     * @return true if the binder was resolved for the type of the value
+     */
+    boolean matches(Object value) {
+        if (value == null) {
+            return valueClass == null;
+        }
+        return value.getClass() == valueClass && (valueType == null || ((BValue) value).getType() == valueType);
+    }
+
+    void bind(AbstractStatementParameterProcessor processor, Connection connection,
+              PreparedStatement preparedStatement, int index, Object value) throws DataError, SQLException {
+        setter.set(processor, connection, preparedStatement, index, value);
+    }
+
+    private static boolean isTypedValue(Object value) {
+        return value instanceof BArray || value instanceof BObject || value instanceof BMap;
+    }
+
+    /**
+     * Sets the value of a parameter to the prepared statement.
+     */
+    @FunctionalInterface
+    interface Setter {
+
+        void set(AbstractStatementParameterProcessor processor, Connection connection,
+                 PreparedStatement preparedStatement, int index, Object value) throws DataError, SQLException;
+    }
+}
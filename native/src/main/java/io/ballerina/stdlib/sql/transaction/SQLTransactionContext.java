@@ -23,6 +23,8 @@ import io.ballerina.runtime.transactions.BallerinaTransactionContext;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.transaction.xa.XAResource;
 
@@ -34,6 +36,7 @@ import javax.transaction.xa.XAResource;
 public class SQLTransactionContext implements BallerinaTransactionContext {
     private Connection conn;
     private XAResource xaResource;
+    private final List<Runnable> completionActions = new ArrayList<>();
 
     public SQLTransactionContext(Connection conn, XAResource resource) {
         this.conn = conn;
@@ -68,6 +71,16 @@ public class SQLTransactionContext implements BallerinaTransactionContext {
         }
     }
 
+    /**
+     * Adds an action which is run once the transaction is committed or rolled back.
+     *
+     * @param action action to be run
+     */
+    public void addCompletionAction(Runnable action) {
+        completionActions.add(action);
+    }
+
+    // The context is closed after the commit or the rollback of both local and XA transactions
     @Override
     public void close() {
         try {
@@ -76,6 +89,11 @@ public class SQLTransactionContext implements BallerinaTransactionContext {
             }
         } catch (SQLException e) {
             throw ErrorCreator.createError(StringUtils.fromString("connection close failed:" + e.getMessage()));
+        } finally {
+            for (Runnable action : completionActions) {
+                action.run();
+            }
+            completionActions.clear();
         }
     }
 
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.ParameterizedQuery.StatementType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class represents the queries of a batch execution which share the same SQL and are executed as a single
+ * prepared batch. By default, only an adjacent run of queries forms a group, as the order of the batch may be required
+ * by constraints between the tables, such as foreign keys, which cannot be read from the SQL of the queries.
+ * <p>
+ * When grouping by SQL is enabled, a query joins the last group of its SQL only if it does not depend on the queries
+ * of the groups created after that group, as those queries are executed after it. Two queries depend on each other if
+ * one of them modifies a table which is used by the other. The tables are read from the SQL of the DML queries, and
+ * any other query is executed in the order of the batch.
+ *
+ * @since 1.10.0
+ */
+public class BatchGroup {
+
+    private final String sqlQuery;
+    private final StatementType statementType;
+    private final List<Integer> queryIndexes = new ArrayList<>();
+    private final Set<String> modifiedTables = new HashSet<>();
+    private final Set<String> usedTables = new HashSet<>();
+    private boolean ordered = false;
+
+    private BatchGroup(ParameterizedQuery parameterizedQuery) {
+        this.sqlQuery = parameterizedQuery.getSqlQuery();
+        this.statementType = parameterizedQuery.getStatementType();
+    }
+
+    /**
+     * Groups the queries of a batch which have the same SQL.
+     *
+     * @param parameterizedQueries queries of the batch
+     * @param groupBySql           whether the queries with the same SQL are grouped even if they are not adjacent
+     * @return groups in the order of execution
+     */
+    public static List<BatchGroup> group(List<ParameterizedQuery> parameterizedQueries, boolean groupBySql) {
+        List<BatchGroup> groups = new ArrayList<>();
+        Map<String, Integer> lastGroupIndexes = new HashMap<>();
+        Map<String, TableUsage> tableUsages = new HashMap<>();
+        for (int queryIndex = 0; queryIndex < parameterizedQueries.size(); queryIndex++) {
+            ParameterizedQuery parameterizedQuery = parameterizedQueries.get(queryIndex);
+            String sqlQuery = parameterizedQuery.getSqlQuery();
+            TableUsage tableUsage = null;
+            Integer groupIndex = lastGroupIndexes.get(sqlQuery);
+            if (groupBySql) {
+                tableUsage = tableUsages.computeIfAbsent(sqlQuery, sql ->
+                        parameterizedQuery.getStatementType() == StatementType.DML ? TableUsage.of(sql) : null);
+            } else if (groupIndex != null && groupIndex != groups.size() - 1) {
+                groupIndex = null;
+            }
+            if (groupIndex == null || !canJoin(groups, groupIndex, tableUsage)) {
+                groupIndex = groups.size();
+                groups.add(new BatchGroup(parameterizedQuery));
+                lastGroupIndexes.put(sqlQuery, groupIndex);
+            }
+            groups.get(groupIndex).add(queryIndex, tableUsage);
+        }
+        return groups;
+    }
+
+    private static boolean canJoin(List<BatchGroup> groups, int groupIndex, TableUsage tableUsage) {
+        for (int i = groupIndex + 1; i < groups.size(); i++) {
+            if (tableUsage == null || groups.get(i).dependsOn(tableUsage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(int queryIndex, TableUsage tableUsage) {
+        queryIndexes.add(queryIndex);
+        if (tableUsage == null) {
+            ordered = true;
+        } else {
+            modifiedTables.addAll(tableUsage.modifiedTables);
+            usedTables.addAll(tableUsage.usedTables);
+        }
+    }
+
+    private boolean dependsOn(TableUsage tableUsage) {
+        if (ordered) {
+            return true;
+        }
+        for (String table : tableUsage.modifiedTables) {
+            if (usedTables.contains(table)) {
+                return true;
+            }
+        }
+        for (String table : modifiedTables) {
+            if (tableUsage.usedTables.contains(table)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getSqlQuery() {
+        return sqlQuery;
+    }
+
+    public StatementType getStatementType() {
+        return statementType;
+    }
+
+    /**
+     * Returns the indexes of the queries of the group in the batch, in ascending order.
+     *
+     * @return indexes of the queries
+     */
+    public List<Integer> getQueryIndexes() {
+        return queryIndexes;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class decides the number of statements sent to the database in a single `executeBatch` call of a batch
+ * execution. In the adaptive mode, the batch size is tuned within the given bounds by measuring the throughput of
+ * each batch, growing the batch size while the throughput improves and shrinking it when the throughput drops.
+ *
+ * @since 1.10.0
+ */
+public class BatchSizeController {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final double ADAPTIVE_STEP = 1.25;
+
+    private final boolean adaptive;
+    private final boolean groupBySql;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private int batchSize;
+    private boolean growing = true;
+    private double previousRowsPerSecond = 0;
+    private double lastRowsPerSecond = 0;
+    private long executedBatchCount = 0;
+
+    public BatchSizeController(int batchSize, boolean adaptive, int minBatchSize, int maxBatchSize) {
+        this(batchSize, adaptive, minBatchSize, maxBatchSize, false);
+    }
+
+    public BatchSizeController(int batchSize, boolean adaptive, int minBatchSize, int maxBatchSize,
+                               boolean groupBySql) {
+        this.adaptive = adaptive;
+        this.groupBySql = groupBySql;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = adaptive ? Math.max(minBatchSize, Math.min(maxBatchSize, batchSize)) : batchSize;
+    }
+
+    /**
+     * Creates a batch size controller from the `sql:BatchSizeConfig` record.
+     *
+     * @param config batch size configurations
+     * @return batch size controller
+     * @throws ApplicationError if the configurations are invalid
+     */
+    public static BatchSizeController fromConfig(BMap<BString, Object> config) throws ApplicationError {
+        long batchSize = config.getIntValue(Constants.BatchSizeConfig.BATCH_SIZE);
+        boolean adaptive = config.getBooleanValue(Constants.BatchSizeConfig.ADAPTIVE);
+        long minBatchSize = config.getIntValue(Constants.BatchSizeConfig.MIN_BATCH_SIZE);
+        long maxBatchSize = config.getIntValue(Constants.BatchSizeConfig.MAX_BATCH_SIZE);
+        boolean groupBySql = config.getBooleanValue(Constants.BatchSizeConfig.GROUP_BY_SQL);
+        if (batchSize < 1 || batchSize > Integer.MAX_VALUE) {
+            throw new ApplicationError("BatchSizeConfig field 'batchSize' must be between 1 and " +
+                    Integer.MAX_VALUE + ".");
+        }
+        if (adaptive) {
+            if (minBatchSize < 1) {
+                throw new ApplicationError("BatchSizeConfig field 'minBatchSize' must be greater than zero.");
+            }
+            if (maxBatchSize < minBatchSize || maxBatchSize > Integer.MAX_VALUE) {
+                throw new ApplicationError("BatchSizeConfig field 'maxBatchSize' must be between 'minBatchSize' " +
+                        "and " + Integer.MAX_VALUE + ".");
+            }
+        }
+        return new BatchSizeController((int) batchSize, adaptive, (int) minBatchSize, (int) maxBatchSize,
+                groupBySql);
+    }
+
+    /**
+     * Returns the batch size controller of the client. A controller with the default batch size is created if the
+     * batch size is not configured for the client.
+     *
+     * @param client client object
+     * @return batch size controller of the client
+     */
+    public static BatchSizeController getBatchSizeController(BObject client) {
+        synchronized (client) {
+            BatchSizeController controller =
+                    (BatchSizeController) client.getNativeData(Constants.BATCH_SIZE_CONTROLLER_NATIVE_DATA_FIELD);
+            if (controller == null) {
+                controller = new BatchSizeController(DEFAULT_BATCH_SIZE, false, DEFAULT_BATCH_SIZE,
+                        DEFAULT_BATCH_SIZE);
+                client.addNativeData(Constants.BATCH_SIZE_CONTROLLER_NATIVE_DATA_FIELD, controller);
+            }
+            return controller;
+        }
+    }
+
+    /**
+     * Returns whether the queries of a batch with the same SQL are executed together even if they are not adjacent.
+     *
+     * @return true if the queries are grouped by their SQL
+     */
+    public boolean isGroupBySql() {
+        return groupBySql;
+    }
+
+    public synchronized int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Records the execution of a batch and, in the adaptive mode, decides the size of the next batch. Only the
+     * batches with the current batch size are used to tune the size, as the last batch of an execution is smaller.
+     *
+     * @param rowCount     number of statements in the batch
+     * @param elapsedNanos time taken to execute the batch
+     */
+    public synchronized void recordBatch(int rowCount, long elapsedNanos) {
+        if (rowCount == 0) {
+            return;
+        }
+        executedBatchCount++;
+        if (elapsedNanos <= 0) {
+            return;
+        }
+        lastRowsPerSecond = rowCount * 1_000_000_000.0 / elapsedNanos;
+        if (!adaptive || rowCount < batchSize) {
+            return;
+        }
+        if (lastRowsPerSecond < previousRowsPerSecond) {
+            growing = !growing;
+        }
+        previousRowsPerSecond = lastRowsPerSecond;
+        long nextBatchSize = growing ? (long) Math.ceil(batchSize * ADAPTIVE_STEP) : (long) (batchSize / ADAPTIVE_STEP);
+        batchSize = (int) Math.max(minBatchSize, Math.min(maxBatchSize, nextBatchSize));
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.BatchSizeStats.BATCH_SIZE, (long) batchSize);
+        stats.put(Constants.BatchSizeStats.ADAPTIVE, adaptive);
+        stats.put(Constants.BatchSizeStats.EXECUTED_BATCH_COUNT, executedBatchCount);
+        stats.put(Constants.BatchSizeStats.LAST_ROWS_PER_SECOND, lastRowsPerSecond);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.BatchSizeStats.RECORD_NAME, stats);
+    }
+}
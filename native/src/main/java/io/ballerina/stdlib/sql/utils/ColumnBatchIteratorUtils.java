@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.Constants;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static io.ballerina.stdlib.sql.utils.Utils.cleanUpConnection;
+
+/**
+ * This class provides functionality for the `ColumnBatchIterator` to iterate through the sql result set in chunks.
+ *
+ * @since 1.10.0
+ */
+public class ColumnBatchIteratorUtils {
+    private ColumnBatchIteratorUtils() {
+    }
+
+    public static Object nextColumnBatch(BObject columnBatchIterator) {
+        ResultSet resultSet = (ResultSet) columnBatchIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        ColumnBatchReader columnBatchReader = (ColumnBatchReader) columnBatchIterator.getNativeData(
+                Constants.COLUMN_BATCH_READER_NATIVE_DATA_FIELD);
+        try {
+            BMap<BString, Object> columnBatch = columnBatchReader.readBatch(resultSet);
+            if (columnBatch != null) {
+                return columnBatch;
+            }
+            // Stream has reached the end, we clean up the resources, here any error from closing the stream is ignored.
+            closeColumnBatchResult(columnBatchIterator);
+            return null;
+        } catch (SQLException e) {
+            // Stream throws an error, we clean up the resources, here any error from closing the stream is ignored.
+            closeColumnBatchResult(columnBatchIterator);
+            return ErrorGenerator.getSQLDatabaseError(e, "Error when iterating the SQL result");
+        } catch (Throwable throwable) {
+            // Stream throws an error, we clean up the resources, here any error from closing the stream is ignored.
+            closeColumnBatchResult(columnBatchIterator);
+            return ErrorGenerator.getSQLApplicationError("Error when iterating through the " +
+                    "SQL result. " + throwable.getMessage());
+        }
+    }
+
+    public static Object closeColumnBatchResult(BObject columnBatchIterator) {
+        ResultSet resultSet = (ResultSet) columnBatchIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        Statement statement = (Statement) columnBatchIterator.getNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD);
+        Connection connection = (Connection) columnBatchIterator.getNativeData(
+                Constants.CONNECTION_NATIVE_DATA_FIELD);
+        return cleanUpConnection(columnBatchIterator, resultSet, statement, connection);
+    }
+}
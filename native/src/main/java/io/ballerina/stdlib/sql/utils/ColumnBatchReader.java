@@ -0,0 +1,302 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.Constants;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class reads the rows of a result set in chunks and fills a primitive array per column, so that no record is
+ * created per row. The ballerina type of each column is resolved once from the result set metadata. The arrays grow
+ * with the rows read, hence a large chunk size does not allocate memory for the rows which are not in the result.
+ *
+ * @since 1.10.0
+ */
+public class ColumnBatchReader {
+
+    static final int INT_COLUMN = 0;
+    static final int FLOAT_COLUMN = 1;
+    static final int DECIMAL_COLUMN = 2;
+    static final int BOOLEAN_COLUMN = 3;
+    static final int STRING_COLUMN = 4;
+    static final int BYTES_COLUMN = 5;
+    static final int DATE_COLUMN = 6;
+    static final int TIME_COLUMN = 7;
+    static final int TIME_WITH_TIMEZONE_COLUMN = 8;
+    static final int TIMESTAMP_COLUMN = 9;
+    static final int TIMESTAMP_WITH_TIMEZONE_COLUMN = 10;
+
+    static final int INITIAL_CAPACITY = 256;
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    private final int chunkSize;
+    private final String[] columnNames;
+    private final int[] columnKinds;
+
+    public ColumnBatchReader(ResultSetMetaData metaData, int chunkSize) throws SQLException {
+        this.chunkSize = chunkSize;
+        int columnCount = metaData.getColumnCount();
+        this.columnNames = new String[columnCount];
+        this.columnKinds = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = metaData.getColumnLabel(i + 1);
+            columnKinds[i] = getColumnKind(metaData.getColumnType(i + 1));
+        }
+    }
+
+    static int getColumnKind(int sqlType) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return INT_COLUMN;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return FLOAT_COLUMN;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return DECIMAL_COLUMN;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return BOOLEAN_COLUMN;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return BYTES_COLUMN;
+            case Types.DATE:
+                return DATE_COLUMN;
+            case Types.TIME:
+                return TIME_COLUMN;
+            case Types.TIME_WITH_TIMEZONE:
+                return TIME_WITH_TIMEZONE_COLUMN;
+            case Types.TIMESTAMP:
+                return TIMESTAMP_COLUMN;
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return TIMESTAMP_WITH_TIMEZONE_COLUMN;
+            default:
+                return STRING_COLUMN;
+        }
+    }
+
+    /**
+     * Reads the next chunk of rows from the result set.
+     *
+     * @param resultSet result set positioned before the next row
+     * @return the `sql:ColumnBatch` of the chunk, or null if the result set has no more rows
+     * @throws SQLException if the rows cannot be read
+     */
+    public BMap<BString, Object> readBatch(ResultSet resultSet) throws SQLException {
+        Chunk chunk = readChunk(resultSet);
+        if (chunk.rowCount == 0) {
+            return null;
+        }
+        int columnCount = columnKinds.length;
+        Object[] columns = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            Map<String, Object> column = new HashMap<>();
+            column.put(Constants.ColumnVector.NAME, StringUtils.fromString(columnNames[i]));
+            column.put(Constants.ColumnVector.VALUES, createArray(columnKinds[i], chunk.values[i], chunk.rowCount));
+            column.put(Constants.ColumnVector.NULLS, chunk.nulls[i] == null ? null :
+                    createArray(BOOLEAN_COLUMN, chunk.nulls[i], chunk.rowCount));
+            columns[i] = ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ColumnVector.RECORD_NAME,
+                    column);
+        }
+        Map<String, Object> batch = new HashMap<>();
+        batch.put(Constants.ColumnBatch.ROW_COUNT, (long) chunk.rowCount);
+        batch.put(Constants.ColumnBatch.COLUMNS, ValueCreator.createArrayValue(columns, TypeCreator.createArrayType(
+                TypeCreator.createRecordType(Constants.ColumnVector.RECORD_NAME, ModuleUtils.getModule(), 0, false,
+                        0))));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ColumnBatch.RECORD_NAME, batch);
+    }
+
+    Chunk readChunk(ResultSet resultSet) throws SQLException {
+        int columnCount = columnKinds.length;
+        int capacity = Math.min(chunkSize, INITIAL_CAPACITY);
+        Chunk chunk = new Chunk(columnCount);
+        List<Map<String, BString>> dictionaries = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            chunk.values[i] = createBuffer(columnKinds[i], capacity);
+            dictionaries.add(isStringColumn(columnKinds[i]) ? new HashMap<>() : null);
+        }
+        while (chunk.rowCount < chunkSize && resultSet.next()) {
+            if (chunk.rowCount == capacity) {
+                capacity = (int) Math.min(chunkSize, 2L * capacity);
+                chunk.grow(capacity);
+            }
+            for (int i = 0; i < columnCount; i++) {
+                boolean isNull = readValue(resultSet, i, chunk.values[i], chunk.rowCount, dictionaries.get(i));
+                if (isNull) {
+                    if (chunk.nulls[i] == null) {
+                        chunk.nulls[i] = new boolean[capacity];
+                    }
+                    chunk.nulls[i][chunk.rowCount] = true;
+                }
+            }
+            chunk.rowCount++;
+        }
+        return chunk;
+    }
+
+    private static boolean isStringColumn(int columnKind) {
+        return columnKind >= STRING_COLUMN && columnKind != BYTES_COLUMN;
+    }
+
+    private static Object createBuffer(int columnKind, int capacity) {
+        switch (columnKind) {
+            case INT_COLUMN:
+                return new long[capacity];
+            case FLOAT_COLUMN:
+                return new double[capacity];
+            case DECIMAL_COLUMN:
+            case BYTES_COLUMN:
+                return new Object[capacity];
+            case BOOLEAN_COLUMN:
+                return new boolean[capacity];
+            default:
+                return new BString[capacity];
+        }
+    }
+
+    private static Object copyBuffer(Object buffer, int length) {
+        if (buffer instanceof long[]) {
+            return Arrays.copyOf((long[]) buffer, length);
+        } else if (buffer instanceof double[]) {
+            return Arrays.copyOf((double[]) buffer, length);
+        } else if (buffer instanceof boolean[]) {
+            return Arrays.copyOf((boolean[]) buffer, length);
+        }
+        return Arrays.copyOf((Object[]) buffer, length);
+    }
+
+    // Reads the value of the column into the buffer and returns true if the value is null. The temporal columns are
+    // converted to strings in the same form as the string fields of the records returned by queries.
+    private boolean readValue(ResultSet resultSet, int columnIndex, Object buffer, int rowIndex,
+                              Map<String, BString> dictionary) throws SQLException {
+        int resultSetIndex = columnIndex + 1;
+        Object value;
+        switch (columnKinds[columnIndex]) {
+            case INT_COLUMN:
+                ((long[]) buffer)[rowIndex] = resultSet.getLong(resultSetIndex);
+                return resultSet.wasNull();
+            case FLOAT_COLUMN:
+                ((double[]) buffer)[rowIndex] = resultSet.getDouble(resultSetIndex);
+                return resultSet.wasNull();
+            case DECIMAL_COLUMN:
+                BigDecimal decimalValue = resultSet.getBigDecimal(resultSetIndex);
+                ((Object[]) buffer)[rowIndex] = ValueCreator.createDecimalValue(
+                        decimalValue == null ? BigDecimal.ZERO : decimalValue);
+                return decimalValue == null;
+            case BOOLEAN_COLUMN:
+                ((boolean[]) buffer)[rowIndex] = resultSet.getBoolean(resultSetIndex);
+                return resultSet.wasNull();
+            case BYTES_COLUMN:
+                byte[] bytes = resultSet.getBytes(resultSetIndex);
+                ((Object[]) buffer)[rowIndex] = ValueCreator.createArrayValue(bytes == null ? EMPTY_BYTES : bytes);
+                return bytes == null;
+            case DATE_COLUMN:
+                value = resultSet.getDate(resultSetIndex);
+                break;
+            case TIME_COLUMN:
+                value = resultSet.getTime(resultSetIndex);
+                break;
+            case TIME_WITH_TIMEZONE_COLUMN:
+                value = resultSet.getObject(resultSetIndex, OffsetTime.class);
+                break;
+            case TIMESTAMP_COLUMN:
+                value = resultSet.getTimestamp(resultSetIndex);
+                break;
+            case TIMESTAMP_WITH_TIMEZONE_COLUMN:
+                value = resultSet.getObject(resultSetIndex, OffsetDateTime.class);
+                break;
+            default:
+                value = resultSet.getString(resultSetIndex);
+                break;
+        }
+        // Repeated values of the column share the same ballerina string
+        ((BString[]) buffer)[rowIndex] = dictionary.computeIfAbsent(
+                value == null ? "" : value.toString(), StringUtils::fromString);
+        return value == null;
+    }
+
+    // The buffers are only copied when they are larger than the chunk, which is the case for the last chunk
+    private static BArray createArray(int columnKind, Object buffer, int rowCount) {
+        Object values = Array.getLength(buffer) == rowCount ? buffer : copyBuffer(buffer, rowCount);
+        switch (columnKind) {
+            case INT_COLUMN:
+                return ValueCreator.createArrayValue((long[]) values);
+            case FLOAT_COLUMN:
+                return ValueCreator.createArrayValue((double[]) values);
+            case DECIMAL_COLUMN:
+                return ValueCreator.createArrayValue((Object[]) values,
+                        TypeCreator.createArrayType(PredefinedTypes.TYPE_DECIMAL));
+            case BYTES_COLUMN:
+                return ValueCreator.createArrayValue((Object[]) values,
+                        TypeCreator.createArrayType(TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE)));
+            case BOOLEAN_COLUMN:
+                return ValueCreator.createArrayValue((boolean[]) values);
+            default:
+                return ValueCreator.createArrayValue((BString[]) values);
+        }
+    }
+
+    /**
+     * The values read for a chunk of rows, with an array per column.
+     */
+    static class Chunk {
+        final Object[] values;
+        final boolean[][] nulls;
+        int rowCount = 0;
+
+        Chunk(int columnCount) {
+            this.values = new Object[columnCount];
+            this.nulls = new boolean[columnCount][];
+        }
+
+        void grow(int capacity) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = copyBuffer(values[i], capacity);
+                if (nulls[i] != null) {
+                    nulls[i] = Arrays.copyOf(nulls[i], capacity);
+                }
+            }
+        }
+    }
+}
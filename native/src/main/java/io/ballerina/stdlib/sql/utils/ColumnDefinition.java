@@ -18,6 +18,9 @@
 package io.ballerina.stdlib.sql.utils;
 
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
 /**
  * This class provides the mapping of the sql columns, its names and types.
@@ -26,10 +29,12 @@ import io.ballerina.runtime.api.types.Type;
  */
 public class ColumnDefinition {
     private final String ballerinaFieldName;
+    private final BString ballerinaFieldKey;
     private final Type ballerinaType;
 
     protected ColumnDefinition(String ballerinaFieldName, Type ballerinaType) {
         this.ballerinaFieldName = ballerinaFieldName;
+        this.ballerinaFieldKey = fromString(ballerinaFieldName);
         this.ballerinaType = ballerinaType;
     }
 
@@ -41,4 +46,8 @@ public class ColumnDefinition {
         return ballerinaFieldName;
     }
 
+    public BString getBallerinaFieldKey() {
+        return ballerinaFieldKey;
+    }
+
 }
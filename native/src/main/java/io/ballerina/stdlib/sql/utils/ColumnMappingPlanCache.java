@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.Constants;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.stdlib.sql.Constants.MAPPING_PLAN_CACHE_SIZE;
+
+/**
+ * This class caches the column definitions (the column to record field mapping plan) generated for a query, so that
+ * repeated executions of the same query with the same record type skip the column to field matching.
+ * <p>
+ * Plans are keyed by the SQL query and the record type. Each plan keeps the labels and types of the columns it was
+ * generated for, and it is only reused while the result set metadata still has the same columns (e.g. it is not
+ * reused once the table is altered). The cache is not locked on lookups, and once it is full the least recently used
+ * plan is evicted on a best-effort basis.
+ *
+ * @since 1.10.0
+ */
+public class ColumnMappingPlanCache {
+
+    private static final ColumnMappingPlanCache INSTANCE = new ColumnMappingPlanCache(MAPPING_PLAN_CACHE_SIZE);
+
+    private final int maxSize;
+    private final Map<PlanKey, CachedPlan> plans = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public ColumnMappingPlanCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static ColumnMappingPlanCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the plan of a query, if it is cached and the result set metadata has the columns of the plan.
+     *
+     * @param sqlQuery   SQL query
+     * @param recordType record type which the result is mapped to
+     * @param metaData   result set metadata of the query
+     * @return the plan, or null if it is not cached
+     * @throws SQLException if the metadata cannot be read
+     */
+    public List<ColumnDefinition> get(String sqlQuery, Object recordType, ResultSetMetaData metaData)
+            throws SQLException {
+        CachedPlan plan = plans.get(new PlanKey(sqlQuery, recordType));
+        if (plan == null || !plan.matches(metaData)) {
+            missCount.increment();
+            return null;
+        }
+        plan.lastUsed = System.nanoTime();
+        hitCount.increment();
+        return plan.columnDefinitions;
+    }
+
+    /**
+     * Caches the plan of a query.
+     *
+     * @param sqlQuery          SQL query
+     * @param recordType        record type which the result is mapped to
+     * @param metaData          result set metadata from which the plan is generated
+     * @param columnDefinitions column definitions of the result
+     * @return the cached plan, which cannot be modified
+     * @throws SQLException if the metadata cannot be read
+     */
+    public List<ColumnDefinition> put(String sqlQuery, Object recordType, ResultSetMetaData metaData,
+                                      List<ColumnDefinition> columnDefinitions) throws SQLException {
+        CachedPlan plan = new CachedPlan(metaData, Collections.unmodifiableList(columnDefinitions));
+        if (plans.put(new PlanKey(sqlQuery, recordType), plan) == null && plans.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+        return plan.columnDefinitions;
+    }
+
+    // Evictions only happen on cache misses, hence a scan of the entries is cheaper than ordering them on every hit
+    private void evictLeastRecentlyUsed() {
+        while (plans.size() > maxSize) {
+            Map.Entry<PlanKey, CachedPlan> eldest = null;
+            for (Map.Entry<PlanKey, CachedPlan> entry : plans.entrySet()) {
+                if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            if (plans.remove(eldest.getKey(), eldest.getValue())) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        return plans.size();
+    }
+
+    public void clear() {
+        plans.clear();
+    }
+
+    public BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.CacheStats.HIT_COUNT, getHitCount());
+        stats.put(Constants.CacheStats.MISS_COUNT, getMissCount());
+        stats.put(Constants.CacheStats.EVICTION_COUNT, getEvictionCount());
+        stats.put(Constants.CacheStats.ENTRY_COUNT, (long) size());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.CacheStats.RECORD_NAME, stats);
+    }
+
+    private static class CachedPlan {
+        private final String[] columnLabels;
+        private final int[] columnTypes;
+        private final String[] columnTypeNames;
+        private final int[] columnNullabilities;
+        private final List<ColumnDefinition> columnDefinitions;
+        private volatile long lastUsed = System.nanoTime();
+
+        CachedPlan(ResultSetMetaData metaData, List<ColumnDefinition> columnDefinitions) throws SQLException {
+            int columnCount = metaData.getColumnCount();
+            this.columnLabels = new String[columnCount];
+            this.columnTypes = new int[columnCount];
+            this.columnTypeNames = new String[columnCount];
+            this.columnNullabilities = new int[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                columnLabels[i] = metaData.getColumnLabel(i + 1);
+                columnTypes[i] = metaData.getColumnType(i + 1);
+                columnTypeNames[i] = metaData.getColumnTypeName(i + 1);
+                columnNullabilities[i] = metaData.isNullable(i + 1);
+            }
+            this.columnDefinitions = columnDefinitions;
+        }
+
+        // The table names are not compared, since they are only read for duplicated column labels, which refer to the
+        // same tables for the same query
+        boolean matches(ResultSetMetaData metaData) throws SQLException {
+            if (metaData.getColumnCount() != columnLabels.length) {
+                return false;
+            }
+            for (int i = 0; i < columnLabels.length; i++) {
+                if (metaData.getColumnType(i + 1) != columnTypes[i]
+                        || metaData.isNullable(i + 1) != columnNullabilities[i]
+                        || !Objects.equals(columnLabels[i], metaData.getColumnLabel(i + 1))
+                        || !Objects.equals(columnTypeNames[i], metaData.getColumnTypeName(i + 1))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class PlanKey {
+        private final String sqlQuery;
+        private final Object recordType;
+        private final int hashCode;
+
+        PlanKey(String sqlQuery, Object recordType) {
+            this.sqlQuery = sqlQuery;
+            this.recordType = recordType;
+            this.hashCode = 31 * sqlQuery.hashCode() + System.identityHashCode(recordType);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey other = (PlanKey) obj;
+            // Record types are compared by identity, since a type descriptor always refers to the same type instance
+            return other.recordType == recordType && other.sqlQuery.equals(sqlQuery);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the value of a column from the result set and converts it to the ballerina type of the column. A reader is
+ * resolved once per column definition, so that the SQL and ballerina type checks are not repeated for every row.
+ *
+ * @since 1.10.0
+ */
+@FunctionalInterface
+public interface ColumnReader {
+
+    Object read(ResultSet resultSet, int columnIndex, AbstractResultParameterProcessor resultParameterProcessor)
+            throws SQLException, DataError;
+}
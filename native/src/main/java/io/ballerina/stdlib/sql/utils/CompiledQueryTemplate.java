@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.ParameterizedQuery.StatementType;
+import io.ballerina.stdlib.sql.parameterprocessor.ParameterBinder;
+
+import static io.ballerina.stdlib.sql.Constants.BACKTICK;
+
+/**
+ * This class holds the SQL generated for the strings of a `sql:ParameterizedQuery`, along with the positions of the
+ * insertions which are bound as parameters and the type of the statement. Backtick insertions are inlined into the
+ * SQL, hence a compiled template is only reused for insertions having backticks in the same positions. The binders
+ * resolved for the parameters are kept with the template, so that they are shared by the executions of the query.
+ *
+ * @since 1.10.0
+ */
+public class CompiledQueryTemplate {
+
+    private final String sqlQuery;
+    private final boolean[] backtickInsertions;
+    private final int[] parameterIndexes;
+    private final StatementType statementType;
+    private final ParameterBinder[] parameterBinders;
+
+    private CompiledQueryTemplate(String sqlQuery, boolean[] backtickInsertions, int[] parameterIndexes) {
+        this.sqlQuery = sqlQuery;
+        this.backtickInsertions = backtickInsertions;
+        this.parameterIndexes = parameterIndexes;
+        this.statementType = StatementType.of(sqlQuery);
+        this.parameterBinders = new ParameterBinder[parameterIndexes.length];
+    }
+
+    /**
+     * Generates the SQL of the query, replacing the insertions with parameter markers.
+     *
+     * @param bStringsArray strings of the parameterized query
+     * @param bInsertions   insertions of the parameterized query
+     * @return compiled template
+     */
+    public static CompiledQueryTemplate compile(BArray bStringsArray, BArray bInsertions) {
+        StringBuilder sqlQuery = new StringBuilder();
+        int insertionCount = bInsertions.size();
+        boolean[] backtickInsertions = new boolean[insertionCount];
+        int[] parameterIndexes = new int[insertionCount];
+        int parameterCount = 0;
+        for (int i = 0; i < insertionCount; i++) {
+            if (isBacktick(bInsertions.get(i))) {
+                backtickInsertions[i] = true;
+                sqlQuery.append(bStringsArray.getBString(i).getValue()).append(BACKTICK);
+            } else {
+                parameterIndexes[parameterCount++] = i;
+                sqlQuery.append(bStringsArray.getBString(i).getValue()).append(" ? ");
+            }
+        }
+        sqlQuery.append(bStringsArray.getBString(insertionCount).getValue());
+        int[] parameters = new int[parameterCount];
+        System.arraycopy(parameterIndexes, 0, parameters, 0, parameterCount);
+        return new CompiledQueryTemplate(sqlQuery.toString(), backtickInsertions, parameters);
+    }
+
+    /**
+     * Checks whether the template can be used for the given insertions.
+     *
+     * @param bInsertions insertions of the parameterized query
+     * @return true if the insertions have backticks in the same positions as the template
+     */
+    public boolean matches(BArray bInsertions) {
+        int insertionCount = bInsertions.size();
+        if (insertionCount != backtickInsertions.length) {
+            return false;
+        }
+        for (int i = 0; i < insertionCount; i++) {
+            if (backtickInsertions[i] != isBacktick(bInsertions.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates the parameterized query for the given insertions, which only extracts the parameter values.
+     *
+     * @param bInsertions insertions of the parameterized query
+     * @return parameterized query
+     */
+    public ParameterizedQuery bind(BArray bInsertions) {
+        Object[] insertions = new Object[parameterIndexes.length];
+        for (int i = 0; i < parameterIndexes.length; i++) {
+            insertions[i] = bInsertions.get(parameterIndexes[i]);
+        }
+        return new ParameterizedQuery(sqlQuery, insertions, statementType, parameterBinders);
+    }
+
+    public String getSqlQuery() {
+        return sqlQuery;
+    }
+
+    public StatementType getStatementType() {
+        return statementType;
+    }
+
+    private static boolean isBacktick(Object insertion) {
+        return insertion instanceof BString && ((BString) insertion).getValue().equals(BACKTICK);
+    }
+}
@@ -33,6 +33,7 @@ import io.ballerina.stdlib.sql.exception.TypeMismatchError;
 import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,7 +68,10 @@ public class ErrorGenerator {
         int vendorCode = exception.getErrorCode();
         String sqlState = exception.getSQLState();
         String errorMessage = messagePrefix + sqlErrorMessage + ".";
-        return getSQLDatabaseError(errorMessage, vendorCode, sqlState);
+        // Statements which exceed the query timeout are reported with a distinct error type
+        String errorName = exception instanceof SQLTimeoutException ? Constants.QUERY_TIMEOUT_ERROR :
+                Constants.DATABASE_ERROR;
+        return getSQLDatabaseError(errorName, errorMessage, vendorCode, sqlState);
     }
 
     public static BError getSQLApplicationError(String errorMessage) {
@@ -134,14 +138,14 @@ public class ErrorGenerator {
                 StringUtils.fromString(message), null, sqlClientErrorDetailRecord);
     }
 
-    private static BError getSQLDatabaseError(String message, int vendorCode, String sqlState) {
+    private static BError getSQLDatabaseError(String errorName, String message, int vendorCode, String sqlState) {
         Map<String, Object> valueMap = new HashMap<>();
         valueMap.put(Constants.ErrorRecordFields.ERROR_CODE, vendorCode);
         valueMap.put(Constants.ErrorRecordFields.SQL_STATE, sqlState);
         BMap<BString, Object> sqlClientErrorDetailRecord = ValueCreator.
                 createRecordValue(ModuleUtils.getModule(), Constants.DATABASE_ERROR_DETAILS, valueMap);
         message = removeJavaClassNames(message);
-        return ErrorCreator.createError(ModuleUtils.getModule(), Constants.DATABASE_ERROR,
+        return ErrorCreator.createError(ModuleUtils.getModule(), errorName,
                 StringUtils.fromString(message), null, sqlClientErrorDetailRecord);
     }
 
@@ -0,0 +1,289 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractStatementParameterProcessor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * This class reads the rows of a table or a query in pages ordered by a unique key. Each page is read by a separate
+ * query which selects the rows after the last key of the previous page, on a connection obtained for that page, so
+ * that a long scan does not hold a connection or a cursor of the database between the pages. The statements of the
+ * pages are reused through the statement cache of the connections, and the column mapping of the first page is used
+ * for all the pages.
+ *
+ * @since 1.10.0
+ */
+public class KeysetScan {
+
+    private static final String IDENTIFIER_PART =
+            "(?:[A-Za-z_][A-Za-z0-9_$]*|\"(?:[^\"]|\"\")+\"|`[^`]+`|\\[[^\\]]+\\])";
+    private static final Pattern TABLE_NAME = Pattern.compile(IDENTIFIER_PART + "(?:\\." + IDENTIFIER_PART + ")*");
+    private static final Pattern COLUMN_NAME = Pattern.compile(IDENTIFIER_PART);
+    private static final Pattern ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+
+    private final BObject client;
+    private final SQLDatasource sqlDatasource;
+    private final ParameterizedQuery firstPageQuery;
+    private final ParameterizedQuery nextPageQuery;
+    private final String keyColumnLabel;
+    private final int pageSize;
+    private final QueryOptions queryOptions;
+    private final AbstractStatementParameterProcessor statementParameterProcessor;
+    private final boolean isWithinTrxBlock;
+    private final TransactionResourceManager trxResourceManager;
+    private boolean started = false;
+    private int keyColumnIndex = 0;
+    private Object lastKey = null;
+    private int pageRowCount = 0;
+
+    private KeysetScan(BObject client, SQLDatasource sqlDatasource, ParameterizedQuery firstPageQuery,
+                       ParameterizedQuery nextPageQuery, String keyColumnLabel, int pageSize,
+                       QueryOptions queryOptions, AbstractStatementParameterProcessor statementParameterProcessor,
+                       boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager) {
+        this.client = client;
+        this.sqlDatasource = sqlDatasource;
+        this.firstPageQuery = firstPageQuery;
+        this.nextPageQuery = nextPageQuery;
+        this.keyColumnLabel = keyColumnLabel;
+        this.pageSize = pageSize;
+        this.queryOptions = queryOptions;
+        this.statementParameterProcessor = statementParameterProcessor;
+        this.isWithinTrxBlock = isWithinTrxBlock;
+        this.trxResourceManager = trxResourceManager;
+    }
+
+    /**
+     * Creates a scan of a table or a query.
+     *
+     * @param client                      client object
+     * @param sqlDatasource               datasource from which the connections of the pages are obtained
+     * @param tableName                   name of the table, or null if a query is scanned
+     * @param baseQuery                   query to be scanned, or null if a table is scanned
+     * @param keyColumn                   name of the unique key column, which is a column of the result of the query
+     * @param pageSize                    maximum number of rows of a page
+     * @param statementParameterProcessor pre-processor of the statements
+     * @param isWithinTrxBlock            whether the scan is within a transaction, where the connection of the
+     *                                    transaction is used for all the pages
+     * @param trxResourceManager          transaction resource manager
+     * @return the scan
+     * @throws ApplicationError if the table name, key column or page size is invalid, or the query has an ORDER BY
+     *                          clause
+     */
+    public static KeysetScan create(BObject client, SQLDatasource sqlDatasource, String tableName,
+                                    ParameterizedQuery baseQuery, String keyColumn, long pageSize,
+                                    AbstractStatementParameterProcessor statementParameterProcessor,
+                                    boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager)
+            throws ApplicationError {
+        if (pageSize < 1 || pageSize > Integer.MAX_VALUE) {
+            throw new ApplicationError("Page size must be between 1 and " + Integer.MAX_VALUE + ".");
+        }
+        if (!COLUMN_NAME.matcher(keyColumn).matches()) {
+            throw new ApplicationError("Invalid key column name: " + keyColumn + ".");
+        }
+        String source;
+        Object[] insertions;
+        if (tableName != null) {
+            if (!TABLE_NAME.matcher(tableName).matches()) {
+                throw new ApplicationError("Invalid table name: " + tableName + ".");
+            }
+            source = tableName;
+            insertions = new Object[0];
+        } else {
+            // The query is scanned as a derived table, where an ORDER BY clause is rejected by some databases such
+            // as SQL Server and DB2, and is redundant for the others as the pages are ordered by the key column
+            if (hasOrderBy(baseQuery.getSqlQuery())) {
+                throw new ApplicationError("The query of a scan must not have an ORDER BY clause, as the rows are " +
+                        "ordered by the key column.");
+            }
+            source = "(" + baseQuery.getSqlQuery() + ") sql_scan";
+            insertions = baseQuery.getInsertions();
+        }
+        // The page size is enforced through the maximum rows of the statements, which is supported by all the
+        // databases unlike the LIMIT clause
+        ParameterizedQuery firstPageQuery = new ParameterizedQuery(
+                "SELECT * FROM " + source + " ORDER BY " + keyColumn, insertions);
+        ParameterizedQuery nextPageQuery = new ParameterizedQuery(
+                "SELECT * FROM " + source + " WHERE " + keyColumn + " > ? ORDER BY " + keyColumn, insertions);
+        return new KeysetScan(client, sqlDatasource, firstPageQuery, nextPageQuery, getColumnLabel(keyColumn),
+                (int) pageSize, QueryOptions.getQueryOptions(client), statementParameterProcessor, isWithinTrxBlock,
+                trxResourceManager);
+    }
+
+    /**
+     * Releases the resources of the current page of a record iterator. The connection is not closed if the scan is
+     * within a transaction, as all the pages are read through the connection of the transaction, regardless of the
+     * strand which consumes the stream.
+     *
+     * @param recordIterator record iterator of the scan
+     * @return an error if the resources cannot be released, or null
+     */
+    public Object closePage(BObject recordIterator) {
+        StreamLeakTracker.TrackedStream trackedStream = (StreamLeakTracker.TrackedStream) recordIterator
+                .getNativeData(Constants.TRACKED_STREAM_NATIVE_DATA_FIELD);
+        if (trackedStream != null) {
+            trackedStream.setResources(null, null, null);
+        }
+        return Utils.cleanUpConnection(recordIterator,
+                (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD),
+                (Statement) recordIterator.getNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD),
+                (Connection) recordIterator.getNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD), isWithinTrxBlock);
+    }
+
+    /**
+     * Executes the query of the next page, of which the resources are set to the record iterator. The resources of
+     * the current page should be released through {@link #closePage(BObject)} beforehand.
+     *
+     * @param recordIterator record iterator of the scan
+     * @return true if the next page is opened, false if the previous page is the last page
+     * @throws SQLException     if the query of the next page fails
+     * @throws ApplicationError if the parameters of the query are invalid, or the key column is not in the result
+     */
+    public boolean openNextPage(BObject recordIterator) throws SQLException, ApplicationError {
+        StreamLeakTracker.TrackedStream trackedStream = (StreamLeakTracker.TrackedStream) recordIterator
+                .getNativeData(Constants.TRACKED_STREAM_NATIVE_DATA_FIELD);
+        if (started && pageRowCount < pageSize) {
+            return false;
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        ParameterizedQuery query = started ? nextPageQuery : firstPageQuery;
+        try {
+            connection = SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+            statement = sqlDatasource.prepareStatement(connection, query.getSqlQuery(), Statement.NO_GENERATED_KEYS,
+                    isWithinTrxBlock);
+            statementParameterProcessor.setParams(connection, statement, query);
+            if (started) {
+                statement.setObject(query.getInsertions().length + 1, lastKey);
+            }
+            queryOptions.apply(statement);
+            statement.setMaxRows(pageSize);
+            resultSet = statement.executeQuery();
+            if (keyColumnIndex == 0) {
+                keyColumnIndex = findKeyColumn(resultSet.getMetaData());
+            }
+        } catch (SQLException | ApplicationError | RuntimeException e) {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+            throw e;
+        } finally {
+            query.closeStreams();
+        }
+        started = true;
+        pageRowCount = 0;
+        recordIterator.addNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD, resultSet);
+        recordIterator.addNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD, statement);
+        recordIterator.addNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD, connection);
+        if (trackedStream != null) {
+            trackedStream.setResources(resultSet, statement, connection);
+        }
+        return true;
+    }
+
+    /**
+     * Records the key of the current row of the page, which is the last row read so far. A null key fails the scan,
+     * as no row has a key greater than null, and the rest of the rows would be skipped silently.
+     *
+     * @param resultSet result set of the page
+     * @throws SQLException     if the key cannot be read
+     * @throws ApplicationError if the key is null
+     */
+    public void recordKey(ResultSet resultSet) throws SQLException, ApplicationError {
+        Object key = resultSet.getObject(keyColumnIndex);
+        if (key == null) {
+            throw new ApplicationError("Key column '" + keyColumnLabel + "' of the scan has a null value. The key " +
+                    "column must not be nullable.");
+        }
+        lastKey = key;
+        pageRowCount++;
+    }
+
+    /**
+     * Returns the SQL query of the first page, which identifies the column mapping of the scan.
+     *
+     * @return SQL query
+     */
+    public String getSqlQuery() {
+        return firstPageQuery.getSqlQuery();
+    }
+
+    private int findKeyColumn(ResultSetMetaData metaData) throws SQLException, ApplicationError {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (metaData.getColumnLabel(i).equalsIgnoreCase(keyColumnLabel)) {
+                return i;
+            }
+        }
+        throw new ApplicationError("Key column '" + keyColumnLabel + "' is not in the result of the scan.");
+    }
+
+    // The clauses of the subqueries, and the quoted literals and identifiers are skipped, so that only an ORDER BY
+    // clause of the query itself is found
+    static boolean hasOrderBy(String sqlQuery) {
+        StringBuilder topLevel = new StringBuilder(sqlQuery.length());
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < sqlQuery.length(); i++) {
+            char c = sqlQuery.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                c = ' ';
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+                c = ' ';
+            } else if (c == '[') {
+                quote = ']';
+                c = ' ';
+            } else if (c == '(') {
+                depth++;
+                c = ' ';
+            } else if (c == ')') {
+                depth--;
+                c = ' ';
+            } else if (depth > 0) {
+                c = ' ';
+            }
+            topLevel.append(c);
+        }
+        return ORDER_BY.matcher(topLevel).find();
+    }
+
+    static String getColumnLabel(String keyColumn) {
+        char first = keyColumn.charAt(0);
+        if (first == '"') {
+            return keyColumn.substring(1, keyColumn.length() - 1).replace("\"\"", "\"");
+        } else if (first == '`' || first == '[') {
+            return keyColumn.substring(1, keyColumn.length() - 1);
+        }
+        return keyColumn;
+    }
+}
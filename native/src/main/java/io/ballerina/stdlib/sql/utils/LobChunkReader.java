@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * This class reads the value of a LOB column in chunks from the binary or character stream of the column, so that
+ * the value is never fully held in memory.
+ *
+ * @since 1.10.0
+ */
+public class LobChunkReader {
+
+    private final InputStream binaryStream;
+    private final Reader characterStream;
+    private final int chunkSize;
+
+    public LobChunkReader(InputStream binaryStream, int chunkSize) {
+        this.binaryStream = binaryStream;
+        this.characterStream = null;
+        this.chunkSize = chunkSize;
+    }
+
+    public LobChunkReader(Reader characterStream, int chunkSize) {
+        this.binaryStream = null;
+        this.characterStream = characterStream;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reads the next chunk of the binary stream.
+     *
+     * @return the next chunk of at most the chunk size, or null if the end of the stream is reached
+     * @throws IOException if the stream cannot be read
+     */
+    public byte[] readBytes() throws IOException {
+        if (binaryStream == null) {
+            return null;
+        }
+        byte[] chunk = binaryStream.readNBytes(chunkSize);
+        return chunk.length == 0 ? null : chunk;
+    }
+
+    /**
+     * Reads the next chunk of the character stream. A chunk may hold one more character than the chunk size, so
+     * that a surrogate pair is not split between two chunks.
+     *
+     * @return the next chunk, or null if the end of the stream is reached
+     * @throws IOException if the stream cannot be read
+     */
+    public String readString() throws IOException {
+        if (characterStream == null) {
+            return null;
+        }
+        char[] buffer = new char[chunkSize + 1];
+        int length = 0;
+        while (length < chunkSize) {
+            int count = characterStream.read(buffer, length, chunkSize - length);
+            if (count == -1) {
+                break;
+            }
+            length += count;
+        }
+        if (length == 0) {
+            return null;
+        }
+        if (length == chunkSize && Character.isHighSurrogate(buffer[length - 1])) {
+            int next = characterStream.read();
+            if (next != -1) {
+                buffer[length++] = (char) next;
+            }
+        }
+        return new String(buffer, 0, length);
+    }
+
+    public void close() throws IOException {
+        if (binaryStream != null) {
+            binaryStream.close();
+        }
+        if (characterStream != null) {
+            characterStream.close();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+
+/**
+ * This class streams the content of a file bound as a LOB parameter. The driver reads the stream while executing the
+ * statement, hence the file is closed as soon as it is fully read. The stream is also registered to the query of the
+ * parameter, which closes it once the statement is executed, so that a file which is not fully read, e.g. when the
+ * execution fails, is not left open.
+ *
+ * @since 1.10.0
+ */
+public class LobFileInputStream extends FilterInputStream {
+
+    private boolean closed = false;
+
+    public LobFileInputStream(String path) throws IOException {
+        super(new FileInputStream(path));
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (closed) {
+            return -1;
+        }
+        int value = super.read();
+        if (value == -1) {
+            close();
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (closed) {
+            return -1;
+        }
+        int count = super.read(buffer, offset, length);
+        if (count == -1) {
+            close();
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        return closed ? 0 : super.skip(count);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return closed ? 0 : super.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.sql.Constants;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static io.ballerina.stdlib.sql.utils.Utils.cleanUpConnection;
+
+/**
+ * This class provides functionality for the `BlobChunkIterator` and the `ClobChunkIterator` to read the value of a
+ * LOB column in chunks.
+ *
+ * @since 1.10.0
+ */
+public class LobIteratorUtils {
+    private LobIteratorUtils() {
+    }
+
+    public static Object nextBlobChunk(BObject lobIterator) {
+        return nextChunk(lobIterator, true);
+    }
+
+    public static Object nextClobChunk(BObject lobIterator) {
+        return nextChunk(lobIterator, false);
+    }
+
+    private static Object nextChunk(BObject lobIterator, boolean isBinary) {
+        LobChunkReader lobChunkReader = (LobChunkReader) lobIterator.getNativeData(
+                Constants.LOB_CHUNK_READER_NATIVE_DATA_FIELD);
+        try {
+            if (isBinary) {
+                byte[] chunk = lobChunkReader.readBytes();
+                if (chunk != null) {
+                    return ValueCreator.createArrayValue(chunk);
+                }
+            } else {
+                String chunk = lobChunkReader.readString();
+                if (chunk != null) {
+                    return StringUtils.fromString(chunk);
+                }
+            }
+            // Stream has reached the end, we clean up the resources, here any error from closing the stream is ignored.
+            closeLobResult(lobIterator);
+            return null;
+        } catch (Throwable throwable) {
+            // Stream throws an error, we clean up the resources, here any error from closing the stream is ignored.
+            closeLobResult(lobIterator);
+            return ErrorGenerator.getSQLApplicationError("Error when reading the LOB value. " +
+                    throwable.getMessage());
+        }
+    }
+
+    public static Object closeLobResult(BObject lobIterator) {
+        LobChunkReader lobChunkReader = (LobChunkReader) lobIterator.getNativeData(
+                Constants.LOB_CHUNK_READER_NATIVE_DATA_FIELD);
+        if (lobChunkReader != null) {
+            try {
+                lobChunkReader.close();
+            } catch (IOException ignored) {
+            }
+        }
+        ResultSet resultSet = (ResultSet) lobIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        Statement statement = (Statement) lobIterator.getNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD);
+        Connection connection = (Connection) lobIterator.getNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD);
+        return cleanUpConnection(lobIterator, resultSet, statement, connection);
+    }
+}
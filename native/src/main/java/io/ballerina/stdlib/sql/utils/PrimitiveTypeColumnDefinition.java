@@ -28,6 +28,7 @@ public class PrimitiveTypeColumnDefinition extends ColumnDefinition {
     private final String sqlTypeName;
     private final boolean isNullable;
     private final int resultSetColumnIndex;
+    private ColumnReader columnReader;
 
     public PrimitiveTypeColumnDefinition(String columnName, int sqlType, String sqlTypeName, boolean isNullable,
                                          int resultSetColumnIndex, String ballerinaFieldName, Type ballerinaType) {
@@ -59,4 +60,12 @@ public class PrimitiveTypeColumnDefinition extends ColumnDefinition {
         return resultSetColumnIndex;
     }
 
+    public ColumnReader getColumnReader() {
+        // The reader is resolved lazily, since the readers are stateless, resolving it more than once is harmless
+        if (columnReader == null) {
+            columnReader = Utils.getColumnReader(this);
+        }
+        return columnReader;
+    }
+
 }
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * This class holds the statement hints applied to the queries, which control how the driver fetches the results.
+ * A fetch size or max rows of 0 leaves the driver default as it is. A fetch size of {@link Integer#MIN_VALUE} is
+ * passed to the driver as it is, which makes the MySQL driver stream the rows one at a time. A prefetch size greater
+ * than 0 enables reading the rows of the result ahead of the consumer. A buffer size greater than 0 enables reading
+ * small results fully into memory, and a spill size greater than 0 enables writing results to a temporary file, so
+ * that their connection is released before the stream is consumed.
+ *
+ * @since 1.10.0
+ */
+public class QueryOptions {
+
+    public static final QueryOptions DEFAULT = new QueryOptions(0, 0, 0, 0, 0, 0);
+
+    private static final String NEXT_QUERY_OPTIONS_STRAND_LOCAL = "sql.nextQueryOptions";
+
+    private final int fetchSize;
+    private final int maxRows;
+    private final int prefetchSize;
+    private final int bufferRows;
+    private final long bufferBytes;
+    private final long spillBytes;
+
+    public QueryOptions(int fetchSize, int maxRows, int prefetchSize, int bufferRows, long bufferBytes,
+                        long spillBytes) {
+        this.fetchSize = fetchSize;
+        this.maxRows = maxRows;
+        this.prefetchSize = prefetchSize;
+        this.bufferRows = bufferRows;
+        this.bufferBytes = bufferBytes;
+        this.spillBytes = spillBytes;
+    }
+
+    /**
+     * Creates the query options from the `sql:QueryOptions` record.
+     *
+     * @param options query options
+     * @return query options
+     * @throws ApplicationError if the options are invalid
+     */
+    public static QueryOptions fromConfig(BMap<BString, Object> options) throws ApplicationError {
+        long fetchSize = options.getIntValue(Constants.QueryOptions.FETCH_SIZE);
+        long maxRows = options.getIntValue(Constants.QueryOptions.MAX_ROWS);
+        long prefetchSize = options.getIntValue(Constants.QueryOptions.PREFETCH_SIZE);
+        long bufferRows = options.getIntValue(Constants.QueryOptions.BUFFER_ROWS);
+        long bufferBytes = options.getIntValue(Constants.QueryOptions.BUFFER_BYTES);
+        long spillBytes = options.getIntValue(Constants.QueryOptions.SPILL_BYTES);
+        if ((fetchSize < 0 && fetchSize != Integer.MIN_VALUE) || fetchSize > Integer.MAX_VALUE) {
+            throw new ApplicationError("QueryOptions field 'fetchSize' must be between 0 and " +
+                    Integer.MAX_VALUE + ", or " + Integer.MIN_VALUE + " to stream the rows one at a time.");
+        }
+        if (maxRows < 0 || maxRows > Integer.MAX_VALUE) {
+            throw new ApplicationError("QueryOptions field 'maxRows' must be between 0 and " +
+                    Integer.MAX_VALUE + ".");
+        }
+        if (prefetchSize < 0 || prefetchSize > Integer.MAX_VALUE) {
+            throw new ApplicationError("QueryOptions field 'prefetchSize' must be between 0 and " +
+                    Integer.MAX_VALUE + ".");
+        }
+        if (bufferRows < 0 || bufferRows > Integer.MAX_VALUE) {
+            throw new ApplicationError("QueryOptions field 'bufferRows' must be between 0 and " +
+                    Integer.MAX_VALUE + ".");
+        }
+        if (bufferBytes < 0) {
+            throw new ApplicationError("QueryOptions field 'bufferBytes' cannot be negative.");
+        }
+        if (spillBytes < 0) {
+            throw new ApplicationError("QueryOptions field 'spillBytes' cannot be negative.");
+        }
+        return new QueryOptions((int) fetchSize, (int) maxRows, (int) prefetchSize, (int) bufferRows, bufferBytes,
+                spillBytes);
+    }
+
+    /**
+     * Returns the query options of the client, or the default options if the options are not set for the client.
+     *
+     * @param client client object
+     * @return query options of the client
+     */
+    public static QueryOptions getQueryOptions(BObject client) {
+        Object queryOptions = client.getNativeData(Constants.QUERY_OPTIONS_NATIVE_DATA_FIELD);
+        return queryOptions == null ? DEFAULT : (QueryOptions) queryOptions;
+    }
+
+    /**
+     * Sets the query options of the next query of the current strand, which override the query options of the
+     * client.
+     *
+     * @param env          current environment
+     * @param queryOptions query options
+     */
+    public static void setNextQueryOptions(Environment env, QueryOptions queryOptions) {
+        env.setStrandLocal(NEXT_QUERY_OPTIONS_STRAND_LOCAL, queryOptions);
+    }
+
+    /**
+     * Returns the query options of a query of the current strand. The query options set for the next query of the
+     * strand are consumed by this query.
+     *
+     * @param env    current environment
+     * @param client client object
+     * @return query options of the query
+     */
+    public static QueryOptions getQueryOptions(Environment env, BObject client) {
+        Object queryOptions = env.getStrandLocal(NEXT_QUERY_OPTIONS_STRAND_LOCAL);
+        if (queryOptions == null) {
+            return getQueryOptions(client);
+        }
+        env.setStrandLocal(NEXT_QUERY_OPTIONS_STRAND_LOCAL, null);
+        return (QueryOptions) queryOptions;
+    }
+
+    /**
+     * Applies the options to the statement. Statements are always prepared with the default result set type and
+     * concurrency, which are `TYPE_FORWARD_ONLY` and `CONCUR_READ_ONLY`. Whether the driver then reads the results
+     * incrementally depends on the driver. For example, the PostgreSQL driver only uses the fetch size when auto-commit
+     * is disabled, which is the case within transactions only.
+     *
+     * @param statement statement to be executed
+     * @throws SQLException if the driver rejects the options
+     */
+    public void apply(Statement statement) throws SQLException {
+        if (fetchSize != 0) {
+            statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+            statement.setFetchSize(fetchSize);
+        }
+        if (maxRows > 0) {
+            statement.setMaxRows(maxRows);
+        }
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    public int getBufferRows() {
+        return bufferRows;
+    }
+
+    /**
+     * Returns the maximum estimated size of a buffered result.
+     *
+     * @return size in bytes, where 0 indicates that the size is not limited
+     */
+    public long getBufferBytes() {
+        return bufferBytes;
+    }
+
+    /**
+     * Returns the maximum size of the temporary file to which a result is written.
+     *
+     * @return size in bytes, where 0 indicates that results are not written to files
+     */
+    public long getSpillBytes() {
+        return spillBytes;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.stdlib.sql.Constants.QUERY_TEMPLATE_CACHE_SIZE;
+
+/**
+ * This class caches the compiled templates of the parameterized queries. The `strings` array of a raw template is
+ * read-only and the same array is used for every evaluation of the template at a call site, hence the templates are
+ * keyed by the identity of the array and no SQL is generated for the repeated executions of a query.
+ * <p>
+ * The queries built at runtime, such as the ones built with `sql:queryConcat`, have a new `strings` array for each
+ * execution, which would never be found in the cache. Hence, a template is only cached when its `strings` array is
+ * compiled for the second time, so that such queries do not evict the templates of the call sites. The cache is not
+ * locked on lookups, and once it is full the least recently used template is evicted on a best-effort basis.
+ *
+ * @since 1.10.0
+ */
+public class QueryTemplateCache {
+
+    private static final QueryTemplateCache INSTANCE = new QueryTemplateCache(QUERY_TEMPLATE_CACHE_SIZE);
+
+    private final int maxSize;
+    private final Map<TemplateKey, CachedTemplate> templates = new ConcurrentHashMap<>();
+    // The `strings` arrays compiled once, which are cached when they are compiled again
+    private final Set<TemplateKey> candidates = ConcurrentHashMap.newKeySet();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public QueryTemplateCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static QueryTemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    public CompiledQueryTemplate get(Object strings) {
+        CachedTemplate template = templates.get(new TemplateKey(strings));
+        if (template == null) {
+            missCount.increment();
+            return null;
+        }
+        template.lastUsed = System.nanoTime();
+        hitCount.increment();
+        return template.template;
+    }
+
+    /**
+     * Caches the template compiled for a `strings` array, if the array is compiled before.
+     *
+     * @param strings  `strings` array of the query
+     * @param template compiled template
+     */
+    public void put(Object strings, CompiledQueryTemplate template) {
+        TemplateKey key = new TemplateKey(strings);
+        if (!templates.containsKey(key) && !candidates.remove(key)) {
+            // The candidates of the queries built at runtime are never compiled again, hence they are dropped
+            // together once there are as many candidates as the templates that can be cached
+            if (candidates.size() >= maxSize) {
+                candidates.clear();
+            }
+            candidates.add(key);
+            return;
+        }
+        if (templates.put(key, new CachedTemplate(template)) == null && templates.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        while (templates.size() > maxSize) {
+            Map.Entry<TemplateKey, CachedTemplate> eldest = null;
+            for (Map.Entry<TemplateKey, CachedTemplate> entry : templates.entrySet()) {
+                if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            templates.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+        candidates.clear();
+    }
+
+    private static class CachedTemplate {
+        private final CompiledQueryTemplate template;
+        private volatile long lastUsed = System.nanoTime();
+
+        CachedTemplate(CompiledQueryTemplate template) {
+            this.template = template;
+        }
+    }
+
+    private static class TemplateKey {
+        private final Object strings;
+
+        TemplateKey(Object strings) {
+            this.strings = strings;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TemplateKey && ((TemplateKey) o).strings == strings;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(strings);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class enforces the timeout of a database operation. The timeout is shared by all the statements executed by
+ * the operation, and it starts when the first statement is executed. Each execution is watched by the watchdog
+ * thread, which cancels the statement once the timeout elapses, so that the worker and the connection are released
+ * even if the driver does not enforce the query timeout set on the statement. The statements are cancelled in a
+ * separate pool, as drivers such as the MySQL and the PostgreSQL drivers open a new connection to cancel a statement,
+ * which would otherwise delay the other timeouts. The rows of a result stream are fetched
+ * after the query is executed, hence each fetch of the stream is watched separately with the full timeout, as the
+ * time spent by the consumer between the rows is not spent in the database.
+ *
+ * @since 1.10.0
+ */
+public class QueryTimeout {
+
+    private static final String NEXT_QUERY_TIMEOUT_STRAND_LOCAL = "sql.nextQueryTimeout";
+    private static final QueryTimeout NONE = new QueryTimeout(0);
+    private static final Watch NO_WATCH = new Watch(null, null);
+    private static final int CANCELLER_THREAD_COUNT = 4;
+    private static final ScheduledThreadPoolExecutor WATCHDOG = createWatchdog();
+    private static final ExecutorService CANCELLER = createCanceller();
+
+    private final long timeoutMillis;
+    private boolean started = false;
+    private long deadline;
+    private volatile boolean timedOut = false;
+
+    QueryTimeout(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Converts a timeout in seconds to milliseconds.
+     *
+     * @param timeout timeout in seconds, where 0 disables the timeout
+     * @return timeout in milliseconds
+     * @throws ApplicationError if the timeout is negative or too large
+     */
+    public static long toMillis(BDecimal timeout) throws ApplicationError {
+        BigDecimal seconds = timeout.decimalValue();
+        if (seconds.signum() < 0 || seconds.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0) {
+            throw new ApplicationError("Query timeout must be between 0 and " + Integer.MAX_VALUE + " seconds.");
+        }
+        return seconds.movePointRight(3).setScale(0, RoundingMode.CEILING).longValue();
+    }
+
+    /**
+     * Sets the timeout of the next database operation of the current strand, which overrides the timeout of the
+     * client.
+     *
+     * @param env           current environment
+     * @param timeoutMillis timeout in milliseconds, where 0 disables the timeout
+     */
+    public static void setNextQueryTimeout(Environment env, long timeoutMillis) {
+        env.setStrandLocal(NEXT_QUERY_TIMEOUT_STRAND_LOCAL, timeoutMillis);
+    }
+
+    /**
+     * Returns the timeout of a database operation of the current strand. The timeout set for the next operation of
+     * the strand is consumed by this operation.
+     *
+     * @param env    current environment
+     * @param client client object
+     * @return the timeout of the operation
+     */
+    public static QueryTimeout getQueryTimeout(Environment env, BObject client) {
+        Object timeoutMillis = env.getStrandLocal(NEXT_QUERY_TIMEOUT_STRAND_LOCAL);
+        if (timeoutMillis != null) {
+            env.setStrandLocal(NEXT_QUERY_TIMEOUT_STRAND_LOCAL, null);
+        } else {
+            timeoutMillis = client.getNativeData(Constants.QUERY_TIMEOUT_NATIVE_DATA_FIELD);
+        }
+        if (timeoutMillis == null || (Long) timeoutMillis <= 0) {
+            return NONE;
+        }
+        return new QueryTimeout((Long) timeoutMillis);
+    }
+
+    /**
+     * Starts watching the execution of a statement. The statement is cancelled if the execution is not completed
+     * within the time remaining for the operation.
+     *
+     * @param statement statement to be executed
+     * @return the watch, which should be closed once the execution is completed
+     * @throws SQLException if the timeout of the operation already elapsed, or the driver rejects the query timeout
+     */
+    public Watch watch(Statement statement) throws SQLException {
+        if (timeoutMillis <= 0) {
+            return NO_WATCH;
+        }
+        long now = System.nanoTime();
+        if (!started) {
+            started = true;
+            deadline = now + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        }
+        long remainingNanos = deadline - now;
+        if (remainingNanos <= 0) {
+            timedOut = true;
+            throw new SQLTimeoutException(getTimeoutMessage());
+        }
+        // The query timeout lets the database abort the query as well, in case the cancellation does not reach it
+        statement.setQueryTimeout((int) Math.max(1, (TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 999) / 1000));
+        Watch watch = new Watch(this, statement);
+        watch.schedule(remainingNanos);
+        return watch;
+    }
+
+    /**
+     * Starts watching the fetches of the rows of a result stream. Each fetch is cancelled if it is not completed
+     * within the timeout of the operation.
+     *
+     * @param statement statement of which the rows are fetched
+     * @return the watch, which should be closed once the stream is closed, or null if the timeout is disabled
+     */
+    public FetchWatch watchFetches(Statement statement) {
+        if (timeoutMillis <= 0) {
+            return null;
+        }
+        return new FetchWatch(this, statement, TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    /**
+     * Returns the error of a failed execution as a timeout error if the statement was cancelled by the watchdog, as
+     * drivers report cancelled statements with different errors.
+     *
+     * @param e error of the execution
+     * @return the error to be reported
+     */
+    public SQLException translate(SQLException e) {
+        if (!timedOut || e instanceof SQLTimeoutException) {
+            return e;
+        }
+        return new SQLTimeoutException(getTimeoutMessage(), e.getSQLState(), e.getErrorCode(), e);
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    private void cancel(Statement statement) {
+        timedOut = true;
+        try {
+            statement.cancel();
+        } catch (SQLException ignored) {
+            // The query timeout set on the statement is still enforced by the database
+        }
+    }
+
+    private String getTimeoutMessage() {
+        return "Query did not complete within the timeout of " +
+                BigDecimal.valueOf(timeoutMillis, 3).stripTrailingZeros().toPlainString() + " seconds";
+    }
+
+    private static ScheduledThreadPoolExecutor createWatchdog() {
+        ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1,
+                getDaemonThreadFactory("bal-sql-query-watchdog"));
+        watchdog.setRemoveOnCancelPolicy(true);
+        return watchdog;
+    }
+
+    private static ExecutorService createCanceller() {
+        ThreadPoolExecutor canceller = new ThreadPoolExecutor(CANCELLER_THREAD_COUNT, CANCELLER_THREAD_COUNT, 60L,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), getDaemonThreadFactory("bal-sql-query-canceller"));
+        canceller.allowCoreThreadTimeOut(true);
+        return canceller;
+    }
+
+    private static ThreadFactory getDaemonThreadFactory(String threadName) {
+        return runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName(threadName);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * This class holds the state shared by the watches of a statement. The cancellation of the statement runs in the
+     * canceller pool without holding the lock of the watch, and the closing of the watch waits until a cancellation in
+     * progress is completed, so that a statement is never cancelled once its watch is closed, as cached statements
+     * are reused by other operations.
+     */
+    private abstract static class StatementWatch {
+
+        final QueryTimeout queryTimeout;
+        final Statement statement;
+        boolean closed = false;
+        private boolean cancelling = false;
+
+        StatementWatch(QueryTimeout queryTimeout, Statement statement) {
+            this.queryTimeout = queryTimeout;
+            this.statement = statement;
+        }
+
+        synchronized void cancelStatement() {
+            if (closed || cancelling) {
+                return;
+            }
+            cancelling = true;
+            CANCELLER.execute(() -> {
+                try {
+                    queryTimeout.cancel(statement);
+                } finally {
+                    synchronized (this) {
+                        cancelling = false;
+                        notifyAll();
+                    }
+                }
+            });
+        }
+
+        synchronized void closeWatch() {
+            closed = true;
+            boolean interrupted = false;
+            while (cancelling) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * This class represents the watch of a statement execution.
+     */
+    public static class Watch extends StatementWatch implements AutoCloseable {
+
+        private ScheduledFuture<?> cancellation;
+
+        private Watch(QueryTimeout queryTimeout, Statement statement) {
+            super(queryTimeout, statement);
+        }
+
+        private synchronized void schedule(long delayNanos) {
+            cancellation = WATCHDOG.schedule(this::cancelStatement, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Stops watching the execution, and clears the query timeout of the statement. If the statement is being
+         * cancelled, this waits until the cancellation is completed.
+         */
+        @Override
+        public void close() {
+            if (statement == null) {
+                return;
+            }
+            synchronized (this) {
+                cancellation.cancel(false);
+                closeWatch();
+            }
+            try {
+                statement.setQueryTimeout(0);
+            } catch (SQLException ignored) {
+                // The statement is closed
+            }
+        }
+    }
+
+    /**
+     * This class represents the watch of the fetches of a result stream. A single check of the watchdog is scheduled
+     * at a time, which is rescheduled to the deadline of the fetch in progress, so that the rows served from the
+     * buffer of the driver do not schedule a check each.
+     */
+    public static class FetchWatch extends StatementWatch implements AutoCloseable {
+
+        private final long timeoutNanos;
+        private volatile long fetchStart;
+        private volatile boolean fetching = false;
+        private ScheduledFuture<?> check;
+
+        private FetchWatch(QueryTimeout queryTimeout, Statement statement, long timeoutNanos) {
+            super(queryTimeout, statement);
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        /**
+         * Starts watching a fetch of the rows of the stream.
+         */
+        public void begin() {
+            fetchStart = System.nanoTime();
+            fetching = true;
+            synchronized (this) {
+                if (check == null && !closed) {
+                    check = WATCHDOG.schedule(this::check, timeoutNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        /**
+         * Stops watching the fetch in progress.
+         */
+        public void end() {
+            fetching = false;
+        }
+
+        /**
+         * Returns the error of a failed fetch as a timeout error if the fetch was cancelled by the watchdog.
+         *
+         * @param e error of the fetch
+         * @return the error to be reported
+         */
+        public SQLException translate(SQLException e) {
+            return queryTimeout.translate(e);
+        }
+
+        private synchronized void check() {
+            check = null;
+            if (closed || !fetching) {
+                return;
+            }
+            long remainingNanos = fetchStart + timeoutNanos - System.nanoTime();
+            if (remainingNanos > 0) {
+                check = WATCHDOG.schedule(this::check, remainingNanos, TimeUnit.NANOSECONDS);
+                return;
+            }
+            cancelStatement();
+        }
+
+        /**
+         * Stops watching the fetches of the stream. If a fetch is being cancelled, this waits until the cancellation
+         * is completed.
+         */
+        @Override
+        public synchronized void close() {
+            if (check != null) {
+                check.cancel(false);
+                check = null;
+            }
+            closeWatch();
+        }
+    }
+}
@@ -18,17 +18,24 @@
 package io.ballerina.stdlib.sql.utils;
 
 import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.sql.Constants;
 import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import static io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool.SQL_EXECUTOR_SERVICE;
 import static io.ballerina.stdlib.sql.utils.Utils.cleanUpConnection;
 
 /**
@@ -46,15 +53,77 @@ public class RecordIteratorUtils {
     }
 
     public static Object nextResult(BObject recordIterator, DefaultResultParameterProcessor resultParameterProcessor) {
+        Iterator<?> cachedRows = (Iterator<?>) recordIterator.getNativeData(Constants.CACHED_ROWS_NATIVE_DATA_FIELD);
+        if (cachedRows != null) {
+            return cachedRows.hasNext() ? ResultCache.copy(cachedRows.next()) : null;
+        }
+        Iterator<?> bufferedRows = (Iterator<?>) recordIterator.getNativeData(
+                Constants.BUFFERED_ROWS_NATIVE_DATA_FIELD);
+        if (bufferedRows != null) {
+            if (bufferedRows.hasNext()) {
+                return bufferedRows.next();
+            }
+            recordIterator.addNativeData(Constants.BUFFERED_ROWS_NATIVE_DATA_FIELD, null);
+        }
+        SpilledResult spilledResult = (SpilledResult) recordIterator.getNativeData(
+                Constants.SPILLED_RESULT_NATIVE_DATA_FIELD);
+        if (spilledResult != null) {
+            try {
+                Object result = spilledResult.next();
+                if (result != null) {
+                    return result;
+                }
+            } catch (IOException | RuntimeException e) {
+                closeResult(recordIterator);
+                return ErrorGenerator.getSQLApplicationError("Error when reading the SQL result from the temporary " +
+                        "file. " + e.getMessage());
+            }
+            spilledResult.close();
+            recordIterator.addNativeData(Constants.SPILLED_RESULT_NATIVE_DATA_FIELD, null);
+        }
         ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        if (resultSet == null) {
+            // All the rows are buffered or spilled, and the resources of the result are already released
+            closeResult(recordIterator);
+            return null;
+        }
+        ResultCache.Recorder recorder = (ResultCache.Recorder) recordIterator.getNativeData(
+                Constants.RESULT_CACHE_RECORDER_NATIVE_DATA_FIELD);
+        KeysetScan keysetScan = (KeysetScan) recordIterator.getNativeData(Constants.KEYSET_SCAN_NATIVE_DATA_FIELD);
+        QueryTimeout.FetchWatch fetchWatch = (QueryTimeout.FetchWatch) recordIterator.getNativeData(
+                Constants.FETCH_WATCH_NATIVE_DATA_FIELD);
         try {
-            if (resultSet.next()) {
-                RecordType streamConstraint = (RecordType) recordIterator.getNativeData(
-                        Constants.RECORD_TYPE_DATA_FIELD);
-                List<ColumnDefinition> columnDefinitions = (List<ColumnDefinition>) recordIterator
-                        .getNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD);
-                return Utils.createBallerinaRecord(streamConstraint, resultParameterProcessor, resultSet,
-                        columnDefinitions);
+            ResultPrefetcher resultPrefetcher = getResultPrefetcher(recordIterator, resultParameterProcessor);
+            Object result;
+            if (resultPrefetcher != null) {
+                result = resultPrefetcher.next();
+            } else {
+                result = fetchRecord(recordIterator, resultParameterProcessor, resultSet, fetchWatch);
+                if (keysetScan != null) {
+                    if (result != null) {
+                        keysetScan.recordKey(resultSet);
+                    } else {
+                        // The connection of the previous page is released before the next page is read
+                        Object closeError = keysetScan.closePage(recordIterator);
+                        if (closeError != null) {
+                            closeResult(recordIterator);
+                            return closeError;
+                        }
+                        if (keysetScan.openNextPage(recordIterator)) {
+                            return nextResult(recordIterator, resultParameterProcessor);
+                        }
+                    }
+                }
+            }
+            if (result != null) {
+                if (recorder != null) {
+                    recorder.add(result);
+                }
+                return result;
+            }
+            // The result is only cached when all of its rows are read
+            if (recorder != null) {
+                recorder.complete();
             }
             // Stream has reached the end, we clean up the resources, here any error from closing the stream is ignored.
             closeResult(recordIterator);
@@ -62,7 +131,8 @@ public class RecordIteratorUtils {
         } catch (SQLException e) {
             // Stream throws an error, we clean up the resources, here any error from closing the stream is ignored.
             closeResult(recordIterator);
-            return ErrorGenerator.getSQLDatabaseError(e, "Error when iterating the SQL result");
+            return ErrorGenerator.getSQLDatabaseError(fetchWatch != null ? fetchWatch.translate(e) : e,
+                    "Error when iterating the SQL result");
         } catch (ApplicationError e) {
             // Stream throws an error, we clean up the resources, here any error from closing the stream is ignored.
             closeResult(recordIterator);
@@ -75,7 +145,211 @@ public class RecordIteratorUtils {
         }
     }
 
+    /**
+     * Reads the rows of a result into memory, until the result ends or the buffered rows exceed the given number of
+     * rows or estimated bytes. If the result ends, its result set, statement and connection are released, and the
+     * stream is served from memory. Otherwise, the buffered rows are returned before the rest of the rows are read.
+     *
+     * @param recordIterator           record iterator of the result
+     * @param resultParameterProcessor post-processor of the result
+     * @param maxRows                  maximum number of buffered rows
+     * @param maxBytes                 maximum estimated size of the buffered rows, or 0 if the size is not limited
+     * @return true if all the rows of the result are buffered
+     * @throws SQLException     if the rows cannot be read
+     * @throws ApplicationError if the rows cannot be converted
+     */
+    public static boolean bufferResult(BObject recordIterator,
+                                       AbstractResultParameterProcessor resultParameterProcessor, int maxRows,
+                                       long maxBytes) throws SQLException, ApplicationError {
+        ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        ResultCache.Recorder recorder = (ResultCache.Recorder) recordIterator.getNativeData(
+                Constants.RESULT_CACHE_RECORDER_NATIVE_DATA_FIELD);
+        QueryTimeout.FetchWatch fetchWatch = (QueryTimeout.FetchWatch) recordIterator.getNativeData(
+                Constants.FETCH_WATCH_NATIVE_DATA_FIELD);
+        List<Object> rows = new ArrayList<>();
+        long size = 0;
+        boolean completed = false;
+        // One row more than the limit is read, so that a result of exactly the limit is detected as completed
+        while (rows.size() <= maxRows && (maxBytes <= 0 || size <= maxBytes)) {
+            BMap<BString, Object> row = fetchRecord(recordIterator, resultParameterProcessor, resultSet,
+                    fetchWatch);
+            if (row == null) {
+                completed = true;
+                break;
+            }
+            if (maxBytes > 0) {
+                size += ResultCache.estimateSize(row);
+            }
+            if (recorder != null) {
+                recorder.add(row);
+            }
+            rows.add(row);
+        }
+        recordIterator.addNativeData(Constants.BUFFERED_ROWS_NATIVE_DATA_FIELD, rows.iterator());
+        if (completed) {
+            releaseResult(recordIterator, resultSet, recorder);
+        }
+        return completed;
+    }
+
+    /**
+     * Writes the rows of a result to a temporary file, until the result ends or the file exceeds the given size. If
+     * the result ends, its result set, statement and connection are released, and the stream is served from the
+     * file. Otherwise, the rows in the file are returned before the rest of the rows are read.
+     *
+     * @param recordIterator           record iterator of the result
+     * @param resultParameterProcessor post-processor of the result
+     * @param maxBytes                 maximum size of the file and the values kept in memory, which is checked
+     *                                 before each row is written
+     * @return true if all the rows of the result are written to the file
+     * @throws SQLException     if the rows cannot be read
+     * @throws ApplicationError if the rows cannot be converted, or the file cannot be written
+     */
+    public static boolean spillResult(BObject recordIterator,
+                                      AbstractResultParameterProcessor resultParameterProcessor, long maxBytes)
+            throws SQLException, ApplicationError {
+        ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        ResultCache.Recorder recorder = (ResultCache.Recorder) recordIterator.getNativeData(
+                Constants.RESULT_CACHE_RECORDER_NATIVE_DATA_FIELD);
+        QueryTimeout.FetchWatch fetchWatch = (QueryTimeout.FetchWatch) recordIterator.getNativeData(
+                Constants.FETCH_WATCH_NATIVE_DATA_FIELD);
+        boolean completed = false;
+        try (SpilledResult.Writer writer = SpilledResult.newWriter()) {
+            // The values which are kept in memory count towards the limit, as they are held until they are read
+            while (writer.getSize() + writer.getInMemorySize() < maxBytes) {
+                BMap<BString, Object> row = fetchRecord(recordIterator, resultParameterProcessor, resultSet,
+                        fetchWatch);
+                if (row == null) {
+                    completed = true;
+                    break;
+                }
+                if (recorder != null) {
+                    recorder.add(row);
+                }
+                writer.write(row);
+            }
+            recordIterator.addNativeData(Constants.SPILLED_RESULT_NATIVE_DATA_FIELD, writer.finish());
+        } catch (IOException e) {
+            throw new ApplicationError("Error while writing the SQL result to a temporary file. " + e.getMessage(), e);
+        }
+        if (completed) {
+            releaseResult(recordIterator, resultSet, recorder);
+        }
+        return completed;
+    }
+
+    private static void releaseResult(BObject recordIterator, ResultSet resultSet, ResultCache.Recorder recorder) {
+        if (recorder != null) {
+            recorder.complete();
+            recordIterator.addNativeData(Constants.RESULT_CACHE_RECORDER_NATIVE_DATA_FIELD, null);
+        }
+        closeFetchWatch(recordIterator);
+        Statement statement = (Statement) recordIterator.getNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD);
+        Connection connection = (Connection) recordIterator.getNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD);
+        cleanUpConnection(recordIterator, resultSet, statement, connection);
+    }
+
+    private static BMap<BString, Object> fetchRecord(BObject recordIterator,
+                                                     AbstractResultParameterProcessor resultParameterProcessor,
+                                                     ResultSet resultSet, QueryTimeout.FetchWatch fetchWatch)
+            throws SQLException, ApplicationError {
+        RecordType streamConstraint = (RecordType) recordIterator.getNativeData(Constants.RECORD_TYPE_DATA_FIELD);
+        return fetchRecord(streamConstraint, getColumnDefinitions(recordIterator), resultParameterProcessor,
+                resultSet, fetchWatch);
+    }
+
+    // Reads the next row of the result, or returns null if the end of the result is reached. The fetch is cancelled
+    // if it is not completed within the query timeout of the stream
+    private static BMap<BString, Object> fetchRecord(RecordType streamConstraint,
+                                                     List<ColumnDefinition> columnDefinitions,
+                                                     AbstractResultParameterProcessor resultParameterProcessor,
+                                                     ResultSet resultSet, QueryTimeout.FetchWatch fetchWatch)
+            throws SQLException, ApplicationError {
+        if (fetchWatch != null) {
+            fetchWatch.begin();
+        }
+        try {
+            if (!resultSet.next()) {
+                return null;
+            }
+            return Utils.createBallerinaRecord(streamConstraint, resultParameterProcessor, resultSet,
+                    columnDefinitions);
+        } finally {
+            if (fetchWatch != null) {
+                fetchWatch.end();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ColumnDefinition> getColumnDefinitions(BObject recordIterator) {
+        return (List<ColumnDefinition>) recordIterator.getNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD);
+    }
+
+    // The statement is not cancelled by the watchdog once the watch is closed, as it is reused by other operations
+    private static void closeFetchWatch(BObject recordIterator) {
+        QueryTimeout.FetchWatch fetchWatch = (QueryTimeout.FetchWatch) recordIterator.getNativeData(
+                Constants.FETCH_WATCH_NATIVE_DATA_FIELD);
+        if (fetchWatch != null) {
+            fetchWatch.close();
+            recordIterator.addNativeData(Constants.FETCH_WATCH_NATIVE_DATA_FIELD, null);
+        }
+    }
+
+    // Starts prefetching the rows when the first row is requested, as the result parameter processor is only
+    // available at this point. The producer does not refer to the record iterator, so that an abandoned stream
+    // becomes unreachable, and its prefetcher is cancelled when the stream is reclaimed by the leak tracker
+    private static ResultPrefetcher getResultPrefetcher(BObject recordIterator,
+                                                        DefaultResultParameterProcessor resultParameterProcessor) {
+        ResultPrefetcher resultPrefetcher = (ResultPrefetcher) recordIterator.getNativeData(
+                Constants.RESULT_PREFETCHER_NATIVE_DATA_FIELD);
+        Object prefetchSize = recordIterator.getNativeData(Constants.PREFETCH_SIZE_NATIVE_DATA_FIELD);
+        if (resultPrefetcher != null || prefetchSize == null) {
+            return resultPrefetcher;
+        }
+        recordIterator.addNativeData(Constants.PREFETCH_SIZE_NATIVE_DATA_FIELD, null);
+        ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        RecordType streamConstraint = (RecordType) recordIterator.getNativeData(Constants.RECORD_TYPE_DATA_FIELD);
+        List<ColumnDefinition> columnDefinitions = getColumnDefinitions(recordIterator);
+        QueryTimeout.FetchWatch fetchWatch = (QueryTimeout.FetchWatch) recordIterator.getNativeData(
+                Constants.FETCH_WATCH_NATIVE_DATA_FIELD);
+        resultPrefetcher = new ResultPrefetcher(() -> fetchRecord(streamConstraint, columnDefinitions,
+                resultParameterProcessor, resultSet, fetchWatch), (int) prefetchSize);
+        if (!resultPrefetcher.start(SQL_EXECUTOR_SERVICE)) {
+            // No worker of the pool is available, hence the rows are read by the consumer
+            return null;
+        }
+        recordIterator.addNativeData(Constants.RESULT_PREFETCHER_NATIVE_DATA_FIELD, resultPrefetcher);
+        StreamLeakTracker.TrackedStream trackedStream = (StreamLeakTracker.TrackedStream) recordIterator.getNativeData(
+                Constants.TRACKED_STREAM_NATIVE_DATA_FIELD);
+        if (trackedStream != null) {
+            trackedStream.setResultPrefetcher(resultPrefetcher);
+        }
+        return resultPrefetcher;
+    }
+
     public static Object closeResult(BObject recordIterator) {
+        recordIterator.addNativeData(Constants.RESULT_CACHE_RECORDER_NATIVE_DATA_FIELD, null);
+        recordIterator.addNativeData(Constants.KEYSET_SCAN_NATIVE_DATA_FIELD, null);
+        StreamLeakTracker.TrackedStream trackedStream = (StreamLeakTracker.TrackedStream) recordIterator.getNativeData(
+                Constants.TRACKED_STREAM_NATIVE_DATA_FIELD);
+        if (trackedStream != null) {
+            trackedStream.close();
+            recordIterator.addNativeData(Constants.TRACKED_STREAM_NATIVE_DATA_FIELD, null);
+        }
+        SpilledResult spilledResult = (SpilledResult) recordIterator.getNativeData(
+                Constants.SPILLED_RESULT_NATIVE_DATA_FIELD);
+        if (spilledResult != null) {
+            spilledResult.close();
+            recordIterator.addNativeData(Constants.SPILLED_RESULT_NATIVE_DATA_FIELD, null);
+        }
+        ResultPrefetcher resultPrefetcher = (ResultPrefetcher) recordIterator.getNativeData(
+                Constants.RESULT_PREFETCHER_NATIVE_DATA_FIELD);
+        if (resultPrefetcher != null) {
+            resultPrefetcher.cancel();
+            recordIterator.addNativeData(Constants.RESULT_PREFETCHER_NATIVE_DATA_FIELD, null);
+        }
+        closeFetchWatch(recordIterator);
         ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
         Statement statement = (Statement) recordIterator.getNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD);
         Connection connection = (Connection) recordIterator.getNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD);
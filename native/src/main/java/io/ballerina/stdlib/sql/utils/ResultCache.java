@@ -0,0 +1,615 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BValue;
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.ParameterizedQuery.StatementType;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.transaction.SQLTransactionContext;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class caches the results of the queries of a client, which are bounded by the number of entries and the
+ * estimated size of the results in bytes. Following the W-TinyLFU policy, a new result enters a small LRU window,
+ * and a result evicted from the window is only admitted to the main LRU region if it is accessed more frequently than
+ * the result it replaces. The access frequencies are counted in a count-min sketch, which is aged periodically.
+ * <p>
+ * A result is removed when its time-to-live expires, or when a statement executed through the client modifies one
+ * of the tables of the query. A statement executed within a transaction removes the results again when the
+ * transaction ends, as its changes are only visible to the other connections once the transaction is committed. The
+ * tables are read from the SQL, hence only the queries of which the tables can be read and of which the parameters
+ * are simple values are cached. Views are not resolved, hence the result of a query of a view is not removed when the
+ * tables used by the view are modified. Queries with common table expressions are not cached, as the names defined
+ * by the expressions cannot be told apart from the tables.
+ *
+ * @since 1.10.0
+ */
+public class ResultCache {
+
+    private static final Object UNCACHEABLE = new Object();
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final int windowCapacity;
+    private final LinkedHashMap<CacheKey, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<CacheKey, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<CacheKey>> tableKeys = new HashMap<>();
+    private final FrequencySketch sketch;
+    private long byteSize = 0;
+    private long generation = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+    private long invalidationCount = 0;
+
+    public ResultCache(int maxEntries, long maxBytes, long ttlNanos) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttlNanos;
+        // The window holds 1% of the entries, as recommended for W-TinyLFU
+        this.windowCapacity = Math.max(1, maxEntries / 100);
+        this.sketch = new FrequencySketch(maxEntries);
+    }
+
+    /**
+     * Creates a result cache from the `sql:ResultCacheConfig` record.
+     *
+     * @param config result cache configurations
+     * @return result cache
+     * @throws ApplicationError if the configurations are invalid
+     */
+    public static ResultCache fromConfig(BMap<BString, Object> config) throws ApplicationError {
+        long maxEntries = config.getIntValue(Constants.ResultCacheConfig.MAX_ENTRIES);
+        long maxBytes = config.getIntValue(Constants.ResultCacheConfig.MAX_BYTES);
+        double ttl = ((BDecimal) config.get(Constants.ResultCacheConfig.TTL)).floatValue();
+        if (maxEntries < 1 || maxEntries > Integer.MAX_VALUE) {
+            throw new ApplicationError("ResultCacheConfig field 'maxEntries' must be between 1 and " +
+                    Integer.MAX_VALUE + ".");
+        }
+        if (maxBytes < 1) {
+            throw new ApplicationError("ResultCacheConfig field 'maxBytes' must be greater than zero.");
+        }
+        if (ttl <= 0) {
+            throw new ApplicationError("ResultCacheConfig field 'ttl' must be greater than zero.");
+        }
+        return new ResultCache((int) maxEntries, maxBytes, (long) (ttl * 1_000_000_000L));
+    }
+
+    /**
+     * Returns the result cache of the client.
+     *
+     * @param client client object
+     * @return the result cache, or null if the results of the client are not cached
+     */
+    public static ResultCache getResultCache(BObject client) {
+        return (ResultCache) client.getNativeData(Constants.RESULT_CACHE_NATIVE_DATA_FIELD);
+    }
+
+    /**
+     * Removes the results of the queries which use the tables modified by a statement executed through the client.
+     * All the results are removed if the modified tables cannot be read from the SQL of the statement. The results are
+     * removed again when the transaction of the statement ends, as the results read by the other connections before
+     * the commit do not have the changes of the statement.
+     *
+     * @param client             client object
+     * @param sqlQueries         executed statements
+     * @param isWithinTrxBlock   whether the statements are executed within a transaction
+     * @param trxResourceManager transaction resource manager
+     */
+    public static void invalidate(BObject client, Iterable<ParameterizedQuery> sqlQueries, boolean isWithinTrxBlock,
+                                  TransactionResourceManager trxResourceManager) {
+        ResultCache resultCache = getResultCache(client);
+        if (resultCache == null) {
+            return;
+        }
+        resultCache.invalidateQueries(sqlQueries);
+        if (isWithinTrxBlock) {
+            addCompletionAction(client, trxResourceManager, () -> resultCache.invalidateQueries(sqlQueries));
+        }
+    }
+
+    /**
+     * Removes all the results of the client, as the statement executed through the client may modify any table. The
+     * results are removed again when the transaction of the statement ends.
+     *
+     * @param client             client object
+     * @param isWithinTrxBlock   whether the statement is executed within a transaction
+     * @param trxResourceManager transaction resource manager
+     */
+    public static void invalidateAll(BObject client, boolean isWithinTrxBlock,
+                                     TransactionResourceManager trxResourceManager) {
+        ResultCache resultCache = getResultCache(client);
+        if (resultCache == null) {
+            return;
+        }
+        resultCache.invalidateAll();
+        if (isWithinTrxBlock) {
+            addCompletionAction(client, trxResourceManager, resultCache::invalidateAll);
+        }
+    }
+
+    private static void addCompletionAction(BObject client, TransactionResourceManager trxResourceManager,
+                                            Runnable action) {
+        String connectorId = (String) client.getNativeData(Constants.SQL_CONNECTOR_TRANSACTION_ID);
+        BallerinaTransactionContext txContext = trxResourceManager.getCurrentTransactionContext()
+                .getTransactionContext(connectorId);
+        // The transaction has no context of the client if the statement failed before obtaining the connection
+        if (txContext instanceof SQLTransactionContext) {
+            ((SQLTransactionContext) txContext).addCompletionAction(action);
+        }
+    }
+
+    void invalidateQueries(Iterable<ParameterizedQuery> sqlQueries) {
+        Set<String> invalidatedQueries = new HashSet<>();
+        for (ParameterizedQuery sqlQuery : sqlQueries) {
+            if (!invalidatedQueries.add(sqlQuery.getSqlQuery())) {
+                continue;
+            }
+            TableUsage tableUsage = sqlQuery.getStatementType() == StatementType.DML ?
+                    TableUsage.of(sqlQuery.getSqlQuery()) : null;
+            if (tableUsage == null) {
+                invalidateAll();
+                return;
+            }
+            invalidate(tableUsage.modifiedTables);
+        }
+    }
+
+    /**
+     * Creates the key of the results of a query.
+     *
+     * @param parameterizedQuery       query
+     * @param resultType               type of the result
+     * @param resultParameterProcessor post-processor of the result
+     * @param isSingleRow              true if only the first row of the result is returned
+     * @return the key, or null if the result of the query cannot be cached
+     */
+    public CacheKey createKey(ParameterizedQuery parameterizedQuery, Type resultType,
+                              Object resultParameterProcessor, boolean isSingleRow) {
+        if (parameterizedQuery.getStatementType() != StatementType.SELECT) {
+            return null;
+        }
+        Object[] insertions = parameterizedQuery.getInsertions();
+        List<Object> parameters = new ArrayList<>(insertions.length);
+        for (Object insertion : insertions) {
+            Object parameter = getParameterKey(insertion);
+            if (parameter == UNCACHEABLE) {
+                return null;
+            }
+            parameters.add(parameter);
+        }
+        TableUsage tableUsage = TableUsage.of(parameterizedQuery.getSqlQuery());
+        if (tableUsage == null) {
+            return null;
+        }
+        return new CacheKey(parameterizedQuery.getSqlQuery(), parameters, resultType,
+                resultParameterProcessor.getClass(), isSingleRow, tableUsage.usedTables);
+    }
+
+    /**
+     * Returns the cached rows of a query. The rows are shared by the readers of the result, hence each row must be
+     * copied with {@link #copy(Object)} before it is returned to the caller.
+     *
+     * @param key key of the result
+     * @return the rows, or null if the result is not cached
+     */
+    public synchronized List<Object> get(CacheKey key) {
+        sketch.increment(key.hashCode());
+        Entry entry = window.get(key);
+        if (entry == null) {
+            entry = main.get(key);
+        }
+        if (entry != null && System.nanoTime() - entry.expiresAt >= 0) {
+            remove(entry);
+            evictionCount++;
+            entry = null;
+        }
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.rows;
+    }
+
+    /**
+     * Starts recording the rows of a query which are read from the database. The rows are cached when the recording
+     * is completed, unless a statement is executed through the client in the meantime.
+     *
+     * @param key key of the result
+     * @return recorder of the rows
+     */
+    public synchronized Recorder newRecorder(CacheKey key) {
+        return new Recorder(key, generation);
+    }
+
+    public static Object copy(Object value) {
+        return value instanceof BRefValue ? ((BRefValue) value).copy(new HashMap<>()) : value;
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.ResultCacheStats.HIT_COUNT, hitCount);
+        stats.put(Constants.ResultCacheStats.MISS_COUNT, missCount);
+        stats.put(Constants.ResultCacheStats.EVICTION_COUNT, evictionCount);
+        stats.put(Constants.ResultCacheStats.INVALIDATION_COUNT, invalidationCount);
+        stats.put(Constants.ResultCacheStats.ENTRY_COUNT, (long) (window.size() + main.size()));
+        stats.put(Constants.ResultCacheStats.BYTE_SIZE, byteSize);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ResultCacheStats.RECORD_NAME, stats);
+    }
+
+    synchronized void invalidate(Set<String> tables) {
+        generation++;
+        for (String table : tables) {
+            Set<CacheKey> keys = tableKeys.get(table);
+            if (keys == null) {
+                continue;
+            }
+            for (CacheKey key : new ArrayList<>(keys)) {
+                Entry entry = window.containsKey(key) ? window.get(key) : main.get(key);
+                if (entry != null) {
+                    remove(entry);
+                    invalidationCount++;
+                }
+            }
+        }
+    }
+
+    synchronized void invalidateAll() {
+        generation++;
+        invalidationCount += window.size() + main.size();
+        window.clear();
+        main.clear();
+        tableKeys.clear();
+        byteSize = 0;
+    }
+
+    synchronized void put(CacheKey key, List<Object> rows, long size, long recordedGeneration) {
+        // A statement executed while the rows were read may have modified them
+        if (recordedGeneration != generation || size > maxBytes) {
+            return;
+        }
+        Entry previous = window.containsKey(key) ? window.get(key) : main.get(key);
+        if (previous != null) {
+            remove(previous);
+        }
+        Entry entry = new Entry(key, rows, size, System.nanoTime() + ttlNanos);
+        window.put(key, entry);
+        for (String table : key.tables) {
+            tableKeys.computeIfAbsent(table, k -> new HashSet<>()).add(key);
+        }
+        byteSize += size;
+        while (window.size() > windowCapacity) {
+            admit(removeEldest(window));
+        }
+        while (byteSize > maxBytes) {
+            evict(removeEldest(main.isEmpty() ? window : main));
+        }
+    }
+
+    // The result evicted from the window replaces the least recently used result of the main region only if it is
+    // accessed more frequently
+    private void admit(Entry candidate) {
+        int mainCapacity = maxEntries - windowCapacity;
+        if (main.size() < mainCapacity) {
+            main.put(candidate.key, candidate);
+            return;
+        }
+        if (mainCapacity <= 0) {
+            evict(candidate);
+            return;
+        }
+        Entry victim = main.values().iterator().next();
+        if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+            main.remove(victim.key);
+            evict(victim);
+            main.put(candidate.key, candidate);
+        } else {
+            evict(candidate);
+        }
+    }
+
+    private static Entry removeEldest(LinkedHashMap<CacheKey, Entry> region) {
+        Iterator<Entry> iterator = region.values().iterator();
+        Entry eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+
+    // Releases an entry which is already removed from its region
+    private void evict(Entry entry) {
+        unlink(entry);
+        evictionCount++;
+    }
+
+    private void remove(Entry entry) {
+        if (window.remove(entry.key) == null) {
+            main.remove(entry.key);
+        }
+        unlink(entry);
+    }
+
+    private void unlink(Entry entry) {
+        byteSize -= entry.size;
+        for (String table : entry.key.tables) {
+            Set<CacheKey> keys = tableKeys.get(table);
+            if (keys != null) {
+                keys.remove(entry.key);
+                if (keys.isEmpty()) {
+                    tableKeys.remove(table);
+                }
+            }
+        }
+    }
+
+    // Parameters are compared by their values, and the parameters which are not simple values, such as records,
+    // byte channels and files, make the query uncacheable
+    private static Object getParameterKey(Object value) {
+        if (value == null || value instanceof Long || value instanceof Double || value instanceof Boolean ||
+                value instanceof Integer || value instanceof Byte) {
+            return value;
+        } else if (value instanceof BString) {
+            return ((BString) value).getValue();
+        } else if (value instanceof BDecimal) {
+            return ((BDecimal) value).decimalValue();
+        } else if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            if (array.getElementType().getTag() == TypeTags.BYTE_TAG) {
+                return ByteBuffer.wrap(array.getBytes().clone());
+            }
+            List<Object> elements = new ArrayList<>(array.size());
+            for (int i = 0; i < array.size(); i++) {
+                Object element = getParameterKey(array.get(i));
+                if (element == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                elements.add(element);
+            }
+            return elements;
+        } else if (value instanceof BObject) {
+            BObject typedValue = (BObject) value;
+            if (!typedValue.getType().getFields().containsKey(Constants.TypedValueFields.VALUE.getValue())) {
+                return UNCACHEABLE;
+            }
+            Object typedValueKey = getParameterKey(typedValue.get(Constants.TypedValueFields.VALUE));
+            if (typedValueKey == UNCACHEABLE) {
+                return UNCACHEABLE;
+            }
+            return Arrays.asList(typedValue.getType().getName(), typedValueKey);
+        }
+        return UNCACHEABLE;
+    }
+
+    /**
+     * Estimates the memory used by a value of the result in bytes.
+     *
+     * @param value value of the result
+     * @return the estimated size
+     */
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 8;
+        } else if (value instanceof BString) {
+            return 40 + 2L * ((BString) value).length();
+        } else if (value instanceof BDecimal) {
+            return 48;
+        } else if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            if (array.getElementType().getTag() == TypeTags.BYTE_TAG) {
+                return 24 + array.size();
+            }
+            long size = 24;
+            for (int i = 0; i < array.size(); i++) {
+                size += estimateSize(array.get(i));
+            }
+            return size;
+        } else if (value instanceof BMap) {
+            long size = 48;
+            for (Object field : ((BMap<?, ?>) value).entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) field;
+                size += 32 + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof BValue) {
+            return 40 + 2L * ((BValue) value).stringValue(null).length();
+        }
+        return 16;
+    }
+
+    /**
+     * This class represents the key of a cached result, which is the SQL of the query, the values of its parameters
+     * and the type to which the result is converted.
+     */
+    public static class CacheKey {
+        private final String sqlQuery;
+        private final List<Object> parameters;
+        private final Type resultType;
+        private final Class<?> resultParameterProcessorClass;
+        private final boolean isSingleRow;
+        private final Set<String> tables;
+        private final int hashCode;
+
+        CacheKey(String sqlQuery, List<Object> parameters, Type resultType, Class<?> resultParameterProcessorClass,
+                 boolean isSingleRow, Set<String> tables) {
+            this.sqlQuery = sqlQuery;
+            this.parameters = parameters;
+            this.resultType = resultType;
+            this.resultParameterProcessorClass = resultParameterProcessorClass;
+            this.isSingleRow = isSingleRow;
+            this.tables = tables;
+            this.hashCode = Objects.hash(sqlQuery, parameters, resultType, resultParameterProcessorClass,
+                    isSingleRow);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return hashCode == other.hashCode && isSingleRow == other.isSingleRow &&
+                    sqlQuery.equals(other.sqlQuery) && parameters.equals(other.parameters) &&
+                    Objects.equals(resultType, other.resultType) &&
+                    resultParameterProcessorClass == other.resultParameterProcessorClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * This class collects the rows of a query while they are read from the database. The rows are dropped once their
+     * size exceeds the size of the cache.
+     */
+    public class Recorder {
+        private final CacheKey key;
+        private final long recordedGeneration;
+        private List<Object> rows = new ArrayList<>();
+        private long size = ENTRY_OVERHEAD;
+
+        private Recorder(CacheKey key, long recordedGeneration) {
+            this.key = key;
+            this.recordedGeneration = recordedGeneration;
+        }
+
+        /**
+         * Records a row which is returned to the caller. The row is copied, as the caller may modify it.
+         *
+         * @param row row of the result
+         */
+        public void add(Object row) {
+            if (rows == null) {
+                return;
+            }
+            size += estimateSize(row);
+            if (size > maxBytes) {
+                rows = null;
+                return;
+            }
+            rows.add(copy(row));
+        }
+
+        /**
+         * Caches the recorded rows, as all the rows of the result are read.
+         */
+        public void complete() {
+            if (rows != null) {
+                put(key, Collections.unmodifiableList(rows), size, recordedGeneration);
+                rows = null;
+            }
+        }
+    }
+
+    private static class Entry {
+        private final CacheKey key;
+        private final List<Object> rows;
+        private final long size;
+        private final long expiresAt;
+
+        Entry(CacheKey key, List<Object> rows, long size, long expiresAt) {
+            this.key = key;
+            this.rows = rows;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * This class counts the access frequencies of the keys in a count-min sketch of 4-bit counters. All the counters
+     * are halved after a number of accesses proportional to the size of the sketch, so that the keys which are no
+     * longer accessed lose their frequency.
+     */
+    static class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb7e15163, 0x85ebca6b, 0xc2b2ae35};
+        private static final int MAX_FREQUENCY = 15;
+
+        private final byte[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(int maxEntries) {
+            int length = Integer.highestOneBit(Math.max(16, Math.min(maxEntries, 1 << 24)) - 1) << 1;
+            this.counters = new byte[length];
+            this.mask = length - 1;
+            this.sampleSize = 10 * length;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int index = indexOf(hash, seed);
+                if (counters[index] < MAX_FREQUENCY) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = MAX_FREQUENCY;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, counters[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int seed) {
+            int h = (hash ^ seed) * 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class reads the rows of a result ahead of the consumer in a worker thread. The rows are converted by the
+ * producer and handed over through a bounded queue, so that fetching the rows from the database overlaps with the
+ * processing of the consumer. The worker is held until the result is fully read or the prefetcher is cancelled, hence
+ * each open prefetching stream occupies a worker of the SQL worker pool.
+ *
+ * @since 1.10.0
+ */
+public class ResultPrefetcher {
+
+    private static final Object END_OF_RESULT = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final long START_TIMEOUT_MILLIS = 100;
+    private static final int PENDING = 0;
+    private static final int STARTED = 1;
+    private static final int ABANDONED = 2;
+
+    private final RowReader rowReader;
+    private final BlockingQueue<Object> rows;
+    private final CountDownLatch producerFinished = new CountDownLatch(1);
+    private final CountDownLatch taskPickedUp = new CountDownLatch(1);
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private volatile boolean cancelled = false;
+
+    public ResultPrefetcher(RowReader rowReader, int prefetchSize) {
+        this.rowReader = rowReader;
+        // The queue allocates its nodes as the rows are added, so that a large prefetch size does not allocate the
+        // whole capacity upfront for a small result
+        this.rows = new LinkedBlockingQueue<>(prefetchSize);
+    }
+
+    /**
+     * Starts reading the rows in the given executor. The rows are not prefetched if the executor rejects the task,
+     * executes it in the calling thread, as the calling thread is the consumer, or does not pick up the task within a
+     * short time. A task which is queued behind other work is abandoned, so that the consumer reads the rows itself
+     * instead of waiting for a worker, which may be held by other producers waiting for their consumers.
+     *
+     * @param executor executor in which the rows are read
+     * @return true if the producer is started
+     */
+    public boolean start(Executor executor) {
+        Thread consumerThread = Thread.currentThread();
+        try {
+            executor.execute(() -> {
+                boolean isStarted = Thread.currentThread() != consumerThread
+                        && state.compareAndSet(PENDING, STARTED);
+                taskPickedUp.countDown();
+                if (!isStarted) {
+                    producerFinished.countDown();
+                    return;
+                }
+                produce();
+            });
+        } catch (RejectedExecutionException e) {
+            producerFinished.countDown();
+            return false;
+        }
+        try {
+            taskPickedUp.await(START_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // The task is abandoned unless a worker has started it, so that it returns without reading when it runs later
+        return !state.compareAndSet(PENDING, ABANDONED);
+    }
+
+    /**
+     * Returns the next row of the result.
+     *
+     * @return the next row, or null if the end of the result is reached
+     * @throws SQLException     if the producer failed to read the row
+     * @throws ApplicationError if the producer failed to convert the row
+     */
+    public Object next() throws SQLException, ApplicationError {
+        Object row;
+        try {
+            row = rows.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationError("Interrupted while waiting for the next row of the result.");
+        }
+        if (row == END_OF_RESULT) {
+            return null;
+        }
+        if (row instanceof Failure) {
+            ((Failure) row).rethrow();
+        }
+        return row;
+    }
+
+    /**
+     * Stops the producer and waits until it stops using the result set, so that the result set can be closed.
+     */
+    public void cancel() {
+        cancelled = true;
+        rows.clear();
+        try {
+            producerFinished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void produce() {
+        try {
+            while (!cancelled) {
+                Object row;
+                try {
+                    row = rowReader.read();
+                } catch (Throwable th) {
+                    offer(new Failure(th));
+                    return;
+                }
+                if (row == null) {
+                    offer(END_OF_RESULT);
+                    return;
+                }
+                offer(row);
+            }
+        } finally {
+            producerFinished.countDown();
+        }
+    }
+
+    private void offer(Object row) {
+        try {
+            while (!cancelled && !rows.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                // Wait until the consumer takes a row or cancels the prefetcher
+            }
+        } catch (InterruptedException e) {
+            cancelled = true;
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads and converts the next row of the result.
+     */
+    @FunctionalInterface
+    public interface RowReader {
+
+        /**
+         * Reads the next row.
+         *
+         * @return the converted row, or null if the end of the result is reached
+         * @throws SQLException     if the row cannot be read
+         * @throws ApplicationError if the row cannot be converted
+         */
+        Object read() throws SQLException, ApplicationError;
+    }
+
+    private static class Failure {
+        private final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+
+        void rethrow() throws SQLException, ApplicationError {
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            } else if (cause instanceof ApplicationError) {
+                throw (ApplicationError) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
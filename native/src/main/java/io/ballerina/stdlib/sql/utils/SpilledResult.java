@@ -0,0 +1,500 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class holds the rows of a result which are written to a temporary file, so that the resources of the result are
+ * released before the rows are consumed. The rows are written in a compact binary form, and read back through a window
+ * of the file, which is a single buffer reused for the rows that fit in it. Records, arrays and simple values are
+ * written to the file, and read-only records and arrays are frozen again when they are read. The values which have no
+ * binary form, such as XML values, are kept in memory and referred to from the file, and their estimated size is
+ * counted towards the limit of the result.
+ * <p>
+ * The file is deleted as soon as it is written where the file system allows it, otherwise when the result is closed.
+ * The window is allocated outside the heap once per result, rather than mapping the file, as the mapped regions are
+ * only released when they are garbage collected and their memory is not accounted for by the heap.
+ *
+ * @since 1.10.0
+ */
+public class SpilledResult implements Closeable {
+
+    static final int DEFAULT_WINDOW_SIZE = 1024 * 1024;
+
+    private static final byte NIL = 0;
+    private static final byte INT = 1;
+    private static final byte FLOAT = 2;
+    private static final byte TRUE = 3;
+    private static final byte FALSE = 4;
+    private static final byte STRING = 5;
+    private static final byte DECIMAL = 6;
+    private static final byte BYTES = 7;
+    private static final byte ARRAY = 8;
+    private static final byte RECORD = 9;
+    private static final byte IN_MEMORY = 10;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private final List<Type> types;
+    private final List<Object> inMemoryValues;
+    private long position = 0;
+    private long windowStart = 0;
+    private int windowLength = 0;
+    private ByteBuffer window = null;
+    private boolean closed = false;
+
+    private SpilledResult(Path file, FileChannel channel, long size, int windowSize, List<Type> types,
+                          List<Object> inMemoryValues) {
+        this.file = file;
+        this.channel = channel;
+        this.size = size;
+        this.windowSize = windowSize;
+        this.types = types;
+        this.inMemoryValues = inMemoryValues;
+    }
+
+    /**
+     * Creates a writer of the rows of a result, which writes the rows to a new temporary file.
+     *
+     * @return the writer
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static Writer newWriter() throws IOException {
+        return new Writer(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Reads the next row of the result.
+     *
+     * @return the row, or null if all the rows are read
+     * @throws IOException if the file cannot be read, or the result is closed
+     */
+    public synchronized Object next() throws IOException {
+        if (closed) {
+            throw new IOException("The result is already closed.");
+        }
+        if (position >= size) {
+            return null;
+        }
+        int length = read(position, Integer.BYTES).getInt();
+        ByteBuffer row = read(position + Integer.BYTES, length);
+        position += Integer.BYTES + length;
+        return readValue(row);
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Closes the file and deletes it if it is not deleted yet, and releases the window.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        window = null;
+        inMemoryValues.clear();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // The file is left in the temporary directory
+        }
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        if (length > windowSize) {
+            // A row larger than the window is read into a buffer of its own
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            readFully(buffer, offset);
+            buffer.flip();
+            return buffer;
+        }
+        if (window == null) {
+            window = ByteBuffer.allocateDirect(windowSize);
+        }
+        if (offset < windowStart || offset + length > windowStart + windowLength) {
+            // The values are copied out of the window when they are read, hence the window is refilled from the
+            // offset once it does not hold the requested bytes. The window is emptied first, so that stale bytes are
+            // not read if it cannot be refilled
+            windowLength = 0;
+            window.clear();
+            window.limit((int) Math.min(windowSize, size - offset));
+            readFully(window, offset);
+            windowStart = offset;
+            windowLength = window.position();
+        }
+        ByteBuffer buffer = window.duplicate();
+        buffer.position((int) (offset - windowStart));
+        buffer.limit(buffer.position() + length);
+        return buffer;
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of the temporary file.");
+            }
+        }
+    }
+
+    private Object readValue(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NIL:
+                return null;
+            case INT:
+                return buffer.getLong();
+            case FLOAT:
+                return buffer.getDouble();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case STRING:
+                return StringUtils.fromString(readString(buffer));
+            case DECIMAL:
+                int scale = buffer.getInt();
+                return ValueCreator.createDecimalValue(new BigDecimal(new BigInteger(readBytes(buffer)), scale));
+            case BYTES:
+                boolean frozenBytes = buffer.get() != 0;
+                BArray bytes = ValueCreator.createArrayValue(readBytes(buffer));
+                if (frozenBytes) {
+                    bytes.freezeDirect();
+                }
+                return bytes;
+            case ARRAY:
+                return readArray(buffer);
+            case RECORD:
+                RecordType recordType = (RecordType) types.get(buffer.getInt());
+                boolean frozen = buffer.get() != 0;
+                int fieldCount = buffer.getInt();
+                // The values are written as the initial values of the fields, so that the readonly fields can be set,
+                // and the record is frozen afterwards if it was read-only
+                BMap<BString, Object> record = ValueCreator.createRecordValue(recordType);
+                for (int i = 0; i < fieldCount; i++) {
+                    BString key = StringUtils.fromString(readString(buffer));
+                    record.populateInitialValue(key, readValue(buffer));
+                }
+                if (frozen) {
+                    record.freezeDirect();
+                }
+                return record;
+            default:
+                // Each value is read once, hence it is released from the result
+                return inMemoryValues.set(buffer.getInt(), null);
+        }
+    }
+
+    private BArray readArray(ByteBuffer buffer) {
+        ArrayType arrayType = (ArrayType) types.get(buffer.getInt());
+        boolean frozen = buffer.get() != 0;
+        int length = buffer.getInt();
+        int elementTag = TypeUtils.getReferredType(arrayType.getElementType()).getTag();
+        if (frozen) {
+            return readFrozenArray(buffer, arrayType, elementTag, length);
+        }
+        BArray array = ValueCreator.createArrayValue(arrayType);
+        // The arrays of simple types hold their elements unboxed, hence the elements are added by their type
+        for (int i = 0; i < length; i++) {
+            Object element = readValue(buffer);
+            if (elementTag == TypeTags.INT_TAG) {
+                array.add(i, (long) (Long) element);
+            } else if (elementTag == TypeTags.FLOAT_TAG) {
+                array.add(i, (double) (Double) element);
+            } else if (elementTag == TypeTags.BOOLEAN_TAG) {
+                array.add(i, (boolean) (Boolean) element);
+            } else if (elementTag == TypeTags.STRING_TAG) {
+                array.add(i, (BString) element);
+            } else {
+                array.add(i, element);
+            }
+        }
+        return array;
+    }
+
+    // A read-only array cannot be updated once it is created, hence it is created from its elements and frozen
+    // afterwards. The arrays of simple types are created from their unboxed elements.
+    private BArray readFrozenArray(ByteBuffer buffer, ArrayType arrayType, int elementTag, int length) {
+        BArray array;
+        if (elementTag == TypeTags.INT_TAG) {
+            long[] elements = new long[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = (Long) readValue(buffer);
+            }
+            array = ValueCreator.createArrayValue(elements);
+        } else if (elementTag == TypeTags.FLOAT_TAG) {
+            double[] elements = new double[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = (Double) readValue(buffer);
+            }
+            array = ValueCreator.createArrayValue(elements);
+        } else if (elementTag == TypeTags.BOOLEAN_TAG) {
+            boolean[] elements = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = (Boolean) readValue(buffer);
+            }
+            array = ValueCreator.createArrayValue(elements);
+        } else if (elementTag == TypeTags.STRING_TAG) {
+            BString[] elements = new BString[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = (BString) readValue(buffer);
+            }
+            array = ValueCreator.createArrayValue(elements);
+        } else {
+            Object[] elements = new Object[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = readValue(buffer);
+            }
+            array = ValueCreator.createArrayValue(elements, arrayType);
+        }
+        array.freezeDirect();
+        return array;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        return new String(readBytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * This class writes the rows of a result to the temporary file. The file is deleted if the writer is closed
+     * before the rows are handed over to a {@link SpilledResult}.
+     */
+    public static class Writer implements Closeable {
+
+        private final Path file;
+        private final DataOutputStream fileStream;
+        private final int windowSize;
+        private final ByteArrayOutputStream rowBytes = new ByteArrayOutputStream();
+        private final DataOutputStream row = new DataOutputStream(rowBytes);
+        private final List<Type> types = new ArrayList<>();
+        private final Map<Type, Integer> typeIndexes = new IdentityHashMap<>();
+        private final List<Object> inMemoryValues = new ArrayList<>();
+        private long size = 0;
+        private long inMemorySize = 0;
+        private boolean finished = false;
+
+        Writer(int windowSize) throws IOException {
+            this.windowSize = windowSize;
+            file = Files.createTempFile("bal-sql-result-", ".bin");
+            try {
+                fileStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024));
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        }
+
+        /**
+         * Writes a row of the result.
+         *
+         * @param value the row
+         * @throws IOException if the file cannot be written
+         */
+        public void write(Object value) throws IOException {
+            rowBytes.reset();
+            writeValue(value);
+            row.flush();
+            int length = rowBytes.size();
+            fileStream.writeInt(length);
+            rowBytes.writeTo(fileStream);
+            size += Integer.BYTES + length;
+        }
+
+        Path getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the number of bytes written to the file.
+         *
+         * @return size of the file
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the estimated size of the values which are kept in memory.
+         *
+         * @return estimated size in bytes
+         */
+        public long getInMemorySize() {
+            return inMemorySize;
+        }
+
+        /**
+         * Completes writing the rows, and opens the file for reading them.
+         *
+         * @return the result, which reads the rows from the file
+         * @throws IOException if the file cannot be opened
+         */
+        public SpilledResult finish() throws IOException {
+            fileStream.close();
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            finished = true;
+            try {
+                // An open file remains readable after it is deleted on POSIX file systems, hence it does not
+                // outlive the process even if the result is never closed
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // The file is deleted when the result is closed
+            }
+            return new SpilledResult(file, channel, size, windowSize, types, inMemoryValues);
+        }
+
+        @Override
+        public void close() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            try {
+                fileStream.close();
+            } catch (IOException ignored) {
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                row.writeByte(NIL);
+            } else if (value instanceof Long) {
+                row.writeByte(INT);
+                row.writeLong((Long) value);
+            } else if (value instanceof Double) {
+                row.writeByte(FLOAT);
+                row.writeDouble((Double) value);
+            } else if (value instanceof Boolean) {
+                row.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof BString) {
+                row.writeByte(STRING);
+                writeString(((BString) value).getValue());
+            } else if (value instanceof BDecimal) {
+                BigDecimal decimal = ((BDecimal) value).decimalValue();
+                row.writeByte(DECIMAL);
+                row.writeInt(decimal.scale());
+                writeBytes(decimal.unscaledValue().toByteArray());
+            } else if (value instanceof BArray) {
+                writeArray((BArray) value);
+            } else if (value instanceof BMap &&
+                    TypeUtils.getReferredType(TypeUtils.getType(value)) instanceof RecordType) {
+                BMap<?, ?> record = (BMap<?, ?>) value;
+                row.writeByte(RECORD);
+                row.writeInt(getTypeIndex(TypeUtils.getReferredType(TypeUtils.getType(value))));
+                row.writeBoolean(record.isFrozen());
+                row.writeInt(record.size());
+                for (Map.Entry<?, ?> field : record.entrySet()) {
+                    writeString(((BString) field.getKey()).getValue());
+                    writeValue(field.getValue());
+                }
+            } else {
+                writeInMemory(value);
+            }
+        }
+
+        private void writeArray(BArray array) throws IOException {
+            Type arrayType = TypeUtils.getReferredType(TypeUtils.getType(array));
+            if (TypeUtils.getReferredType(array.getElementType()).getTag() == TypeTags.BYTE_TAG) {
+                row.writeByte(BYTES);
+                row.writeBoolean(array.isFrozen());
+                writeBytes(array.getBytes());
+            } else if (arrayType instanceof ArrayType) {
+                row.writeByte(ARRAY);
+                row.writeInt(getTypeIndex(arrayType));
+                row.writeBoolean(array.isFrozen());
+                row.writeInt(array.size());
+                for (int i = 0; i < array.size(); i++) {
+                    writeValue(array.get(i));
+                }
+            } else {
+                writeInMemory(array);
+            }
+        }
+
+        private void writeInMemory(Object value) throws IOException {
+            row.writeByte(IN_MEMORY);
+            row.writeInt(inMemoryValues.size());
+            inMemoryValues.add(value);
+            inMemorySize += ResultCache.estimateSize(value);
+        }
+
+        private void writeString(String value) throws IOException {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            row.writeInt(bytes.length);
+            row.write(bytes);
+        }
+
+        private int getTypeIndex(Type type) {
+            return typeIndexes.computeIfAbsent(type, key -> {
+                types.add(key);
+                return types.size() - 1;
+            });
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.datasource.StatementCache;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.lang.ref.Cleaner;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class tracks the result streams of a client which hold a connection. A stream which becomes unreachable
+ * without being closed is closed by the cleaner, so that its connection is returned to the pool. When the leak
+ * threshold is set, a warning is logged for each stream which stays open for longer than the threshold. The
+ * allocation site of a sample of the streams is recorded and logged with the warnings.
+ *
+ * @since 1.10.0
+ */
+public class StreamLeakTracker {
+
+    private static final Logger LOGGER = createLogger();
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Set<TrackedStream> OPEN_STREAMS = ConcurrentHashMap.newKeySet();
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+    private static ScheduledExecutorService sweeper = null;
+
+    private volatile long leakThresholdNanos = 0;
+    private volatile double sampleRate = 0;
+    private final AtomicLong openCount = new AtomicLong(0);
+    private final AtomicLong leakCount = new AtomicLong(0);
+    private final AtomicLong reclaimedCount = new AtomicLong(0);
+
+    /**
+     * Returns the tracker of the client.
+     *
+     * @param client client object
+     * @return the tracker, or null if the client is not created through the `sql` module
+     */
+    public static StreamLeakTracker getTracker(BObject client) {
+        return (StreamLeakTracker) client.getNativeData(Constants.STREAM_LEAK_TRACKER_NATIVE_DATA_FIELD);
+    }
+
+    /**
+     * Configures the tracker from the `sql:StreamLeakDetectionConfig` record.
+     *
+     * @param config leak detection configurations
+     * @throws ApplicationError if the configurations are invalid
+     */
+    public void configure(BMap<BString, Object> config) throws ApplicationError {
+        double leakThreshold = ((BDecimal) config.get(Constants.StreamLeakDetectionConfig.LEAK_THRESHOLD)).floatValue();
+        double rate = config.getFloatValue(Constants.StreamLeakDetectionConfig.SAMPLE_RATE);
+        if (leakThreshold < 0) {
+            throw new ApplicationError("StreamLeakDetectionConfig field 'leakThreshold' cannot be negative.");
+        }
+        if (rate < 0 || rate > 1) {
+            throw new ApplicationError("StreamLeakDetectionConfig field 'sampleRate' must be between 0 and 1.");
+        }
+        leakThresholdNanos = (long) (leakThreshold * TimeUnit.SECONDS.toNanos(1));
+        sampleRate = rate;
+        if (leakThresholdNanos > 0) {
+            startSweeper();
+        }
+    }
+
+    /**
+     * Records the allocation site of a stream, if the stream is sampled. This should be called by the strand which
+     * requested the stream, so that the Ballerina call stack is recorded.
+     *
+     * @param client client object
+     * @return the allocation site, or null if the stream is not sampled
+     */
+    public static Throwable captureAllocationSite(BObject client) {
+        StreamLeakTracker tracker = getTracker(client);
+        if (tracker == null || tracker.sampleRate <= 0 ||
+                ThreadLocalRandom.current().nextDouble() >= tracker.sampleRate) {
+            return null;
+        }
+        return new Throwable("Stream allocated here");
+    }
+
+    /**
+     * Starts tracking a stream.
+     *
+     * @param owner           object which holds the resources of the stream, of which the resources are released
+     *                        once it becomes unreachable
+     * @param resultSet       result set of the stream
+     * @param statement       statement of the stream
+     * @param connection      connection of the stream
+     * @param closeConnection whether the connection should be closed, which is false within transactions
+     * @param allocationSite  allocation site of the stream, or null
+     * @return the tracked stream, which should be closed with the stream
+     */
+    public TrackedStream track(Object owner, ResultSet resultSet, Statement statement, Connection connection,
+                               boolean closeConnection, Throwable allocationSite) {
+        TrackedStream trackedStream = new TrackedStream(this, closeConnection, allocationSite);
+        trackedStream.setResources(resultSet, statement, connection);
+        openCount.incrementAndGet();
+        OPEN_STREAMS.add(trackedStream);
+        trackedStream.cleanable = CLEANER.register(owner, trackedStream);
+        return trackedStream;
+    }
+
+    public long getOpenCount() {
+        return openCount.get();
+    }
+
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    public long getReclaimedCount() {
+        return reclaimedCount.get();
+    }
+
+    public BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.StreamStats.OPEN_COUNT, getOpenCount());
+        stats.put(Constants.StreamStats.LEAK_COUNT, getLeakCount());
+        stats.put(Constants.StreamStats.RECLAIMED_COUNT, getReclaimedCount());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.StreamStats.RECORD_NAME, stats);
+    }
+
+    private static synchronized void startSweeper() {
+        if (sweeper != null) {
+            return;
+        }
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("bal-sql-stream-leak-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(StreamLeakTracker::sweep, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+        sweeper = executor;
+    }
+
+    static void sweep() {
+        long now = System.nanoTime();
+        for (TrackedStream trackedStream : OPEN_STREAMS) {
+            long leakThresholdNanos = trackedStream.tracker.leakThresholdNanos;
+            if (leakThresholdNanos > 0 && !trackedStream.reported &&
+                    now - trackedStream.openedAt > leakThresholdNanos) {
+                trackedStream.reported = true;
+                trackedStream.tracker.leakCount.incrementAndGet();
+                warn(String.format("A query result stream has been open for more than %d seconds. Close the stream " +
+                        "or consume it fully to return its connection to the pool.",
+                        TimeUnit.NANOSECONDS.toSeconds(leakThresholdNanos)), trackedStream.allocationSite);
+            }
+        }
+    }
+
+    private static Logger createLogger() {
+        Logger logger = Logger.getLogger(StreamLeakTracker.class.getName());
+        // The root logger is disabled when a client is created to hide the logs of the connection pool, hence the
+        // level of the warnings is set explicitly
+        logger.setLevel(Level.WARNING);
+        return logger;
+    }
+
+    private static void warn(String message, Throwable allocationSite) {
+        StringBuilder warning = new StringBuilder("[ballerina/sql] ").append(message);
+        if (allocationSite != null) {
+            StackTraceElement[] frames = allocationSite.getStackTrace();
+            boolean hasBallerinaFrames = false;
+            for (StackTraceElement frame : frames) {
+                hasBallerinaFrames |= frame.getFileName() != null && frame.getFileName().endsWith(".bal");
+            }
+            warning.append(" The stream was created at:");
+            for (StackTraceElement frame : frames) {
+                // The frames of the Java implementation are omitted if the Ballerina call stack is available
+                if (!hasBallerinaFrames || (frame.getFileName() != null && frame.getFileName().endsWith(".bal"))) {
+                    warning.append(System.lineSeparator()).append("\tat ").append(frame);
+                }
+            }
+        }
+        LOGGER.warning(warning.toString());
+    }
+
+    /**
+     * This class holds the resources of a tracked stream, which are released by the cleaner if the stream is not
+     * closed.
+     */
+    public static class TrackedStream implements Runnable {
+
+        private final StreamLeakTracker tracker;
+        private final boolean closeConnection;
+        private final Throwable allocationSite;
+        private volatile ResultSet resultSet;
+        private volatile Statement statement;
+        private volatile Connection connection;
+        private volatile ResultPrefetcher resultPrefetcher;
+        private final long openedAt = System.nanoTime();
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private volatile boolean reported = false;
+        private Cleaner.Cleanable cleanable;
+
+        private TrackedStream(StreamLeakTracker tracker, boolean closeConnection, Throwable allocationSite) {
+            this.tracker = tracker;
+            this.closeConnection = closeConnection;
+            this.allocationSite = allocationSite;
+        }
+
+        /**
+         * Sets the resources held by the stream, which change when a stream reads its rows through multiple queries.
+         * The resources should be cleared before they are released by the owner.
+         *
+         * @param resultSet  result set of the stream
+         * @param statement  statement of the stream
+         * @param connection connection of the stream
+         */
+        public void setResources(ResultSet resultSet, Statement statement, Connection connection) {
+            this.resultSet = resultSet;
+            this.statement = statement;
+            this.connection = closeConnection ? connection : null;
+        }
+
+        /**
+         * Sets the prefetcher of the stream, which is cancelled before the resources are released by the cleaner.
+         *
+         * @param resultPrefetcher prefetcher which reads the rows of the stream
+         */
+        public void setResultPrefetcher(ResultPrefetcher resultPrefetcher) {
+            this.resultPrefetcher = resultPrefetcher;
+        }
+
+        /**
+         * Stops tracking the stream, which is closed by its owner.
+         */
+        public void close() {
+            if (release()) {
+                cleanable.clean();
+            }
+        }
+
+        // Invoked by the cleaner when the owner of the stream becomes unreachable
+        @Override
+        public void run() {
+            if (!release()) {
+                return;
+            }
+            tracker.reclaimedCount.incrementAndGet();
+            // The producer of an abandoned stream waits for the consumer, hence it is stopped before the result set
+            // is closed
+            if (resultPrefetcher != null) {
+                resultPrefetcher.cancel();
+            }
+            try {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                if (statement != null) {
+                    StatementCache.closeStatement(statement);
+                }
+                if (connection != null) {
+                    connection.close();
+                }
+            } catch (SQLException ignored) {
+                // The connection is discarded by the pool if it cannot be closed
+            }
+            warn("A query result stream was not closed, hence it was closed when it was garbage collected. Close " +
+                    "the stream or consume it fully to return its connection to the pool.", allocationSite);
+        }
+
+        private boolean release() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            OPEN_STREAMS.remove(this);
+            tracker.openCount.decrementAndGet();
+            return true;
+        }
+    }
+}
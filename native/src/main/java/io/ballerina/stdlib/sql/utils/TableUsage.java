@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * This class holds the tables modified and used by a query, which are read from the SQL of the query without
+ * parsing it. The reading skips the literals and the comments, and takes the tables which follow the `FROM`, `INTO`,
+ * `UPDATE`, `JOIN` and `USING` keywords.
+ *
+ * @since 1.10.0
+ */
+class TableUsage {
+
+    private static final Set<String> TABLE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "FROM", "INTO", "UPDATE", "JOIN", "USING"));
+    private static final Set<String> CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "WHERE", "SET", "ON", "JOIN", "INNER", "OUTER", "LEFT", "RIGHT", "FULL", "CROSS", "NATURAL", "GROUP",
+            "ORDER", "HAVING", "UNION", "EXCEPT", "INTERSECT", "VALUES", "SELECT", "DEFAULT", "LIMIT", "OFFSET",
+            "FETCH", "RETURNING", "WHEN", "USING", "WINDOW", "FOR"));
+
+    final Set<String> modifiedTables = new HashSet<>();
+    final Set<String> usedTables = new HashSet<>();
+
+    /**
+     * Reads the tables of a query. For a DML query, the table which follows the first `INTO`, `UPDATE` or `FROM`
+     * keyword is the modified table. All the tables of the query, including the modified table, are used by it.
+     *
+     * @param sqlQuery SQL of the query
+     * @return the tables of the query, or null if no table can be read
+     */
+    static TableUsage of(String sqlQuery) {
+        List<String> tokens = tokenize(sqlQuery);
+        TableUsage tableUsage = new TableUsage();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (!TABLE_KEYWORDS.contains(tokens.get(i).toUpperCase(Locale.ENGLISH))) {
+                continue;
+            }
+            // A comma separated list of tables, which may have aliases, follows the keyword
+            int next = i + 1;
+            while (next < tokens.size() && isIdentifier(tokens.get(next))) {
+                String table = getTableName(tokens.get(next));
+                if (tableUsage.modifiedTables.isEmpty()) {
+                    tableUsage.modifiedTables.add(table);
+                }
+                tableUsage.usedTables.add(table);
+                next++;
+                if (next < tokens.size() && tokens.get(next).equalsIgnoreCase("AS")) {
+                    next++;
+                }
+                if (next < tokens.size() && isIdentifier(tokens.get(next))) {
+                    next++;
+                }
+                if (next < tokens.size() && tokens.get(next).equals(",")) {
+                    next++;
+                } else {
+                    break;
+                }
+            }
+        }
+        return tableUsage.modifiedTables.isEmpty() ? null : tableUsage;
+    }
+
+    private static boolean isIdentifier(String token) {
+        char first = token.charAt(0);
+        if (first == '"' || first == '`' || first == '[') {
+            return true;
+        }
+        return (Character.isLetter(first) || first == '_') &&
+                !CLAUSE_KEYWORDS.contains(token.toUpperCase(Locale.ENGLISH));
+    }
+
+    // Tables are compared by their names without the schema and the quotes, ignoring the case
+    private static String getTableName(String identifier) {
+        int separatorIndex = identifier.lastIndexOf('.');
+        String name = separatorIndex < 0 ? identifier : identifier.substring(separatorIndex + 1);
+        if (name.length() > 1 && (name.charAt(0) == '"' || name.charAt(0) == '`' || name.charAt(0) == '[')) {
+            name = name.substring(1, name.length() - 1);
+        }
+        return name.toUpperCase(Locale.ENGLISH);
+    }
+
+    // Splits the SQL into identifiers and symbols, skipping the literals and the comments
+    private static List<String> tokenize(String sqlQuery) {
+        List<String> tokens = new ArrayList<>();
+        int length = sqlQuery.length();
+        int i = 0;
+        while (i < length) {
+            char c = sqlQuery.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'') {
+                i = skipQuoted(sqlQuery, i, '\'');
+            } else if (c == '-' && i + 1 < length && sqlQuery.charAt(i + 1) == '-') {
+                int end = sqlQuery.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+            } else if (c == '/' && i + 1 < length && sqlQuery.charAt(i + 1) == '*') {
+                int end = sqlQuery.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (Character.isLetter(c) || c == '_' || c == '"' || c == '`' || c == '[') {
+                int start = i;
+                i = skipIdentifierPart(sqlQuery, i);
+                while (i < length && sqlQuery.charAt(i) == '.') {
+                    i = skipIdentifierPart(sqlQuery, i + 1);
+                }
+                tokens.add(sqlQuery.substring(start, Math.min(i, length)));
+            } else {
+                tokens.add(String.valueOf(c));
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static int skipIdentifierPart(String sqlQuery, int index) {
+        if (index >= sqlQuery.length()) {
+            return index;
+        }
+        char c = sqlQuery.charAt(index);
+        if (c == '"' || c == '`') {
+            return skipQuoted(sqlQuery, index, c);
+        } else if (c == '[') {
+            return skipQuoted(sqlQuery, index, ']');
+        }
+        int i = index;
+        while (i < sqlQuery.length() && (Character.isLetterOrDigit(sqlQuery.charAt(i)) ||
+                sqlQuery.charAt(i) == '_' || sqlQuery.charAt(i) == '$')) {
+            i++;
+        }
+        return i;
+    }
+
+    // Returns the index after the closing quote. A doubled quote within the value is an escaped quote
+    private static int skipQuoted(String sqlQuery, int index, char closingQuote) {
+        int i = index + 1;
+        while (i < sqlQuery.length()) {
+            if (sqlQuery.charAt(i) == closingQuote) {
+                if (i + 1 < sqlQuery.length() && sqlQuery.charAt(i + 1) == closingQuote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+}
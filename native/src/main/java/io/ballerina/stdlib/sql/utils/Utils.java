@@ -42,15 +42,16 @@ import io.ballerina.runtime.api.values.BValue;
 import io.ballerina.runtime.transactions.TransactionResourceManager;
 import io.ballerina.stdlib.sql.Constants;
 import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.datasource.StatementCache;
 import io.ballerina.stdlib.sql.exception.ApplicationError;
 import io.ballerina.stdlib.sql.exception.ConversionError;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.FieldMismatchError;
 import io.ballerina.stdlib.sql.exception.TypeMismatchError;
 import io.ballerina.stdlib.sql.parameterprocessor.AbstractResultParameterProcessor;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import io.ballerina.stdlib.time.util.TimeValueHandler;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -87,13 +88,13 @@ import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 import static io.ballerina.stdlib.sql.Constants.AFFECTED_ROW_COUNT_FIELD;
 import static io.ballerina.stdlib.sql.Constants.ANNON_RECORD_TYPE_NAME;
 import static io.ballerina.stdlib.sql.Constants.ANN_COLUMN_NAME_FIELD;
-import static io.ballerina.stdlib.sql.Constants.BACKTICK;
 import static io.ballerina.stdlib.sql.Constants.COLUMN_ANN_NAME;
 import static io.ballerina.stdlib.sql.Constants.DEFAULT_STREAM_CONSTRAINT_NAME;
 import static io.ballerina.stdlib.sql.Constants.EXECUTION_RESULT_FIELD;
 import static io.ballerina.stdlib.sql.Constants.EXECUTION_RESULT_RECORD;
 import static io.ballerina.stdlib.sql.Constants.HIKARI;
 import static io.ballerina.stdlib.sql.Constants.LAST_INSERTED_ID_FIELD;
+import static io.ballerina.stdlib.sql.Constants.LOB_READ_BUFFER_SIZE;
 import static io.ballerina.stdlib.sql.Constants.RECORD_FIELD_ANN_PREFIX;
 import static io.ballerina.stdlib.time.util.Constants.ANALOG_GIGA;
 
@@ -144,7 +145,7 @@ public class Utils {
         }
         if (statement != null) {
             try {
-                statement.close();
+                StatementCache.closeStatement(statement);
             } catch (SQLException ignored) {
             }
         }
@@ -159,22 +160,15 @@ public class Utils {
     }
 
     public static ParameterizedQuery getParameterizedSQLQuery(BObject paramString) {
-        StringBuilder sqlQuery = new StringBuilder();
-        List<Object> insertions = new ArrayList<>();
-
         BArray bStringsArray = paramString.getArrayValue(Constants.ParameterizedQueryFields.STRINGS);
         BArray bInsertions = paramString.getArrayValue(Constants.ParameterizedQueryFields.INSERTIONS);
-        for (int i = 0; i < bInsertions.size(); i++) {
-            if (bInsertions.get(i) instanceof BString && bInsertions.getBString(i).getValue().equals(BACKTICK)) {
-                sqlQuery.append(bStringsArray.getBString(i).getValue()).append(BACKTICK);
-            } else {
-                insertions.add(bInsertions.get(i));
-                sqlQuery.append(bStringsArray.getBString(i).getValue()).append(" ? ");
-            }
+        QueryTemplateCache templateCache = QueryTemplateCache.getInstance();
+        CompiledQueryTemplate template = templateCache.get(bStringsArray);
+        if (template == null || !template.matches(bInsertions)) {
+            template = CompiledQueryTemplate.compile(bStringsArray, bInsertions);
+            templateCache.put(bStringsArray, template);
         }
-        sqlQuery.append(bStringsArray.getBString(bInsertions.size()));
-
-        return new ParameterizedQuery(sqlQuery.toString(), insertions.toArray());
+        return template.bind(bInsertions);
     }
 
     public static DataError throwInvalidParameterError(Object value, String sqlType) {
@@ -192,11 +186,17 @@ public class Utils {
         if (data == null) {
             return null;
         }
-        try (Reader r = new BufferedReader(data.getCharacterStream())) {
-            StringBuilder sb = new StringBuilder();
-            int pos;
-            while ((pos = r.read()) != -1) {
-                sb.append((char) pos);
+        long length = data.length();
+        if (length > Integer.MAX_VALUE) {
+            throw new ConversionError(String.format("Retrieved CLOB of %d characters is too large to be read as " +
+                    "a string, use `sql:streamClob` to read it in chunks.", length));
+        }
+        try (Reader r = data.getCharacterStream()) {
+            StringBuilder sb = new StringBuilder((int) length);
+            char[] buffer = new char[LOB_READ_BUFFER_SIZE];
+            int count;
+            while ((count = r.read(buffer)) != -1) {
+                sb.append(buffer, 0, count);
             }
             return sb.toString();
         } catch (IOException e) {
@@ -258,6 +258,12 @@ public class Utils {
 
     public static Object cleanUpConnection(BObject ballerinaObject, ResultSet resultSet,
                                            Statement statement, Connection connection) {
+        return cleanUpConnection(ballerinaObject, resultSet, statement, connection,
+                isWithinTrxBlock(TransactionResourceManager.getInstance()));
+    }
+
+    public static Object cleanUpConnection(BObject ballerinaObject, ResultSet resultSet, Statement statement,
+                                           Connection connection, boolean isWithinTrxBlock) {
         if (resultSet != null) {
             try {
                 resultSet.close();
@@ -268,15 +274,13 @@ public class Utils {
         }
         if (statement != null) {
             try {
-                statement.close();
+                StatementCache.closeStatement(statement);
                 ballerinaObject.addNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD, null);
             } catch (SQLException e) {
                 return ErrorGenerator.getSQLDatabaseError(e, "Error while closing the result set. ");
             }
         }
-        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
-        if (!trxResourceManager.isInTransaction() ||
-                !trxResourceManager.getCurrentTransactionContext().hasTransactionBlock()) {
+        if (!isWithinTrxBlock) {
             if (connection != null) {
                 try {
                     connection.close();
@@ -336,6 +340,30 @@ public class Utils {
         return new PrimitiveTypeColumnDefinition(columnName, sqlType, sqlTypeName, isNullable, 1, columnName, type);
     }
 
+    /**
+     * Returns the column definitions of the result set of the given query. The definitions are generated once and
+     * cached per query, record type and result set metadata, since the mapping is the same for every execution.
+     *
+     * @param sqlQuery         SQL query that produced the result set
+     * @param resultSet        result set of the query
+     * @param streamConstraint record type which the result is mapped to
+     * @return column definitions of the result set
+     * @throws SQLException     if the result set metadata cannot be read
+     * @throws ApplicationError if the result set cannot be mapped to the record type
+     */
+    public static List<ColumnDefinition> getColumnDefinitions(String sqlQuery, ResultSet resultSet,
+                                                              StructureType streamConstraint)
+            throws SQLException, ApplicationError {
+        ColumnMappingPlanCache planCache = ColumnMappingPlanCache.getInstance();
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        List<ColumnDefinition> columnDefinitions = planCache.get(sqlQuery, streamConstraint, metaData);
+        if (columnDefinitions == null) {
+            columnDefinitions = planCache.put(sqlQuery, streamConstraint, metaData,
+                    getColumnDefinitions(resultSet, streamConstraint));
+        }
+        return columnDefinitions;
+    }
+
     public static List<ColumnDefinition> getColumnDefinitions(ResultSet resultSet, StructureType streamConstraint)
             throws SQLException, ApplicationError {
 
@@ -481,32 +509,29 @@ public class Utils {
                                                               ResultSet resultSet,
                                                               List<ColumnDefinition> columnDefinitions)
             throws SQLException, DataError {
-        Map<String, Object> struct = new HashMap<>();
-        for (ColumnDefinition columnDefinition : columnDefinitions) {
-            if (columnDefinition instanceof RecordColumnDefinition) {
-                RecordColumnDefinition recordColumnDef = (RecordColumnDefinition) columnDefinition;
-                BMap<BString, Object> innerRecord = ValueCreator.createRecordValue(
-                        (RecordType) recordColumnDef.getBallerinaType());
-                for (PrimitiveTypeColumnDefinition innerField : recordColumnDef.getInnerFields()) {
-                    innerRecord.put(fromString(innerField.getBallerinaFieldName()),
-                            Utils.getResult(resultSet, innerField.getResultSetColumnIndex(), innerField,
-                                    resultParameterProcessor));
-                }
-                struct.put(recordColumnDef.getBallerinaFieldName(), innerRecord);
-            } else if (columnDefinition instanceof PrimitiveTypeColumnDefinition) {
-                PrimitiveTypeColumnDefinition definition = (PrimitiveTypeColumnDefinition) columnDefinition;
-                struct.put(columnDefinition.getBallerinaFieldName(), Utils.getResult(resultSet,
-                        definition.getResultSetColumnIndex(), definition, resultParameterProcessor));
-            }
-            // Not possible to reach the final else since there is only two types of Column Definition
-        }
-
         try {
             if (recordConstraint.getName().equals(DEFAULT_STREAM_CONSTRAINT_NAME)) {
-                return ValueCreator.createRecordValue(recordConstraint, getInitialValueEntries(struct));
+                BMapInitialValueEntry[] entries = new BMapInitialValueEntry[columnDefinitions.size()];
+                for (int i = 0; i < entries.length; i++) {
+                    ColumnDefinition columnDefinition = columnDefinitions.get(i);
+                    entries[i] = ValueCreator.createKeyFieldEntry(columnDefinition.getBallerinaFieldKey(),
+                            getFieldValue(columnDefinition, resultSet, resultParameterProcessor));
+                }
+                return ValueCreator.createRecordValue(recordConstraint, entries);
             } else {
-                return ValueCreator.createRecordValue(recordConstraint.getPackage(), recordConstraint.getName(),
-                        struct);
+                // Values are written directly to the record value created from the type, which also populates the
+                // default values of the fields. They are written as the initial values of the fields, so that the
+                // readonly fields can be set, and the record is frozen afterwards if its type is readonly.
+                BMap<BString, Object> struct = ValueCreator.createRecordValue(recordConstraint.getPackage(),
+                        recordConstraint.getName());
+                for (ColumnDefinition columnDefinition : columnDefinitions) {
+                    struct.populateInitialValue(columnDefinition.getBallerinaFieldKey(),
+                            getFieldValue(columnDefinition, resultSet, resultParameterProcessor));
+                }
+                if (recordConstraint.isReadOnly()) {
+                    struct.freezeDirect();
+                }
+                return struct;
             }
         } catch (BError e) {
             if (e.getMessage().equals(Constants.INHERENT_TYPE_VIOLATION)) {
@@ -518,14 +543,52 @@ public class Utils {
         }
     }
 
+    private static Object getFieldValue(ColumnDefinition columnDefinition, ResultSet resultSet,
+                                        AbstractResultParameterProcessor resultParameterProcessor)
+            throws SQLException, DataError {
+        if (columnDefinition instanceof RecordColumnDefinition) {
+            RecordType innerRecordType = (RecordType) columnDefinition.getBallerinaType();
+            BMap<BString, Object> innerRecord = ValueCreator.createRecordValue(innerRecordType);
+            for (PrimitiveTypeColumnDefinition innerField : ((RecordColumnDefinition) columnDefinition)
+                    .getInnerFields()) {
+                innerRecord.populateInitialValue(innerField.getBallerinaFieldKey(), innerField.getColumnReader()
+                        .read(resultSet, innerField.getResultSetColumnIndex(), resultParameterProcessor));
+            }
+            if (innerRecordType.isReadOnly()) {
+                innerRecord.freezeDirect();
+            }
+            return innerRecord;
+        }
+        // Not possible to reach here with other types since there is only two types of Column Definition
+        PrimitiveTypeColumnDefinition definition = (PrimitiveTypeColumnDefinition) columnDefinition;
+        return definition.getColumnReader().read(resultSet, definition.getResultSetColumnIndex(),
+                resultParameterProcessor);
+    }
+
     public static Object getResult(ResultSet resultSet, int columnIndex, PrimitiveTypeColumnDefinition columnDefinition,
                                    AbstractResultParameterProcessor resultParameterProcessor)
             throws SQLException, DataError {
+        return columnDefinition.getColumnReader().read(resultSet, columnIndex, resultParameterProcessor);
+    }
+
+    /**
+     * Resolves the reader of a column based on its SQL type and the ballerina type. The readers of the columns which
+     * are mapped to the matching primitive types read and convert the values directly when the default result
+     * parameter processor is used, as the field assignment is already validated when the column definition is
+     * generated. Otherwise, the readers delegate to the result parameter processor so that the connector specific
+     * conversions are still applied.
+     *
+     * @param columnDefinition column definition
+     * @return reader of the column
+     */
+    static ColumnReader getColumnReader(PrimitiveTypeColumnDefinition columnDefinition) {
         int sqlType = columnDefinition.getSqlType();
         Type ballerinaType = columnDefinition.getBallerinaType();
+        String sqlTypeName = columnDefinition.getSqlTypeName();
         switch (sqlType) {
             case Types.ARRAY:
-                return resultParameterProcessor.processArrayResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processArrayResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.CHAR:
             case Types.VARCHAR:
             case Types.LONGVARCHAR:
@@ -533,93 +596,183 @@ public class Utils {
             case Types.NVARCHAR:
             case Types.LONGNVARCHAR:
                 if (ballerinaType.getTag() == TypeTags.JSON_TAG) {
-                    return resultParameterProcessor.processJsonResult(resultSet, columnIndex, sqlType, ballerinaType);
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processJsonResult(resultSet, columnIndex, sqlType, ballerinaType);
+                } else if (ballerinaType.getTag() == TypeTags.STRING_TAG) {
+                    return (resultSet, columnIndex, processor) -> isDefaultProcessor(processor)
+                            ? fromString(resultSet.getString(columnIndex))
+                            : processor.processCharResult(resultSet, columnIndex, sqlType, ballerinaType);
                 } else {
-                    return resultParameterProcessor.processCharResult(resultSet, columnIndex, sqlType, ballerinaType);
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processCharResult(resultSet, columnIndex, sqlType, ballerinaType);
                 }
             case Types.BINARY:
             case Types.VARBINARY:
             case Types.LONGVARBINARY:
                 if (ballerinaType.getTag() == TypeTags.STRING_TAG) {
-                    return resultParameterProcessor.processCharResult(
-                            resultSet, columnIndex, sqlType, ballerinaType, columnDefinition.getSqlTypeName());
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processCharResult(resultSet, columnIndex, sqlType, ballerinaType, sqlTypeName);
+                } else if (ballerinaType.getTag() == TypeTags.JSON_TAG) {
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processJsonResult(resultSet, columnIndex, sqlType, ballerinaType);
                 } else {
-                    return resultParameterProcessor.processByteArrayResult(
-                            resultSet, columnIndex, sqlType, ballerinaType, columnDefinition.getSqlTypeName());
+                    return (resultSet, columnIndex, processor) -> processor.processByteArrayResult(
+                            resultSet, columnIndex, sqlType, ballerinaType, sqlTypeName);
                 }
             case Types.BLOB:
-                return resultParameterProcessor.processBlobResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processBlobResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.CLOB:
-                return resultParameterProcessor.processClobResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processClobResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.NCLOB:
-                return resultParameterProcessor.processNClobResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processNClobResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.DATE:
-                return resultParameterProcessor.processDateResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processDateResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.TIME:
-                return resultParameterProcessor.processTimeResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processTimeResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.TIME_WITH_TIMEZONE:
-                return resultParameterProcessor.processTimeWithTimezoneResult(resultSet, columnIndex, sqlType,
-                        ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processTimeWithTimezoneResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.TIMESTAMP:
-                return resultParameterProcessor.processTimestampResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processTimestampResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.TIMESTAMP_WITH_TIMEZONE:
-                return resultParameterProcessor.processTimestampWithTimezoneResult(resultSet, columnIndex, sqlType,
-                        ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processTimestampWithTimezoneResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.ROWID:
-                return resultParameterProcessor.processRowIdResult(resultSet, columnIndex, sqlType, ballerinaType,
-                        "SQL RowID");
+                return (resultSet, columnIndex, processor) ->
+                        processor.processRowIdResult(resultSet, columnIndex, sqlType, ballerinaType, "SQL RowID");
             case Types.TINYINT:
             case Types.SMALLINT:
-                return resultParameterProcessor.processIntResult(resultSet, columnIndex, sqlType, ballerinaType);
+                if (ballerinaType.getTag() == TypeTags.INT_TAG) {
+                    return (resultSet, columnIndex, processor) -> {
+                        if (!isDefaultProcessor(processor)) {
+                            return processor.processIntResult(resultSet, columnIndex, sqlType, ballerinaType);
+                        }
+                        long value = resultSet.getInt(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                return (resultSet, columnIndex, processor) ->
+                        processor.processIntResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.INTEGER:
             case Types.BIGINT:
-                return resultParameterProcessor.processLongResult(resultSet, columnIndex, sqlType, ballerinaType);
+                if (ballerinaType.getTag() == TypeTags.INT_TAG) {
+                    return (resultSet, columnIndex, processor) -> {
+                        if (!isDefaultProcessor(processor)) {
+                            return processor.processLongResult(resultSet, columnIndex, sqlType, ballerinaType);
+                        }
+                        long value = resultSet.getLong(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                return (resultSet, columnIndex, processor) ->
+                        processor.processLongResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.REAL:
             case Types.FLOAT:
-                return resultParameterProcessor.processFloatResult(resultSet, columnIndex, sqlType, ballerinaType);
+                if (ballerinaType.getTag() == TypeTags.FLOAT_TAG) {
+                    return (resultSet, columnIndex, processor) -> {
+                        if (!isDefaultProcessor(processor)) {
+                            return processor.processFloatResult(resultSet, columnIndex, sqlType, ballerinaType);
+                        }
+                        double value = resultSet.getFloat(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                return (resultSet, columnIndex, processor) ->
+                        processor.processFloatResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.DOUBLE:
-                return resultParameterProcessor.processDoubleResult(resultSet, columnIndex, sqlType, ballerinaType);
+                if (ballerinaType.getTag() == TypeTags.FLOAT_TAG) {
+                    return (resultSet, columnIndex, processor) -> {
+                        if (!isDefaultProcessor(processor)) {
+                            return processor.processDoubleResult(resultSet, columnIndex, sqlType, ballerinaType);
+                        }
+                        double value = resultSet.getDouble(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                return (resultSet, columnIndex, processor) ->
+                        processor.processDoubleResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.NUMERIC:
             case Types.DECIMAL:
-                return resultParameterProcessor.processDecimalResult(resultSet, columnIndex, sqlType, ballerinaType);
+                if (ballerinaType.getTag() == TypeTags.DECIMAL_TAG) {
+                    return (resultSet, columnIndex, processor) -> {
+                        if (!isDefaultProcessor(processor)) {
+                            return processor.processDecimalResult(resultSet, columnIndex, sqlType, ballerinaType);
+                        }
+                        BigDecimal value = resultSet.getBigDecimal(columnIndex);
+                        return value == null ? null : ValueCreator.createDecimalValue(value);
+                    };
+                }
+                return (resultSet, columnIndex, processor) ->
+                        processor.processDecimalResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.BIT:
             case Types.BOOLEAN:
-                return resultParameterProcessor.processBooleanResult(resultSet, columnIndex, sqlType, ballerinaType);
+                if (ballerinaType.getTag() == TypeTags.BOOLEAN_TAG) {
+                    return (resultSet, columnIndex, processor) -> {
+                        if (!isDefaultProcessor(processor)) {
+                            return processor.processBooleanResult(resultSet, columnIndex, sqlType, ballerinaType);
+                        }
+                        boolean value = resultSet.getBoolean(columnIndex);
+                        return resultSet.wasNull() ? null : value;
+                    };
+                }
+                return (resultSet, columnIndex, processor) ->
+                        processor.processBooleanResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.REF:
             case Types.STRUCT:
-                return resultParameterProcessor.processStructResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processStructResult(resultSet, columnIndex, sqlType, ballerinaType);
             case Types.SQLXML:
-                return resultParameterProcessor.processXmlResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processXmlResult(resultSet, columnIndex, sqlType, ballerinaType);
             default:
-                if (ballerinaType.getTag() == TypeTags.INT_TAG) {
-                    resultParameterProcessor.processIntResult(resultSet, columnIndex, sqlType, ballerinaType);
-                } else if (ballerinaType.getTag() == TypeTags.STRING_TAG
-                        || ballerinaType.getTag() == TypeTags.ANY_TAG
-                        || ballerinaType.getTag() == TypeTags.ANYDATA_TAG) {
-                    return resultParameterProcessor.processCharResult(resultSet, columnIndex, sqlType, ballerinaType);
-                } else if (ballerinaType.getTag() == TypeTags.BOOLEAN_TAG) {
-                    return resultParameterProcessor.processBooleanResult(resultSet, columnIndex, sqlType,
-                            ballerinaType);
-                } else if (ballerinaType.getTag() == TypeTags.ARRAY_TAG &&
+                int tag = ballerinaType.getTag();
+                if (tag == TypeTags.INT_TAG) {
+                    // The value is read as an int before the connector specific processor converts it, which
+                    // rejects the SQL types that cannot be assigned to int
+                    return (resultSet, columnIndex, processor) -> {
+                        processor.processIntResult(resultSet, columnIndex, sqlType, ballerinaType);
+                        return processor.processCustomTypeFromResultSet(resultSet, columnIndex, columnDefinition);
+                    };
+                } else if (tag == TypeTags.STRING_TAG || tag == TypeTags.ANY_TAG || tag == TypeTags.ANYDATA_TAG) {
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processCharResult(resultSet, columnIndex, sqlType, ballerinaType);
+                } else if (tag == TypeTags.BOOLEAN_TAG) {
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processBooleanResult(resultSet, columnIndex, sqlType, ballerinaType);
+                } else if (tag == TypeTags.ARRAY_TAG &&
                         ((ArrayType) ballerinaType).getElementType().getTag() == TypeTags.BYTE_TAG) {
-                    return resultParameterProcessor.processByteArrayResult(resultSet, columnIndex, sqlType,
-                            ballerinaType, columnDefinition.getSqlTypeName());
-                } else if (ballerinaType.getTag() == TypeTags.FLOAT_TAG) {
-                    return resultParameterProcessor.processDoubleResult(resultSet, columnIndex, sqlType,
-                            ballerinaType);
-                } else if (ballerinaType.getTag() == TypeTags.DECIMAL_TAG) {
-                    return resultParameterProcessor.processDecimalResult(resultSet, columnIndex, sqlType,
-                            ballerinaType);
-                } else if (ballerinaType.getTag() == TypeTags.XML_TAG) {
-                    return resultParameterProcessor.processXmlResult(resultSet, columnIndex, sqlType, ballerinaType);
-                } else if (ballerinaType.getTag() == TypeTags.JSON_TAG) {
-                    return resultParameterProcessor.processJsonResult(resultSet, columnIndex, sqlType, ballerinaType);
+                    return (resultSet, columnIndex, processor) -> processor.processByteArrayResult(
+                            resultSet, columnIndex, sqlType, ballerinaType, sqlTypeName);
+                } else if (tag == TypeTags.FLOAT_TAG) {
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processDoubleResult(resultSet, columnIndex, sqlType, ballerinaType);
+                } else if (tag == TypeTags.DECIMAL_TAG) {
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processDecimalResult(resultSet, columnIndex, sqlType, ballerinaType);
+                } else if (tag == TypeTags.XML_TAG) {
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processXmlResult(resultSet, columnIndex, sqlType, ballerinaType);
+                } else if (tag == TypeTags.JSON_TAG) {
+                    return (resultSet, columnIndex, processor) ->
+                            processor.processJsonResult(resultSet, columnIndex, sqlType, ballerinaType);
                 }
-                return resultParameterProcessor.processCustomTypeFromResultSet(resultSet, columnIndex,
-                        columnDefinition);
+                return (resultSet, columnIndex, processor) ->
+                        processor.processCustomTypeFromResultSet(resultSet, columnIndex, columnDefinition);
         }
     }
 
+    // The conversions of the default processor are only bypassed for that exact class, as the processors of the
+    // connectors extend it to override the conversions
+    private static boolean isDefaultProcessor(AbstractResultParameterProcessor processor) {
+        return processor.getClass() == DefaultResultParameterProcessor.class;
+    }
+
     private static boolean isValidFieldConstraint(int sqlType, Type type) {
         if (type.getTag() == TypeTags.UNION_TAG && type instanceof UnionType) {
             UnionType bUnionType = (UnionType) type;
@@ -744,7 +897,9 @@ public class Utils {
                     int elementTypeTag = ((ArrayType) type).getElementType().getTag();
                     return elementTypeTag == TypeTags.BYTE_TAG;
                 }
-                return tag == TypeTags.STRING_TAG || tag == TypeTags.BYTE_ARRAY_TAG;
+                // Binary columns such as JSONB are parsed to JSON documents
+                return tag == TypeTags.STRING_TAG || tag == TypeTags.BYTE_ARRAY_TAG ||
+                        (tag == TypeTags.JSON_TAG && sqlType != Types.BLOB && sqlType != Types.ROWID);
             case Types.REF:
             case Types.STRUCT:
                 return tag == TypeTags.RECORD_TYPE_TAG;
@@ -1336,16 +1491,6 @@ public class Utils {
         return KNOWN_RECORD_TYPES.contains(getBTypeName(ballerinaType));
     }
 
-    private static BMapInitialValueEntry[] getInitialValueEntries(Map<String, Object> struct) {
-        BMapInitialValueEntry entries[] = new BMapInitialValueEntry[struct.size()];
-        int i = 0;
-        for (Map.Entry<String, Object> entry : struct.entrySet()) {
-            entries[i] = ValueCreator.createKeyFieldEntry(fromString(entry.getKey()), entry.getValue());
-            i++;
-        }
-        return entries;
-    }
-
     public static SQLException getRootSQLException(SQLException e) {
         SQLException rootSQLException = e;
         Throwable t = e.getCause();
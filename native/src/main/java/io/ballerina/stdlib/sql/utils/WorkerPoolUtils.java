@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is the util class for handling the worker pool of the database operations.
+ *
+ * @since 1.10.0
+ */
+public class WorkerPoolUtils {
+    private WorkerPoolUtils() {
+    }
+
+    public static Object initWorkerPool(long coreSize, long maxSize, long queueSize, BString rejectionPolicy,
+                                        boolean virtualThreads) {
+        try {
+            SQLWorkerThreadPool.configure(toIntValue(coreSize), toIntValue(maxSize), toIntValue(queueSize),
+                    rejectionPolicy.getValue(), virtualThreads);
+            return null;
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
+    }
+
+    public static BMap<BString, Object> getWorkerPoolStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.WorkerPoolStats.ACTIVE_COUNT, (long) SQLWorkerThreadPool.getActiveCount());
+        stats.put(Constants.WorkerPoolStats.POOL_SIZE, (long) SQLWorkerThreadPool.getPoolSize());
+        stats.put(Constants.WorkerPoolStats.QUEUE_SIZE, (long) SQLWorkerThreadPool.getQueueSize());
+        stats.put(Constants.WorkerPoolStats.REJECTED_COUNT, SQLWorkerThreadPool.getRejectedCount());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.WorkerPoolStats.RECORD_NAME, stats);
+    }
+
+    private static int toIntValue(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.sql.datasource;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * PoolWarmer class test.
+ *
+ * @since 1.10.0
+ */
+public class PoolWarmerTest {
+
+    @Test
+    void connectionCountTest() {
+        assertEquals(PoolWarmer.getConnectionCount(4, 10), 4);
+        // At least one connection is opened to verify the database, and one connection is left to the client
+        assertEquals(PoolWarmer.getConnectionCount(0, 10), 1);
+        assertEquals(PoolWarmer.getConnectionCount(6, 6), 5);
+        assertEquals(PoolWarmer.getConnectionCount(1, 1), 1);
+        assertEquals(PoolWarmer.getConnectionCount(100, 200), PoolWarmer.MAX_WARMUP_CONNECTIONS);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.sql.datasource;
+
+import org.testng.annotations.Test;
+
+import java.sql.SQLException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * SQLDatasource class test.
+ *
+ * @since 1.10.0
+ */
+public class SQLDatasourceTest {
+
+    @Test
+    void padParameterMarkersTest() {
+        assertEquals(SQLDatasource.padParameterMarkers("SELECT * FROM Customers WHERE id = ? AND name = ?"),
+                "SELECT * FROM Customers WHERE id =  ?  AND name =  ? ");
+        assertEquals(SQLDatasource.padParameterMarkers(
+                        "SELECT 'it''s ?', \"a?\" FROM T -- why?\nWHERE /* id = ? */ id = ?"),
+                "SELECT 'it''s ?', \"a?\" FROM T -- why?\nWHERE /* id = ? */ id =  ? ");
+    }
+
+    @Test
+    void checkoutTimeoutTest() {
+        assertTrue(SQLDatasource.isCheckoutTimeout(new SQLException("Connection pool exhausted - try increasing " +
+                "'maxPoolSize' and/or 'borrowConnectionTimeout' on the DataSourceBean.")));
+        assertFalse(SQLDatasource.isCheckoutTimeout(new SQLException("Failed to create a connection",
+                new SQLException("Access denied"))));
+        assertFalse(SQLDatasource.isCheckoutTimeout(new SQLException()));
+    }
+}
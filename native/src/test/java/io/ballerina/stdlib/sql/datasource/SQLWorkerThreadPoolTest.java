@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.sql.datasource;
+
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.ballerina.stdlib.sql.datasource.SQLWorkerThreadPool.SQL_EXECUTOR_SERVICE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * SQLWorkerThreadPool class test.
+ *
+ * @since 1.10.0
+ */
+public class SQLWorkerThreadPoolTest {
+
+    @AfterMethod
+    void resetPool() throws ApplicationError {
+        SQLWorkerThreadPool.configure(0, 50, 0, "FAIL", false);
+    }
+
+    @Test
+    void rejectionTest() throws Exception {
+        SQLWorkerThreadPool.configure(0, 1, 0, "FAIL", false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SQL_EXECUTOR_SERVICE.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(SQLWorkerThreadPool.getActiveCount(), 1);
+        long rejectedCount = SQLWorkerThreadPool.getRejectedCount();
+        try {
+            SQL_EXECUTOR_SERVICE.execute(() -> { });
+            fail("Task is not rejected");
+        } catch (RejectedExecutionException e) {
+            assertEquals(SQLWorkerThreadPool.getRejectedCount(), rejectedCount + 1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shutdownRejectionTest() throws Exception {
+        SQLWorkerThreadPool.configure(0, 1, 1, "CALLER_RUNS", false);
+        SQL_EXECUTOR_SERVICE.shutdown();
+        long rejectedCount = SQLWorkerThreadPool.getRejectedCount();
+        // A task is neither run by the caller nor discarded by a pool which is shut down
+        try {
+            SQL_EXECUTOR_SERVICE.execute(() -> { });
+            fail("Task is not rejected");
+        } catch (RejectedExecutionException e) {
+            assertEquals(SQLWorkerThreadPool.getRejectedCount(), rejectedCount + 1);
+        }
+    }
+
+    @Test
+    void reconfigureTest() throws Exception {
+        AtomicInteger completedTasks = new AtomicInteger();
+        AtomicReference<RejectedExecutionException> rejection = new AtomicReference<>();
+        Thread submitter = new Thread(() -> {
+            try {
+                for (int i = 0; i < 1000; i++) {
+                    SQL_EXECUTOR_SERVICE.execute(completedTasks::incrementAndGet);
+                }
+            } catch (RejectedExecutionException e) {
+                rejection.set(e);
+            }
+        });
+        submitter.start();
+        for (int i = 0; i < 20; i++) {
+            SQLWorkerThreadPool.configure(0, 50, 1000, "FAIL", false);
+        }
+        submitter.join();
+        // The tasks submitted while the pool is replaced are executed in the new pool
+        assertEquals(rejection.get(), null);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (completedTasks.get() < 1000 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(completedTasks.get(), 1000);
+    }
+
+    @Test
+    void callerRunsTest() throws Exception {
+        SQLWorkerThreadPool.configure(0, 1, 1, "CALLER_RUNS", false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SQL_EXECUTOR_SERVICE.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        SQL_EXECUTOR_SERVICE.execute(() -> { });
+        assertEquals(SQLWorkerThreadPool.getQueueSize(), 1);
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        SQL_EXECUTOR_SERVICE.execute(() -> executingThread.set(Thread.currentThread()));
+        release.countDown();
+        assertSame(executingThread.get(), Thread.currentThread());
+    }
+
+    @Test
+    void queuedPoolGrowthTest() throws Exception {
+        SQLWorkerThreadPool.configure(0, 4, 10, "FAIL", false);
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 4; i++) {
+                SQL_EXECUTOR_SERVICE.execute(() -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                });
+            }
+            // The tasks are executed concurrently instead of being queued for a single worker
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(SQLWorkerThreadPool.getPoolSize(), 4);
+            assertEquals(SQLWorkerThreadPool.getQueueSize(), 0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test(expectedExceptions = ApplicationError.class,
+            expectedExceptionsMessageRegExp = ".*'workerPoolMaxSize' cannot be less than one or " +
+                    "'workerPoolCoreSize'.")
+    void invalidMaxSizeTest() throws ApplicationError {
+        SQLWorkerThreadPool.configure(10, 5, 0, "FAIL", false);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
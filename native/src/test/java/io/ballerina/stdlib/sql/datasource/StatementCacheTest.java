@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.sql.datasource;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * StatementCache class test.
+ *
+ * @since 1.10.0
+ */
+public class StatementCacheTest {
+
+    @Test
+    void statementReuseTest() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        Connection connection = getMockConnection();
+        PreparedStatement statement = cache.prepareStatement(connection, "SELECT 1", Statement.NO_GENERATED_KEYS);
+        // The statement is in use, hence a new statement is prepared
+        PreparedStatement statement2 = cache.prepareStatement(connection, "SELECT 1", Statement.NO_GENERATED_KEYS);
+        assertNotSame(statement, statement2);
+        StatementCache.closeStatement(statement);
+        StatementCache.closeStatement(statement2);
+        assertSame(cache.prepareStatement(connection, "SELECT 1", Statement.NO_GENERATED_KEYS), statement2);
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 2);
+    }
+
+    @Test
+    void generatedKeysModeTest() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        Connection connection = getMockConnection();
+        PreparedStatement statement = cache.prepareStatement(connection, "INSERT", Statement.NO_GENERATED_KEYS);
+        StatementCache.closeStatement(statement);
+        assertNotSame(cache.prepareStatement(connection, "INSERT", Statement.RETURN_GENERATED_KEYS), statement);
+        assertEquals(cache.getHitCount(), 0);
+    }
+
+    @Test
+    void evictionTest() throws SQLException {
+        StatementCache cache = new StatementCache(1);
+        Connection connection = getMockConnection();
+        PreparedStatement statement = cache.prepareStatement(connection, "SELECT 1", Statement.NO_GENERATED_KEYS);
+        PreparedStatement statement2 = cache.prepareStatement(connection, "SELECT 2", Statement.NO_GENERATED_KEYS);
+        StatementCache.closeStatement(statement);
+        StatementCache.closeStatement(statement2);
+        assertEquals(cache.getEvictionCount(), 1);
+        assertTrue(statement.isClosed());
+        cache.clear();
+        assertTrue(statement2.isClosed());
+    }
+
+    @Test
+    void warmupStatementsTest() throws SQLException {
+        StatementCache cache = new StatementCache(2, Arrays.asList("SELECT 1", "SELECT 2", "SELECT 3"),
+                connection -> {
+                });
+        Connection connection = getMockConnection();
+        cache.prepareWarmupStatements(connection);
+        // The statements are prepared once per connection, and only up to the size of the cache
+        cache.prepareWarmupStatements(connection);
+        PreparedStatement statement = cache.prepareStatement(connection, "SELECT 1", Statement.NO_GENERATED_KEYS);
+        PreparedStatement statement2 = cache.prepareStatement(connection, "SELECT 2", Statement.NO_GENERATED_KEYS);
+        PreparedStatement statement3 = cache.prepareStatement(connection, "SELECT 3", Statement.NO_GENERATED_KEYS);
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getMissCount(), 1);
+        StatementCache.closeStatement(statement);
+        StatementCache.closeStatement(statement2);
+        StatementCache.closeStatement(statement3);
+    }
+
+    @Test
+    void statementLeftOpenTest() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        Connection physicalConnection = getMockConnection();
+        PreparedStatement statement = cache.prepareStatement(getPooledConnection(physicalConnection), "SELECT 1",
+                Statement.NO_GENERATED_KEYS);
+        PreparedStatement statement2 = cache.prepareStatement(getPooledConnection(physicalConnection), "SELECT 2",
+                Statement.NO_GENERATED_KEYS);
+        // The physical connection is borrowed again, hence the statement of the previous borrower is closed
+        assertTrue(statement.isClosed());
+        assertFalse(statement2.isClosed());
+        StatementCache.closeStatement(statement);
+        StatementCache.closeStatement(statement2);
+        assertEquals(cache.size(), 1);
+        cache.clear();
+    }
+
+    @Test
+    void uncachedStatementTest() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        Connection connection = getMockConnection();
+        PreparedStatement statement = connection.prepareStatement("SELECT 1");
+        StatementCache.closeStatement(statement);
+        assertTrue(statement.isClosed());
+        statement = getMockStatement(null, "SELECT 1");
+        StatementCache.closeStatement(statement);
+        assertTrue(statement.isClosed());
+        assertEquals(cache.size(), 0);
+        cache.clear();
+    }
+
+    @Test
+    void clearTest() throws SQLException {
+        StatementCache cache = new StatementCache(2);
+        Connection connection = getMockConnection();
+        PreparedStatement statement = cache.prepareStatement(connection, "SELECT 1", Statement.NO_GENERATED_KEYS);
+        PreparedStatement statement2 = cache.prepareStatement(connection, "SELECT 2", Statement.NO_GENERATED_KEYS);
+        StatementCache.closeStatement(statement);
+        // The statements in use are closed along with the cached statements
+        cache.clear();
+        assertTrue(statement.isClosed());
+        assertTrue(statement2.isClosed());
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    void connectionErrorTest() throws SQLException {
+        List<Connection> evictedConnections = new ArrayList<>();
+        StatementCache cache = new StatementCache(2, Collections.emptyList(), evictedConnections::add);
+        Connection pooledConnection = getPooledConnection(getMockConnection());
+        PreparedStatement statement = cache.prepareStatement(pooledConnection, "SELECT 1", Statement.NO_GENERATED_KEYS);
+        StatementCache.closeStatement(statement);
+
+        // An error of the query does not evict the connection
+        PreparedStatement invalidStatement = cache.prepareStatement(pooledConnection, "INVALID",
+                Statement.NO_GENERATED_KEYS);
+        expectThrows(SQLException.class, invalidStatement::executeQuery);
+        StatementCache.closeStatement(invalidStatement);
+        assertTrue(evictedConnections.isEmpty());
+        assertEquals(cache.size(), 2);
+
+        PreparedStatement brokenStatement = cache.prepareStatement(pooledConnection, "BROKEN",
+                Statement.NO_GENERATED_KEYS);
+        SQLException e = expectThrows(SQLException.class, brokenStatement::executeQuery);
+        assertEquals(e.getSQLState(), "08S01");
+        assertEquals(evictedConnections, List.of(pooledConnection));
+        assertTrue(statement.isClosed());
+        assertEquals(cache.size(), 0);
+        StatementCache.closeStatement(brokenStatement);
+        assertTrue(brokenStatement.isClosed());
+        cache.clear();
+    }
+
+    @Test
+    void isConnectionErrorTest() {
+        assertTrue(StatementCache.isConnectionError(new SQLException("Connection reset", "08006")));
+        assertTrue(StatementCache.isConnectionError(new SQLException("Admin shutdown", "57P01")));
+        assertFalse(StatementCache.isConnectionError(new SQLException("Syntax error", "42000")));
+        assertFalse(StatementCache.isConnectionError(new SQLException("Unknown error")));
+        SQLException batchError = new SQLException("Batch failed", "22001");
+        batchError.setNextException(new SQLException("Connection reset", "08006"));
+        assertTrue(StatementCache.isConnectionError(batchError));
+    }
+
+    private static Connection getPooledConnection(Connection physicalConnection) {
+        return (Connection) Proxy.newProxyInstance(StatementCacheTest.class.getClassLoader(),
+                new Class[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "unwrap":
+                            return physicalConnection;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static Connection getMockConnection() {
+        return (Connection) Proxy.newProxyInstance(StatementCacheTest.class.getClassLoader(),
+                new Class[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "unwrap":
+                            return proxy;
+                        case "isClosed":
+                            return false;
+                        case "prepareStatement":
+                        case "prepareCall":
+                            return getMockStatement((Connection) proxy, (String) args[0]);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static PreparedStatement getMockStatement(Connection connection, String sqlQuery) {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCacheTest.class.getClassLoader(),
+                new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            closed.set(true);
+                            return null;
+                        case "isClosed":
+                            return closed.get();
+                        case "getConnection":
+                            return connection;
+                        case "executeQuery":
+                            if (sqlQuery.equals("BROKEN")) {
+                                throw new SQLException("Communications link failure", "08S01");
+                            } else if (sqlQuery.equals("INVALID")) {
+                                throw new SQLException("Syntax error", "42000");
+                            }
+                            return null;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.parameterprocessor;
+
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.exception.DataError;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * ParameterBinder class test.
+ *
+ * @since 1.10.0
+ */
+public class ParameterBinderTest {
+
+    @Test
+    void binderReuseTest() throws ApplicationError, SQLException {
+        List<String> calls = new ArrayList<>();
+        PreparedStatement statement = getStatement(calls);
+        ParameterBinder[] binders = new ParameterBinder[2];
+        AbstractStatementParameterProcessor processor = DefaultStatementParameterProcessor.getInstance();
+
+        processor.setParams(null, statement, getQuery(binders, 1L, 1.5));
+        ParameterBinder longBinder = binders[0];
+        assertNotNull(longBinder);
+        assertNotNull(binders[1]);
+
+        processor.setParams(null, statement, getQuery(binders, 2L, null));
+        assertSame(binders[0], longBinder);
+        processor.setParams(null, statement, getQuery(binders, true, 2.5));
+        assertNotSame(binders[0], longBinder);
+        assertEquals(calls, List.of("setLong:1:1", "setDouble:2:1.5", "setLong:1:2", "setNull:2:0",
+                "setBoolean:1:true", "setDouble:2:2.5"));
+    }
+
+    @Test
+    void bindersOfCustomProcessorTest() throws ApplicationError, SQLException {
+        List<String> calls = new ArrayList<>();
+        ParameterBinder[] binders = new ParameterBinder[1];
+        AbstractStatementParameterProcessor processor = new DefaultStatementParameterProcessor() {
+            @Override
+            public int setSQLValueParam(Connection connection, PreparedStatement preparedStatement, int index,
+                                        Object object, boolean returnType) throws DataError, SQLException {
+                calls.add("custom");
+                return super.setSQLValueParam(connection, preparedStatement, index, object, returnType);
+            }
+        };
+        processor.setParams(null, getStatement(calls), getQuery(binders, 1L));
+        assertNull(binders[0]);
+        assertEquals(calls, List.of("custom", "setLong:1:1"));
+    }
+
+    private static ParameterizedQuery getQuery(ParameterBinder[] binders, Object... insertions) {
+        return new ParameterizedQuery("SELECT 1", insertions, ParameterizedQuery.StatementType.SELECT, binders);
+    }
+
+    private static PreparedStatement getStatement(List<String> calls) {
+        return (PreparedStatement) Proxy.newProxyInstance(ParameterBinderTest.class.getClassLoader(),
+                new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    calls.add(method.getName() + ":" + args[0] + ":" + args[1]);
+                    return null;
+                });
+    }
+}
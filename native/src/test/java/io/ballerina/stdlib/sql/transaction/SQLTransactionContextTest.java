@@ -22,6 +22,7 @@ import io.ballerina.stdlib.sql.TestUtils;
 import org.testng.annotations.Test;
 
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.transaction.xa.XAResource;
 
@@ -89,4 +90,24 @@ public class SQLTransactionContextTest {
             assertEquals(e.getMessage(), "connection close failed:Close Error");
         }
     }
+
+    @Test
+    void completionActionTest() {
+        Connection connection = TestUtils.getMockConnection(false);
+        SQLTransactionContext sqlTransactionContext = new SQLTransactionContext(connection, xaResource);
+        AtomicInteger completions = new AtomicInteger();
+        sqlTransactionContext.addCompletionAction(completions::incrementAndGet);
+        try {
+            sqlTransactionContext.close();
+        } catch (Exception e) {
+            assertEquals(e.getMessage(), "connection close failed:Close Error");
+        }
+        // The actions run once when the transaction ends, even if the connection fails to close
+        assertEquals(completions.get(), 1);
+        try {
+            sqlTransactionContext.close();
+        } catch (Exception ignored) {
+        }
+        assertEquals(completions.get(), 1);
+    }
 }
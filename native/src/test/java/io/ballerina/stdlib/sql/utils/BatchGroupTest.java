@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * BatchGroup class test.
+ *
+ * @since 1.10.0
+ */
+public class BatchGroupTest {
+
+    @Test
+    void groupAdjacentQueriesTest() {
+        List<BatchGroup> groups = BatchGroup.group(getQueries(
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "INSERT INTO Orders (item) VALUES ( ? )",
+                "INSERT INTO Orders (item) VALUES ( ? )",
+                "CALL resetOrders()",
+                "CALL resetOrders()"), false);
+        assertEquals(getQueryIndexes(groups), Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3),
+                Arrays.asList(4, 5)));
+    }
+
+    @Test
+    void keepOrderOfQueriesTest() {
+        // The order of the orders after their customers may be required by a foreign key
+        List<BatchGroup> groups = BatchGroup.group(getQueries(
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "INSERT INTO Orders (customer) VALUES ( ? )",
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "INSERT INTO Orders (customer) VALUES ( ? )"), false);
+        assertEquals(getQueryIndexes(groups), Arrays.asList(Arrays.asList(0), Arrays.asList(1), Arrays.asList(2),
+                Arrays.asList(3)));
+        assertEquals(groups.get(1).getSqlQuery(), "INSERT INTO Orders (customer) VALUES ( ? )");
+    }
+
+    @Test
+    void groupIndependentQueriesTest() {
+        List<BatchGroup> groups = BatchGroup.group(getQueries(
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "INSERT INTO Orders (item) VALUES ( ? )",
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "INSERT INTO Orders (item) VALUES ( ? )"), true);
+        assertEquals(getQueryIndexes(groups), Arrays.asList(Arrays.asList(0, 2), Arrays.asList(1, 3)));
+    }
+
+    @Test
+    void groupDependentQueriesTest() {
+        // The update of a customer depends on the insert of the customer
+        List<BatchGroup> groups = BatchGroup.group(getQueries(
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "UPDATE Customers SET name = ? WHERE id = ?",
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "INSERT INTO Orders SELECT id FROM \"CUSTOMERS\" c WHERE c.name = ?",
+                "UPDATE Customers SET name = ? WHERE id = ?"), true);
+        assertEquals(getQueryIndexes(groups), Arrays.asList(Arrays.asList(0), Arrays.asList(1), Arrays.asList(2),
+                Arrays.asList(3), Arrays.asList(4)));
+    }
+
+    @Test
+    void groupOrderedQueriesTest() {
+        // Queries other than DML are not reordered
+        List<BatchGroup> groups = BatchGroup.group(getQueries(
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "CALL resetOrders()",
+                "INSERT INTO Customers (name) VALUES ( ? )",
+                "CALL resetOrders()",
+                "CALL resetOrders()"), true);
+        assertEquals(getQueryIndexes(groups), Arrays.asList(Arrays.asList(0), Arrays.asList(1), Arrays.asList(2),
+                Arrays.asList(3, 4)));
+    }
+
+    @Test
+    void readTablesTest() {
+        TableUsage tableUsage = TableUsage.of(
+                "UPDATE sales.Orders o SET total = (SELECT SUM(price) FROM Items i, \"Prices\" AS p " +
+                        "WHERE i.name = 'FROM Customers') -- JOIN Payments");
+        assertEquals(tableUsage.modifiedTables, new HashSet<>(Arrays.asList("ORDERS")));
+        assertEquals(tableUsage.usedTables, new HashSet<>(Arrays.asList("ORDERS", "ITEMS", "PRICES")));
+        assertNull(TableUsage.of("DELETE"));
+    }
+
+    private static List<ParameterizedQuery> getQueries(String... sqlQueries) {
+        List<ParameterizedQuery> queries = new ArrayList<>();
+        for (String sqlQuery : sqlQueries) {
+            queries.add(new ParameterizedQuery(sqlQuery, new Object[0]));
+        }
+        return queries;
+    }
+
+    private static List<List<Integer>> getQueryIndexes(List<BatchGroup> groups) {
+        return groups.stream().map(BatchGroup::getQueryIndexes).collect(Collectors.toList());
+    }
+}
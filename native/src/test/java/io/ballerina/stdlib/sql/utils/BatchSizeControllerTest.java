@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.sql.utils;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * BatchSizeController class test.
+ *
+ * @since 1.10.0
+ */
+public class BatchSizeControllerTest {
+
+    @Test
+    void fixedBatchSizeTest() {
+        BatchSizeController controller = new BatchSizeController(500, false, 100, 1000);
+        controller.recordBatch(500, 1_000_000);
+        controller.recordBatch(500, 2_000_000);
+        assertEquals(controller.getBatchSize(), 500);
+    }
+
+    @Test
+    void adaptiveBatchSizeTest() {
+        BatchSizeController controller = new BatchSizeController(1000, true, 100, 2000);
+        // Throughput improves while growing, hence the batch size keeps growing
+        controller.recordBatch(1000, 1_000_000);
+        assertEquals(controller.getBatchSize(), 1250);
+        controller.recordBatch(1250, 1_000_000);
+        assertEquals(controller.getBatchSize(), 1563);
+        // Throughput drops, hence the batch size is reduced
+        controller.recordBatch(1563, 10_000_000);
+        assertTrue(controller.getBatchSize() < 1563);
+        // The last batch of an execution does not change the batch size
+        int batchSize = controller.getBatchSize();
+        controller.recordBatch(10, 1);
+        assertEquals(controller.getBatchSize(), batchSize);
+    }
+
+    @Test
+    void adaptiveBatchSizeBoundsTest() {
+        BatchSizeController controller = new BatchSizeController(5000, true, 100, 2000);
+        assertEquals(controller.getBatchSize(), 2000);
+        controller.recordBatch(2000, 1_000_000);
+        assertEquals(controller.getBatchSize(), 2000);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ColumnBatchReader class test.
+ *
+ * @since 1.10.0
+ */
+public class ColumnBatchReaderTest {
+
+    @Test
+    void columnKindTest() {
+        assertEquals(ColumnBatchReader.getColumnKind(Types.BIGINT), ColumnBatchReader.INT_COLUMN);
+        assertEquals(ColumnBatchReader.getColumnKind(Types.DOUBLE), ColumnBatchReader.FLOAT_COLUMN);
+        assertEquals(ColumnBatchReader.getColumnKind(Types.VARBINARY), ColumnBatchReader.BYTES_COLUMN);
+        assertEquals(ColumnBatchReader.getColumnKind(Types.DATE), ColumnBatchReader.DATE_COLUMN);
+        assertEquals(ColumnBatchReader.getColumnKind(Types.TIMESTAMP_WITH_TIMEZONE),
+                ColumnBatchReader.TIMESTAMP_WITH_TIMEZONE_COLUMN);
+        assertEquals(ColumnBatchReader.getColumnKind(Types.VARCHAR), ColumnBatchReader.STRING_COLUMN);
+    }
+
+    @Test
+    void readChunksTest() throws SQLException {
+        ColumnBatchReader reader = new ColumnBatchReader(getMetaData(), 2);
+        ResultSet resultSet = getResultSet(3);
+        ColumnBatchReader.Chunk chunk = reader.readChunk(resultSet);
+        assertEquals(chunk.rowCount, 2);
+        assertEquals((long[]) chunk.values[0], new long[]{1, 2});
+        assertEquals((double[]) chunk.values[1], new double[]{0.5, 0.0});
+        assertNull(chunk.nulls[0]);
+        assertEquals(chunk.nulls[1], new boolean[]{false, true});
+        chunk = reader.readChunk(resultSet);
+        assertEquals(chunk.rowCount, 1);
+        assertEquals(((long[]) chunk.values[0])[0], 3);
+        assertEquals(reader.readChunk(resultSet).rowCount, 0);
+    }
+
+    @Test
+    void bufferGrowthTest() throws SQLException {
+        // The buffers are not allocated for the whole chunk when the result is smaller than the chunk
+        ColumnBatchReader reader = new ColumnBatchReader(getMetaData(), Integer.MAX_VALUE);
+        ColumnBatchReader.Chunk chunk = reader.readChunk(getResultSet(10));
+        assertEquals(chunk.rowCount, 10);
+        assertEquals(((long[]) chunk.values[0]).length, ColumnBatchReader.INITIAL_CAPACITY);
+
+        reader = new ColumnBatchReader(getMetaData(), 600);
+        chunk = reader.readChunk(getResultSet(1000));
+        assertEquals(chunk.rowCount, 600);
+        long[] ids = (long[]) chunk.values[0];
+        assertEquals(ids.length, 600);
+        assertEquals(chunk.nulls[1].length, 600);
+        for (int i = 0; i < 600; i++) {
+            assertEquals(ids[i], i + 1);
+            assertEquals(chunk.nulls[1][i], (i + 1) % 2 == 0);
+        }
+        assertTrue(chunk.nulls[1][599]);
+        assertFalse(chunk.nulls[1][598]);
+    }
+
+    private static ResultSetMetaData getMetaData() {
+        return (ResultSetMetaData) Proxy.newProxyInstance(ColumnBatchReaderTest.class.getClassLoader(),
+                new Class[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount":
+                            return 2;
+                        case "getColumnLabel":
+                            return (int) args[0] == 1 ? "ID" : "PRICE";
+                        case "getColumnType":
+                            return (int) args[0] == 1 ? Types.BIGINT : Types.DOUBLE;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    // Returns a result set with the row number as the ID, and half of it as the price, which is null for even rows
+    private static ResultSet getResultSet(int rowCount) {
+        AtomicInteger row = new AtomicInteger(0);
+        AtomicInteger lastColumn = new AtomicInteger(0);
+        return (ResultSet) Proxy.newProxyInstance(ColumnBatchReaderTest.class.getClassLoader(),
+                new Class[]{ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return row.incrementAndGet() <= rowCount;
+                        case "getLong":
+                            lastColumn.set((int) args[0]);
+                            return (long) row.get();
+                        case "getDouble":
+                            lastColumn.set((int) args[0]);
+                            return row.get() % 2 == 0 ? 0.0 : row.get() / 2.0;
+                        case "wasNull":
+                            return lastColumn.get() == 2 && row.get() % 2 == 0;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.sql.utils;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ColumnMappingPlanCache class test.
+ *
+ * @since 1.10.0
+ */
+public class ColumnMappingPlanCacheTest {
+
+    private static final ResultSetMetaData ID_NAME = getMetaData(new String[]{"id", "name"},
+            new int[]{Types.INTEGER, Types.VARCHAR});
+
+    @Test
+    void cacheHitAndMissTest() throws SQLException {
+        ColumnMappingPlanCache cache = new ColumnMappingPlanCache(10);
+        Object recordType = new Object();
+        assertNull(cache.get("SELECT * FROM Students", recordType, ID_NAME));
+        cache.put("SELECT * FROM Students", recordType, ID_NAME, new ArrayList<>());
+        assertNotNull(cache.get("SELECT * FROM Students", recordType, ID_NAME));
+        assertNull(cache.get("SELECT * FROM Students", new Object(), ID_NAME));
+        assertNull(cache.get("SELECT * FROM Teachers", recordType, ID_NAME));
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 3);
+    }
+
+    @Test
+    void changedMetadataTest() throws SQLException {
+        ColumnMappingPlanCache cache = new ColumnMappingPlanCache(10);
+        Object recordType = new Object();
+        cache.put("SELECT * FROM Students", recordType, ID_NAME, new ArrayList<>());
+        assertNotNull(cache.get("SELECT * FROM Students", recordType,
+                getMetaData(new String[]{"id", "name"}, new int[]{Types.INTEGER, Types.VARCHAR})));
+        assertNull(cache.get("SELECT * FROM Students", recordType,
+                getMetaData(new String[]{"id", "name"}, new int[]{Types.BIGINT, Types.VARCHAR})));
+        assertNull(cache.get("SELECT * FROM Students", recordType,
+                getMetaData(new String[]{"id", "address"}, new int[]{Types.INTEGER, Types.VARCHAR})));
+        assertNull(cache.get("SELECT * FROM Students", recordType,
+                getMetaData(new String[]{"id"}, new int[]{Types.INTEGER})));
+        assertNull(cache.get("SELECT * FROM Students", recordType, getMetaData(new String[]{"id", "name"},
+                new int[]{Types.INTEGER, Types.VARCHAR}, ResultSetMetaData.columnNoNulls)));
+        assertNull(cache.get("SELECT * FROM Students", recordType,
+                getMetaData(new String[]{"id", null}, new int[]{Types.INTEGER, Types.VARCHAR})));
+
+        cache.put("SELECT * FROM Teachers", recordType,
+                getMetaData(new String[]{"id", null}, new int[]{Types.INTEGER, Types.VARCHAR}), new ArrayList<>());
+        assertNotNull(cache.get("SELECT * FROM Teachers", recordType,
+                getMetaData(new String[]{"id", null}, new int[]{Types.INTEGER, Types.VARCHAR})));
+        assertNull(cache.get("SELECT * FROM Teachers", recordType, ID_NAME));
+    }
+
+    @Test
+    void cacheEvictionTest() throws SQLException, InterruptedException {
+        ColumnMappingPlanCache cache = new ColumnMappingPlanCache(2);
+        Object recordType = new Object();
+        cache.put("SELECT 1", recordType, ID_NAME, new ArrayList<>());
+        cache.put("SELECT 2", recordType, ID_NAME, new ArrayList<>());
+        Thread.sleep(1);
+        cache.get("SELECT 1", recordType, ID_NAME);
+        cache.put("SELECT 3", recordType, ID_NAME, new ArrayList<>());
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.getEvictionCount(), 1);
+        assertNotNull(cache.get("SELECT 1", recordType, ID_NAME));
+        assertNull(cache.get("SELECT 2", recordType, ID_NAME));
+        cache.clear();
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    void concurrentAccessTest() throws InterruptedException {
+        ColumnMappingPlanCache cache = new ColumnMappingPlanCache(8);
+        Object recordType = new Object();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    String sqlQuery = "SELECT " + (i % 16);
+                    try {
+                        if (cache.get(sqlQuery, recordType, ID_NAME) == null) {
+                            cache.put(sqlQuery, recordType, ID_NAME, new ArrayList<>());
+                        }
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(cache.size() <= 8);
+        assertEquals(cache.getHitCount() + cache.getMissCount(), 4000);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    void cachedPlanIsUnmodifiableTest() throws SQLException {
+        ColumnMappingPlanCache cache = new ColumnMappingPlanCache(2);
+        List<ColumnDefinition> plan = cache.put("SELECT 1", new Object(), ID_NAME, new ArrayList<>());
+        plan.add(null);
+    }
+
+    private static ResultSetMetaData getMetaData(String[] columnLabels, int[] columnTypes) {
+        return getMetaData(columnLabels, columnTypes, ResultSetMetaData.columnNullable);
+    }
+
+    private static ResultSetMetaData getMetaData(String[] columnLabels, int[] columnTypes, int nullability) {
+        return (ResultSetMetaData) Proxy.newProxyInstance(ColumnMappingPlanCacheTest.class.getClassLoader(),
+                new Class[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount":
+                            return columnLabels.length;
+                        case "getColumnLabel":
+                            return columnLabels[(int) args[0] - 1];
+                        case "getColumnType":
+                            return columnTypes[(int) args[0] - 1];
+                        case "getColumnTypeName":
+                            return "TYPE_" + columnTypes[(int) args[0] - 1];
+                        case "isNullable":
+                            return nullability;
+                        case "getTableName":
+                            return "Students";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
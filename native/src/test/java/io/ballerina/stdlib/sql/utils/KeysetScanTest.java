@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.sql.Constants;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * KeysetScan class test.
+ *
+ * @since 1.10.0
+ */
+public class KeysetScanTest {
+
+    private static final BObject CLIENT = (BObject) Proxy.newProxyInstance(KeysetScanTest.class.getClassLoader(),
+            new Class[]{BObject.class}, (proxy, method, args) -> null);
+
+    @Test
+    void pageQueryTest() throws ApplicationError {
+        KeysetScan tableScan = KeysetScan.create(CLIENT, null, "app.\"Orders\"", null, "[id]", 100, null, false, null);
+        assertEquals(tableScan.getSqlQuery(), "SELECT * FROM app.\"Orders\" ORDER BY [id]");
+
+        ParameterizedQuery baseQuery = new ParameterizedQuery("SELECT * FROM Orders WHERE status = ?",
+                new Object[]{"OPEN"});
+        KeysetScan queryScan = KeysetScan.create(CLIENT, null, null, baseQuery, "`id`", 100, null, false, null);
+        assertEquals(queryScan.getSqlQuery(),
+                "SELECT * FROM (SELECT * FROM Orders WHERE status = ?) sql_scan ORDER BY `id`");
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        ApplicationError error = expectThrows(ApplicationError.class, () -> KeysetScan.create(CLIENT, null,
+                "Orders WHERE 1 = 1 --", null, "id", 100, null, false, null));
+        assertEquals(error.getMessage(), "Invalid table name: Orders WHERE 1 = 1 --.");
+        error = expectThrows(ApplicationError.class, () -> KeysetScan.create(CLIENT, null, "Orders", null,
+                "t.id", 100, null, false, null));
+        assertEquals(error.getMessage(), "Invalid key column name: t.id.");
+        error = expectThrows(ApplicationError.class, () -> KeysetScan.create(CLIENT, null, "Orders", null,
+                "id", 0, null, false, null));
+        assertEquals(error.getMessage(), "Page size must be between 1 and 2147483647.");
+        error = expectThrows(ApplicationError.class, () -> KeysetScan.create(CLIENT, null, null,
+                new ParameterizedQuery("SELECT * FROM Orders order\nby created_at", new Object[0]), "id", 100,
+                null, false, null));
+        assertEquals(error.getMessage(),
+                "The query of a scan must not have an ORDER BY clause, as the rows are ordered by the key column.");
+    }
+
+    @Test
+    void orderByTest() {
+        assertTrue(KeysetScan.hasOrderBy("SELECT * FROM Orders ORDER BY id"));
+        // The ORDER BY clauses of the subqueries, and in literals and identifiers are allowed
+        assertFalse(KeysetScan.hasOrderBy("SELECT * FROM Orders WHERE id IN " +
+                "(SELECT TOP 10 id FROM Orders ORDER BY created_at)"));
+        assertFalse(KeysetScan.hasOrderBy("SELECT * FROM Orders WHERE note = 'order by' AND \"order by\" = 1"));
+        assertFalse(KeysetScan.hasOrderBy("SELECT * FROM Orders WHERE [order by] = 'It''s (order by'"));
+        assertFalse(KeysetScan.hasOrderBy("SELECT recorder, bystander FROM Orders"));
+    }
+
+    @Test
+    void nullKeyTest() throws Exception {
+        KeysetScan scan = KeysetScan.create(CLIENT, null, "Orders", null, "id", 100, null, false, null);
+        ApplicationError error = expectThrows(ApplicationError.class, () -> scan.recordKey(
+                (ResultSet) Proxy.newProxyInstance(KeysetScanTest.class.getClassLoader(),
+                        new Class[]{ResultSet.class}, (proxy, method, args) -> null)));
+        // A null key would end the scan, as no key is greater than null
+        assertEquals(error.getMessage(),
+                "Key column 'id' of the scan has a null value. The key column must not be nullable.");
+    }
+
+    @Test
+    void closePageTest() throws ApplicationError {
+        List<String> closed = new ArrayList<>();
+        // The pages of a scan within a transaction are read through the connection of the transaction, hence it is
+        // not closed between the pages
+        KeysetScan scan = KeysetScan.create(CLIENT, null, "Orders", null, "id", 1, null, true, null);
+        BObject recordIterator = getRecordIterator(closed);
+        assertNull(scan.closePage(recordIterator));
+        assertEquals(closed, List.of("ResultSet", "Statement"));
+        assertNull(recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD));
+        assertNotNull(recordIterator.getNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD));
+
+        closed.clear();
+        scan = KeysetScan.create(CLIENT, null, "Orders", null, "id", 1, null, false, null);
+        recordIterator = getRecordIterator(closed);
+        assertNull(scan.closePage(recordIterator));
+        assertEquals(closed, List.of("ResultSet", "Statement", "Connection"));
+        assertNull(recordIterator.getNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD));
+    }
+
+    @Test
+    void columnLabelTest() {
+        assertEquals(KeysetScan.getColumnLabel("id"), "id");
+        assertEquals(KeysetScan.getColumnLabel("\"Order \"\"Id\"\"\""), "Order \"Id\"");
+        assertEquals(KeysetScan.getColumnLabel("`id`"), "id");
+        assertEquals(KeysetScan.getColumnLabel("[id]"), "id");
+    }
+
+    private static BObject getRecordIterator(List<String> closed) {
+        Map<String, Object> nativeData = new HashMap<>();
+        nativeData.put(Constants.RESULT_SET_NATIVE_DATA_FIELD, getMock(ResultSet.class, closed));
+        nativeData.put(Constants.STATEMENT_NATIVE_DATA_FIELD, getMock(Statement.class, closed));
+        nativeData.put(Constants.CONNECTION_NATIVE_DATA_FIELD, getMock(Connection.class, closed));
+        return (BObject) Proxy.newProxyInstance(KeysetScanTest.class.getClassLoader(), new Class[]{BObject.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getNativeData":
+                            return nativeData.get((String) args[0]);
+                        case "addNativeData":
+                            nativeData.put((String) args[0], args[1]);
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static <T> T getMock(Class<T> type, List<String> closed) {
+        return type.cast(Proxy.newProxyInstance(KeysetScanTest.class.getClassLoader(), new Class[]{type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            closed.add(type.getSimpleName());
+                            return null;
+                        case "isClosed":
+                            return false;
+                        default:
+                            return null;
+                    }
+                }));
+    }
+}
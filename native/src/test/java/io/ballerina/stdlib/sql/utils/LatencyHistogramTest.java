@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * LatencyHistogram class test.
+ *
+ * @since 1.10.0
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    void bucketBoundsTest() {
+        for (long value : new long[]{0, 7, 8, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.getBucketIndex(value);
+            assertTrue(LatencyHistogram.getBucketUpperBound(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.getBucketUpperBound(index - 1) < value);
+            }
+        }
+        assertEquals(LatencyHistogram.getBucketIndex(16), LatencyHistogram.getBucketIndex(17));
+    }
+
+    @Test
+    void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(histogram.getCount(), 100);
+        assertEquals(histogram.getMean(), 50_500);
+        assertEquals(histogram.getMax(), 100_000);
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 50_000 && median <= 50_000 * 1.125, String.valueOf(median));
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 99_000 && p99 <= 100_000, String.valueOf(p99));
+    }
+
+    @Test
+    void emptyHistogramTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.getPercentile(99), 0);
+        assertEquals(histogram.getMean(), 0);
+        histogram.record(-5);
+        assertEquals(histogram.getPercentile(50), 0);
+    }
+}
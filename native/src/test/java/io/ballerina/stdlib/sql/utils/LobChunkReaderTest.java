@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * LobChunkReader class test.
+ *
+ * @since 1.10.0
+ */
+public class LobChunkReaderTest {
+
+    @Test
+    void readBytesTest() throws IOException {
+        LobChunkReader reader = new LobChunkReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2);
+        assertEquals(reader.readBytes(), new byte[]{1, 2});
+        assertEquals(reader.readBytes(), new byte[]{3, 4});
+        assertEquals(reader.readBytes(), new byte[]{5});
+        assertNull(reader.readBytes());
+    }
+
+    @Test
+    void readStringTest() throws IOException {
+        // The reader returns a character at a time to check that the chunks are filled
+        Reader slowReader = new StringReader("ballerina") {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 1));
+            }
+        };
+        LobChunkReader reader = new LobChunkReader(slowReader, 4);
+        assertEquals(reader.readString(), "ball");
+        assertEquals(reader.readString(), "erin");
+        assertEquals(reader.readString(), "a");
+        assertNull(reader.readString());
+    }
+
+    @Test
+    void surrogatePairTest() throws IOException {
+        LobChunkReader reader = new LobChunkReader(new StringReader("a\uD83D\uDE00b"), 2);
+        assertEquals(reader.readString(), "a\uD83D\uDE00");
+        assertEquals(reader.readString(), "b");
+        assertNull(reader.readString());
+    }
+
+    @Test
+    void nullValueTest() throws IOException {
+        assertNull(new LobChunkReader((InputStream) null, 10).readBytes());
+        assertNull(new LobChunkReader((Reader) null, 10).readString());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * LobFileInputStream class test.
+ *
+ * @since 1.10.0
+ */
+public class LobFileInputStreamTest {
+
+    @Test
+    void readToEndTest() throws IOException {
+        Path file = Files.createTempFile("lob", ".bin");
+        try {
+            Files.write(file, new byte[]{1, 2, 3});
+            LobFileInputStream inputStream = new LobFileInputStream(file.toString());
+            byte[] buffer = new byte[8];
+            assertEquals(inputStream.read(buffer, 0, buffer.length), 3);
+            assertEquals(inputStream.read(buffer, 0, buffer.length), -1);
+            // The stream is closed at the end of the file and keeps reporting the end of the file
+            assertEquals(inputStream.read(), -1);
+            assertEquals(inputStream.available(), 0);
+            inputStream.close();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void closedAfterExecutionTest() throws IOException {
+        Path file = Files.createTempFile("lob", ".bin");
+        try {
+            Files.write(file, new byte[]{1, 2, 3});
+            LobFileInputStream inputStream = new LobFileInputStream(file.toString());
+            ParameterizedQuery query = new ParameterizedQuery("INSERT INTO Files (content) VALUES (?)",
+                    new Object[1]);
+            query.addStream(inputStream);
+            assertEquals(inputStream.read(), 1);
+            // A stream which is not fully read by the driver is closed once the statement is executed
+            query.closeStreams();
+            assertEquals(inputStream.read(), -1);
+            assertEquals(inputStream.available(), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import io.ballerina.stdlib.sql.ParameterizedQuery.StatementType;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * QueryTemplateCache class test.
+ *
+ * @since 1.10.0
+ */
+public class QueryTemplateCacheTest {
+
+    @Test
+    void compileTemplateTest() {
+        BArray strings = getArray(getString("SELECT * FROM "), getString(""), getString(" WHERE id = "),
+                getString(""));
+        BArray insertions = getArray(getString("`"), getString("`"), 1L);
+        CompiledQueryTemplate template = CompiledQueryTemplate.compile(strings, insertions);
+        assertEquals(template.getSqlQuery(), "SELECT * FROM `` WHERE id =  ? ");
+        assertEquals(template.getStatementType(), StatementType.SELECT);
+        ParameterizedQuery parameterizedQuery = template.bind(getArray(getString("`"), getString("`"), 2L));
+        assertEquals(parameterizedQuery.getInsertions(), new Object[]{2L});
+        assertSame(parameterizedQuery.getSqlQuery(), template.getSqlQuery());
+    }
+
+    @Test
+    void templateMatchTest() {
+        BArray strings = getArray(getString("SELECT * FROM Students WHERE name = "), getString(""));
+        CompiledQueryTemplate template = CompiledQueryTemplate.compile(strings, getArray(getString("Alice")));
+        assertTrue(template.matches(getArray(getString("Bob"))));
+        assertFalse(template.matches(getArray(getString("`"))));
+        assertFalse(template.matches(getArray(getString("Bob"), getString("Carol"))));
+    }
+
+    @Test
+    void cacheByIdentityTest() {
+        QueryTemplateCache cache = new QueryTemplateCache(2);
+        BArray strings = getArray(getString("DELETE FROM Students"));
+        CompiledQueryTemplate template = CompiledQueryTemplate.compile(strings, getArray());
+        cache.put(strings, template);
+        // The template is cached when the same array is compiled again
+        assertNull(cache.get(strings));
+        cache.put(strings, template);
+        assertSame(cache.get(strings), template);
+        assertNull(cache.get(getArray(getString("DELETE FROM Students"))));
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 2);
+        Object strings2 = new Object();
+        cache.put(strings2, template);
+        cache.put(strings2, template);
+        Object strings3 = new Object();
+        cache.put(strings3, template);
+        cache.put(strings3, template);
+        assertEquals(cache.size(), 2);
+        assertNull(cache.get(strings));
+    }
+
+    @Test
+    void runtimeQueriesTest() {
+        QueryTemplateCache cache = new QueryTemplateCache(2);
+        Object strings = new Object();
+        CompiledQueryTemplate template = CompiledQueryTemplate.compile(getArray(getString("DELETE FROM Students")),
+                getArray());
+        cache.put(strings, template);
+        cache.put(strings, template);
+        // Queries built at runtime have a new array for each execution, and they do not evict the cached templates
+        for (int i = 0; i < 10; i++) {
+            cache.put(new Object(), template);
+        }
+        assertEquals(cache.size(), 1);
+        assertSame(cache.get(strings), template);
+    }
+
+    @Test
+    void statementTypeTest() {
+        assertEquals(StatementType.of("  create TABLE Students (id INT)"), StatementType.DDL);
+        assertEquals(StatementType.of("Truncate TABLE Students"), StatementType.DDL);
+        assertEquals(StatementType.of("INSERT INTO Students VALUES (1)"), StatementType.DML);
+        assertEquals(StatementType.of("\nupdate Students SET id = 2"), StatementType.DML);
+        assertEquals(StatementType.of("select * from Students"), StatementType.SELECT);
+        assertEquals(StatementType.of("CALL getStudents()"), StatementType.OTHER);
+    }
+
+    private static BString getString(String value) {
+        return (BString) Proxy.newProxyInstance(QueryTemplateCacheTest.class.getClassLoader(),
+                new Class[]{BString.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getValue")) {
+                        return value;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static BArray getArray(Object... values) {
+        return (BArray) Proxy.newProxyInstance(QueryTemplateCacheTest.class.getClassLoader(),
+                new Class[]{BArray.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "size":
+                            return values.length;
+                        case "get":
+                            return values[(int) (long) args[0]];
+                        case "getBString":
+                            return values[(int) (long) args[0]];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
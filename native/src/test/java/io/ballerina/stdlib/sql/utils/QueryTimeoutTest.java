@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * QueryTimeout class test.
+ *
+ * @since 1.10.0
+ */
+public class QueryTimeoutTest {
+
+    @Test
+    void cancelTest() throws Exception {
+        QueryTimeout queryTimeout = new QueryTimeout(100);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        List<Object> queryTimeouts = new ArrayList<>();
+        Statement statement = getMockStatement(cancelled, queryTimeouts);
+        QueryTimeout.Watch watch = queryTimeout.watch(statement);
+        try {
+            // The execution blocks until the statement is cancelled
+            assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        } finally {
+            watch.close();
+        }
+        assertTrue(queryTimeout.isTimedOut());
+        assertEquals(queryTimeouts, Arrays.asList(1, 0));
+
+        SQLException error = queryTimeout.translate(new SQLException("Statement cancelled", "57014", 10));
+        assertTrue(error instanceof SQLTimeoutException);
+        assertEquals(error.getSQLState(), "57014");
+        assertEquals(error.getMessage(), "Query did not complete within the timeout of 0.1 seconds");
+        // The timeout is shared by the statements of the operation
+        expectThrows(SQLTimeoutException.class, () -> queryTimeout.watch(statement));
+    }
+
+    @Test
+    void completedExecutionTest() throws Exception {
+        QueryTimeout queryTimeout = new QueryTimeout(2500);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        List<Object> queryTimeouts = new ArrayList<>();
+        Statement statement = getMockStatement(cancelled, queryTimeouts);
+        queryTimeout.watch(statement).close();
+        assertEquals(queryTimeouts, Arrays.asList(3, 0));
+        assertFalse(cancelled.await(3, TimeUnit.SECONDS));
+        assertFalse(queryTimeout.isTimedOut());
+        SQLException error = new SQLException("Syntax error");
+        assertSame(queryTimeout.translate(error), error);
+    }
+
+    @Test
+    void closeDuringCancelTest() throws Exception {
+        QueryTimeout queryTimeout = new QueryTimeout(50);
+        CountDownLatch cancelling = new CountDownLatch(1);
+        AtomicBoolean cancelCompleted = new AtomicBoolean(false);
+        Statement statement = getMockStatement(() -> {
+            cancelling.countDown();
+            sleep(200);
+            cancelCompleted.set(true);
+        }, new ArrayList<>());
+        QueryTimeout.Watch watch = queryTimeout.watch(statement);
+        assertTrue(cancelling.await(5, TimeUnit.SECONDS));
+        // The statement is reused once the watch is closed, hence the cancellation in progress is waited for
+        watch.close();
+        assertTrue(cancelCompleted.get());
+    }
+
+    @Test
+    void slowCancelTest() throws Exception {
+        CountDownLatch slowCancelling = new CountDownLatch(1);
+        CountDownLatch slowCancelReleased = new CountDownLatch(1);
+        Statement slowStatement = getMockStatement(() -> {
+            slowCancelling.countDown();
+            try {
+                slowCancelReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, new ArrayList<>());
+        QueryTimeout.Watch slowWatch = new QueryTimeout(50).watch(slowStatement);
+        try {
+            assertTrue(slowCancelling.await(5, TimeUnit.SECONDS));
+            // A cancellation that blocks, e.g. while connecting to the database, does not delay the other timeouts
+            CountDownLatch cancelled = new CountDownLatch(1);
+            QueryTimeout queryTimeout = new QueryTimeout(50);
+            QueryTimeout.Watch watch = queryTimeout.watch(getMockStatement(cancelled, new ArrayList<>()));
+            try {
+                assertTrue(cancelled.await(1, TimeUnit.SECONDS));
+            } finally {
+                watch.close();
+            }
+            assertTrue(queryTimeout.isTimedOut());
+        } finally {
+            slowCancelReleased.countDown();
+            slowWatch.close();
+        }
+    }
+
+    @Test
+    void fetchTimeoutTest() throws Exception {
+        QueryTimeout queryTimeout = new QueryTimeout(100);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        QueryTimeout.FetchWatch fetchWatch = queryTimeout.watchFetches(getMockStatement(cancelled,
+                new ArrayList<>()));
+        fetchWatch.begin();
+        try {
+            // The fetch blocks until the statement is cancelled
+            assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        } finally {
+            fetchWatch.end();
+        }
+        fetchWatch.close();
+        assertTrue(queryTimeout.isTimedOut());
+        assertTrue(fetchWatch.translate(new SQLException("Statement cancelled")) instanceof SQLTimeoutException);
+    }
+
+    @Test
+    void completedFetchesTest() throws Exception {
+        QueryTimeout queryTimeout = new QueryTimeout(100);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        QueryTimeout.FetchWatch fetchWatch = queryTimeout.watchFetches(getMockStatement(cancelled,
+                new ArrayList<>()));
+        // The time spent by the consumer between the fetches does not count towards the timeout
+        for (int i = 0; i < 3; i++) {
+            fetchWatch.begin();
+            fetchWatch.end();
+            sleep(80);
+        }
+        fetchWatch.begin();
+        fetchWatch.end();
+        fetchWatch.close();
+        assertFalse(cancelled.await(300, TimeUnit.MILLISECONDS));
+        assertFalse(queryTimeout.isTimedOut());
+        assertNull(new QueryTimeout(0).watchFetches(getMockStatement(cancelled, new ArrayList<>())));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Statement getMockStatement(CountDownLatch cancelled, List<Object> queryTimeouts) {
+        return getMockStatement(cancelled::countDown, queryTimeouts);
+    }
+
+    private static Statement getMockStatement(Runnable cancel, List<Object> queryTimeouts) {
+        return (Statement) Proxy.newProxyInstance(QueryTimeoutTest.class.getClassLoader(),
+                new Class[]{Statement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "cancel":
+                            cancel.run();
+                            return null;
+                        case "setQueryTimeout":
+                            queryTimeouts.add(args[0]);
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.stdlib.sql.ParameterizedQuery;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * ResultCache class test.
+ *
+ * @since 1.10.0
+ */
+public class ResultCacheTest {
+
+    private static final String CUSTOMER_QUERY = "SELECT name FROM Customers c JOIN Orders o ON c.id = o.customer " +
+            "WHERE c.id = ?";
+
+    @Test
+    void invalidateByTableTest() {
+        ResultCache resultCache = new ResultCache(100, 1024, Long.MAX_VALUE);
+        ResultCache.CacheKey key = getKey(resultCache, CUSTOMER_QUERY, 1L);
+        assertNull(resultCache.get(key));
+        cache(resultCache, key, 10L, 20L);
+        assertEquals(resultCache.get(key), Arrays.asList(10L, 20L));
+        assertNull(resultCache.get(getKey(resultCache, CUSTOMER_QUERY, 2L)));
+
+        resultCache.invalidate(Collections.singleton("ITEMS"));
+        assertNotNull(resultCache.get(key));
+        resultCache.invalidate(Collections.singleton("ORDERS"));
+        assertNull(resultCache.get(key));
+    }
+
+    @Test
+    void invalidateWhileRecordingTest() {
+        ResultCache resultCache = new ResultCache(100, 1024, Long.MAX_VALUE);
+        ResultCache.CacheKey key = getKey(resultCache, CUSTOMER_QUERY, 1L);
+        ResultCache.Recorder recorder = resultCache.newRecorder(key);
+        recorder.add(10L);
+        // The rows read before the invalidation may be outdated
+        resultCache.invalidateAll();
+        recorder.complete();
+        assertNull(resultCache.get(key));
+    }
+
+    @Test
+    void uncacheableQueryTest() {
+        ResultCache resultCache = new ResultCache(100, 1024, Long.MAX_VALUE);
+        assertNull(getKey(resultCache, "SELECT 1"));
+        assertNull(getKey(resultCache, CUSTOMER_QUERY, new Object()));
+        // The names defined by common table expressions cannot be told apart from the tables
+        assertNull(getKey(resultCache, "WITH c AS (SELECT * FROM Customers) SELECT * FROM c"));
+    }
+
+    @Test
+    void admitFrequentResultTest() {
+        // The window and the main region hold a single result each
+        ResultCache resultCache = new ResultCache(2, 1024, Long.MAX_VALUE);
+        ResultCache.CacheKey frequentKey = getKey(resultCache, CUSTOMER_QUERY, 1L);
+        ResultCache.CacheKey rareKey = getKey(resultCache, CUSTOMER_QUERY, 2L);
+        ResultCache.CacheKey recentKey = getKey(resultCache, CUSTOMER_QUERY, 3L);
+        for (int i = 0; i < 3; i++) {
+            resultCache.get(frequentKey);
+        }
+        cache(resultCache, frequentKey, 1L);
+        resultCache.get(rareKey);
+        cache(resultCache, rareKey, 2L);
+        resultCache.get(recentKey);
+        cache(resultCache, recentKey, 3L);
+
+        assertNotNull(resultCache.get(frequentKey));
+        assertNotNull(resultCache.get(recentKey));
+        assertNull(resultCache.get(rareKey));
+    }
+
+    @Test
+    void expireResultTest() {
+        ResultCache resultCache = new ResultCache(100, 1024, 1);
+        ResultCache.CacheKey key = getKey(resultCache, CUSTOMER_QUERY, 1L);
+        cache(resultCache, key, 10L);
+        assertNull(resultCache.get(key));
+    }
+
+    @Test
+    void skipLargeResultTest() {
+        ResultCache resultCache = new ResultCache(100, 256, Long.MAX_VALUE);
+        ResultCache.CacheKey key = getKey(resultCache, CUSTOMER_QUERY, 1L);
+        Long[] rows = new Long[100];
+        Arrays.fill(rows, 10L);
+        cache(resultCache, key, rows);
+        assertNull(resultCache.get(key));
+    }
+
+    private static ResultCache.CacheKey getKey(ResultCache resultCache, String sqlQuery, Object... insertions) {
+        return resultCache.createKey(new ParameterizedQuery(sqlQuery, insertions), null, resultCache, false);
+    }
+
+    private static void cache(ResultCache resultCache, ResultCache.CacheKey key, Object... rows) {
+        ResultCache.Recorder recorder = resultCache.newRecorder(key);
+        for (Object row : rows) {
+            recorder.add(row);
+        }
+        recorder.complete();
+    }
+}
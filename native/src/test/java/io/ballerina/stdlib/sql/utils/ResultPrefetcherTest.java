@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.sql.utils;
+
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import org.testng.annotations.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ResultPrefetcher class test.
+ *
+ * @since 1.10.0
+ */
+public class ResultPrefetcherTest {
+
+    @Test
+    void prefetchTest() throws SQLException, ApplicationError {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger rowCount = new AtomicInteger(0);
+        ResultPrefetcher prefetcher = new ResultPrefetcher(
+                () -> rowCount.get() < 5 ? rowCount.incrementAndGet() : null, 2);
+        assertTrue(prefetcher.start(executor));
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(prefetcher.next(), i);
+        }
+        assertNull(prefetcher.next());
+        prefetcher.cancel();
+        executor.shutdown();
+    }
+
+    @Test
+    void largePrefetchSizeTest() throws SQLException, ApplicationError {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger rowCount = new AtomicInteger(0);
+        // The capacity of the queue is not allocated upfront
+        ResultPrefetcher prefetcher = new ResultPrefetcher(
+                () -> rowCount.get() < 3 ? rowCount.incrementAndGet() : null, Integer.MAX_VALUE);
+        assertTrue(prefetcher.start(executor));
+        for (int i = 1; i <= 3; i++) {
+            assertEquals(prefetcher.next(), i);
+        }
+        assertNull(prefetcher.next());
+        prefetcher.cancel();
+        executor.shutdown();
+    }
+
+    @Test(expectedExceptions = SQLException.class)
+    void prefetchErrorTest() throws SQLException, ApplicationError {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ResultPrefetcher prefetcher = new ResultPrefetcher(() -> {
+            throw new SQLException("Connection reset");
+        }, 2);
+        try {
+            assertTrue(prefetcher.start(executor));
+            prefetcher.next();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void cancelTest() throws SQLException, ApplicationError {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger rowCount = new AtomicInteger(0);
+        ResultPrefetcher prefetcher = new ResultPrefetcher(rowCount::incrementAndGet, 2);
+        assertTrue(prefetcher.start(executor));
+        assertEquals(prefetcher.next(), 1);
+        prefetcher.cancel();
+        int readCount = rowCount.get();
+        assertTrue(readCount <= 4);
+        executor.shutdown();
+    }
+
+    @Test
+    void callerRunsTest() {
+        ResultPrefetcher prefetcher = new ResultPrefetcher(() -> null, 2);
+        assertFalse(prefetcher.start(Runnable::run));
+        prefetcher = new ResultPrefetcher(() -> null, 2);
+        assertFalse(prefetcher.start(task -> {
+            throw new RejectedExecutionException();
+        }));
+    }
+
+    @Test
+    void queuedTaskTest() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AtomicInteger rowCount = new AtomicInteger(0);
+        ResultPrefetcher prefetcher = new ResultPrefetcher(rowCount::incrementAndGet, 2);
+        // The only worker is busy, hence the task is queued and the rows are read by the consumer
+        assertFalse(prefetcher.start(executor));
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        // The abandoned task does not read the result when it is picked up later
+        assertEquals(rowCount.get(), 0);
+        prefetcher.cancel();
+    }
+}
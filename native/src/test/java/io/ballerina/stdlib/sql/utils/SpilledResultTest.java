@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * SpilledResult class test.
+ *
+ * @since 1.10.0
+ */
+public class SpilledResultTest {
+
+    @Test
+    void readWrittenRowsTest() throws IOException {
+        Object inMemoryValue = new Object();
+        List<Object> rows = Arrays.asList(1L, -2.5d, Boolean.TRUE, null, Long.MAX_VALUE, Boolean.FALSE,
+                inMemoryValue);
+        SpilledResult spilledResult;
+        // A small window is refilled for most rows, and the rows larger than the window are read on their own
+        try (SpilledResult.Writer writer = new SpilledResult.Writer(12)) {
+            for (Object row : rows) {
+                writer.write(row);
+            }
+            assertEquals(writer.getSize(), 4 * 7 + 9 + 9 + 1 + 1 + 9 + 1 + 5);
+            // The value kept in memory is counted by its estimated size
+            assertEquals(writer.getInMemorySize(), 16);
+            spilledResult = writer.finish();
+        }
+        List<Object> readRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            readRows.add(spilledResult.next());
+        }
+        assertEquals(readRows.subList(0, 6), rows.subList(0, 6));
+        assertSame(readRows.get(6), inMemoryValue);
+        assertNull(spilledResult.next());
+        spilledResult.close();
+    }
+
+    @Test
+    void deleteFileTest() throws IOException {
+        SpilledResult.Writer writer = new SpilledResult.Writer(SpilledResult.DEFAULT_WINDOW_SIZE);
+        writer.write(1L);
+        Path file = writer.getFile();
+        writer.close();
+        assertFalse(Files.exists(file));
+
+        writer = new SpilledResult.Writer(SpilledResult.DEFAULT_WINDOW_SIZE);
+        file = writer.getFile();
+        SpilledResult spilledResult = writer.finish();
+        assertNull(spilledResult.next());
+        spilledResult.close();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void closedResultTest() throws IOException {
+        SpilledResult spilledResult;
+        try (SpilledResult.Writer writer = new SpilledResult.Writer(SpilledResult.DEFAULT_WINDOW_SIZE)) {
+            writer.write(1L);
+            writer.write(2L);
+            spilledResult = writer.finish();
+        }
+        assertEquals(spilledResult.next(), 1L);
+        spilledResult.close();
+        // The window is not read once the result is closed, and the result can be closed again
+        expectThrows(IOException.class, spilledResult::next);
+        spilledResult.close();
+    }
+}
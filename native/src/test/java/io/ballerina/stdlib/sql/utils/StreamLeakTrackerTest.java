@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2023, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.sql.utils;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * StreamLeakTracker class test.
+ *
+ * @since 1.10.0
+ */
+public class StreamLeakTrackerTest {
+
+    @Test
+    void closedStreamTest() {
+        StreamLeakTracker tracker = new StreamLeakTracker();
+        List<String> closed = new ArrayList<>();
+        Object owner = new Object();
+        StreamLeakTracker.TrackedStream trackedStream = tracker.track(owner, getMock(ResultSet.class, closed), null,
+                getMock(Connection.class, closed), true, null);
+        assertEquals(tracker.getOpenCount(), 1);
+
+        trackedStream.close();
+        trackedStream.close();
+        assertEquals(tracker.getOpenCount(), 0);
+        assertEquals(tracker.getReclaimedCount(), 0);
+        // The resources of a closed stream are released by its owner
+        assertTrue(closed.isEmpty());
+    }
+
+    @Test
+    void leakedStreamTest() throws InterruptedException {
+        StreamLeakTracker tracker = new StreamLeakTracker();
+        List<String> closed = new ArrayList<>();
+        List<LogRecord> warnings = new ArrayList<>();
+        Logger logger = Logger.getLogger(StreamLeakTracker.class.getName());
+        Handler handler = getHandler(warnings);
+        logger.addHandler(handler);
+        try {
+            tracker.track(new Object(), getMock(ResultSet.class, closed), null, getMock(Connection.class, closed),
+                    true, new Throwable("Stream allocated here"));
+            assertEquals(tracker.getOpenCount(), 1);
+
+            awaitReclaim(tracker);
+            assertEquals(tracker.getReclaimedCount(), 1);
+            assertEquals(tracker.getOpenCount(), 0);
+            synchronized (closed) {
+                assertEquals(closed, List.of("ResultSet", "Connection"));
+            }
+            synchronized (warnings) {
+                assertEquals(warnings.size(), 1);
+                assertEquals(warnings.get(0).getLevel(), Level.WARNING);
+                assertTrue(warnings.get(0).getMessage().contains("A query result stream was not closed"));
+            }
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    void leakedPrefetchingStreamTest() throws Exception {
+        StreamLeakTracker tracker = new StreamLeakTracker();
+        List<String> closed = new ArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The producer does not refer to the owner of the stream, and waits for the consumer once the queue is
+            // full
+            AtomicInteger rowCount = new AtomicInteger(0);
+            ResultPrefetcher prefetcher = new ResultPrefetcher(rowCount::incrementAndGet, 2);
+            StreamLeakTracker.TrackedStream trackedStream = tracker.track(new Object(),
+                    getMock(ResultSet.class, closed), null, getMock(Connection.class, closed), true, null);
+            trackedStream.setResultPrefetcher(prefetcher);
+            assertTrue(prefetcher.start(executor));
+
+            awaitReclaim(tracker);
+            assertEquals(tracker.getReclaimedCount(), 1);
+            synchronized (closed) {
+                assertEquals(closed, List.of("ResultSet", "Connection"));
+            }
+            // The worker of the producer is released
+            Future<?> task = executor.submit(() -> { });
+            task.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitReclaim(StreamLeakTracker tracker) throws InterruptedException {
+        for (int i = 0; i < 100 && tracker.getReclaimedCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+    }
+
+    private static Handler getHandler(List<LogRecord> records) {
+        return new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                synchronized (records) {
+                    records.add(record);
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static <T> T getMock(Class<T> type, List<String> closed) {
+        return type.cast(Proxy.newProxyInstance(StreamLeakTrackerTest.class.getClassLoader(), new Class[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        synchronized (closed) {
+                            closed.add(type.getSimpleName());
+                        }
+                    }
+                    return null;
+                }));
+    }
+}
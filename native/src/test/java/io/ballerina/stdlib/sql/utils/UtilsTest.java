@@ -18,21 +18,28 @@
 
 package io.ballerina.stdlib.sql.utils;
 
+import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.sql.Constants;
 import io.ballerina.stdlib.sql.ParameterizedQuery;
 import io.ballerina.stdlib.sql.TestUtils;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 
 /**
  * Utils class test.
@@ -81,4 +88,37 @@ public class UtilsTest {
         ParameterizedQuery parameterizedSQLQuery = Utils.getParameterizedSQLQuery(bParameterizedQuery);
         assertEquals(parameterizedSQLQuery.getSqlQuery(), "x`y ? z`");
     }
+
+    @Test
+    void columnReaderTest() throws Exception {
+        PrimitiveTypeColumnDefinition columnDefinition = new PrimitiveTypeColumnDefinition("id", Types.BIGINT,
+                "BIGINT", true, 1, "id", PredefinedTypes.TYPE_INT);
+        ResultSet resultSet = getResultSet(42L);
+        assertEquals(columnDefinition.getColumnReader().read(resultSet, 1,
+                DefaultResultParameterProcessor.getInstance()), 42L);
+        assertNull(columnDefinition.getColumnReader().read(getResultSet(null), 1,
+                DefaultResultParameterProcessor.getInstance()));
+        // The conversions of the processors which extend the default processor are still applied
+        DefaultResultParameterProcessor connectorProcessor = new DefaultResultParameterProcessor() {
+            @Override
+            public Object processLongResult(ResultSet resultSet, int columnIndex, int sqlType, Type ballerinaType) {
+                return -1L;
+            }
+        };
+        assertEquals(columnDefinition.getColumnReader().read(resultSet, 1, connectorProcessor), -1L);
+    }
+
+    private static ResultSet getResultSet(Long value) {
+        return (ResultSet) Proxy.newProxyInstance(UtilsTest.class.getClassLoader(), new Class[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getLong":
+                            return value == null ? 0L : value;
+                        case "wasNull":
+                            return value == null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
 }